@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.io.FileOperator;
+import okio.Buffer;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * The first frame search as it was before {@link MpegSyncScanner}, kept as a baseline for {@code Mp3SyncBenchmark}. It lives in this
+ * package to reach the frame parsers. The loop is {@code MP3AudioHeader.seek} and {@code isNextFrameValid} as they were, less the
+ * logging and the header fields they set: 5000 byte windows read into a Buffer, advanced one {@code readByte()} at a time, with the
+ * Buffer cloned for the Xing, Vbri and next frame checks of every candidate.
+ */
+public final class Mp3SeekBaseline {
+  private final static int FILE_BUFFER_SIZE = 5000;
+  private final static int MIN_BUFFER_REMAINING_REQUIRED =
+      MPEGFrameHeader.HEADER_SIZE + XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
+
+  private Mp3SeekBaseline() {
+  }
+
+  /**
+   * @return where the first frame starts, found by {@link MpegSyncScanner}
+   */
+  public static long seek(final FileOperator fileOperator, final long startByte) throws IOException, InvalidAudioFrameException {
+    return new MP3AudioHeader(fileOperator, startByte, "benchmark").getMp3StartByte();
+  }
+
+  /**
+   * @return where the first frame starts, found by the byte at a time search, or -1 if there is none
+   */
+  public static long seekBaseline(final FileOperator fileOperator, final long startByte) throws IOException {
+    long fileSize = fileOperator.getFileChannel().size();
+    long filePointerCount = startByte;
+
+    Buffer buffer = new Buffer();
+    long byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
+    fileOperator.read(filePointerCount, buffer, byteCount);
+
+    boolean syncFound;
+    try {
+      while (true) {
+        if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
+          buffer.clear();
+          byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
+          fileOperator.read(filePointerCount, buffer, byteCount);
+          if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
+            return -1;
+          }
+        }
+
+        if (MPEGFrameHeader.isMPEGFrame(buffer)) {
+          try {
+            final MPEGFrameHeader mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(buffer);
+
+            final Buffer xingFrameBuffer = XingFrame.isXingFrame(buffer.clone(), mp3FrameHeader);
+            if (xingFrameBuffer != null) {
+              try {
+                XingFrame.parseXingFrame(xingFrameBuffer);
+                xingFrameBuffer.skip(xingFrameBuffer.size());
+              } catch (InvalidAudioFrameException ex) {
+                // Ignored, as before
+              }
+              syncFound = true;
+              break;
+            }
+
+            final Buffer vbriFrameBuffer = VbriFrame.isVbriFrame(buffer.clone());
+            if (vbriFrameBuffer != null) {
+              VbriFrame.parseVBRIFrame(vbriFrameBuffer);
+              vbriFrameBuffer.skip(vbriFrameBuffer.size());
+              syncFound = true;
+              break;
+            }
+
+            syncFound = isNextFrameValid(filePointerCount, buffer.clone(), fileOperator, mp3FrameHeader);
+            if (syncFound) {
+              break;
+            }
+          } catch (InvalidAudioFrameException ex) {
+            // Incorrect sync bits, continue
+          }
+        }
+
+        buffer.readByte();
+        filePointerCount++;
+      }
+    } catch (EOFException ex) {
+      syncFound = false;
+    }
+    return syncFound ? filePointerCount : -1;
+  }
+
+  private static boolean isNextFrameValid(final long filePointerCount,
+                                          final Buffer bb,
+                                          final FileOperator fileOperator,
+                                          final MPEGFrameHeader mp3FrameHeader) throws IOException {
+    final long fileSize = fileOperator.getFileChannel().size();
+
+    if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED)) {
+      return false;
+    }
+
+    if (bb.size() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
+      bb.clear();
+      final long byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
+      fileOperator.read(filePointerCount, bb, byteCount);
+      if (bb.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
+        return false;
+      }
+    }
+
+    bb.skip(mp3FrameHeader.getFrameLength());
+    return MPEGFrameHeader.isMPEGFrame(bb) && MPEGFrameHeader.isValidHeader(MPEGFrameHeader.readHeader(bb));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Delegates to another FileChannel, counting the calls that reach the file system. Each is at least one system call.
+ */
+final class CountingFileChannel extends FileChannel {
+  private final FileChannel delegate;
+  private long calls;
+
+  CountingFileChannel(final FileChannel delegate) {
+    this.delegate = delegate;
+  }
+
+  long getCalls() {
+    return calls;
+  }
+
+  @Override public int read(final ByteBuffer dst) throws IOException {
+    calls++;
+    return delegate.read(dst);
+  }
+
+  @Override public long read(final ByteBuffer[] dsts, final int offset, final int length) throws IOException {
+    calls++;
+    return delegate.read(dsts, offset, length);
+  }
+
+  @Override public int write(final ByteBuffer src) throws IOException {
+    calls++;
+    return delegate.write(src);
+  }
+
+  @Override public long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+    calls++;
+    return delegate.write(srcs, offset, length);
+  }
+
+  @Override public long position() throws IOException {
+    calls++;
+    return delegate.position();
+  }
+
+  @Override public FileChannel position(final long newPosition) throws IOException {
+    calls++;
+    delegate.position(newPosition);
+    return this;
+  }
+
+  @Override public long size() throws IOException {
+    calls++;
+    return delegate.size();
+  }
+
+  @Override public FileChannel truncate(final long size) throws IOException {
+    calls++;
+    delegate.truncate(size);
+    return this;
+  }
+
+  @Override public void force(final boolean metaData) throws IOException {
+    calls++;
+    delegate.force(metaData);
+  }
+
+  @Override public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+    calls++;
+    return delegate.transferTo(position, count, target);
+  }
+
+  @Override public long transferFrom(final ReadableByteChannel src, final long position, final long count) throws IOException {
+    calls++;
+    return delegate.transferFrom(src, position, count);
+  }
+
+  @Override public int read(final ByteBuffer dst, final long position) throws IOException {
+    calls++;
+    return delegate.read(dst, position);
+  }
+
+  @Override public int write(final ByteBuffer src, final long position) throws IOException {
+    calls++;
+    return delegate.write(src, position);
+  }
+
+  @Override public MappedByteBuffer map(final MapMode mode, final long position, final long size) throws IOException {
+    calls++;
+    return delegate.map(mode, position, size);
+  }
+
+  @Override public FileLock lock(final long position, final long size, final boolean shared) throws IOException {
+    calls++;
+    return delegate.lock(position, size, shared);
+  }
+
+  @Override public FileLock tryLock(final long position, final long size, final boolean shared) throws IOException {
+    calls++;
+    return delegate.tryLock(position, size, shared);
+  }
+
+  @Override protected void implCloseChannel() throws IOException {
+    delegate.close();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.tag.TagField;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.ID3v23Frame;
+import ealvatag.tag.id3.ID3v24Frame;
+import ealvatag.tag.id3.ID3v24Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per frame cost of creating frame bodies: a new empty frame, a frame read from a {@link ByteBuffer}, and a frame converted from
+ * ID3v2.4 to ID3v2.3. Each invocation handles {@link #FRAME_COUNT} frames.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FrameBodyCreationBenchmark {
+  private static final String[] FRAME_IDS = {"TIT2", "TPE1", "TPE2", "TALB", "TRCK", "TDRC", "TCON", "TCOM", "COMM", "USLT", "UFID",
+                                             "TXXX", "TSRC", "TBPM", "TPE3", "TSSE"};
+  private static final int FRAME_COUNT = 16;
+
+  private List<ID3v24Frame> frames;
+  private List<byte[]> frameBytes;
+
+  @Setup
+  public void setUp() throws Exception {
+    final ID3v24Tag tag = new ID3v24Tag();
+    SyntheticAudio.fillTag(tag, SyntheticAudio.TagSize.LARGE);
+    final List<ID3v24Frame> tagFrames = new ArrayList<>();
+    final Iterator<TagField> fields = tag.getFields();
+    while (fields.hasNext()) {
+      final TagField field = fields.next();
+      if (field instanceof ID3v24Frame && !((AbstractID3v2Frame)field).isBinary()) {
+        tagFrames.add((ID3v24Frame)field);
+      }
+    }
+    frames = new ArrayList<>(FRAME_COUNT);
+    frameBytes = new ArrayList<>(FRAME_COUNT);
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      final ID3v24Frame frame = tagFrames.get(i % tagFrames.size());
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      frame.write(out);
+      frames.add(frame);
+      frameBytes.add(out.toByteArray());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FRAME_COUNT)
+  public void createEmpty(final Blackhole blackhole) {
+    for (String id : FRAME_IDS) {
+      blackhole.consume(new ID3v24Frame(id));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FRAME_COUNT)
+  public void readByteBuffer(final Blackhole blackhole) throws Exception {
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      blackhole.consume(new ID3v24Frame(ByteBuffer.wrap(frameBytes.get(i)), "benchmark"));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(FRAME_COUNT)
+  public void convertToV23(final Blackhole blackhole) throws Exception {
+    for (int i = 0; i < FRAME_COUNT; i++) {
+      blackhole.consume(new ID3v23Frame(frames.get(i)));
+    }
+  }
+}
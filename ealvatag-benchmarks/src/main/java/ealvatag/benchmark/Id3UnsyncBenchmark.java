@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.ID3v23Tag;
+import ealvatag.tag.id3.Id3v2Header;
+import ealvatag.tag.images.ArtworkFactory;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and parsing an unsynchronised ID3v2.3 tag which is mostly an APIC frame of {@code coverLength} random bytes, so roughly one
+ * byte in 256 is 0xFF. This is the layout of many older mp3s, see {@link TagOptionSingleton#setUnsyncTags(boolean)}. File I/O is
+ * excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class Id3UnsyncBenchmark {
+  /** Flags byte of the tag header and its unsynchronisation bit */
+  private static final int UNSYNC_FLAG_OFFSET = 5;
+  private static final int UNSYNC_FLAG = 0x80;
+
+  @Param({"262144", "2097152"})
+  public int coverLength;
+
+  private ID3v23Tag tag;
+  private byte[] tagBytes;
+
+  @Setup
+  public void setUp() throws Exception {
+    TagOptionSingleton.getInstance().setUnsyncTags(true);
+    final byte[] cover = new byte[coverLength];
+    new Random(coverLength).nextBytes(cover);
+    tag = new ID3v23Tag();
+    tag.setArtwork(ArtworkFactory.getNew()
+                                 .setBinaryData(cover)
+                                 .setMimeType("image/jpeg")
+                                 .setDescription("")
+                                 .setPictureType(3));
+    tagBytes = write();
+    if ((tagBytes[UNSYNC_FLAG_OFFSET] & UNSYNC_FLAG) == 0) {
+      throw new IllegalStateException("Tag not unsynchronised");
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @Benchmark
+  public byte[] write() throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(coverLength + coverLength / 64);
+    tag.write(out);
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public ID3v23Tag parse() throws Exception {
+    final Buffer buffer = new Buffer().write(tagBytes);
+    final Id3v2Header header = AbstractID3v2Tag.getHeader(buffer).get();
+    return new ID3v23Tag(buffer, header, "benchmark", false);
+  }
+}
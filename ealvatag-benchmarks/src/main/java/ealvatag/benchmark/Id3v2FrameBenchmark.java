@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.ID3v22Tag;
+import ealvatag.tag.id3.ID3v23Tag;
+import ealvatag.tag.id3.ID3v24Tag;
+import ealvatag.tag.id3.Id3v2Header;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the frames of an in memory ID3v2 tag, the same path {@link ealvatag.audio.mp3.MP3File} takes after reading the tag bytes.
+ * File I/O is excluded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class Id3v2FrameBenchmark {
+  @Param({"2", "3", "4"})
+  public int majorVersion;
+
+  @Param({"SMALL", "LARGE"})
+  public SyntheticAudio.TagSize size;
+
+  @Param({"false", "true"})
+  public boolean ignoreArtwork;
+
+  private byte[] tagBytes;
+
+  @Setup
+  public void setUp() throws Exception {
+    final ID3v24Tag v24 = new ID3v24Tag();
+    SyntheticAudio.fillTag(v24, size);
+    final AbstractID3v2Tag tag;
+    switch (majorVersion) {
+      case ID3v22Tag.MAJOR_VERSION:
+        tag = new ID3v22Tag(v24);
+        break;
+      case ID3v23Tag.MAJOR_VERSION:
+        tag = new ID3v23Tag(v24);
+        break;
+      default:
+        tag = v24;
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    tag.write(out);
+    tagBytes = out.toByteArray();
+  }
+
+  @Benchmark
+  public AbstractID3v2Tag parse() throws Exception {
+    final Buffer buffer = new Buffer().write(tagBytes);
+    final Id3v2Header header = AbstractID3v2Tag.getHeader(buffer).get();
+    switch (majorVersion) {
+      case ID3v22Tag.MAJOR_VERSION:
+        return new ID3v22Tag(buffer, header, "benchmark", ignoreArtwork);
+      case ID3v23Tag.MAJOR_VERSION:
+        return new ID3v23Tag(buffer, header, "benchmark", ignoreArtwork);
+      default:
+        return new ID3v24Tag(buffer, header, "benchmark", ignoreArtwork);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.ArtworkFactory;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading 1M and 10M ID3v2 tags copied 8K at a time ({@code mapThreshold=0}) against mapped ({@code mapThreshold=1}), see {@link
+ * TagOptionSingleton#setMappedReadThreshold(long)}. {@code readRegion} is just the {@link FileOperator} read of the tag into a
+ * Buffer, {@code readMp3} is the whole read of an mp3 whose tag is mostly a cover of that size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MappedTagReadBenchmark {
+  @Param({"1048576", "10485760"})
+  public int tagLength;
+
+  @Param({"0", "1"})
+  public long mapThreshold;
+
+  private File dir;
+  private File mp3;
+  private RandomAccessFile region;
+  private FileOperator fileOperator;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    final byte[] cover = new byte[tagLength];
+    new Random(tagLength).nextBytes(cover);
+
+    mp3 = SyntheticAudio.create(dir, "mp3");
+    final AudioFile audioFile = AudioFileIO.read(mp3);
+    audioFile.getTagOrSetNewDefault().setArtwork(ArtworkFactory.getNew()
+                                                               .setBinaryData(cover)
+                                                               .setMimeType("image/png")
+                                                               .setDescription("")
+                                                               .setPictureType(3));
+    audioFile.save();
+
+    final File regionFile = new File(dir, "region.bin");
+    region = new RandomAccessFile(regionFile, "rw");
+    region.write(cover);
+    fileOperator = new FileOperator(region.getChannel());
+
+    TagOptionSingleton.getInstance().setMappedReadThreshold(mapThreshold);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    TagOptionSingleton.getInstance().setToDefault();
+    region.close();
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public long readRegion() throws Exception {
+    final Buffer buffer = new Buffer();
+    fileOperator.read(0, buffer, tagLength, mapThreshold);
+    final long size = buffer.size();
+    buffer.clear();
+    return size;
+  }
+
+  @Benchmark
+  public AudioFile readMp3() throws Exception {
+    return AudioFileIO.read(mp3);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.audio.mp3.Mp3SeekBaseline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching for the first MPEG frame in untagged mp3s with 0, 100K and 5M of random data before the audio. Random data is full of
+ * false syncs, so this measures the sync scan and the frame header validation it triggers. {@code seek} and {@code seekBaseline} are
+ * just the search, with the current scanner and with the byte at a time search it replaced, see {@link Mp3SeekBaseline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class Mp3SyncBenchmark {
+  @Param({"0", "102400", "5242880"})
+  public int junkLength;
+
+  private File dir;
+  private File file;
+  private RandomAccessFile raf;
+  private FileOperator fileOperator;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    file = SyntheticAudio.createMp3WithJunk(dir, junkLength);
+    raf = new RandomAccessFile(file, "r");
+    fileOperator = new FileOperator(raf.getChannel());
+    if (Mp3SeekBaseline.seek(fileOperator, 0) != Mp3SeekBaseline.seekBaseline(fileOperator, 0)) {
+      throw new IllegalStateException("Baseline found a different first frame");
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    raf.close();
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public AudioHeader findFirstFrame() throws Exception {
+    return AudioFileIO.readIgnoreArtwork(file).getAudioHeader();
+  }
+
+  @Benchmark
+  public long seek() throws Exception {
+    return Mp3SeekBaseline.seek(fileOperator, 0);
+  }
+
+  @Benchmark
+  public long seekBaseline() throws Exception {
+    return Mp3SeekBaseline.seekBaseline(fileOperator, 0);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.audio.mp4.Mp4AtomTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the {@link Mp4AtomTree} the Mp4 writer works from, for a synthetic m4a with a small and a large tag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class Mp4AtomTreeBenchmark {
+  @Param({"SMALL", "LARGE"})
+  public SyntheticAudio.TagSize size;
+
+  private File dir;
+  private File file;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    file = SyntheticAudio.tag(SyntheticAudio.create(dir, "m4a"), size);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public Mp4AtomTree buildTree() throws Exception {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      return new Mp4AtomTree(raf, false);
+    }
+  }
+}
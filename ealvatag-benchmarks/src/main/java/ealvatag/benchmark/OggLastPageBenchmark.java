@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.audio.ogg.util.OggLastPageScanner;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the last page of an ogg file, which gives its duration, with 0 and 1M of junk after the last page. {@code byteAtATime} is
+ * the search OggInfoReader used to make, reading backwards one byte per call, and {@code blockScanner} is {@link OggLastPageScanner}.
+ * The {@code syscalls} counter is the number of reads, seeks and file pointer queries made, divide it by the {@code searches}
+ * counter for the number per search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OggLastPageBenchmark {
+  private static final byte[] CAPTURE_PATTERN = {'O', 'g', 'g', 'S'};
+  private static final int FIELD_PAGE_SEGMENTS_POS = 26;
+  private static final int OGG_PAGE_HEADER_FIXED_LENGTH = 27;
+
+  @Param({"0", "1048576"})
+  public int junkLength;
+
+  private File dir;
+  private File file;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Counters {
+    public long syscalls;
+    public long searches;
+
+    @Setup(Level.Iteration)
+    public void clean() {
+      syscalls = 0;
+      searches = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    file = SyntheticAudio.create(dir, "ogg");
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.seek(raf.length());
+      raf.write(new byte[junkLength]);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public double blockScanner(final Counters counters) throws Exception {
+    try (CountingFileChannel channel = new CountingFileChannel(new RandomAccessFile(file, "r").getChannel())) {
+      final double granule = new OggLastPageScanner(channel, 0).findLastGranulePosition();
+      counters.syscalls += channel.getCalls();
+      counters.searches++;
+      return granule;
+    }
+  }
+
+  @Benchmark
+  public long byteAtATime(final Counters counters) throws Exception {
+    try (CountingRandomAccessFile raf = new CountingRandomAccessFile(file)) {
+      final long granuleStart = findLastPageByteAtATime(raf);
+      counters.syscalls += raf.calls;
+      counters.searches++;
+      return granuleStart;
+    }
+  }
+
+  /**
+   * The search as it was, returning the start of the last page rather than parsing it
+   */
+  private static long findLastPageByteAtATime(final RandomAccessFile raf) throws IOException {
+    raf.seek(raf.length() - 2);
+    while (raf.getFilePointer() >= 4) {
+      if (raf.read() == CAPTURE_PATTERN[3]) {
+        raf.seek(raf.getFilePointer() - CAPTURE_PATTERN.length);
+        byte[] ogg = new byte[3];
+        raf.readFully(ogg);
+        if (ogg[0] == CAPTURE_PATTERN[0] && ogg[1] == CAPTURE_PATTERN[1] && ogg[2] == CAPTURE_PATTERN[2]) {
+          raf.seek(raf.getFilePointer() - 3);
+
+          final long pageStart = raf.getFilePointer();
+          raf.seek(raf.getFilePointer() + FIELD_PAGE_SEGMENTS_POS);
+          int pageSegments = raf.readByte() & 0xFF;
+          raf.seek(pageStart);
+
+          byte[] b = new byte[OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
+          raf.readFully(b);
+          return pageStart;
+        }
+      }
+      raf.seek(raf.getFilePointer() - 2);
+    }
+    return -1;
+  }
+
+  private static final class CountingRandomAccessFile extends RandomAccessFile {
+    long calls;
+
+    CountingRandomAccessFile(final File file) throws FileNotFoundException {
+      super(file, "r");
+    }
+
+    @Override public int read() throws IOException {
+      calls++;
+      return super.read();
+    }
+
+    @Override public int read(final byte[] b, final int off, final int len) throws IOException {
+      calls++;
+      return super.read(b, off, len);
+    }
+
+    @Override public void seek(final long pos) throws IOException {
+      calls++;
+      super.seek(pos);
+    }
+
+    @Override public long getFilePointer() throws IOException {
+      calls++;
+      return super.getFilePointer();
+    }
+
+    @Override public long length() throws IOException {
+      calls++;
+      return super.length();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ReadOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AudioFileIO#read(File)}, {@link AudioFileIO#readIgnoreArtwork(File)} and a metadata only read (no audio header) of each
+ * supported format. Each file carries a {@link SyntheticAudio.TagSize#LARGE} tag so reading with and without artwork differ.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReadBenchmark {
+  @Param({"mp3", "flac", "ogg", "m4a", "wav", "aiff", "wma", "dsf"})
+  public String format;
+
+  private File dir;
+  private File file;
+  private ReadOptions metadataOnly;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    file = SyntheticAudio.tag(SyntheticAudio.create(dir, format), SyntheticAudio.TagSize.LARGE);
+    metadataOnly = new ReadOptions().setIgnoreAudioHeader(true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public AudioFile read() throws Exception {
+    return AudioFileIO.read(file);
+  }
+
+  @Benchmark
+  public AudioFile readIgnoreArtwork() throws Exception {
+    return AudioFileIO.readIgnoreArtwork(file);
+  }
+
+  @Benchmark
+  public AudioFile readMetadataOnly() throws Exception {
+    return AudioFileIO.read(file, metadataOnly);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.SaveMode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a {@link AudioFile#save()} that cannot fit the new tag in the existing space, so the audio has to be copied or
+ * shifted. The {@code megabytes} counter is the size of the file rewritten, JMH reports it per second so it reads as MB/s. Wav,
+ * aiff and dsf keep their metadata after the audio and never rewrite it, so they're not included.
+ * <p>
+ * The default sizes keep a run short, pass eg. {@code -p sizeMb=1024 -jvmArgs -Xmx3g} for a 1GB file. Every invocation starts from a
+ * fresh copy of the file with a {@link SyntheticAudio.TagSize#SMALL} tag, the copy and read are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RewriteThroughputBenchmark {
+  @Param({"mp3", "flac", "ogg", "m4a", "wma"})
+  public String format;
+
+  @Param({"16", "128"})
+  public int sizeMb;
+
+  private File dir;
+  private File template;
+  private File work;
+  private AudioFile audioFile;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+    public long megabytes;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    template = SyntheticAudio.tag(SyntheticAudio.create(dir, format, sizeMb * 1024 * 1024), SyntheticAudio.TagSize.SMALL);
+    work = new File(dir, "work." + format);
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() throws Exception {
+    Files.copy(template, work);
+    audioFile = AudioFileIO.read(work);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public void rewrite(final Counters counters) throws Exception {
+    SyntheticAudio.fillTag(audioFile.getTagOrSetNewDefault(), SyntheticAudio.TagSize.LARGE);
+    audioFile.save();
+    if (audioFile.getLastSaveMode().get() != SaveMode.REWRITE) {
+      throw new IllegalStateException(format + " tag was written in place");
+    }
+    counters.megabytes += sizeMb;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AudioFile#save()} of each format after a small edit (the title changes) or a large one (many fields, long lyrics and a
+ * large cover are added). Every invocation starts from a fresh copy of a file with a {@link SyntheticAudio.TagSize#SMALL} tag, the
+ * copy and read are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SaveBenchmark {
+  @Param({"mp3", "flac", "ogg", "m4a", "wav", "aiff", "wma", "dsf"})
+  public String format;
+
+  @Param({"SMALL", "LARGE"})
+  public SyntheticAudio.TagSize edit;
+
+  private File dir;
+  private File template;
+  private File work;
+  private AudioFile audioFile;
+  private int count;
+
+  @Setup
+  public void setUp() throws Exception {
+    dir = SyntheticAudio.createDir();
+    template = SyntheticAudio.tag(SyntheticAudio.create(dir, format), SyntheticAudio.TagSize.SMALL);
+    work = new File(dir, "work." + format);
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() throws Exception {
+    Files.copy(template, work);
+    audioFile = AudioFileIO.read(work);
+  }
+
+  @TearDown
+  public void tearDown() {
+    SyntheticAudio.delete(dir);
+  }
+
+  @Benchmark
+  public void save() throws Exception {
+    if (edit == SyntheticAudio.TagSize.SMALL) {
+      audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "Title " + count++);
+    } else {
+      SyntheticAudio.fillTag(audioFile.getTagOrSetNewDefault(), edit);
+    }
+    audioFile.save();
+  }
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+
+package ealvatag.benchmark;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.asf.data.GUID;
+import ealvatag.audio.ogg.util.OggCRCFactory;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Builds small but structurally valid audio files for the benchmarks so no real (copyrighted) audio needs to be shipped. The audio
+ * payload is silence or noise, only the containers and headers are real. Tags are added through the library itself via
+ * {@link #tag(File, TagSize)}.
+ */
+public final class SyntheticAudio {
+  static final String[] FORMATS = {"mp3", "flac", "ogg", "m4a", "wav", "aiff", "wma", "dsf"};
+
+  private static final int SAMPLE_RATE = 44100;
+  private static final int CHANNELS = 2;
+  private static final int SECONDS = 10;
+  private static final long SEED = 0x5EEDL;
+
+  private static final int MP3_FRAME_LENGTH = 417;  // MPEG-1 Layer III, 128kbps, 44.1kHz, no padding
+  private static final int MP3_SAMPLES_PER_FRAME = 1152;
+  private static final int PCM_BYTES = 1024 * 1024;
+  private static final int OGG_AUDIO_PAGES = 256;
+  private static final int OGG_PAGE_AUDIO_BYTES = 4000;
+  private static final int DSF_SAMPLE_RATE = 2822400;
+  private static final int DSF_BLOCK_SIZE = 4096;
+
+  private static final byte[] ASF_HEADER_EXTENSION_RESERVED_GUID = {
+      0x11, (byte)0xD3, (byte)0xD3, (byte)0xAB, (byte)0xBA, (byte)0xA9, (byte)0xCF, 0x11,
+      (byte)0x8E, (byte)0xE6, 0x00, (byte)0xC0, 0x0C, 0x20, 0x53, 0x65
+  };
+  private static final byte[] ASF_DATA_GUID = {
+      0x36, 0x26, (byte)0xB2, 0x75, (byte)0x8E, 0x66, (byte)0xCF, 0x11,
+      (byte)0xA6, (byte)0xD9, 0x00, (byte)0xAA, 0x00, 0x62, (byte)0xCE, 0x6C
+  };
+
+  public enum TagSize {
+    /** A handful of text fields, as a freshly ripped track would have */
+    SMALL(0, false),
+    /** Many fields, long lyrics and a large embedded cover */
+    LARGE(40, true);
+
+    final int extraFields;
+    final boolean artwork;
+
+    TagSize(final int extraFields, final boolean artwork) {
+      this.extraFields = extraFields;
+      this.artwork = artwork;
+    }
+  }
+
+  private SyntheticAudio() {
+  }
+
+  /**
+   * Create an untagged file of the given format in {@code dir}
+   *
+   * @param dir       directory to create the file in
+   * @param extension one of {@link #FORMATS}
+   *
+   * @return the new file, named "synthetic." + extension
+   *
+   * @throws IOException if the file cannot be written
+   */
+  static File create(final File dir, final String extension) throws IOException {
+    switch (extension) {
+      case "mp3":
+        return create(dir, extension, SECONDS * SAMPLE_RATE / MP3_SAMPLES_PER_FRAME * MP3_FRAME_LENGTH);
+      case "ogg":
+        return create(dir, extension, OGG_AUDIO_PAGES * OGG_PAGE_AUDIO_BYTES);
+      default:
+        return create(dir, extension, PCM_BYTES);
+    }
+  }
+
+  /**
+   * Create an untagged file of the given format in {@code dir} with roughly {@code audioBytes} of audio. The whole file is built in
+   * memory before it's written, so very large sizes need a large heap.
+   *
+   * @param dir        directory to create the file in
+   * @param extension  one of {@link #FORMATS}
+   * @param audioBytes size of the audio payload, rounded down to whole frames or pages where the format has them
+   *
+   * @return the new file, named "synthetic." + extension
+   *
+   * @throws IOException if the file cannot be written
+   */
+  static File create(final File dir, final String extension, final int audioBytes) throws IOException {
+    final Buffer buffer;
+    switch (extension) {
+      case "mp3":
+        buffer = mp3(0, audioBytes / MP3_FRAME_LENGTH);
+        break;
+      case "flac":
+        buffer = flac(audioBytes);
+        break;
+      case "ogg":
+        buffer = ogg(audioBytes / OGG_PAGE_AUDIO_BYTES);
+        break;
+      case "m4a":
+        buffer = m4a(audioBytes);
+        break;
+      case "wav":
+        buffer = wav(audioBytes);
+        break;
+      case "aiff":
+        buffer = aiff(audioBytes);
+        break;
+      case "wma":
+        buffer = wma(audioBytes);
+        break;
+      case "dsf":
+        buffer = dsf(audioBytes);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported format " + extension);
+    }
+    return write(new File(dir, "synthetic." + extension), buffer);
+  }
+
+  /**
+   * Create an untagged mp3 with {@code junkLength} bytes of random data before the first frame, the worst case for the frame sync
+   * search.
+   */
+  static File createMp3WithJunk(final File dir, final int junkLength) throws IOException {
+    return write(new File(dir, "junk" + junkLength + ".mp3"), mp3(junkLength, SECONDS * SAMPLE_RATE / MP3_SAMPLES_PER_FRAME));
+  }
+
+  /**
+   * Read {@code file}, set a tag of the requested size and save it
+   *
+   * @return the file, for chaining
+   */
+  static File tag(final File file, final TagSize size) throws Exception {
+    final AudioFile audioFile = AudioFileIO.read(file);
+    fillTag(audioFile.getTagOrSetNewDefault(), size);
+    audioFile.save();
+    return file;
+  }
+
+  static void fillTag(final Tag tag, final TagSize size) throws Exception {
+    tag.setField(FieldKey.ARTIST, "Synthetic Artist");
+    tag.setField(FieldKey.ALBUM_ARTIST, "Synthetic Artist");
+    tag.setField(FieldKey.ALBUM, "Synthetic Album");
+    tag.setField(FieldKey.TITLE, "Synthetic Title");
+    tag.setField(FieldKey.TRACK, "3");
+    tag.setField(FieldKey.YEAR, "2017");
+    tag.setField(FieldKey.GENRE, "Ambient");
+    if (size.extraFields > 0) {
+      tag.setField(FieldKey.COMPOSER, "Synthetic Composer");
+      tag.setField(FieldKey.COMMENT, text(size.extraFields * 16));
+      tag.setField(FieldKey.LYRICS, text(size.extraFields * 256));
+      tag.setField(FieldKey.MUSICBRAINZ_TRACK_ID, "5f2ab2b3-6e5c-4e2a-8f63-8d8e2b0e0f1a");
+      tag.setField(FieldKey.MUSICBRAINZ_RELEASEID, "0b3c9c57-7f0e-4b5f-9d1b-3a1f3b5f1c2d");
+      tag.setField(FieldKey.MUSICBRAINZ_ARTISTID, "7e84f845-ac16-41fe-9ff8-df12eb32af55");
+      tag.setField(FieldKey.ISRC, "USSYN1700001");
+      tag.setField(FieldKey.BPM, "120");
+      tag.setField(FieldKey.CONDUCTOR, "Synthetic Conductor");
+      tag.setField(FieldKey.ENCODER, "ealvatag-benchmarks");
+    }
+    if (size.artwork) {
+      tag.setArtwork(artwork());
+    }
+  }
+
+  static Artwork artwork() {
+    return ArtworkFactory.getNew()
+                         .setBinaryData(Cover.PNG)
+                         .setMimeType("image/png")
+                         .setDescription("")
+                         .setPictureType(3)
+                         .setWidth(Cover.DIMENSION)
+                         .setHeight(Cover.DIMENSION);
+  }
+
+  /**
+   * Create an empty working directory for a benchmark trial. Delete it with {@link #delete(File)}
+   */
+  static File createDir() {
+    return Files.createTempDir();
+  }
+
+  static void delete(final File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        delete(child);
+      }
+    }
+    //noinspection ResultOfMethodCallIgnored
+    file.delete();
+  }
+
+  static String text(final int length) {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (i % 64 == 63) ? ' ' : (char)('a' + (i % 26));
+    }
+    return new String(chars);
+  }
+
+  private static File write(final File file, final Buffer buffer) throws IOException {
+    try (BufferedSink sink = Okio.buffer(Okio.sink(file))) {
+      sink.writeAll(buffer);
+    }
+    return file;
+  }
+
+  private static Buffer mp3(final int junkLength, final int frameCount) {
+    final Buffer buffer = new Buffer();
+    if (junkLength > 0) {
+      final byte[] junk = new byte[junkLength];
+      new Random(SEED).nextBytes(junk);
+      buffer.write(junk);
+    }
+    final byte[] payload = new byte[MP3_FRAME_LENGTH - 4];
+    for (int i = 0; i < frameCount; i++) {
+      buffer.writeInt(0xFFFB9000);  // sync, MPEG-1, Layer III, no CRC, 128kbps, 44.1kHz, stereo
+      buffer.write(payload);
+    }
+    return buffer;
+  }
+
+  private static Buffer flac(final int audioBytes) {
+    final Buffer buffer = new Buffer();
+    buffer.writeUtf8("fLaC");
+    buffer.writeInt(0x80000000 | 34);  // last metadata block, STREAMINFO, length 34
+    buffer.writeShort(4096);           // min block size
+    buffer.writeShort(4096);           // max block size
+    writeInt24(buffer, 0);             // min frame size, unknown
+    writeInt24(buffer, 0);             // max frame size, unknown
+    final long samples = (long)SECONDS * SAMPLE_RATE;
+    // 20 bits sample rate, 3 bits channels - 1, 5 bits bits per sample - 1, 36 bits total samples
+    buffer.writeLong(((long)SAMPLE_RATE << 44) | ((long)(CHANNELS - 1) << 41) | ((long)(16 - 1) << 36) | samples);
+    buffer.write(new byte[16]);        // MD5, unknown
+    writeNoise(buffer, audioBytes);
+    return buffer;
+  }
+
+  private static Buffer ogg(final int audioPages) {
+    final int serial = 0x0EA17A;
+    final Buffer buffer = new Buffer();
+
+    final Buffer identification = new Buffer();
+    identification.writeByte(1).writeUtf8("vorbis");
+    identification.writeIntLe(0);                 // vorbis version
+    identification.writeByte(CHANNELS);
+    identification.writeIntLe(SAMPLE_RATE);
+    identification.writeIntLe(0);                 // bitrate maximum
+    identification.writeIntLe(128000);            // bitrate nominal
+    identification.writeIntLe(0);                 // bitrate minimum
+    identification.writeByte(0xB8);               // blocksize 0 = 256, blocksize 1 = 2048
+    identification.writeByte(1);                  // framing
+    writeOggPage(buffer, 0x02, 0, serial, 0, identification.readByteArray());
+
+    final String vendor = "ealvatag-benchmarks";
+    final Buffer comment = new Buffer();
+    comment.writeByte(3).writeUtf8("vorbis");
+    comment.writeIntLe(vendor.length()).writeUtf8(vendor);
+    comment.writeIntLe(0);                        // no user comments
+    comment.writeByte(1);                         // framing
+    final Buffer setup = new Buffer();
+    setup.writeByte(5).writeUtf8("vorbis");
+    setup.write(new byte[64]);
+    writeOggPage(buffer, 0, 0, serial, 1, comment.readByteArray(), setup.readByteArray());
+
+    final long samplesPerPage = Math.max(1, (long)SECONDS * SAMPLE_RATE / audioPages);
+    final byte[] packet = noise(OGG_PAGE_AUDIO_BYTES);
+    for (int i = 0; i < audioPages; i++) {
+      final int type = i == audioPages - 1 ? 0x04 : 0;
+      writeOggPage(buffer, type, samplesPerPage * (i + 1), serial, i + 2, packet);
+    }
+    return buffer;
+  }
+
+  private static void writeOggPage(final Buffer out,
+                                   final int headerType,
+                                   final long granule,
+                                   final int serial,
+                                   final int sequence,
+                                   final byte[]... packets) {
+    final Buffer lacing = new Buffer();
+    final Buffer body = new Buffer();
+    for (byte[] packet : packets) {
+      int remaining = packet.length;
+      while (remaining >= 255) {
+        lacing.writeByte(255);
+        remaining -= 255;
+      }
+      lacing.writeByte(remaining);
+      body.write(packet);
+    }
+    final Buffer page = new Buffer();
+    page.writeUtf8("OggS");
+    page.writeByte(0);                            // stream structure version
+    page.writeByte(headerType);
+    page.writeLongLe(granule);
+    page.writeIntLe(serial);
+    page.writeIntLe(sequence);
+    page.writeIntLe(0);                           // checksum, computed below
+    page.writeByte((int)lacing.size());
+    page.write(lacing, lacing.size());
+    page.write(body, body.size());
+
+    final byte[] bytes = page.readByteArray();
+    final byte[] crc = OggCRCFactory.computeCRC(bytes);
+    System.arraycopy(crc, 0, bytes, 22, crc.length);
+    out.write(bytes);
+  }
+
+  private static Buffer m4a(final int audioBytes) {
+
+    final Buffer ftyp = new Buffer();
+    ftyp.writeUtf8("M4A ").writeInt(0).writeUtf8("M4A mp42isom");
+
+    final Buffer mvhd = new Buffer();
+    mvhd.writeInt(0);                             // version, flags
+    mvhd.writeInt(0).writeInt(0);                 // created, modified
+    mvhd.writeInt(1000).writeInt(SECONDS * 1000); // time scale, duration
+    mvhd.writeInt(0x00010000).writeShort(0x0100); // rate, volume
+    mvhd.write(new byte[10]);
+    writeMatrix(mvhd);
+    mvhd.write(new byte[24]);
+    mvhd.writeInt(2);                             // next track id
+
+    final Buffer mdhd = new Buffer();
+    mdhd.writeInt(0).writeInt(0).writeInt(0);
+    mdhd.writeInt(SAMPLE_RATE).writeInt(SECONDS * SAMPLE_RATE);
+    mdhd.writeShort(0x55C4).writeShort(0);        // language "und"
+
+    final Buffer hdlr = new Buffer();
+    hdlr.writeInt(0).writeInt(0).writeUtf8("soun").write(new byte[12]).writeByte(0);
+
+    final Buffer smhd = new Buffer();
+    smhd.writeInt(0).writeInt(0);
+
+    final Buffer esds = new Buffer();
+    esds.writeInt(0);
+    esds.writeByte(0x03).writeByte(25).writeShort(1).writeByte(0);         // ES descriptor
+    esds.writeByte(0x04).writeByte(17).writeByte(0x40).writeByte(0x15);    // decoder config, AAC audio
+    writeInt24(esds, 0);
+    esds.writeInt(128000).writeInt(128000);
+    esds.writeByte(0x05).writeByte(2).writeByte(0x12).writeByte(0x10);     // AAC LC, 44.1kHz, stereo
+    esds.writeByte(0x06).writeByte(1).writeByte(0x02);                     // SL config
+
+    final Buffer mp4a = new Buffer();
+    mp4a.write(new byte[6]).writeShort(1);        // reserved, data reference index
+    mp4a.writeShort(0).writeShort(0).writeInt(0); // version, revision, vendor
+    mp4a.writeShort(CHANNELS).writeShort(16);
+    mp4a.writeShort(0).writeShort(0);
+    mp4a.writeInt(SAMPLE_RATE << 16);
+    box(mp4a, "esds", esds);
+
+    final Buffer stsd = new Buffer();
+    stsd.writeInt(0).writeInt(1);
+    box(stsd, "mp4a", mp4a);
+
+    final Buffer stts = new Buffer();
+    stts.writeInt(0).writeInt(1).writeInt(SECONDS * SAMPLE_RATE / 1024).writeInt(1024);
+    final Buffer stsc = new Buffer();
+    stsc.writeInt(0).writeInt(1).writeInt(1).writeInt(SECONDS * SAMPLE_RATE / 1024).writeInt(1);
+    final Buffer stsz = new Buffer();
+    stsz.writeInt(0).writeInt(audioBytes / (SECONDS * SAMPLE_RATE / 1024)).writeInt(SECONDS * SAMPLE_RATE / 1024);
+
+    final Buffer metaHdlr = new Buffer();
+    metaHdlr.writeInt(0).writeInt(0).writeUtf8("mdirappl").write(new byte[8]).writeByte(0);
+    final Buffer meta = new Buffer();
+    meta.writeInt(0);
+    box(meta, "hdlr", metaHdlr);
+    box(meta, "ilst", new Buffer());
+    box(meta, "free", new Buffer().write(new byte[1024]));
+    final Buffer udta = new Buffer();
+    box(udta, "meta", meta);
+
+    // the stco chunk offset depends on the size of moov, so build everything but stco and add its fixed size
+    final int stcoLength = 8 + 12;
+    final Buffer stbl = new Buffer();
+    box(stbl, "stsd", stsd);
+    box(stbl, "stts", stts);
+    box(stbl, "stsc", stsc);
+    box(stbl, "stsz", stsz);
+    final long moovLength = 8 + (8 + mvhd.size()) + 8 /*trak*/ + 8 /*mdia*/ + (8 + mdhd.size()) + (8 + hdlr.size()) + 8 /*minf*/ +
+        (8 + smhd.size()) + 8 /*stbl*/ + stbl.size() + stcoLength + (8 + udta.size());
+    final long mdatData = (8 + ftyp.size()) + moovLength + 8;
+    final Buffer stco = new Buffer();
+    stco.writeInt(0).writeInt(1).writeInt((int)mdatData);
+    box(stbl, "stco", stco);
+
+    final Buffer minf = new Buffer();
+    box(minf, "smhd", smhd);
+    box(minf, "stbl", stbl);
+    final Buffer mdia = new Buffer();
+    box(mdia, "mdhd", mdhd);
+    box(mdia, "hdlr", hdlr);
+    box(mdia, "minf", minf);
+    final Buffer trak = new Buffer();
+    box(trak, "mdia", mdia);
+    final Buffer moov = new Buffer();
+    box(moov, "mvhd", mvhd);
+    box(moov, "trak", trak);
+    box(moov, "udta", udta);
+
+    final Buffer buffer = new Buffer();
+    box(buffer, "ftyp", ftyp);
+    box(buffer, "moov", moov);
+    final Buffer mdat = new Buffer();
+    writeNoise(mdat, audioBytes);
+    box(buffer, "mdat", mdat);
+    return buffer;
+  }
+
+  private static void writeMatrix(final Buffer buffer) {
+    buffer.writeInt(0x00010000).writeInt(0).writeInt(0);
+    buffer.writeInt(0).writeInt(0x00010000).writeInt(0);
+    buffer.writeInt(0).writeInt(0).writeInt(0x40000000);
+  }
+
+  private static void box(final Buffer parent, final String type, final Buffer content) {
+    parent.writeInt((int)(8 + content.size())).writeUtf8(type).write(content, content.size());
+  }
+
+  private static Buffer wav(final int audioBytes) {
+    final Buffer buffer = new Buffer();
+    buffer.writeUtf8("RIFF").writeIntLe(4 + (8 + 16) + (8 + audioBytes)).writeUtf8("WAVE");
+    buffer.writeUtf8("fmt ").writeIntLe(16);
+    buffer.writeShortLe(1);                       // PCM
+    buffer.writeShortLe(CHANNELS);
+    buffer.writeIntLe(SAMPLE_RATE);
+    buffer.writeIntLe(SAMPLE_RATE * CHANNELS * 2);
+    buffer.writeShortLe(CHANNELS * 2);
+    buffer.writeShortLe(16);
+    buffer.writeUtf8("data").writeIntLe(audioBytes);
+    writeNoise(buffer, audioBytes);
+    return buffer;
+  }
+
+  private static Buffer aiff(final int audioBytes) {
+    final Buffer buffer = new Buffer();
+    buffer.writeUtf8("FORM").writeInt(4 + (8 + 18) + (8 + 8 + audioBytes)).writeUtf8("AIFF");
+    buffer.writeUtf8("COMM").writeInt(18);
+    buffer.writeShort(CHANNELS);
+    buffer.writeInt(audioBytes / (CHANNELS * 2)); // sample frames
+    buffer.writeShort(16);
+    buffer.writeShort(0x400E).writeInt(0xAC440000).writeShort(0);  // 44100 as 80 bit IEEE extended
+    buffer.writeShort(0);
+    buffer.writeUtf8("SSND").writeInt(8 + audioBytes);
+    buffer.writeInt(0).writeInt(0);               // offset, block size
+    writeNoise(buffer, audioBytes);
+    return buffer;
+  }
+
+  private static Buffer wma(final int audioBytes) {
+    final Buffer file = new Buffer();
+    file.write(GUID.GUID_UNSPECIFIED.getBytes()); // file id
+    final long fileSizeOffset = file.size();
+    file.writeLongLe(0);                          // file size, patched below
+    file.writeLongLe(0);                          // creation date
+    file.writeLongLe(1);                          // data packets
+    file.writeLongLe(SECONDS * 10000000L);        // play duration, 100ns units
+    file.writeLongLe(SECONDS * 10000000L);        // send duration
+    file.writeLongLe(0);                          // preroll
+    file.writeIntLe(2);                           // seekable
+    file.writeIntLe(audioBytes).writeIntLe(audioBytes);
+    file.writeIntLe(128000);
+
+    final Buffer stream = new Buffer();
+    stream.write(GUID.GUID_AUDIOSTREAM.getBytes());
+    stream.write(GUID.GUID_AUDIO_ERROR_CONCEALEMENT_ABSENT.getBytes());
+    stream.writeLongLe(0);                        // time offset
+    stream.writeIntLe(18).writeIntLe(0);          // type specific length, error correction length
+    stream.writeShortLe(1).writeIntLe(0);         // stream number, reserved
+    stream.writeShortLe(0x0161);                  // WMA v2
+    stream.writeShortLe(CHANNELS);
+    stream.writeIntLe(SAMPLE_RATE);
+    stream.writeIntLe(16000);
+    stream.writeShortLe(2973);
+    stream.writeShortLe(16);
+    stream.writeShortLe(0);
+
+    final Buffer extension = new Buffer();
+    extension.write(ASF_HEADER_EXTENSION_RESERVED_GUID);
+    extension.writeShortLe(6);
+    extension.writeIntLe(0);                      // no extension objects
+
+    final Buffer children = new Buffer();
+    asfObject(children, GUID.GUID_FILE, file);
+    asfObject(children, GUID.GUID_STREAM, stream);
+    asfObject(children, GUID.GUID_HEADER_EXTENSION, extension);
+
+    final Buffer data = new Buffer();
+    data.write(GUID.GUID_UNSPECIFIED.getBytes());
+    data.writeLongLe(1);                          // total data packets
+    data.writeShort(0x0101);
+    writeNoise(data, audioBytes);
+
+    final Buffer buffer = new Buffer();
+    buffer.write(GUID.GUID_HEADER.getBytes());
+    buffer.writeLongLe(16 + 8 + 6 + children.size());
+    buffer.writeIntLe(3);                         // child object count
+    buffer.writeByte(1).writeByte(2);             // reserved
+    buffer.write(children, children.size());
+    buffer.write(ASF_DATA_GUID);
+    buffer.writeLongLe(16 + 8 + data.size());
+    buffer.write(data, data.size());
+
+    // patch the total file size into the file properties object
+    final byte[] bytes = buffer.readByteArray();
+    final int sizePosition = 16 + 8 + 6 + 16 + 8 + (int)fileSizeOffset;
+    final long total = bytes.length;
+    for (int i = 0; i < 8; i++) {
+      bytes[sizePosition + i] = (byte)(total >>> (8 * i));
+    }
+    return new Buffer().write(bytes);
+  }
+
+  private static void asfObject(final Buffer parent, final GUID guid, final Buffer content) {
+    parent.write(guid.getBytes());
+    parent.writeLongLe(16 + 8 + content.size());
+    parent.write(content, content.size());
+  }
+
+  private static Buffer dsf(final int audioBytes) {
+    final int channelBytes = audioBytes / CHANNELS;
+    final int dataLength = channelBytes * CHANNELS;
+    final long totalLength = 28 + 52 + 12 + dataLength;
+    final Buffer buffer = new Buffer();
+    buffer.writeUtf8("DSD ").writeLongLe(28).writeLongLe(totalLength).writeLongLe(0);  // no metadata yet
+    buffer.writeUtf8("fmt ").writeLongLe(52);
+    buffer.writeIntLe(1);                         // format version
+    buffer.writeIntLe(0);                         // DSD raw
+    buffer.writeIntLe(2);                         // channel type, stereo
+    buffer.writeIntLe(CHANNELS);
+    buffer.writeIntLe(DSF_SAMPLE_RATE);
+    buffer.writeIntLe(1);                         // bits per sample
+    buffer.writeLongLe((long)channelBytes * 8);   // sample count per channel
+    buffer.writeIntLe(DSF_BLOCK_SIZE);
+    buffer.writeIntLe(0);                         // reserved
+    buffer.writeUtf8("data").writeLongLe(12 + dataLength);
+    writeNoise(buffer, dataLength);
+    return buffer;
+  }
+
+  private static void writeInt24(final Buffer buffer, final int value) {
+    buffer.writeByte(value >>> 16).writeByte(value >>> 8).writeByte(value);
+  }
+
+  /**
+   * Write {@code length} bytes of noise, repeating a block of at most {@link #PCM_BYTES} so large files don't need one huge array
+   */
+  private static void writeNoise(final Buffer buffer, final int length) {
+    final byte[] block = noise(Math.min(length, PCM_BYTES));
+    for (int written = 0; written < length; written += block.length) {
+      buffer.write(block, 0, Math.min(block.length, length - written));
+    }
+  }
+
+  private static byte[] noise(final int length) {
+    final byte[] bytes = new byte[length];
+    new Random(SEED + length).nextBytes(bytes);
+    // keep the noise free of 0xFF so it never looks like an MPEG or FLAC frame sync
+    for (int i = 0; i < length; i++) {
+      if (bytes[i] == (byte)0xFF) {
+        bytes[i] = 0;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * A square PNG of random pixels, created once so it's not part of any measurement. Noise doesn't compress, so 300x300 is roughly
+   * 260K, about the size of a typical embedded cover. Flac and Ogg need an image they can decode to get the dimensions.
+   */
+  private static final class Cover {
+    static final int DIMENSION = 300;
+    static final byte[] PNG = png();
+
+    private static byte[] png() {
+      final BufferedImage image = new BufferedImage(DIMENSION, DIMENSION, BufferedImage.TYPE_INT_RGB);
+      final Random random = new Random(SEED);
+      for (int y = 0; y < DIMENSION; y++) {
+        for (int x = 0; x < DIMENSION; x++) {
+          image.setRGB(x, y, random.nextInt());
+        }
+      }
+      try {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
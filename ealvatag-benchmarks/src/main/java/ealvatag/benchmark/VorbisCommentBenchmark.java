@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.benchmark;
+
+import ealvatag.tag.vorbiscomment.VorbisCommentCreator;
+import ealvatag.tag.vorbiscomment.VorbisCommentReader;
+import ealvatag.tag.vorbiscomment.VorbisCommentTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a raw Vorbis comment as found in a Flac VORBIS_COMMENT block or the Ogg comment header. A large comment carries the cover
+ * as a base64 METADATA_BLOCK_PICTURE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VorbisCommentBenchmark {
+  @Param({"SMALL", "LARGE"})
+  public SyntheticAudio.TagSize size;
+
+  private byte[] comment;
+  private VorbisCommentReader reader;
+
+  @Setup
+  public void setUp() throws Exception {
+    final VorbisCommentTag tag = VorbisCommentTag.createNewTag();
+    SyntheticAudio.fillTag(tag, size);
+    final ByteBuffer buffer = new VorbisCommentCreator().convert(tag, 0);
+    comment = new byte[buffer.remaining()];
+    buffer.get(comment);
+    reader = new VorbisCommentReader();
+  }
+
+  @Benchmark
+  public VorbisCommentTag parse() throws Exception {
+    return reader.read(comment, false);
+  }
+}
@@ -18,12 +18,16 @@
 package ealvatag.audio;
 
 import com.google.common.base.Optional;
+import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.reference.ID3V2Version;
 
 import java.io.File;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Interface to an AudioFile, which is the primary entry point to reading/editing fields in a {@link Tag} and getting audio information
@@ -57,6 +61,14 @@ public interface AudioFile {
    */
   void deleteFileTag() throws CannotWriteException;
 
+  /**
+   * How the most recent {@link #save()} or {@link #saveAs(String)} wrote the tag. Absent if this AudioFile has not been saved.
+   *
+   * @return {@link SaveMode#IN_PLACE} if only the metadata was overwritten, {@link SaveMode#REWRITE} if the audio had to be copied
+   * or moved
+   */
+  Optional<SaveMode> getLastSaveMode();
+
   /**
    * The {@link File} instance this AudioFile represents
    *
@@ -71,6 +83,23 @@ public interface AudioFile {
    */
   AudioHeader getAudioHeader();
 
+  /**
+   * Digest the audio in the file, leaving out tags and other metadata, so the digest doesn't change when only the metadata is edited.
+   * Useful to tell whether a file's audio has changed, or whether two files hold the same audio, without comparing the audio itself.
+   * <p>
+   * The audio is found and read from the file as it is now, streamed through a direct buffer and never held in memory.
+   *
+   * @param algorithm name of a {@link MessageDigest} algorithm, such as "MD5" or "SHA-1"
+   *
+   * @return the digest of the audio
+   *
+   * @throws NoSuchAlgorithmException if the algorithm isn't available
+   * @throws CannotReadException      if the audio can't be found, or the format doesn't support this
+   * @throws IOException              if there is an error reading from the file
+   * @see ealvatag.tag.images.Artwork#digest(String)
+   */
+  byte[] audioPayloadDigest(String algorithm) throws NoSuchAlgorithmException, CannotReadException, IOException;
+
   /**
    * Returns the tag contained in this AudioFile. The {@link Tag} contains any useful metadata, like
    * artist, album, title, etc. If the file does not contain any tag then the return will be absent. Some audio formats do
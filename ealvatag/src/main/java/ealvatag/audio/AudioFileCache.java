@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.exceptions.ModifyVetoException;
+import ealvatag.tag.ReadOnlyTag;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagException;
+import ealvatag.tag.TagField;
+import ealvatag.tag.UnsupportedFieldException;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.AbstractTagFrame;
+import ealvatag.tag.id3.AggregatedFrame;
+import ealvatag.tag.images.Artwork;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-memory cache of read-only {@link AudioFile}s, for files which are read again and again. Enabled by {@link
+ * AudioFileIO#enableCache(long)} and used by {@link AudioFileIO#readCached(File)}.
+ * <p>
+ * The cache is bounded by an estimate of the memory the cached files retain, mostly their text fields and artwork, and the least
+ * recently used files are evicted first. A cached file is only returned if the file still has the length and modification time it
+ * had when read, and it is dropped when the file is saved, or has its tag deleted, through this library.
+ * <p>
+ * The same instance is returned to every caller, so it can't be saved and its tag can't be changed. Anything a reader left to be
+ * read on first access, lazy ID3 frame bodies ({@link ealvatag.tag.TagOptionSingleton#setLazyId3v2FrameBodies(boolean)}) and a
+ * deferred Ogg duration, is read before the file is cached, so callers on different threads only ever read a cached file.
+ */
+public final class AudioFileCache {
+  /** Rough size of an AudioFile, its header and tag, without the field values */
+  private static final int BASE_BYTES = 1024;
+  /** Rough size of a field without its value */
+  private static final int FIELD_BYTES = 64;
+
+  private final long maxRetainedBytes;
+  private final Cache<String, Snapshot> cache;
+  private final AudioFileModificationListener invalidator;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  AudioFileCache(final long maxRetainedBytes) {
+    checkArgument(maxRetainedBytes > 0, "maxRetainedBytes must be > 0");
+    this.maxRetainedBytes = maxRetainedBytes;
+    // one segment so the bound and LRU order are over all files, not a quarter of the weight each. Hits don't lock regardless
+    this.cache = CacheBuilder.newBuilder()
+                             .concurrencyLevel(1)
+                             .maximumWeight(maxRetainedBytes)
+                             .weigher(new Weigher<String, Snapshot>() {
+                               @Override public int weigh(final String key, final Snapshot value) {
+                                 return value.retainedBytes;
+                               }
+                             })
+                             .removalListener(new RemovalListener<String, Snapshot>() {
+                               @Override public void onRemoval(final RemovalNotification<String, Snapshot> notification) {
+                                 if (notification.getCause() == RemovalCause.SIZE) {
+                                   evictions.incrementAndGet();
+                                 }
+                               }
+                             })
+                             .build();
+    this.invalidator = new Invalidator();
+  }
+
+  AudioFileModificationListener getInvalidator() {
+    return invalidator;
+  }
+
+  AudioFile read(final File file) throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
+    final String key = file.getAbsolutePath();
+    final long length = file.length();
+    final long lastModified = file.lastModified();
+    final Snapshot cached = cache.getIfPresent(key);
+    if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    final AudioFile audioFile = AudioFileIO.read(file);
+    resolveDeferred(audioFile);
+    final Snapshot snapshot = new Snapshot(audioFile, length, lastModified, estimateRetainedBytes(audioFile));
+    cache.put(key, snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Drop {@code file} from the cache. Not needed for changes made through this library.
+   *
+   * @param file the audio file
+   */
+  public void invalidate(final File file) {
+    cache.invalidate(file.getAbsolutePath());
+  }
+
+  /**
+   * Drop every file from the cache
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return number of reads answered from the cache
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of reads which had to read the file, because it wasn't cached or had changed
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return number of files dropped to keep within the size limit
+   */
+  public long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /**
+   * @return number of files currently cached
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  public long getMaxRetainedBytes() {
+    return maxRetainedBytes;
+  }
+
+  /**
+   * @return {@code audioFile} as a read-only AudioFile which may be shared
+   */
+  static AudioFile readOnly(final AudioFile audioFile) {
+    resolveDeferred(audioFile);
+    return new Snapshot(audioFile, 0, 0, 0);
+  }
+
+  /**
+   * Decode what {@code audioFile} left to be decoded on first access, so no getter of a shared instance changes it
+   */
+  private static void resolveDeferred(final AudioFile audioFile) {
+    final AudioHeader audioHeader = audioFile.getAudioHeader();
+    if (audioHeader instanceof GenericAudioHeader) {
+      ((GenericAudioHeader)audioHeader).resolveDeferred();
+    }
+    final Optional<Tag> tag = audioFile.getTag();
+    if (tag.isPresent()) {
+      final Iterator<TagField> fields = tag.get().getFields();
+      while (fields.hasNext()) {
+        final TagField field = fields.next();
+        if (field instanceof AbstractTagFrame) {
+          ((AbstractTagFrame)field).getBody();
+        } else if (field instanceof AggregatedFrame) {
+          for (final AbstractID3v2Frame frame : ((AggregatedFrame)field).getFrames()) {
+            frame.getBody();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return a rough estimate of the memory {@code audioFile} retains, mostly its text fields and artwork
+   */
+  static int estimateRetainedBytes(final AudioFile audioFile) {
+    long bytes = BASE_BYTES;
+    final Optional<Tag> tag = audioFile.getTag();
+    if (tag.isPresent()) {
+      final Iterator<TagField> fields = tag.get().getFields();
+      while (fields.hasNext()) {
+        final TagField field = fields.next();
+        bytes += FIELD_BYTES;
+        if (!field.isBinary()) {
+          bytes += 2 * field.toString().length();
+        }
+      }
+      try {
+        for (final Artwork artwork : tag.get().getArtworkList()) {
+          bytes += artwork.getBinaryDataLength();
+        }
+      } catch (UnsupportedFieldException e) {
+        // format has no artwork
+      }
+    }
+    return (int)Math.min(Integer.MAX_VALUE, bytes);
+  }
+
+  /**
+   * A cached file. Can't be saved and its tag can't be changed, as every caller gets the same instance.
+   */
+  private static final class Snapshot implements AudioFile {
+    private final AudioFile audioFile;
+    private final Optional<Tag> tag;
+    private final long length;
+    private final long lastModified;
+    private final int retainedBytes;
+
+    Snapshot(final AudioFile audioFile, final long length, final long lastModified, final int retainedBytes) {
+      this.audioFile = audioFile;
+      this.tag = audioFile.getTag().isPresent() ? Optional.of(ReadOnlyTag.of(audioFile.getTag().get())) : Optional.<Tag>absent();
+      this.length = length;
+      this.lastModified = lastModified;
+      this.retainedBytes = retainedBytes;
+    }
+
+    @Override public boolean readOnly() {
+      return true;
+    }
+
+    @Override public void save() throws CannotWriteException {
+      throw new CannotWriteException("Cached files are read only");
+    }
+
+    @Override public void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException {
+      throw new CannotWriteException("Cached files are read only");
+    }
+
+    @Override public void deleteFileTag() throws CannotWriteException {
+      throw new CannotWriteException("Cached files are read only");
+    }
+
+    @Override public Optional<SaveMode> getLastSaveMode() {
+      return Optional.absent();
+    }
+
+    @Override public File getFile() {
+      return audioFile.getFile();
+    }
+
+    @Override public AudioHeader getAudioHeader() {
+      return audioFile.getAudioHeader();
+    }
+
+    @Override public byte[] audioPayloadDigest(final String algorithm)
+        throws NoSuchAlgorithmException, CannotReadException, IOException {
+      return audioFile.audioPayloadDigest(algorithm);
+    }
+
+    @Override public Optional<Tag> getTag() {
+      return tag;
+    }
+
+    @Override public Tag setNewDefaultTag() throws UnsupportedFileType {
+      throw new UnsupportedOperationException("Cached files are read only");
+    }
+
+    @Override public Tag getTagOrSetNewDefault() throws UnsupportedFileType, CannotWriteException {
+      if (tag.isPresent()) {
+        return tag.get();
+      }
+      throw new CannotWriteException("Cached files are read only");
+    }
+
+    @Override public Tag getConvertedTagOrSetNewDefault() throws CannotWriteException {
+      throw new CannotWriteException("Cached files are read only");
+    }
+
+    @Override public String toString() {
+      return audioFile.toString();
+    }
+  }
+
+  /**
+   * Drops a file when it's about to be written, and again when done in case it was read in between
+   */
+  private final class Invalidator implements AudioFileModificationListener {
+    @Override public void fileWillBeModified(final AudioFile file, final boolean delete) throws ModifyVetoException {
+      invalidate(file.getFile());
+    }
+
+    @Override public void fileModified(final AudioFile original, final File temporary) throws ModifyVetoException {
+    }
+
+    @Override public void fileOperationFinished(final File result) {
+      invalidate(result);
+    }
+
+    @Override public void vetoThrown(final AudioFileModificationListener cause, final AudioFile original, final ModifyVetoException veto) {
+    }
+  }
+}
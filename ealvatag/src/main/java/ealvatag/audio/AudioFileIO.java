@@ -18,6 +18,7 @@
  */
 package ealvatag.audio;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Files;
 import ealvatag.audio.aiff.AiffFileReader;
@@ -42,9 +43,13 @@ import ealvatag.audio.wav.WavFileReader;
 import ealvatag.audio.wav.WavFileWriter;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.tag.TagException;
+import ealvatag.tag.TagOptionSingleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Locale;
 
 /**
@@ -65,6 +70,7 @@ import java.util.Locale;
 
     private static AudioFileIO defaultInstance;
     private final ModificationHandler modificationHandler;
+    private volatile AudioFileCache cache;
     private final ImmutableMap<String, AudioFileReaderFactory> readerFactories;
     private final ImmutableMap<String, AudioFileWriterFactory> writerFactories;
 
@@ -96,7 +102,29 @@ import java.util.Locale;
                                                 IOException,
                                                 TagException,
                                                 InvalidAudioFrameException {
-        return instance().readFile(f, false);
+        return instance().readFile(f, new ReadOptions());
+    }
+
+    /**
+     * Read the given file, reading only what {@code options} asks for. See {@link ReadOptions#setIgnoreAudioHeader(boolean)} to read
+     * just the tag when the audio header (duration, bit rate...) isn't needed.
+     *
+     * @param f       The file to read.
+     * @param options what to read from the file
+     *
+     * @return The AudioFile with the file tag and, unless ignored, the file encoding info.
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+     *                                    read.
+     * @throws TagException               various tag exceptions (to be refactored)
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     */
+    public static AudioFile read(File f, ReadOptions options) throws CannotReadException,
+                                                                     IOException,
+                                                                     TagException,
+                                                                     InvalidAudioFrameException {
+        return instance().readFile(f, options);
     }
 
     /**
@@ -122,7 +150,24 @@ import java.util.Locale;
                                                              IOException,
                                                              TagException,
                                                              InvalidAudioFrameException {
-        return instance().readFile(f, true);
+        return instance().readFile(f, new ReadOptions().setIgnoreArtwork(true));
+    }
+
+    /**
+     * Read every supported file found under {@code root}, reading on a pool of threads and passing each result, or the reason
+     * reading failed, to {@code listener}. Files are matched to readers by extension, the same as {@link #read(File)}. This method
+     * blocks until every file has been read and delivered.
+     *
+     * @param root     directory to scan, or a single file
+     * @param options  threading and read options
+     * @param listener receives results from the reader threads, see {@link ScanListener} for threading requirements
+     *
+     * @return counts and timing of the scan
+     *
+     * @throws InterruptedException if the calling thread is interrupted while walking directories or waiting for reads to complete
+     */
+    public static ScanResult scan(final File root, final ScanOptions options, final ScanListener listener) throws InterruptedException {
+        return new LibraryScanner(instance(), options, listener).scan(root);
     }
 
     /**
@@ -164,7 +209,7 @@ import java.util.Locale;
                                                             IOException,
                                                             TagException,
                                                             InvalidAudioFrameException {
-        return readAudioFile(f, ext, true);
+        return readAudioFile(f, ext, new ReadOptions().setIgnoreArtwork(true));
     }
 
     /**
@@ -184,14 +229,14 @@ import java.util.Locale;
                                                      IOException,
                                                      TagException,
                                                      InvalidAudioFrameException {
-        return readAudioFile(file, Utils.getMagicExtension(file), false);
+        return readAudioFile(file, Utils.getMagicExtension(file), new ReadOptions());
     }
 
-    private AudioFile readFile(File file, final boolean ignoreArtwork) throws CannotReadException,
-                                                                              IOException,
-                                                                              TagException,
-                                                                              InvalidAudioFrameException {
-        return readAudioFile(file, Files.getFileExtension(file.getName()), ignoreArtwork);
+    private AudioFile readFile(File file, final ReadOptions options) throws CannotReadException,
+                                                                            IOException,
+                                                                            TagException,
+                                                                            InvalidAudioFrameException {
+        return readAudioFile(file, Files.getFileExtension(file.getName()), options);
     }
 
     /**
@@ -218,12 +263,54 @@ import java.util.Locale;
         return factory.make().setAudioFileModificationListener(modificationHandler);
     }
 
-    private AudioFile readAudioFile(final File f, final String ext, final boolean ignoreArtwork) throws CannotReadException,
-                                                                                                        IOException,
-                                                                                                        TagException,
-                                                                                                        InvalidAudioFrameException {
+    AudioFile readAudioFile(final File f, final String ext, final ReadOptions options) throws CannotReadException,
+                                                                                              IOException,
+                                                                                              TagException,
+                                                                                              InvalidAudioFrameException {
         final String extension = ext.toLowerCase(Locale.ROOT);
-        return getReaderForExtension(extension).read(f, extension, ignoreArtwork);
+        final AudioFileReader reader = getReaderForExtension(extension);
+        final TagOptionSingleton tagOptions = options.getTagOptions();
+        if (tagOptions == null) {
+            return reader.read(f, extension, options);
+        }
+        final TagOptionSingleton.Scope scope = TagOptionSingleton.use(tagOptions);
+        try {
+            final AudioFile audioFile = reader.read(f, extension, options);
+            if (audioFile instanceof AudioFileImpl) {
+                ((AudioFileImpl)audioFile).setTagOptions(tagOptions);
+            }
+            return audioFile;
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Digest the audio in the file, see {@link AudioFile#audioPayloadDigest(String)}
+     *
+     * @param audioFile the file
+     * @param algorithm name of a {@link MessageDigest} algorithm
+     *
+     * @return the digest of the audio
+     */
+    byte[] digestAudioPayload(final AudioFileImpl audioFile, final String algorithm) throws NoSuchAlgorithmException,
+                                                                                            CannotReadException,
+                                                                                            IOException {
+        final MessageDigest digest = MessageDigest.getInstance(algorithm);
+        final AudioFileReader reader = getReaderForExtension(audioFile.getExt());
+        try (RandomAccessFile raf = new RandomAccessFile(audioFile.getFile(), "r")) {
+            reader.digestAudioPayload(raf, audioFile.getFile(), digest);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * @param ext lower case file extension
+     *
+     * @return true if there is a reader registered for files with the given extension
+     */
+    boolean hasReaderFor(final String ext) {
+        return readerFactories.containsKey(ext);
     }
 
     private AudioFileReader getReaderForExtension(final String ext) throws CannotReadException {
@@ -239,15 +326,17 @@ import java.util.Locale;
      *
      * @param audioFile The AudioFile to be written
      *
+     * @return how the tag was written
+     *
      * @throws CannotWriteException If the file could not be written/accessed, the extension wasn't recognized, or other IO error occurred.
      */
-    void writeFile(final AudioFileImpl audioFile) throws CannotWriteException {
+    SaveMode writeFile(final AudioFileImpl audioFile) throws CannotWriteException {
         String ext = audioFile.getExt();
         AudioFileWriter afw = getWriterForExtension(ext);
         if (afw == null) {
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT, ext);
         }
-        afw.write(audioFile);
+        return afw.write(audioFile);
     }
 
     /**
@@ -256,16 +345,18 @@ import java.util.Locale;
      * @param audioFile  The AudioFile to be written
      * @param targetPath The AudioFile path to which to be written without the extension. Cannot be null
      *
+     * @return how the tag was written to the copy
+     *
      * @throws IllegalArgumentException if targetPath is null or empty
      * @throws CannotWriteException     If the file could not be written/accessed, the extension wasn't recognized, or other IO error
      *                                  occurred.
      */
-    void writeFileAs(AudioFileImpl audioFile, String targetPath) throws CannotWriteException {
+    SaveMode writeFileAs(AudioFileImpl audioFile, String targetPath) throws CannotWriteException {
         try {
             final File destination = new File(targetPath + "." + audioFile.getExt());
             Utils.copyThrowsOnException(audioFile.getFile(), destination);
             audioFile.setFile(destination);
-            writeFile(audioFile);
+            return writeFile(audioFile);
         } catch (IOException e) {
             throw new CannotWriteException(e, "Error While Copying");
         }
@@ -389,25 +480,95 @@ import java.util.Locale;
     }
 
 
-    // These can be added back in the AudioFile interface save() and saveAs() methods if they're needed. No tests involve the
-    // AudioFileModificationListener and I see no evidence they're used in the MP3File, which is the actual writer (except for a little
-    // bit of code in the AudioFileWriter specific subclass. Bit of a mess
-//    /**
-//     * Adds an listener for all file formats.
-//     *
-//     * @param listener listener
-//     */
-//    public void addAudioFileModificationListener(AudioFileModificationListener listener) {
-//        this.modificationHandler.addAudioFileModificationListener(listener);
-//    }
-//
-//    /**
-//     * Removes a listener for all file formats.
-//     *
-//     * @param listener listener
-//     */
-//    public void removeAudioFileModificationListener(AudioFileModificationListener listener) {
-//        this.modificationHandler.removeAudioFileModificationListener(listener);
-//    }
+    /**
+     * Adds a listener told of every save and tag delete, for all file formats. Listeners are called on the thread doing the write.
+     *
+     * @param listener listener
+     */
+    public static void addAudioFileModificationListener(AudioFileModificationListener listener) {
+        instance().modificationHandler.addAudioFileModificationListener(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addAudioFileModificationListener(AudioFileModificationListener)}
+     *
+     * @param listener listener
+     */
+    public static void removeAudioFileModificationListener(AudioFileModificationListener listener) {
+        instance().modificationHandler.removeAudioFileModificationListener(listener);
+    }
+
+    ModificationHandler getModificationHandler() {
+        return modificationHandler;
+    }
+
+    /**
+     * Start caching files read by {@link #readCached(File)}, replacing any cache already enabled. See {@link AudioFileCache}.
+     *
+     * @param maxRetainedBytes roughly how much memory the cached files may retain before the least recently used are dropped
+     *
+     * @return the new cache, for its statistics
+     */
+    public static AudioFileCache enableCache(long maxRetainedBytes) {
+        final AudioFileCache cache = new AudioFileCache(maxRetainedBytes);
+        addAudioFileModificationListener(cache.getInvalidator());
+        final AudioFileIO io = instance();
+        synchronized (io) {
+            final AudioFileCache previous = io.cache;
+            io.cache = cache;
+            if (previous != null) {
+                removeAudioFileModificationListener(previous.getInvalidator());
+                previous.invalidateAll();
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Stop caching and drop everything cached
+     */
+    public static void disableCache() {
+        final AudioFileIO io = instance();
+        synchronized (io) {
+            final AudioFileCache previous = io.cache;
+            io.cache = null;
+            if (previous != null) {
+                removeAudioFileModificationListener(previous.getInvalidator());
+                previous.invalidateAll();
+            }
+        }
+    }
+
+    /**
+     * @return the cache if enabled by {@link #enableCache(long)}
+     */
+    public static Optional<AudioFileCache> getCache() {
+        return Optional.fromNullable(instance().cache);
+    }
+
+    /**
+     * Read a file which will only be looked at, from the cache if it's enabled and holds the file unchanged. The AudioFile may be
+     * shared with other callers, so it's read-only: it can't be saved and its tag can't be changed. Use {@link #read(File)} to edit.
+     *
+     * @param f The file to read.
+     *
+     * @return A read-only AudioFile
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+     *                                    read.
+     * @throws TagException               various tag exceptions (to be refactored)
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     */
+    public static AudioFile readCached(File f) throws CannotReadException,
+                                                      IOException,
+                                                      TagException,
+                                                      InvalidAudioFrameException {
+        final AudioFileCache cache = instance().cache;
+        if (cache != null) {
+            return cache.read(f);
+        }
+        return AudioFileCache.readOnly(read(f));
+    }
 
 }
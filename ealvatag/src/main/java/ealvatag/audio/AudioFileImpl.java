@@ -21,7 +21,9 @@ package ealvatag.audio;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
 import com.google.common.io.Files;
+import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.exceptions.ModifyVetoException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
@@ -40,6 +42,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * <p>This is the main object manipulated by the user representing an audiofile, its properties and its tag.
@@ -59,6 +62,8 @@ public class AudioFileImpl implements AudioFile {
   protected AudioHeader audioHeader;
   protected TagFieldContainer tag;
   protected String extension;         // we parsed it once to find the reader, so let's store it and not keep parsing
+  protected SaveMode lastSaveMode;
+  protected TagOptionSingleton tagOptions;    // from ReadOptions, null to use whatever is current when saving
 
   /**
    * These constructors are used by the different readers, users should not use them.
@@ -88,29 +93,91 @@ public class AudioFileImpl implements AudioFile {
   }
 
   @Override public boolean readOnly() {
-    return tag.isReadOnly();
+    return audioHeader == NullAudioHeader.INSTANCE || tag.isReadOnly();
   }
 
   @Override public void save() throws CannotWriteException {
     checkReadOnly();
-    AudioFileIO.instance().writeFile(this);
+    final TagOptionSingleton.Scope scope = useTagOptions();
+    try {
+      lastSaveMode = AudioFileIO.instance().writeFile(this);
+    } finally {
+      scope.close();
+    }
+  }
+
+  void setTagOptions(final TagOptionSingleton tagOptions) {
+    this.tagOptions = tagOptions;
+  }
+
+  /**
+   * Fix the options for the length of a write, to those the file was read with if any were given, else the current options
+   *
+   * @return scope to close when the write is complete
+   */
+  protected TagOptionSingleton.Scope useTagOptions() {
+    return TagOptionSingleton.use(tagOptions != null ? tagOptions : TagOptionSingleton.getInstance());
   }
 
-  private void checkReadOnly() throws CannotWriteException {
+  protected void checkReadOnly() throws CannotWriteException {
+    if (audioHeader == NullAudioHeader.INSTANCE) {
+      throw new CannotWriteException("Opened without reading the audio header");
+    }
     if (tag != null && tag.isReadOnly()) {
       throw new CannotWriteException("Opened read only");
     }
+    // deferred values are read from the file as it was when it was opened, so get them before it's written
+    if (audioHeader instanceof GenericAudioHeader) {
+      ((GenericAudioHeader)audioHeader).resolveDeferred();
+    }
   }
 
   @Override public void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException {
     checkReadOnly();
     Check.checkArgNotNullOrEmpty(fullPathWithoutExtension, Check.CANNOT_BE_NULL_OR_EMPTY, "fullPathWithoutExtension");
-    AudioFileIO.instance().writeFileAs(this, fullPathWithoutExtension);
+    final TagOptionSingleton.Scope scope = useTagOptions();
+    try {
+      lastSaveMode = AudioFileIO.instance().writeFileAs(this, fullPathWithoutExtension);
+    } finally {
+      scope.close();
+    }
   }
 
   @Override public void deleteFileTag() throws CannotWriteException {
     checkReadOnly();
-    AudioFileIO.instance().deleteTag(this);
+    final TagOptionSingleton.Scope scope = useTagOptions();
+    try {
+      AudioFileIO.instance().deleteTag(this);
+    } finally {
+      scope.close();
+    }
+  }
+
+  /**
+   * Formats which write the file themselves, rather than through an {@link AudioFileWriter}, call this before writing so any
+   * {@link AudioFileModificationListener} is told
+   *
+   * @param delete true if the tag is being deleted
+   *
+   * @throws CannotWriteException if a listener vetoes the write
+   */
+  protected void fileWillBeModified(final boolean delete) throws CannotWriteException {
+    try {
+      AudioFileIO.instance().getModificationHandler().fileWillBeModified(this, delete);
+    } catch (ModifyVetoException e) {
+      throw new CannotWriteException(e);
+    }
+  }
+
+  /**
+   * Counterpart of {@link #fileWillBeModified(boolean)}, call when the write is finished, whether or not it succeeded
+   */
+  protected void fileOperationFinished() {
+    AudioFileIO.instance().getModificationHandler().fileOperationFinished(file);
+  }
+
+  @Override public Optional<SaveMode> getLastSaveMode() {
+    return Optional.fromNullable(lastSaveMode);
   }
 
   @Override public File getFile() {
@@ -129,6 +196,10 @@ public class AudioFileImpl implements AudioFile {
     return audioHeader;
   }
 
+  @Override public byte[] audioPayloadDigest(final String algorithm) throws NoSuchAlgorithmException, CannotReadException, IOException {
+    return AudioFileIO.instance().digestAudioPayload(this, algorithm);
+  }
+
   @Override public Optional<Tag> getTag() {
     return Optional.fromNullable((Tag)tag);
   }
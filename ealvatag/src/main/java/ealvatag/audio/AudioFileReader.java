@@ -21,6 +21,7 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagException;
@@ -29,6 +30,8 @@ import ealvatag.tag.TagFieldContainer;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /*
  * This abstract class is the skeleton for tag readers. It handles the creation/closing of
@@ -60,6 +63,55 @@ public abstract class AudioFileReader {
   */
   protected abstract GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException;
 
+  /**
+   * Same as {@link #getEncodingInfo(RandomAccessFile)}, but a reader may use {@code file} to defer reading values that are expensive
+   * to find until they are first asked for, see {@link GenericAudioHeader#setDeferred(GenericAudioHeader.Deferred)}
+   *
+   * @param raf  the file, positioned at its start
+   * @param file the file raf was opened from
+   *
+   * @return the encoding info
+   *
+   * @throws CannotReadException if there is some parsing error
+   * @throws IOException         if there is an error reading from the file
+   */
+  protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf, File file) throws CannotReadException, IOException {
+    return getEncodingInfo(raf);
+  }
+
+
+  /**
+   * Update {@code digest} with the audio in the file, leaving out any tags and other metadata, so the digest doesn't change when
+   * only the metadata is edited. This reads the encoding info again, to find where the audio is now rather than where it was when
+   * the file was read, and digests the bytes between {@link GenericAudioHeader#getAudioDataStartPosition()} and {@link
+   * GenericAudioHeader#getAudioDataEndPosition()}. Formats which don't set those, or whose audio is interleaved with other data,
+   * override this.
+   *
+   * @param raf    the file, positioned at its start
+   * @param file   the file raf was opened from
+   * @param digest the digest to update
+   *
+   * @throws CannotReadException if the audio can't be found
+   * @throws IOException         if there is an error reading from the file
+   */
+  protected void digestAudioPayload(RandomAccessFile raf, File file, MessageDigest digest) throws CannotReadException, IOException {
+    digestAudioData(raf.getChannel(), getEncodingInfo(raf, file), digest);
+  }
+
+  /**
+   * Update {@code digest} with the bytes between the audio start and end positions of {@code header}
+   *
+   * @throws CannotReadException if the header doesn't know where the audio is
+   */
+  protected static void digestAudioData(FileChannel channel, GenericAudioHeader header, MessageDigest digest)
+      throws CannotReadException, IOException {
+    final long start = header.getAudioDataStartPosition();
+    final long end = Math.min(header.getAudioDataEndPosition(), channel.size());
+    if (start < 0 || end <= start) {
+      throw new CannotReadException("Audio data position unknown. start:%d end:%d", start, end);
+    }
+    new FileOperator(channel).digest(start, end - start, digest);
+  }
 
   /*
     * Same as above but returns the Tag contained in the file, or a new one.
@@ -77,10 +129,19 @@ public abstract class AudioFileReader {
                                                             IOException,
                                                             TagException,
                                                             InvalidAudioFrameException {
+    return read(file, extension, new ReadOptions().setIgnoreArtwork(ignoreArtwork));
+  }
+
+  public AudioFile read(File file,
+                        final String extension,
+                        final ReadOptions options) throws CannotReadException,
+                                                          IOException,
+                                                          TagException,
+                                                          InvalidAudioFrameException {
     LOG.log(LogLevel.TRACE, ErrorMessage.GENERAL_READ, file);
     try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
       raf.seek(0);
-      return makeAudioFile(raf, file, extension, ignoreArtwork);
+      return makeAudioFile(raf, file, extension, options);
     }
 //        catch (Exception e) {
 //            LOG.log(LogLevel.ERROR, ErrorMessage.GENERAL_READ.getMsg(file.getAbsolutePath()), e);
@@ -95,7 +156,7 @@ public abstract class AudioFileReader {
    * @param raf           the {@link RandomAccessFile} containing the data
    * @param file          file information
    * @param extension     the file extension that was used to identify the file type
-   * @param ignoreArtwork
+   * @param options       what to read
    *
    * @return an {@link AudioFile} containing the parsed header and tag
    *
@@ -105,9 +166,12 @@ public abstract class AudioFileReader {
   private AudioFile makeAudioFile(final RandomAccessFile raf,
                                   final File file,
                                   final String extension,
-                                  final boolean ignoreArtwork) throws CannotReadException, IOException {
-    GenericAudioHeader info = getEncodingInfo(raf);
-    raf.seek(0);
-    return new AudioFileImpl(file, extension, info, getTag(raf, ignoreArtwork));
+                                  final ReadOptions options) throws CannotReadException, IOException {
+    AudioHeader info = NullAudioHeader.INSTANCE;
+    if (!options.isIgnoreAudioHeader()) {
+      info = getEncodingInfo(raf, file);
+      raf.seek(0);
+    }
+    return new AudioFileImpl(file, extension, info, getTag(raf, options.isIgnoreArtwork()));
   }
 }
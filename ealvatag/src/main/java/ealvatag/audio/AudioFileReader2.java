@@ -34,6 +34,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Replacement for AudioFileReader class
@@ -50,27 +51,58 @@ public abstract class AudioFileReader2 extends AudioFileReader {
  * @exception NoReadPermissionsException if permissions prevent reading of file
  * @exception CannotReadException If anything went bad during the read of this file
  */
-  public AudioFileImpl read(File f, final String extension, final boolean ignoreArtwork)
+  public AudioFileImpl read(File f, final String extension, final ReadOptions options)
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
     LOG.log(DEBUG, ErrorMessage.GENERAL_READ, f);
 
     try (FileChannel channel = new RandomAccessFile(f, "r").getChannel()) {
-      final String absolutePath = f.getAbsolutePath();
-      GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
-      channel.position(0);
-      return new AudioFileImpl(f, extension, info, getTag(channel, absolutePath, ignoreArtwork));
+      return makeAudioFile(channel, f, extension, options);
     } catch (FileNotFoundException e) {
       LOG.log(WARN, e, "Unable to read file: %s", f);
       throw e;
     }
   }
 
+  /**
+   * Read the header and the tag. This reads the header, rewinds and then walks the file again for the tag. Formats that find both
+   * in the same walk of the file override this to read the structure of the file once.
+   *
+   * @param channel   the channel to read, positioned at its start
+   * @param file      the file the channel was opened from
+   * @param extension the file extension that was used to identify the file type
+   * @param options   what to read
+   *
+   * @return an {@link AudioFileImpl} containing the parsed header and tag
+   *
+   * @throws CannotReadException if there is some parsing error
+   * @throws IOException         if there is an error reading from the file
+   */
+  protected AudioFileImpl makeAudioFile(final FileChannel channel,
+                                        final File file,
+                                        final String extension,
+                                        final ReadOptions options) throws CannotReadException, IOException {
+    final String absolutePath = file.getAbsolutePath();
+    AudioHeader info = NullAudioHeader.INSTANCE;
+    if (!options.isIgnoreAudioHeader()) {
+      info = getEncodingInfo(channel, absolutePath);
+      channel.position(0);
+    }
+    return new AudioFileImpl(file, extension, info, getTag(channel, absolutePath, options.isIgnoreArtwork()));
+  }
+
   /**
    * Read Encoding Information
    */
   protected abstract GenericAudioHeader getEncodingInfo(FileChannel channel, final String fileName)
       throws CannotReadException, IOException;
 
+  @Override
+  protected void digestAudioPayload(final RandomAccessFile raf, final File file, final MessageDigest digest)
+      throws CannotReadException, IOException {
+    final FileChannel channel = raf.getChannel();
+    digestAudioData(channel, getEncodingInfo(channel, file.getAbsolutePath()), digest);
+  }
+
   protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException {
     throw new UnsupportedOperationException("Old method not used in version 2");
   }
@@ -27,6 +27,7 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.exceptions.ModifyVetoException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -199,6 +200,13 @@ public abstract class AudioFileWriter {
     return this;
   }
 
+  /**
+   * @return the listener to tell of modifications, never null
+   */
+  protected AudioFileModificationListener getModificationListener() {
+    return modificationListener;
+  }
+
   /**
    * Prechecks before normal write
    * <p>
@@ -239,11 +247,14 @@ public abstract class AudioFileWriter {
    *
    * @param audioFile The file we want to process
    *
+   * @return {@link SaveMode#IN_PLACE} if the writer only patched the metadata in the original file and left the temporary file
+   * empty, {@link SaveMode#REWRITE} if the temporary file was used
+   *
    * @throws CannotWriteException if anything went wrong
    */
   // TODO Creates temp file in same folder as the original file, this is safe
   // but would impose a performance overhead if the original file is on a networked drive
-  public void write(AudioFileImpl audioFile) throws CannotWriteException {
+  public SaveMode write(AudioFileImpl audioFile) throws CannotWriteException {
     Check.checkArgNotNull(audioFile, Check.CANNOT_BE_NULL, "audioFile");
     LOG.log(TRACE, "Started writing tag data for file %s", audioFile);
 
@@ -254,7 +265,7 @@ public abstract class AudioFileWriter {
     //mp3's use a different mechanism to the other formats
     if (audioFile instanceof MP3File) {
       audioFile.save();
-      return;
+      return audioFile.getLastSaveMode().get();
     }
 
     RandomAccessFile raf = null;
@@ -385,11 +396,14 @@ public abstract class AudioFileWriter {
     result = audioFile.getFile();
 
     // If the temporary file was used
+    final SaveMode saveMode;
     if (newFile.length() > 0) {
+      saveMode = SaveMode.REWRITE;
       transferNewFileToOriginalFile(newFile,
                                     audioFile.getFile(),
                                     TagOptionSingleton.getInstance().isPreserveFileIdentity());
     } else {
+      saveMode = SaveMode.IN_PLACE;
       // Delete the temporary file that wasn't ever used
       if (!newFile.delete()) {
         // Non critical failed deletion
@@ -398,6 +412,8 @@ public abstract class AudioFileWriter {
     }
 
     modificationListener.fileOperationFinished(result);
+    LOG.log(TRACE, "Wrote %s %s", audioFile, saveMode);
+    return saveMode;
   }
 
   /**
@@ -503,10 +519,7 @@ public abstract class AudioFileWriter {
       // copy contents of newFile to originalFile,
       // overwriting the old content in that file
       final long size = inChannel.size();
-      long position = 0;
-      while (position < size) {
-        position += inChannel.transferTo(position, 1024L * 1024L, outChannel);
-      }
+      new FileOperator(inChannel).transferTo(0, size, outChannel, TagOptionSingleton.getInstance().getWriteChunkSize());
       // truncate raf, in case it used to be longer
       raf.setLength(size);
     } catch (FileNotFoundException e) {
@@ -629,7 +642,9 @@ public abstract class AudioFileWriter {
    * returns, the original file is deleted, and the temporary file is renamed
    * the the original name
    * <p>
-   * If nothing has been written to it, it is simply deleted.
+   * If nothing has been written to it, it is simply deleted. A writer that can fit the new metadata in the space already
+   * reserved in the original file should patch {@code raf} in place and leave {@code rafTemp} empty, the write is then
+   * reported as {@link SaveMode#IN_PLACE}.
    * <p>
    * This method can assume the raf, rafTemp are pointing to the first byte of
    * the file. The subclass must not close these two files when the method
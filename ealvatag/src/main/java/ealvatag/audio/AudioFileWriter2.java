@@ -25,6 +25,7 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.exceptions.ModifyVetoException;
 import ealvatag.audio.exceptions.NoWritePermissionsException;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -57,11 +58,14 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
   public void delete(AudioFile af) throws CannotWriteException {
     final File file = af.getFile();
     checkCanWriteAndSize(af, file);
+    fileWillBeModified(af, true);
     try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
       deleteTag(af.getTag().orNull(), channel, file.getAbsolutePath());
     } catch (IOException e) {
       LOG.log(WARN, e, ErrorMessage.GENERAL_DELETE_FAILED, file);
       throw new CannotWriteException(e, ErrorMessage.GENERAL_DELETE_FAILED, file);
+    } finally {
+      getModificationListener().fileOperationFinished(file);
     }
   }
 
@@ -80,13 +84,16 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
    * Replace with new tag
    *
    * @param audioFile The file we want to process
+   *
+   * @return how the writer changed the file
    */
   @Override
-  public void write(AudioFileImpl audioFile) throws CannotWriteException {
+  public SaveMode write(AudioFileImpl audioFile) throws CannotWriteException {
     final File file = audioFile.getFile();
     checkCanWriteAndSize(audioFile, file);
+    fileWillBeModified(audioFile, false);
     try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
-      writeTag(audioFile.getTagFieldContainer(), channel, file.getAbsolutePath());
+      return writeTag(audioFile.getTagFieldContainer(), channel, file.getAbsolutePath());
     } catch (FileNotFoundException e) {
       if (file.exists()) {
         // file exists, permission error
@@ -99,6 +106,16 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
     } catch (IOException e) {
       LOG.log(WARN, e, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE, file);
       throw new CannotWriteException(e);
+    } finally {
+      getModificationListener().fileOperationFinished(file);
+    }
+  }
+
+  private void fileWillBeModified(final AudioFile audioFile, final boolean delete) throws CannotWriteException {
+    try {
+      getModificationListener().fileWillBeModified(audioFile, delete);
+    } catch (ModifyVetoException veto) {
+      throw new CannotWriteException(veto);
     }
   }
 
@@ -110,7 +127,13 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
     throw new UnsupportedOperationException("Old method not used in version 2");
   }
 
-  protected abstract void writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException;
+  /**
+   * Write the tag directly to the file through {@code channel}
+   *
+   * @return {@link SaveMode#IN_PLACE} if only the metadata was overwritten, {@link SaveMode#REWRITE} if the audio data had to be
+   * moved to make room
+   */
+  protected abstract SaveMode writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException;
 
   protected void writeTag(AudioFile audioFile, TagFieldContainer tag, RandomAccessFile raf, RandomAccessFile rafTemp)
       throws CannotReadException, CannotWriteException, IOException {
@@ -16,11 +16,17 @@
  */
 package ealvatag.audio;
 
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
 import com.google.common.base.MoreObjects;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.logging.EalvaTagLog;
 import ealvatag.utils.TimeUnits;
 
+import static com.ealva.ealvalog.LogLevel.WARN;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -31,11 +37,24 @@ import java.util.concurrent.TimeUnit;
  * <b>Consider:</b> None of the setter methods will actually affect the audio
  * file. This is just a structure for retrieving information, not manipulating
  * the audio file.<br>
+ * <p>
+ * A reader may leave the duration, bit rate and number of samples to be computed the first time one of them is asked for, see
+ * {@link #setDeferred(Deferred)}.
  *
  * @author Raphael Slinckx
  */
 @SuppressWarnings("WeakerAccess")
 public class GenericAudioHeader implements AudioHeader {
+    private static final JLogger LOG = JLoggers.get(GenericAudioHeader.class, EalvaTagLog.MARKER);
+
+    /**
+     * Computes the values a reader chose not to read up front, typically by reopening the file. Called at most once, from the first
+     * getter of a deferred value or before the file is written.
+     */
+    public interface Deferred {
+        void read(GenericAudioHeader header) throws IOException, CannotReadException;
+    }
+
     private long audioDataLength = -1;
     private long audioDataStartPosition = 1;
     private long audioDataEndPosition = -1;
@@ -49,9 +68,49 @@ public class GenericAudioHeader implements AudioHeader {
     private double trackLength = 0.0;
     private long noOfSamples = -1;
     private int byteRate = -1;
+    /** Cleared, after the values it computes are set, once it has run */
+    private volatile Deferred deferred;
+    /** True while the deferred values are being computed, guarded by this */
+    private boolean resolving;
 
     public GenericAudioHeader() {}
 
+    /**
+     * Set the reader that computes the duration, bit rate, VBR flag and number of samples the first time any of them is asked for.
+     * If it fails the failure is logged and the values keep whatever the reader had already set.
+     *
+     * @param deferred computes the deferred values, null if every value is already set
+     */
+    public void setDeferred(Deferred deferred) {
+        this.deferred = deferred;
+    }
+
+    /**
+     * Compute any deferred values now. The file is read where it was when the header was created, so this must be called before
+     * that file is modified.
+     * <p>
+     * Other threads asking for a deferred value wait until it's computed. The {@link Deferred} may itself use the getters, which
+     * return the values set so far.
+     */
+    public void resolveDeferred() {
+        if (deferred != null) {
+            synchronized (this) {
+                final Deferred pending = deferred;
+                if (pending != null && !resolving) {
+                    resolving = true;
+                    try {
+                        pending.read(this);
+                    } catch (IOException | CannotReadException e) {
+                        LOG.log(WARN, e, "Could not compute deferred audio header values");
+                    } finally {
+                        resolving = false;
+                        deferred = null;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * This method returns the bitRate of the represented audio clip in
      * &quot;Kbps&quot;.<br>
@@ -59,6 +118,7 @@ public class GenericAudioHeader implements AudioHeader {
      * @return The bitRate in Kbps.
      */
     public int getBitRate() {
+        resolveDeferred();
         return bitRate;
     }
 
@@ -81,10 +141,12 @@ public class GenericAudioHeader implements AudioHeader {
 
 
     @Override public long getDuration(final TimeUnit timeUnit, final boolean round) {
+        resolveDeferred();
         return TimeUnits.convert(Math.round(trackLength * 1000000000), NANOSECONDS, timeUnit, round);
     }
 
     public double getDurationAsDouble() {
+        resolveDeferred();
         return trackLength;
     }
 
@@ -103,6 +165,7 @@ public class GenericAudioHeader implements AudioHeader {
      * @return <code>true</code> if audio clip is encoded with VBR.
      */
     public boolean isVariableBitRate() {
+        resolveDeferred();
         return isVbr;
     }
 
@@ -214,6 +277,7 @@ public class GenericAudioHeader implements AudioHeader {
     }
 
     public long getNoOfSamples() {
+        resolveDeferred();
         return noOfSamples;
     }
 
@@ -245,6 +309,7 @@ public class GenericAudioHeader implements AudioHeader {
     }
 
     protected MoreObjects.ToStringHelper toStringHelper() {
+        resolveDeferred();
         return MoreObjects.toStringHelper(this)
                           .add("audioDataLength", audioDataLength)
                           .add("audioDataStartPosition", audioDataStartPosition)
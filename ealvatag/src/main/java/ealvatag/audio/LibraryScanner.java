@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import com.google.common.io.Files;
+import ealvatag.logging.EalvaTagLog;
+
+import static com.ealva.ealvalog.LogLevel.DEBUG;
+import static com.ealva.ealvalog.LogLevel.ERROR;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Walks a directory tree on the calling thread and reads every file with a registered reader on a fixed pool of reader threads. The
+ * number of outstanding reads is bounded by a {@link Semaphore} so the walk never gets further ahead of the readers, and the readers
+ * never further ahead of the {@link ScanListener}, than {@link ScanOptions#getMaxInFlight()} files.
+ */
+final class LibraryScanner {
+  private static final JLogger LOG = JLoggers.get(LibraryScanner.class, EalvaTagLog.MARKER);
+
+  private final AudioFileIO audioFileIO;
+  private final ScanOptions options;
+  private final ReadOptions readOptions;
+  private final ScanListener listener;
+  private final Semaphore inFlight;
+  private final AtomicInteger filesRead;
+  private final AtomicInteger errorCount;
+
+  LibraryScanner(final AudioFileIO audioFileIO, final ScanOptions options, final ScanListener listener) {
+    this.audioFileIO = audioFileIO;
+    this.options = options;
+    this.readOptions = new ReadOptions().setIgnoreArtwork(options.isIgnoreArtwork())
+                                        .setIgnoreAudioHeader(options.isIgnoreAudioHeader())
+                                        .setTagOptions(options.getTagOptions());
+    this.listener = listener;
+    this.inFlight = new Semaphore(options.getMaxInFlight());
+    this.filesRead = new AtomicInteger(0);
+    this.errorCount = new AtomicInteger(0);
+  }
+
+  ScanResult scan(final File root) throws InterruptedException {
+    final long start = System.nanoTime();
+    final ExecutorService executor = makeExecutor(options.getThreadCount());
+    try {
+      walk(root, executor);
+      // every read holds a permit until its result is delivered, so owning all permits means the scan is complete
+      inFlight.acquire(options.getMaxInFlight());
+      inFlight.release(options.getMaxInFlight());
+    } finally {
+      executor.shutdownNow();
+    }
+    return new ScanResult(filesRead.get(), errorCount.get(), System.nanoTime() - start);
+  }
+
+  private void walk(final File root, final ExecutorService executor) throws InterruptedException {
+    final Deque<File> directories = new ArrayDeque<>();
+    // canonical paths of the directories walked, so a symbolic link to an ancestor, or a second link to a directory, is walked once
+    final Set<String> visited = new HashSet<>();
+    if (root.isDirectory()) {
+      directories.push(root);
+    } else {
+      submitIfReadable(root, executor);
+    }
+    while (!directories.isEmpty()) {
+      final File directory = directories.pop();
+      try {
+        if (!visited.add(directory.getCanonicalPath())) {
+          LOG.log(DEBUG, "Scan already visited %s", directory);
+          continue;
+        }
+      } catch (IOException e) {
+        LOG.log(DEBUG, e, "Scan could not resolve %s", directory);
+        continue;
+      }
+      final File[] children = directory.listFiles();
+      if (children == null) {
+        continue;
+      }
+      for (File child : children) {
+        if (child.isHidden()) {
+          continue;
+        }
+        if (child.isDirectory()) {
+          if (options.isRecursive()) {
+            directories.push(child);
+          }
+        } else {
+          submitIfReadable(child, executor);
+        }
+      }
+    }
+  }
+
+  private void submitIfReadable(final File file, final ExecutorService executor) throws InterruptedException {
+    final String extension = Files.getFileExtension(file.getName()).toLowerCase(Locale.ROOT);
+    if (audioFileIO.hasReaderFor(extension)) {
+      inFlight.acquire();
+      executor.execute(new ReadTask(file, extension));
+    }
+  }
+
+  private final class ReadTask implements Runnable {
+    private final File file;
+    private final String extension;
+
+    ReadTask(final File file, final String extension) {
+      this.file = file;
+      this.extension = extension;
+    }
+
+    @Override public void run() {
+      try {
+        final AudioFile audioFile;
+        try {
+          audioFile = audioFileIO.readAudioFile(file, extension, readOptions);
+        } catch (Exception e) {
+          LOG.log(DEBUG, e, "Scan could not read %s", file);
+          errorCount.incrementAndGet();
+          listener.onError(file, e);
+          return;
+        }
+        filesRead.incrementAndGet();
+        listener.onAudioFile(audioFile);
+      } catch (RuntimeException e) {
+        LOG.log(ERROR, e, "ScanListener threw processing %s", file);
+      } finally {
+        inFlight.release();
+      }
+    }
+  }
+
+  private static ExecutorService makeExecutor(final int threadCount) {
+    return new ThreadPoolExecutor(threadCount,
+                                  threadCount,
+                                  0L,
+                                  TimeUnit.MILLISECONDS,
+                                  new LinkedBlockingQueue<Runnable>(),
+                                  new ScanThreadFactory());
+  }
+
+  private static final class ScanThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger(0);
+
+    @Override public Thread newThread(@SuppressWarnings("NullableProblems") final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "ealvatag-scan-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
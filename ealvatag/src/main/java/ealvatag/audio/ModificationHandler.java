@@ -19,7 +19,8 @@ package ealvatag.audio;
 import ealvatag.audio.exceptions.ModifyVetoException;
 
 import java.io.File;
-import java.util.Vector;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class multicasts the events to multiple listener instances.<br>
@@ -33,7 +34,7 @@ public class ModificationHandler implements AudioFileModificationListener
     /**
      * The listeners to wich events are broadcasted are stored here.
      */
-    private Vector<AudioFileModificationListener> listeners = new Vector<AudioFileModificationListener>();
+    private final List<AudioFileModificationListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * This method adds an {@link AudioFileModificationListener}
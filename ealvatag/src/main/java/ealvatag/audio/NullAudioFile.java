@@ -18,11 +18,13 @@
 package ealvatag.audio;
 
 import com.google.common.base.Optional;
+import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.tag.NullTag;
 import ealvatag.tag.Tag;
 
 import java.io.File;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * No-op implementation of the {@link AudioFile} interface.
@@ -47,6 +49,10 @@ public final class NullAudioFile implements AudioFile {
 
     @Override public void deleteFileTag() throws CannotWriteException {}
 
+    @Override public Optional<SaveMode> getLastSaveMode() {
+        return Optional.absent();
+    }
+
     @Override public File getFile() {
         return DUMMY_FILE;
     }
@@ -55,6 +61,10 @@ public final class NullAudioFile implements AudioFile {
         return NullAudioHeader.INSTANCE;
     }
 
+    @Override public byte[] audioPayloadDigest(final String algorithm) throws NoSuchAlgorithmException, CannotReadException {
+        throw new CannotReadException("No audio in " + DUMMY_FILE.getPath());
+    }
+
     @Override public Optional<Tag> getTag() {
         return Optional.absent();
     }
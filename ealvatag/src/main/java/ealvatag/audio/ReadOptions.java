@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.tag.TagOptionSingleton;
+
+/**
+ * Options controlling what {@link AudioFileIO#read(java.io.File, ReadOptions)} reads from a file. Setters return this instance so
+ * options can be chained. The defaults read everything, the same as {@link AudioFileIO#read(java.io.File)}.
+ */
+public final class ReadOptions {
+  private boolean ignoreArtwork;
+  private boolean ignoreAudioHeader;
+  private TagOptionSingleton tagOptions;
+
+  public ReadOptions() {
+    ignoreArtwork = false;
+    ignoreAudioHeader = false;
+    tagOptions = null;
+  }
+
+  public boolean isIgnoreArtwork() {
+    return ignoreArtwork;
+  }
+
+  /**
+   * @param ignoreArtwork true to read files as {@link AudioFileIO#readIgnoreArtwork(java.io.File)} does
+   *
+   * @return this options instance
+   */
+  public ReadOptions setIgnoreArtwork(final boolean ignoreArtwork) {
+    this.ignoreArtwork = ignoreArtwork;
+    return this;
+  }
+
+  public boolean isIgnoreAudioHeader() {
+    return ignoreAudioHeader;
+  }
+
+  /**
+   * Read only the metadata. The audio frames are not searched or parsed, so for example an mp3 isn't scanned for its first frame and
+   * an ogg isn't walked to its last page to find the duration. {@link AudioFile#getAudioHeader()} returns {@link
+   * NullAudioHeader#INSTANCE} and the resulting AudioFile is read-only, as the position of the audio is needed to write a tag.
+   *
+   * @param ignoreAudioHeader true to skip reading the audio header
+   *
+   * @return this options instance
+   */
+  public ReadOptions setIgnoreAudioHeader(final boolean ignoreAudioHeader) {
+    this.ignoreAudioHeader = ignoreAudioHeader;
+    return this;
+  }
+
+  public TagOptionSingleton getTagOptions() {
+    return tagOptions;
+  }
+
+  /**
+   * Read, and later save, the file with these options rather than whatever {@link TagOptionSingleton#getInstance()} returns at the
+   * time. Lets different jobs in one process use different options without changing the global instance key.
+   *
+   * @param tagOptions the options to use, typically from {@link TagOptionSingleton#getInstance(String)}, or null for the current
+   *                   options
+   *
+   * @return this options instance
+   */
+  public ReadOptions setTagOptions(final TagOptionSingleton tagOptions) {
+    this.tagOptions = tagOptions;
+    return this;
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+/**
+ * How a tag was written to the file by {@link AudioFile#save()} or {@link AudioFile#saveAs(String)}
+ */
+public enum SaveMode {
+  /**
+   * The new metadata fit in the space already reserved for it (padding, {@code free} atoms, chunk slack, a same size page)
+   * and only the metadata bytes were overwritten. The audio data was not copied or moved.
+   */
+  IN_PLACE,
+
+  /**
+   * The metadata did not fit so the audio data was copied to a new file or shifted within the existing file
+   */
+  REWRITE
+}
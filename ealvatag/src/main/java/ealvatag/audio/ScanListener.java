@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.io.File;
+
+/**
+ * Receives the results of a library scan. Methods are called from the scan's reader threads, possibly concurrently, so implementations
+ * must be thread safe. Time spent in these methods holds both a reader thread and an in-flight slot, so a slow listener throttles the scan
+ * (see {@link ScanOptions#setMaxInFlight(int)}).
+ */
+public interface ScanListener {
+
+  /**
+   * A file was successfully read
+   *
+   * @param audioFile the file's tag and header information
+   */
+  void onAudioFile(AudioFile audioFile);
+
+  /**
+   * Reading a file failed. The scan continues with the next file.
+   *
+   * @param file  the file which could not be read
+   * @param error the reason the read failed
+   */
+  void onError(File file, Exception error);
+}
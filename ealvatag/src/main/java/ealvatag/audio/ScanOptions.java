@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.tag.TagOptionSingleton;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Options controlling a library scan started via {@link AudioFileIO#scan(java.io.File, ScanOptions, ScanListener)}. Setters return this
+ * instance so options can be chained.
+ */
+public final class ScanOptions {
+  private static final int DEFAULT_IN_FLIGHT_PER_THREAD = 4;
+
+  private int threadCount;
+  private int maxInFlight;
+  private boolean recursive;
+  private boolean ignoreArtwork;
+  private boolean ignoreAudioHeader;
+  private TagOptionSingleton tagOptions;
+
+  public ScanOptions() {
+    threadCount = Runtime.getRuntime().availableProcessors();
+    maxInFlight = threadCount * DEFAULT_IN_FLIGHT_PER_THREAD;
+    recursive = true;
+    ignoreArtwork = false;
+    ignoreAudioHeader = false;
+    tagOptions = null;
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Set the number of threads reading files. Defaults to the number of available processors.
+   *
+   * @param threadCount number of reader threads, must be greater than 0
+   *
+   * @return this options instance
+   */
+  public ScanOptions setThreadCount(final int threadCount) {
+    checkArgument(threadCount > 0, "threadCount must be > 0");
+    this.threadCount = threadCount;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set the maximum number of files which may be queued or being read at one time. When this limit is reached the directory walk
+   * blocks until the {@link ScanListener} has been handed a result, so a slow listener throttles the scan instead of the scan
+   * accumulating unbounded results in memory.
+   *
+   * @param maxInFlight maximum number of outstanding reads, must be greater than 0
+   *
+   * @return this options instance
+   */
+  public ScanOptions setMaxInFlight(final int maxInFlight) {
+    checkArgument(maxInFlight > 0, "maxInFlight must be > 0");
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public boolean isRecursive() {
+    return recursive;
+  }
+
+  /**
+   * @param recursive true to descend into sub-directories of the scan root (the default)
+   *
+   * @return this options instance
+   */
+  public ScanOptions setRecursive(final boolean recursive) {
+    this.recursive = recursive;
+    return this;
+  }
+
+  public boolean isIgnoreArtwork() {
+    return ignoreArtwork;
+  }
+
+  /**
+   * @param ignoreArtwork true to read files as {@link AudioFileIO#readIgnoreArtwork(java.io.File)} does
+   *
+   * @return this options instance
+   */
+  public ScanOptions setIgnoreArtwork(final boolean ignoreArtwork) {
+    this.ignoreArtwork = ignoreArtwork;
+    return this;
+  }
+
+  public boolean isIgnoreAudioHeader() {
+    return ignoreAudioHeader;
+  }
+
+  /**
+   * @param ignoreAudioHeader true to read only the metadata, see {@link ReadOptions#setIgnoreAudioHeader(boolean)}
+   *
+   * @return this options instance
+   */
+  public ScanOptions setIgnoreAudioHeader(final boolean ignoreAudioHeader) {
+    this.ignoreAudioHeader = ignoreAudioHeader;
+    return this;
+  }
+
+  public TagOptionSingleton getTagOptions() {
+    return tagOptions;
+  }
+
+  /**
+   * @param tagOptions options to read the scanned files with, see {@link ReadOptions#setTagOptions(TagOptionSingleton)}
+   *
+   * @return this options instance
+   */
+  public ScanOptions setTagOptions(final TagOptionSingleton tagOptions) {
+    this.tagOptions = tagOptions;
+    return this;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of a completed library scan
+ */
+public final class ScanResult {
+  private final int filesRead;
+  private final int errorCount;
+  private final long elapsedNanos;
+
+  ScanResult(final int filesRead, final int errorCount, final long elapsedNanos) {
+    this.filesRead = filesRead;
+    this.errorCount = errorCount;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * @return number of files successfully read and passed to {@link ScanListener#onAudioFile(AudioFile)}
+   */
+  public int getFilesRead() {
+    return filesRead;
+  }
+
+  /**
+   * @return number of files passed to {@link ScanListener#onError(java.io.File, Exception)}
+   */
+  public int getErrorCount() {
+    return errorCount;
+  }
+
+  public long getElapsed(final TimeUnit unit) {
+    return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * @return files read and failed per second over the whole scan, including the directory walk
+   */
+  public double getFilesPerSecond() {
+    if (elapsedNanos <= 0) {
+      return 0;
+    }
+    return (filesRead + errorCount) / (elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Override public String toString() {
+    return String.format("ScanResult{filesRead=%d, errorCount=%d, elapsedMillis=%d, filesPerSecond=%.1f}",
+                         filesRead,
+                         errorCount,
+                         getElapsed(TimeUnit.MILLISECONDS),
+                         getFilesPerSecond());
+  }
+}
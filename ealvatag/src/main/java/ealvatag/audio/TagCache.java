@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import com.google.common.io.Files;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.exceptions.ModifyVetoException;
+import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.TagException;
+
+import static com.ealva.ealvalog.LogLevel.DEBUG;
+import static com.ealva.ealvalog.LogLevel.WARN;
+import static ealvatag.utils.Check.checkArgNotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A persistent cache of what was read from audio files, so re-scanning an unchanged library doesn't parse every file again. {@link
+ * #read(File)} returns a {@link TagCacheEntry} without opening the file if the file has the same path, length and modification time as
+ * when it was cached, else reads it with {@link AudioFileIO#read(File)} and caches the result.
+ * <p>
+ * The store is an append-only log of entries and removals. It's replayed into an in-memory index when opened, and compacted then if
+ * most of it is stale. Each record is appended with a single write, and cut off again if that write fails, so later records stay
+ * readable. A partly written record left by a crash is discarded. Entries are removed when a file is saved or has its tag
+ * deleted through this library, which is noticed through an {@link AudioFileModificationListener}, and replaced when a file is found
+ * to have changed.
+ * <p>
+ * Thread safe. Close the cache when done with it to stop listening for modifications.
+ * <pre>
+ * try (TagCache cache = TagCache.open(new File(appDir, "tags.cache"))) {
+ *   TagCacheEntry entry = cache.read(file);
+ *   String title = entry.getValue(FieldKey.TITLE).or("");
+ * }
+ * </pre>
+ */
+public final class TagCache implements Closeable {
+  private static final JLogger LOG = JLoggers.get(TagCache.class, EalvaTagLog.MARKER);
+
+  private static final int MAGIC = 0x45415443;   // "EATC"
+  private static final int VERSION = 1;
+  private static final int STORE_HEADER_SIZE = 8;
+  private static final byte RECORD_ENTRY = 1;
+  private static final byte RECORD_REMOVED = 2;
+
+  private final File storeFile;
+  private final ConcurrentMap<String, TagCacheEntry> index;
+  private final AudioFileModificationListener invalidator;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong bytesSaved = new AtomicLong();
+  /** Unbuffered, so each record reaches the file in one write. Guarded by this */
+  private FileOutputStream log;
+  /** Records in the log which have been replaced or removed. Guarded by this */
+  private int staleRecords;
+
+  private TagCache(final File storeFile) {
+    this.storeFile = storeFile;
+    this.index = new ConcurrentHashMap<>();
+    this.invalidator = new Invalidator();
+  }
+
+  /**
+   * Open, or create, the cache stored in {@code storeFile}. A file which isn't a cache store, or is from an incompatible version, is
+   * replaced.
+   *
+   * @param storeFile where the cache is kept
+   *
+   * @return the open cache
+   *
+   * @throws IOException if the store can't be read or created
+   */
+  public static TagCache open(final File storeFile) throws IOException {
+    checkArgNotNull(storeFile);
+    final TagCache cache = new TagCache(storeFile);
+    cache.load();
+    AudioFileIO.addAudioFileModificationListener(cache.invalidator);
+    return cache;
+  }
+
+  /**
+   * Get what's cached for {@code file}, reading and caching it if it isn't cached or has changed since it was.
+   *
+   * @param file the audio file
+   *
+   * @return the tag values, audio header and artwork fingerprints of {@code file}
+   *
+   * @throws CannotReadException        if the file isn't cached and can't be read, see {@link AudioFileIO#read(File)}
+   * @throws IOException                if error reading the file or writing the cache
+   * @throws TagException               various tag exceptions
+   * @throws InvalidAudioFrameException if audio frame is corrupted
+   */
+  public TagCacheEntry read(final File file) throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
+    final String key = keyOf(file);
+    final long length = file.length();
+    final long lastModified = file.lastModified();
+    final TagCacheEntry cached = index.get(key);
+    if (cached != null && cached.isCurrent(length, lastModified)) {
+      hits.incrementAndGet();
+      bytesSaved.addAndGet(length);
+      return cached;
+    }
+
+    misses.incrementAndGet();
+    final TagCacheEntry entry = TagCacheEntry.make(AudioFileIO.read(file), length, lastModified);
+    put(key, entry);
+    return entry;
+  }
+
+  /**
+   * Remove {@code file} from the cache, so the next {@link #read(File)} reads the file. Not needed for changes made through this library.
+   *
+   * @param file the audio file
+   *
+   * @throws IOException if error writing the cache
+   */
+  public void invalidate(final File file) throws IOException {
+    final String key = keyOf(file);
+    synchronized (this) {
+      if (index.remove(key) != null) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream record = new DataOutputStream(bytes);
+        record.writeByte(RECORD_REMOVED);
+        TagCacheEntry.writeString(record, key);
+        append(bytes.toByteArray());
+        staleRecords += 2;
+      }
+    }
+  }
+
+  /**
+   * @return number of {@link #read(File)} calls answered from the cache
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of {@link #read(File)} calls which had to read the file
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return the fraction of {@link #read(File)} calls answered from the cache, 0 if there have been none
+   */
+  public double getHitRate() {
+    final long hitCount = hits.get();
+    final long total = hitCount + misses.get();
+    return total == 0 ? 0 : (double)hitCount / total;
+  }
+
+  /**
+   * @return total length of the files which were not read because they were cached
+   */
+  public long getBytesSaved() {
+    return bytesSaved.get();
+  }
+
+  /**
+   * @return number of files in the cache
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Rewrite the store with only the current entries
+   *
+   * @throws IOException if error writing the store
+   */
+  public synchronized void compact() throws IOException {
+    ensureOpen();
+    final File temp = new File(storeFile.getPath() + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      for (final TagCacheEntry entry : index.values()) {
+        out.writeByte(RECORD_ENTRY);
+        entry.write(out);
+      }
+    }
+    log.close();
+    log = null;
+    try {
+      Files.move(temp, storeFile);
+    } finally {
+      log = openLog();
+    }
+    staleRecords = 0;
+    LOG.log(DEBUG, "Compacted %s to %d entries", storeFile, index.size());
+  }
+
+  @Override public synchronized void close() throws IOException {
+    AudioFileIO.removeAudioFileModificationListener(invalidator);
+    if (log != null) {
+      log.close();
+      log = null;
+    }
+  }
+
+  private void put(final String key, final TagCacheEntry entry) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream record = new DataOutputStream(bytes);
+    record.writeByte(RECORD_ENTRY);
+    entry.write(record);
+    synchronized (this) {
+      append(bytes.toByteArray());
+      if (index.put(key, entry) != null) {
+        staleRecords++;
+      }
+    }
+  }
+
+  /**
+   * Append a whole record to the log. If the write fails the log is truncated to where it was, so a partial record can't be left
+   * in front of records appended later.
+   */
+  private void append(final byte[] record) throws IOException {
+    ensureOpen();
+    final FileChannel channel = log.getChannel();
+    final long length = channel.size();
+    try {
+      log.write(record);
+    } catch (IOException e) {
+      try {
+        channel.truncate(length);
+      } catch (IOException truncateFailed) {
+        e.addSuppressed(truncateFailed);
+      }
+      throw e;
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (log == null) {
+      throw new IOException("TagCache " + storeFile + " is closed");
+    }
+  }
+
+  private static String keyOf(final File file) {
+    return file.getAbsolutePath();
+  }
+
+  private synchronized void load() throws IOException {
+    long validLength = 0;
+    if (storeFile.exists()) {
+      final byte[] bytes = Files.toByteArray(storeFile);
+      final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+      try {
+        if (bytes.length >= STORE_HEADER_SIZE && in.readInt() == MAGIC && in.readInt() == VERSION) {
+          validLength = STORE_HEADER_SIZE;
+          while (validLength < bytes.length) {
+            readRecord(in);
+            validLength = bytes.length - in.available();
+          }
+        } else {
+          LOG.log(WARN, "%s is not a tag cache, replacing it", storeFile);
+        }
+      } catch (EOFException | RuntimeException e) {
+        LOG.log(WARN, e, "Discarding %d bytes at the end of %s", bytes.length - validLength, storeFile);
+      }
+    }
+
+    if (validLength == 0) {
+      try (DataOutputStream out = new DataOutputStream(new FileOutputStream(storeFile))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+      }
+    } else if (validLength < storeFile.length()) {
+      try (RandomAccessFile raf = new RandomAccessFile(storeFile, "rw")) {
+        raf.setLength(validLength);
+      }
+    }
+    log = openLog();
+    if (staleRecords > index.size()) {
+      compact();
+    }
+  }
+
+  private void readRecord(final DataInputStream in) throws IOException {
+    final byte type = in.readByte();
+    switch (type) {
+      case RECORD_ENTRY:
+        final TagCacheEntry entry = TagCacheEntry.read(in);
+        if (index.put(keyOf(entry.getFile()), entry) != null) {
+          staleRecords++;
+        }
+        break;
+      case RECORD_REMOVED:
+        if (index.remove(TagCacheEntry.readString(in)) != null) {
+          staleRecords++;
+        }
+        staleRecords++;
+        break;
+      default:
+        throw new IllegalStateException("Unknown record type " + type);
+    }
+  }
+
+  private FileOutputStream openLog() throws IOException {
+    return new FileOutputStream(storeFile, true);
+  }
+
+  /**
+   * Drops a file from the cache when it's about to be written, and again when done in case it was read in between
+   */
+  private final class Invalidator implements AudioFileModificationListener {
+    @Override public void fileWillBeModified(final AudioFile file, final boolean delete) throws ModifyVetoException {
+      invalidateQuietly(file.getFile());
+    }
+
+    @Override public void fileModified(final AudioFile original, final File temporary) throws ModifyVetoException {
+    }
+
+    @Override public void fileOperationFinished(final File result) {
+      invalidateQuietly(result);
+    }
+
+    @Override public void vetoThrown(final AudioFileModificationListener cause, final AudioFile original, final ModifyVetoException veto) {
+    }
+
+    private void invalidateQuietly(final File file) {
+      try {
+        invalidate(file);
+      } catch (IOException e) {
+        // the entry is out of the index and the file's modification time will have changed, so this only costs a re-read
+        LOG.log(WARN, e, "Could not record removal of %s from %s", file, storeFile);
+      }
+    }
+  }
+}
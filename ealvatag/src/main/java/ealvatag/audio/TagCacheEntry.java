@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.UnsupportedFieldException;
+import ealvatag.tag.images.Artwork;
+import ealvatag.utils.StandardCharsets;
+import ealvatag.utils.TimeUnits;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What a {@link TagCache} keeps of a file: the generic field values of its tag, a summary of its audio header and a fingerprint of
+ * each piece of artwork. Immutable.
+ */
+public final class TagCacheEntry {
+  private final File file;
+  private final long length;
+  private final long lastModified;
+  private final boolean hasTag;
+  private final ImmutableListMultimap<FieldKey, String> fields;
+  private final AudioHeader audioHeader;
+  private final ImmutableList<String> artworkFingerprints;
+
+  private TagCacheEntry(final File file,
+                        final long length,
+                        final long lastModified,
+                        final boolean hasTag,
+                        final ImmutableListMultimap<FieldKey, String> fields,
+                        final AudioHeader audioHeader,
+                        final ImmutableList<String> artworkFingerprints) {
+    this.file = file;
+    this.length = length;
+    this.lastModified = lastModified;
+    this.hasTag = hasTag;
+    this.fields = fields;
+    this.audioHeader = audioHeader;
+    this.artworkFingerprints = artworkFingerprints;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return true if the file had a tag when it was read
+   */
+  public boolean hasTag() {
+    return hasTag;
+  }
+
+  /**
+   * @return every value of every generic field the tag held, in the tag's order for each key
+   */
+  public ImmutableListMultimap<FieldKey, String> getFields() {
+    return fields;
+  }
+
+  /**
+   * @param key the field
+   *
+   * @return the values for {@code key}, empty if there were none
+   */
+  public ImmutableList<String> getAll(final FieldKey key) {
+    return fields.get(key);
+  }
+
+  /**
+   * @param key the field
+   *
+   * @return the first value for {@code key}, if there is one
+   */
+  public Optional<String> getValue(final FieldKey key) {
+    final ImmutableList<String> values = fields.get(key);
+    return values.isEmpty() ? Optional.<String>absent() : Optional.of(values.get(0));
+  }
+
+  /**
+   * @return the values of the audio header, or {@link NullAudioHeader#INSTANCE} if it couldn't be read
+   */
+  public AudioHeader getAudioHeader() {
+    return audioHeader;
+  }
+
+  /**
+   * @return a SHA-1 hex string of the binary data of each piece of artwork, in the tag's order. Linked artwork has no data and is
+   * fingerprinted by its URL.
+   */
+  public ImmutableList<String> getArtworkFingerprints() {
+    return artworkFingerprints;
+  }
+
+  long getLength() {
+    return length;
+  }
+
+  long getLastModified() {
+    return lastModified;
+  }
+
+  /**
+   * @return true if {@code file} still has the length and modification time it had when this entry was made
+   */
+  boolean isCurrent(final long fileLength, final long fileLastModified) {
+    return length == fileLength && lastModified == fileLastModified;
+  }
+
+  static TagCacheEntry make(final AudioFile audioFile, final long length, final long lastModified) throws IOException {
+    final ImmutableListMultimap.Builder<FieldKey, String> fields = ImmutableListMultimap.builder();
+    final ImmutableList.Builder<String> fingerprints = ImmutableList.builder();
+    final Optional<Tag> tag = audioFile.getTag();
+    if (tag.isPresent()) {
+      for (final FieldKey key : tag.get().getSupportedFields()) {
+        try {
+          fields.putAll(key, tag.get().getAll(key));
+        } catch (UnsupportedFieldException | IllegalArgumentException e) {
+          // some keys are listed as supported but can't be read back, there is nothing to cache for them
+        }
+      }
+      try {
+        for (final Artwork artwork : tag.get().getArtworkList()) {
+          fingerprints.add(fingerprint(artwork));
+        }
+      } catch (UnsupportedFieldException e) {
+        // format has no artwork
+      }
+    }
+    return new TagCacheEntry(audioFile.getFile(),
+                             length,
+                             lastModified,
+                             tag.isPresent(),
+                             fields.build(),
+                             Header.copyOf(audioFile.getAudioHeader()),
+                             fingerprints.build());
+  }
+
+  private static String fingerprint(final Artwork artwork) throws IOException {
+    if (artwork.isLinked()) {
+      return Hashing.sha1().hashString(artwork.getImageUrl(), StandardCharsets.UTF_8).toString();
+    }
+    // streamed so image data still in the file isn't read into memory
+    return new ByteSource() {
+      @Override public InputStream openStream() throws IOException {
+        return artwork.openBinaryData();
+      }
+    }.hash(Hashing.sha1()).toString();
+  }
+
+  void write(final DataOutputStream out) throws IOException {
+    writeString(out, file.getPath());
+    out.writeLong(length);
+    out.writeLong(lastModified);
+    out.writeBoolean(hasTag);
+    out.writeInt(fields.keySet().size());
+    for (final FieldKey key : fields.keySet()) {
+      final ImmutableList<String> values = fields.get(key);
+      writeString(out, key.name());
+      out.writeInt(values.size());
+      for (final String value : values) {
+        writeString(out, value);
+      }
+    }
+    final boolean hasHeader = audioHeader != NullAudioHeader.INSTANCE;
+    out.writeBoolean(hasHeader);
+    if (hasHeader) {
+      ((Header)audioHeader).write(out);
+    }
+    out.writeInt(artworkFingerprints.size());
+    for (final String fingerprint : artworkFingerprints) {
+      writeString(out, fingerprint);
+    }
+  }
+
+  static TagCacheEntry read(final DataInputStream in) throws IOException {
+    final File file = new File(readString(in));
+    final long length = in.readLong();
+    final long lastModified = in.readLong();
+    final boolean hasTag = in.readBoolean();
+    final ImmutableListMultimap.Builder<FieldKey, String> fields = ImmutableListMultimap.builder();
+    final int keyCount = in.readInt();
+    for (int i = 0; i < keyCount; i++) {
+      final String keyName = readString(in);
+      final int valueCount = in.readInt();
+      final FieldKey key = fieldKey(keyName);
+      for (int j = 0; j < valueCount; j++) {
+        final String value = readString(in);
+        if (key != null) {
+          fields.put(key, value);
+        }
+      }
+    }
+    final AudioHeader audioHeader = in.readBoolean() ? Header.read(in) : NullAudioHeader.INSTANCE;
+    final ImmutableList.Builder<String> fingerprints = ImmutableList.builder();
+    final int fingerprintCount = in.readInt();
+    for (int i = 0; i < fingerprintCount; i++) {
+      fingerprints.add(readString(in));
+    }
+    return new TagCacheEntry(file, length, lastModified, hasTag, fields.build(), audioHeader, fingerprints.build());
+  }
+
+  /**
+   * @return the key with this name, or null if it's been removed since the entry was written
+   */
+  private static FieldKey fieldKey(final String name) {
+    try {
+      return FieldKey.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Unlike {@link DataOutputStream#writeUTF(String)} there's no 64K limit, which lyrics and comments can exceed
+   */
+  static void writeString(final DataOutputStream out, final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(final DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Invalid string length " + length);
+    }
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override public String toString() {
+    return "TagCacheEntry{" + file + ", fields=" + fields.size() + ", artwork=" + artworkFingerprints.size() + '}';
+  }
+
+  /**
+   * The values of an audio header, copied so the file isn't needed to answer for them
+   */
+  private static final class Header implements AudioHeader {
+    private final String encodingType;
+    private final int byteRate;
+    private final int bitRate;
+    private final long audioDataLength;
+    private final long audioDataStartPosition;
+    private final long audioDataEndPosition;
+    private final int sampleRate;
+    private final String format;
+    private final int channelCount;
+    private final boolean variableBitRate;
+    private final double duration;
+    private final int bitsPerSample;
+    private final boolean lossless;
+    private final long noOfSamples;
+
+    private Header(final String encodingType,
+                   final int byteRate,
+                   final int bitRate,
+                   final long audioDataLength,
+                   final long audioDataStartPosition,
+                   final long audioDataEndPosition,
+                   final int sampleRate,
+                   final String format,
+                   final int channelCount,
+                   final boolean variableBitRate,
+                   final double duration,
+                   final int bitsPerSample,
+                   final boolean lossless,
+                   final long noOfSamples) {
+      this.encodingType = encodingType;
+      this.byteRate = byteRate;
+      this.bitRate = bitRate;
+      this.audioDataLength = audioDataLength;
+      this.audioDataStartPosition = audioDataStartPosition;
+      this.audioDataEndPosition = audioDataEndPosition;
+      this.sampleRate = sampleRate;
+      this.format = format;
+      this.channelCount = channelCount;
+      this.variableBitRate = variableBitRate;
+      this.duration = duration;
+      this.bitsPerSample = bitsPerSample;
+      this.lossless = lossless;
+      this.noOfSamples = noOfSamples;
+    }
+
+    static AudioHeader copyOf(final AudioHeader header) {
+      if (header == NullAudioHeader.INSTANCE) {
+        return NullAudioHeader.INSTANCE;
+      }
+      return new Header(nullToEmpty(header.getEncodingType()),
+                        header.getByteRate(),
+                        header.getBitRate(),
+                        header.getAudioDataLength(),
+                        header.getAudioDataStartPosition(),
+                        header.getAudioDataEndPosition(),
+                        header.getSampleRate(),
+                        nullToEmpty(header.getFormat()),
+                        header.getChannelCount(),
+                        header.isVariableBitRate(),
+                        header.getDurationAsDouble(),
+                        header.getBitsPerSample(),
+                        header.isLossless(),
+                        header.getNoOfSamples());
+    }
+
+    private static String nullToEmpty(final String value) {
+      return value == null ? "" : value;
+    }
+
+    void write(final DataOutputStream out) throws IOException {
+      writeString(out, encodingType);
+      out.writeInt(byteRate);
+      out.writeInt(bitRate);
+      out.writeLong(audioDataLength);
+      out.writeLong(audioDataStartPosition);
+      out.writeLong(audioDataEndPosition);
+      out.writeInt(sampleRate);
+      writeString(out, format);
+      out.writeInt(channelCount);
+      out.writeBoolean(variableBitRate);
+      out.writeDouble(duration);
+      out.writeInt(bitsPerSample);
+      out.writeBoolean(lossless);
+      out.writeLong(noOfSamples);
+    }
+
+    static Header read(final DataInputStream in) throws IOException {
+      return new Header(readString(in),
+                        in.readInt(),
+                        in.readInt(),
+                        in.readLong(),
+                        in.readLong(),
+                        in.readLong(),
+                        in.readInt(),
+                        readString(in),
+                        in.readInt(),
+                        in.readBoolean(),
+                        in.readDouble(),
+                        in.readInt(),
+                        in.readBoolean(),
+                        in.readLong());
+    }
+
+    @Override public String getEncodingType() {
+      return encodingType;
+    }
+
+    @Override public int getByteRate() {
+      return byteRate;
+    }
+
+    @Override public int getBitRate() {
+      return bitRate;
+    }
+
+    @Override public long getAudioDataLength() {
+      return audioDataLength;
+    }
+
+    @Override public long getAudioDataStartPosition() {
+      return audioDataStartPosition;
+    }
+
+    @Override public long getAudioDataEndPosition() {
+      return audioDataEndPosition;
+    }
+
+    @Override public int getSampleRate() {
+      return sampleRate;
+    }
+
+    @Override public String getFormat() {
+      return format;
+    }
+
+    @Override public int getChannelCount() {
+      return channelCount;
+    }
+
+    @Override public boolean isVariableBitRate() {
+      return variableBitRate;
+    }
+
+    @Override public long getDuration(final TimeUnit timeUnit, final boolean round) {
+      return TimeUnits.convert(Math.round(duration * 1000000000), NANOSECONDS, timeUnit, round);
+    }
+
+    @Override public double getDurationAsDouble() {
+      return duration;
+    }
+
+    @Override public int getBitsPerSample() {
+      return bitsPerSample;
+    }
+
+    @Override public boolean isLossless() {
+      return lossless;
+    }
+
+    @Override public long getNoOfSamples() {
+      return noOfSamples;
+    }
+  }
+}
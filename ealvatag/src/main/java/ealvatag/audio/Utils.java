@@ -19,7 +19,9 @@ package ealvatag.audio;
 import com.google.common.io.Files;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.utils.ArrayUtil;
 import ealvatag.utils.FileTypeUtil;
 import okio.Buffer;
@@ -469,18 +471,12 @@ public class Utils {
    * @throws IOException if any error occurS
    */
   static void copyThrowsOnException(final File source, final File destination) throws IOException {
-    // Must be done in a loop as there's no guarantee that a request smaller than request count will complete in one invocation.
-    // Setting the transfer size more than about 1MB is pretty pointless because there is no asymptotic benefit. What you're trying
-    // to achieve with larger transfer sizes is fewer context switches, and every time you double the transfer size you halve the
-    // context switch cost. Pretty soon it vanishes into the noise.
     try (FileInputStream inStream = new FileInputStream(source); FileOutputStream outStream = new FileOutputStream(destination)) {
       final FileChannel inChannel = inStream.getChannel();
-      final FileChannel outChannel = outStream.getChannel();
-      final long size = inChannel.size();
-      long position = 0;
-      while (position < size) {
-        position += inChannel.transferTo(position, 1024L * 1024L, outChannel);
-      }
+      new FileOperator(inChannel).transferTo(0,
+                                             inChannel.size(),
+                                             outStream.getChannel(),
+                                             TagOptionSingleton.getInstance().getWriteChunkSize());
     } //Closeables closed exiting try block in all circumstances
   }
 
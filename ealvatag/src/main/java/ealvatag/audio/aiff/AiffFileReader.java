@@ -1,10 +1,14 @@
 package ealvatag.audio.aiff;
 
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader2;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.aiff.AiffTag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
 
@@ -27,4 +31,22 @@ public class AiffFileReader extends AudioFileReader2
     {
         return im.read(channel, fileName);
     }
+
+    /**
+     * The encoding info and the tag are found in the same chunks, so walk them once
+     */
+    @Override
+    protected AudioFileImpl makeAudioFile(final FileChannel channel,
+                                          final File file,
+                                          final String extension,
+                                          final ReadOptions options) throws CannotReadException, IOException
+    {
+        if (options.isIgnoreAudioHeader())
+        {
+            return super.makeAudioFile(channel, file, extension, options);
+        }
+        AiffAudioHeader info = new AiffAudioHeader();
+        AiffTag tag = im.read(channel, file.getAbsolutePath(), ir, info);
+        return new AudioFileImpl(file, extension, info, tag);
+    }
 }
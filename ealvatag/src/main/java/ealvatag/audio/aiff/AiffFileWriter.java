@@ -20,6 +20,7 @@ package ealvatag.audio.aiff;
 
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.AudioFileWriter2;
+import ealvatag.audio.SaveMode;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 
@@ -35,9 +36,9 @@ public class AiffFileWriter extends AudioFileWriter2
     private AiffTagWriter tw = new AiffTagWriter();
 
     @Override
-    protected void writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException
+    protected SaveMode writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException
     {
-        tw.write(tag, channel, fileName);
+        return tw.write(tag, channel, fileName);
     }
 
     @Override
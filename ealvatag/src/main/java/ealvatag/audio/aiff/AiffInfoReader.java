@@ -57,7 +57,7 @@ public class AiffInfoReader extends AiffChunkReader {
    *
    * @throws CannotReadException
    */
-  private void calculateBitRate(GenericAudioHeader info) throws CannotReadException {
+  void calculateBitRate(GenericAudioHeader info) throws CannotReadException {
     if (info.getAudioDataLength() != -1) {
       info.setBitRate((int)(Math.round(info.getAudioDataLength()
                                            * Utils.BITS_IN_BYTE_MULTIPLIER /
@@ -112,7 +112,7 @@ public class AiffInfoReader extends AiffChunkReader {
    *
    * @throws IOException
    */
-  private Chunk createChunk(FileChannel fc, final ChunkHeader chunkHeader, AiffAudioHeader aiffAudioHeader)
+  Chunk createChunk(FileChannel fc, final ChunkHeader chunkHeader, AiffAudioHeader aiffAudioHeader)
       throws IOException {
     final AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
     Chunk chunk;
@@ -43,17 +43,37 @@ public class AiffTagReader extends AiffChunkReader {
    * @throws IOException         thrown if IO error
    */
   public AiffTag read(FileChannel channel, final String fileName) throws CannotReadException, IOException {
-    AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
+    return read(channel, fileName, null, new AiffAudioHeader());
+  }
+
+  /**
+   * Read editable Metadata and, if {@code infoReader} isn't null, the encoding info in the same walk of the chunks
+   *
+   * @param channel         the channel from which to read
+   * @param fileName        the name of the file the channel represents.
+   * @param infoReader      reads the chunks describing the audio, null to only read the tag
+   * @param aiffAudioHeader receives the encoding info
+   *
+   * @return an AiffTag
+   *
+   * @throws CannotReadException thrown if tag cannot be parsed
+   * @throws IOException         thrown if IO error
+   */
+  AiffTag read(FileChannel channel, final String fileName, AiffInfoReader infoReader, AiffAudioHeader aiffAudioHeader)
+      throws CannotReadException, IOException {
     AiffTag aiffTag = new AiffTag();
 
     final AiffFileHeader fileHeader = new AiffFileHeader();
     fileHeader.readHeader(channel, aiffAudioHeader, fileName);
     while (channel.position() < channel.size()) {
-      if (!readChunk(channel, aiffTag, fileName)) {
+      if (!readChunk(channel, aiffTag, fileName, infoReader, aiffAudioHeader)) {
         LOG.log(ERROR, "%s UnableToReadProcessChunk", fileName);
         break;
       }
     }
+    if (infoReader != null) {
+      infoReader.calculateBitRate(aiffAudioHeader);
+    }
 
     if (aiffTag.getID3Tag() == null) {
       aiffTag.setID3Tag(TagOptionSingleton.createDefaultID3Tag());
@@ -62,11 +82,15 @@ public class AiffTagReader extends AiffChunkReader {
   }
 
   /**
-   * Reads an AIFF ID3 Chunk.
+   * Reads an AIFF ID3 Chunk, and any chunk describing the audio if {@code infoReader} isn't null
    *
    * @return {@code false}, if we were not able to read a valid chunk id
    */
-  private boolean readChunk(FileChannel fc, AiffTag aiffTag, String fileName) throws IOException {
+  private boolean readChunk(FileChannel fc,
+                            AiffTag aiffTag,
+                            String fileName,
+                            AiffInfoReader infoReader,
+                            AiffAudioHeader aiffAudioHeader) throws IOException {
     LOG.log(TRACE, "%s Reading Tag Chunk", fileName);
 
     ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
@@ -118,11 +142,19 @@ public class AiffTagReader extends AiffChunkReader {
       fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
       return true;
     } else {
-      LOG.log(TRACE, "%s Skipping Chunk:%s", fileName, chunkHeader);
       aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
                                                chunkHeader.getStartLocationInFile(),
                                                chunkHeader.getSize()));
-      fc.position(fc.position() + chunkHeader.getSize());
+      Chunk chunk = infoReader != null ? infoReader.createChunk(fc, chunkHeader, aiffAudioHeader) : null;
+      if (chunk != null) {
+        if (!chunk.readChunk()) {
+          // carry on, there may be an ID3 chunk still to come
+          LOG.log(ERROR, "%s ChunkReadFail:%s", fileName, chunkHeader);
+        }
+      } else {
+        LOG.log(TRACE, "%s Skipping Chunk:%s", fileName, chunkHeader);
+        fc.position(fc.position() + chunkHeader.getSize());
+      }
     }
     IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
     return true;
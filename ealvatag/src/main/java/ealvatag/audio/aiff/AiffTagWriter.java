@@ -21,6 +21,7 @@ package ealvatag.audio.aiff;
 import com.ealva.ealvalog.LogLevel;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.SaveMode;
 import ealvatag.audio.Utils;
 import ealvatag.audio.aiff.chunk.AiffChunkSummary;
 import ealvatag.audio.aiff.chunk.AiffChunkType;
@@ -30,6 +31,7 @@ import ealvatag.audio.iff.Chunk;
 import ealvatag.audio.iff.ChunkHeader;
 import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.audio.iff.IffHeaderChunk;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagOptionSingleton;
@@ -166,43 +168,17 @@ public class AiffTagWriter {
             lengthTagChunk,
             existingTag.getStartLocationInFileOfId3Chunk());
 
-    // position for reading after the id3 tag
-    fc.position(existingTag.getStartLocationInFileOfId3Chunk() + lengthTagChunk);
-
-    deleteTagChunkUsingSmallByteBufferSegments(existingTag, fc, newLength, lengthTagChunk);
+    // shift everything after the id3 tag down over it
+    final long endOfId3Chunk = existingTag.getStartLocationInFileOfId3Chunk() + lengthTagChunk;
+    new FileOperator(fc).move(endOfId3Chunk,
+                              existingTag.getStartLocationInFileOfId3Chunk(),
+                              fc.size() - endOfId3Chunk,
+                              (int)TagOptionSingleton.getInstance().getWriteChunkSize());
     // truncate the file after the last chunk
     LOG.log(LogLevel.ERROR, "%s Setting new length to %d", fileName, newLength);
     fc.truncate(newLength);
   }
 
-  /**
-   * Use ByteBuffers to copy a 4mb chunk, write the chunk and repeat until the rest of the file after the ID3 tag
-   * is rewritten
-   *
-   * @param existingTag    existing tag
-   * @param channel        channel
-   * @param newLength      new length
-   * @param lengthTagChunk length tag chunk
-   *
-   * @throws IOException if something goes wrong
-   */
-  // TODO: arguments are not used, position is implicit
-  private void deleteTagChunkUsingSmallByteBufferSegments(final AiffTag existingTag,
-                                                          final FileChannel channel,
-                                                          final long newLength,
-                                                          final long lengthTagChunk)
-      throws IOException {
-    final ByteBuffer buffer = ByteBuffer.allocateDirect((int)TagOptionSingleton.getInstance().getWriteChunkSize());
-    while (channel.read(buffer) >= 0 || buffer.position() != 0) {
-      buffer.flip();
-      final long readPosition = channel.position();
-      channel.position(readPosition - lengthTagChunk - buffer.limit());
-      channel.write(buffer);
-      channel.position(readPosition);
-      buffer.compact();
-    }
-  }
-
   /**
    * Rewrite RAF header to reflect new file length
    *
@@ -247,7 +223,12 @@ public class AiffTagWriter {
     //where write to ?
   }
 
-  public void write(final Tag tag, FileChannel fc, final String fileName) throws CannotWriteException {
+  /**
+   * Write the ID3 chunk, replacing any existing ID3 chunk
+   *
+   * @return {@link SaveMode#REWRITE} if chunks following the existing ID3 chunk had to be moved, otherwise {@link SaveMode#IN_PLACE}
+   */
+  public SaveMode write(final Tag tag, FileChannel fc, final String fileName) throws CannotWriteException {
     LOG.log(LogLevel.ERROR, "%s Writing Aiff tag to file", fileName);
     AiffTag existingTag;
     try {
@@ -257,6 +238,7 @@ public class AiffTagWriter {
       throw new CannotWriteException(fileName + ":" + ioe.getMessage());
     }
 
+    SaveMode saveMode = SaveMode.IN_PLACE;
     try {
       long existingFileLength = fc.size();
 
@@ -279,6 +261,7 @@ public class AiffTagWriter {
           }
           //Unusual Case where ID3 is not last chunk
           else {
+            saveMode = SaveMode.REWRITE;
             deleteTagChunk(fc, existingTag, chunkHeader, fileName);
             fc.position(fc.size());
             writeExtraByteIfChunkOddSize(fc, fc.size());
@@ -312,6 +295,7 @@ public class AiffTagWriter {
     } catch (IOException ioe) {
       throw new CannotWriteException(fileName + ":" + ioe.getMessage());
     }
+    return saveMode;
   }
 
   /**
@@ -23,9 +23,13 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
+import ealvatag.audio.AudioHeader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.NullAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.AudioStreamChunk;
+import ealvatag.audio.asf.data.GUID;
 import ealvatag.audio.asf.data.MetadataContainer;
 import ealvatag.audio.asf.data.MetadataDescriptor;
 import ealvatag.audio.asf.io.AsfExtHeaderReader;
@@ -34,28 +38,33 @@ import ealvatag.audio.asf.io.ChunkReader;
 import ealvatag.audio.asf.io.ContentBrandingReader;
 import ealvatag.audio.asf.io.ContentDescriptionReader;
 import ealvatag.audio.asf.io.FileHeaderReader;
-import ealvatag.audio.asf.io.FullRequestInputStream;
 import ealvatag.audio.asf.io.LanguageListReader;
 import ealvatag.audio.asf.io.MetadataReader;
 import ealvatag.audio.asf.io.StreamChunkReader;
 import ealvatag.audio.asf.util.TagConverter;
-import ealvatag.audio.asf.util.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.TagException;
+import ealvatag.tag.TagField;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.asf.AsfTag;
+import ealvatag.tag.asf.AsfTagCoverField;
 
 import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -71,6 +80,11 @@ public class AsfFileReader extends AudioFileReader {
    */
   private final static JLogger LOG = JLoggers.get(AsfFileReader.class, EalvaTagLog.MARKER);
 
+  /**
+   * Every top level object starts with its GUID and 64 bit size
+   */
+  private final static int OBJECT_HEADER_LENGTH = GUID.GUID_LENGTH + 8;
+
   /**
    * This reader will be configured to read tag and audio header information.<br>
    */
@@ -207,10 +221,10 @@ public class AsfFileReader extends AudioFileReader {
   }
 
   @Override
-  public AudioFile read(final File f, final String extension, final boolean ignoreArtwork)
+  public AudioFile read(final File f, final String extension, final ReadOptions options)
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
-    try (InputStream stream = new FullRequestInputStream(new BufferedInputStream(new FileInputStream(f)))) {
-      final AsfHeader header = HEADER_READER.read(Utils.readGUID(stream), stream, 0);
+    try (FileInputStream stream = new FileInputStream(f)) {
+      final AsfHeader header = HEADER_READER.read(stream.getChannel(), 0);
       if (header == null) {
         throw new CannotReadException(ErrorMessage.ASF_HEADER_MISSING, f);
       }
@@ -223,8 +237,53 @@ public class AsfFileReader extends AudioFileReader {
         LOG.log(WARN, ErrorMessage.ASF_FILE_HEADER_SIZE_DOES_NOT_MATCH_FILE_SIZE, f, header.getFileHeader().getFileSize(), f.length());
       }
 
-      return new AudioFileImpl(f, extension, getAudioHeader(header), getTag(header));
+      final AudioHeader audioHeader = options.isIgnoreAudioHeader() ? NullAudioHeader.INSTANCE : getAudioHeader(header);
+      final AsfTag tag = getTag(header);
+      if (TagOptionSingleton.getInstance().isLazyArtwork()) {
+        // the header was read from f at its file offsets, so the image data can be left there
+        for (final TagField field : tag.getFields(FieldKey.COVER_ART)) {
+          if (field instanceof AsfTagCoverField) {
+            ((AsfTagCoverField)field).deferImageData(f);
+          }
+        }
+      }
+      return new AudioFileImpl(f, extension, audioHeader, tag);
+    }
+  }
+
+  /**
+   * Digest the body of the data object, which follows the header object holding the tag. Any index objects after the data are left
+   * out.
+   */
+  @Override
+  protected void digestAudioPayload(final RandomAccessFile raf, final File file, final MessageDigest digest)
+      throws CannotReadException, IOException {
+    final FileChannel channel = raf.getChannel();
+    final long fileSize = channel.size();
+    final ByteBuffer objectHeader = ByteBuffer.allocate(OBJECT_HEADER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    final byte[] guid = new byte[GUID.GUID_LENGTH];
+    long pos = 0;
+    while (pos + OBJECT_HEADER_LENGTH <= fileSize) {
+      objectHeader.clear();
+      while (objectHeader.hasRemaining()) {
+        if (channel.read(objectHeader, pos + objectHeader.position()) == -1) {
+          throw new CannotReadException(ErrorMessage.ASF_HEADER_MISSING, file);
+        }
+      }
+      objectHeader.flip();
+      objectHeader.get(guid);
+      final long objectSize = objectHeader.getLong();
+      if (objectSize < OBJECT_HEADER_LENGTH) {
+        throw new CannotReadException("Invalid ASF object size %d at %d in %s", objectSize, pos, file);
+      }
+      final long objectEnd = Math.min(pos + objectSize, fileSize);
+      if (GUID.GUID_DATA.equals(new GUID(guid))) {
+        new FileOperator(channel).digest(pos + OBJECT_HEADER_LENGTH, objectEnd - pos - OBJECT_HEADER_LENGTH, digest);
+        return;
+      }
+      pos = objectEnd;
     }
+    throw new CannotReadException("No ASF data object in %s", file);
   }
 
 }
@@ -25,9 +25,11 @@ import ealvatag.audio.asf.data.MetadataContainer;
 import ealvatag.audio.asf.io.*;
 import ealvatag.audio.asf.util.TagConverter;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.AudioFileWriter;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.asf.AsfTag;
 
 import java.io.IOException;
@@ -139,7 +141,12 @@ public class AsfFileWriter extends AudioFileWriter
         {
             headerModifier.add(new AsfExtHeaderModifier(extHeaderModifier));
         }
-        new AsfStreamer().createModifiedCopy(new RandomAccessFileInputstream(raf), new RandomAccessFileOutputStream(rafTemp), headerModifier);
+        new AsfStreamer().createModifiedHeader(new RandomAccessFileInputstream(raf), new RandomAccessFileOutputStream(rafTemp), headerModifier);
+        // copy the rest of the file (data and index)
+        new FileOperator(raf.getChannel()).transferTo(raf.getFilePointer(),
+                                                      raf.length() - raf.getFilePointer(),
+                                                      rafTemp.getChannel(),
+                                                      TagOptionSingleton.getInstance().getWriteChunkSize());
     }
 
 }
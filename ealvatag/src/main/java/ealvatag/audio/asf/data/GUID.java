@@ -94,6 +94,13 @@ import java.util.regex.Pattern;
       new GUID(new int[]{0x40, 0x52, 0xD1, 0x86, 0x1D, 0x31, 0xD0, 0x11, 0xA3, 0xA4, 0x00, 0xA0, 0xC9, 0x03, 0x48, 0xF6},
                "Encoding description");
 
+  /**
+   * This constant defines the GUID of the asf data chunk, which follows the header and holds the packets of media data.
+   */
+  public final static GUID
+      GUID_DATA =
+      new GUID(new int[]{0x36, 0x26, 0xb2, 0x75, 0x8e, 0x66, 0xcf, 0x11, 0xa6, 0xd9, 0x00, 0xaa, 0x00, 0x62, 0xce, 0x6c}, "Data");
+
   /**
    * This constant defines the GUID for a WMA "Extended Content Description"
    * chunk. <br>
@@ -221,6 +228,7 @@ import java.util.regex.Pattern;
             GUID_AUDIO_ERROR_CONCEALEMENT_ABSENT,
             GUID_CONTENTDESCRIPTION,
             GUID_AUDIOSTREAM,
+            GUID_DATA,
             GUID_ENCODING,
             GUID_FILE,
             GUID_HEADER,
@@ -337,8 +345,7 @@ import java.util.regex.Pattern;
   private int[] guidData = null;
 
   /**
-   * Stores the hash code of the object.<br>
-   * <code>&quot;-1&quot;</code> if not determined yet.
+   * Stores the hash code of the object, calculated when the value is set.<br>
    */
   private int hash;
 
@@ -406,7 +413,7 @@ import java.util.regex.Pattern;
     boolean result = false;
     if (obj instanceof GUID) {
       final GUID other = (GUID)obj;
-      result = Arrays.equals(this.getGUID(), other.getGUID());
+      result = this.hash == other.hash && Arrays.equals(this.guidData, other.guidData);
     }
     return result;
   }
@@ -470,13 +477,6 @@ import java.util.regex.Pattern;
    */
   @Override
   public int hashCode() {
-    if (this.hash == -1) {
-      int tmp = 0;
-      for (final int curr : getGUID()) {
-        tmp = tmp * 31 + curr;
-      }
-      this.hash = tmp;
-    }
     return this.hash;
   }
 
@@ -519,6 +519,11 @@ import java.util.regex.Pattern;
     if (assertGUID(value)) {
       this.guidData = new int[GUID_LENGTH];
       System.arraycopy(value, 0, this.guidData, 0, GUID_LENGTH);
+      int tmp = 0;
+      for (final int curr : this.guidData) {
+        tmp = tmp * 31 + curr;
+      }
+      this.hash = tmp;
     } else {
       throw new IllegalArgumentException("The given guidData doesn't match the GUID specification.");
     }
@@ -23,11 +23,13 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.asf.util.Utils;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.DeferredImageData;
 
 import static com.ealva.ealvalog.LogLevel.WARN;
 import static ealvatag.logging.ErrorMessage.WMA_LENGTH_OF_DATA_IS_TOO_LARGE;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
@@ -132,6 +134,16 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
      */
   private byte[] content = new byte[0];
 
+  /**
+   * The end of a binary value left in the file, following {@link #content}. Null if the whole value is in {@link #content}.
+   */
+  private DeferredImageData deferredContent;
+
+  /**
+   * Where {@link #content} starts in the file it was read from, -1 if not known.
+   */
+  private long contentPosition = -1;
+
   /**
    * This field shows the type of the metadata descriptor. <br>
    *
@@ -291,7 +303,9 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
                                                              this.descriptorType,
                                                              this.streamNumber,
                                                              this.languageIndex);
-    result.content = getRawData();
+    result.content = this.content.clone();
+    result.deferredContent = this.deferredContent;
+    result.contentPosition = this.contentPosition;
     return result;
   }
 
@@ -310,12 +324,74 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
         final MetadataDescriptor other = (MetadataDescriptor)obj;
         result = other.getName().equals(getName()) && other.descriptorType == this.descriptorType &&
             other.languageIndex == this.languageIndex && other.streamNumber == this.streamNumber &&
-            Arrays.equals(this.content, other.content);
+            contentEquals(other);
       }
     }
     return result;
   }
 
+  private boolean contentEquals(final MetadataDescriptor other) {
+    if (this.deferredContent == other.deferredContent) {
+      return Arrays.equals(this.content, other.content);
+    }
+    return getRawDataSize() == other.getRawDataSize() && Arrays.equals(getContent(), other.getContent());
+  }
+
+  /**
+   * @return the whole value, reading any of it left in the file
+   */
+  private byte[] getContent() {
+    if (this.deferredContent == null) {
+      return this.content;
+    }
+    final byte[] deferred = this.deferredContent.getImageData();
+    final byte[] result = Arrays.copyOf(this.content, this.content.length + deferred.length);
+    System.arraycopy(deferred, 0, result, this.content.length, deferred.length);
+    return result;
+  }
+
+  /**
+   * @return where the value starts in the file it was read from, -1 if not known
+   */
+  public long getContentPosition() {
+    return this.contentPosition;
+  }
+
+  /**
+   * Record where the value starts in the file it was read from, so it can be left there, see {@link #deferContent(File, int)}
+   *
+   * @param contentPosition file offset of the value
+   */
+  public void setContentPosition(final long contentPosition) {
+    this.contentPosition = contentPosition;
+  }
+
+  /**
+   * Leave the end of a binary value in the file, to be read again when it's needed. Does nothing unless the value is binary and
+   * {@link #getContentPosition() its position} is known.
+   *
+   * @param file the file the value was read from
+   * @param keep how many bytes at the start of the value to keep in memory
+   *
+   * @return the part of the value left in the file, or null if none was
+   */
+  public DeferredImageData deferContent(final File file, final int keep) {
+    if (this.descriptorType == TYPE_BINARY && this.contentPosition >= 0 && this.deferredContent == null && keep >= 0 &&
+        keep < this.content.length) {
+      this.deferredContent = new DeferredImageData(file, this.contentPosition + keep, this.content.length - keep);
+      this.content = Arrays.copyOf(this.content, keep);
+    }
+    return this.deferredContent;
+  }
+
+  /**
+   * @return the end of the binary value if it was left in the file, else null. It may since have been read, see
+   * {@link DeferredImageData#isImageDataDeferred()}
+   */
+  public DeferredImageData getDeferredContent() {
+    return this.deferredContent;
+  }
+
   /**
    * Returns the value of the MetadataDescriptor as a Boolean. <br>
    * If no Conversion is Possible false is returned. <br>
@@ -386,7 +462,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
       }
     } else {
 
-      result += this.content.length;
+      result += getRawDataSize();
       if (TYPE_STRING == this.getType()) {
         result += 2; // zero term of content string.
       }
@@ -473,11 +549,22 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
    * @return The content in binary representation, as it would be written to asf file. <br>
    */
   public byte[] getRawData() {
+    if (this.deferredContent != null) {
+      return getContent();
+    }
     final byte[] copy = new byte[this.content.length];
     System.arraycopy(this.content, 0, copy, 0, this.content.length);
     return copy;
   }
 
+  /**
+   * @return a copy of the part of the value held in memory. This is all of {@link #getRawData()} unless the end of it was left in
+   * the file, see {@link #deferContent(File, int)}
+   */
+  public byte[] getRawDataInMemory() {
+    return this.content.clone();
+  }
+
   /**
    * Returns the size (in bytes) the binary representation of the content
    * uses. (length of {@link #getRawData()})<br>
@@ -485,7 +572,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
    * @return size of binary representation of the content.
    */
   public int getRawDataSize() {
-    return this.content.length;
+    return this.deferredContent != null ? this.content.length + this.deferredContent.getImageDataLength() : this.content.length;
   }
 
   /**
@@ -565,7 +652,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
    * @return <code>true</code> if no value is set.
    */
   public boolean isEmpty() {
-    return this.content.length == 0;
+    return getRawDataSize() == 0;
   }
 
   /**
@@ -584,6 +671,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
                                          this.streamNumber,
                                          this.languageIndex);
     this.content = data.clone();
+    this.deferredContent = null;
     this.descriptorType = TYPE_BINARY;
   }
 
@@ -596,6 +684,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
    */
   public void setBooleanValue(final boolean value) {
     this.content = new byte[]{value ? (byte)1 : 0};
+    this.deferredContent = null;
     this.descriptorType = TYPE_BOOLEAN;
   }
 
@@ -611,6 +700,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
       throw new IllegalArgumentException("value out of range (0-" + DWORD_MAXVALUE + ")");
     }
     this.content = Utils.getBytes(value, 4);
+    this.deferredContent = null;
     this.descriptorType = TYPE_DWORD;
   }
 
@@ -628,6 +718,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
                                          this.streamNumber,
                                          this.languageIndex);
     this.content = value.getBytes();
+    this.deferredContent = null;
     this.descriptorType = TYPE_GUID;
   }
 
@@ -675,6 +766,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
              */
       Arrays.fill(this.content, (byte)0xFF);
     }
+    this.deferredContent = null;
     this.descriptorType = TYPE_QWORD;
   }
 
@@ -691,6 +783,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
           "value out of range (0-" + MetadataDescriptor.QWORD_MAXVALUE.toString() + ")");
     }
     this.content = Utils.getBytes(value, 8);
+    this.deferredContent = null;
     this.descriptorType = TYPE_QWORD;
   }
 
@@ -784,6 +877,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
         }
       }
     }
+    this.deferredContent = null;
     this.descriptorType = TYPE_STRING;
   }
 
@@ -801,6 +895,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
       throw new IllegalArgumentException("value out of range (0-" + WORD_MAXVALUE + ")");
     }
     this.content = Utils.getBytes(value, 2);
+    this.deferredContent = null;
     this.descriptorType = TYPE_WORD;
   }
 
@@ -844,7 +939,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
       binaryData = new byte[contType == ContainerType.EXTENDED_CONTENT ? 4 : 2];
       binaryData[0] = (byte)(getBoolean() ? 1 : 0);
     } else {
-      binaryData = this.content;
+      binaryData = getContent();
     }
     // for Metadata objects the stream number and language index
     if (contType != ContainerType.EXTENDED_CONTENT) {
@@ -22,8 +22,18 @@ import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.GUID;
 import ealvatag.audio.asf.util.Utils;
 
-import java.io.*;
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -89,16 +99,9 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
     }
 
     /**
-     * Creates a Stream that will read from the specified
-     * {@link RandomAccessFile};<br>
-     *
-     * @param raf data source to read from.
-     * @return a stream which accesses the source.
+     * Size of the GUID and the 64 bit size which start every ASF object
      */
-    private static InputStream createStream(final RandomAccessFile raf)
-    {
-        return new FullRequestInputStream(new BufferedInputStream(new RandomAccessFileInputstream(raf)));
-    }
+    private final static int OBJECT_HEADER_SIZE = GUID.GUID_LENGTH + 8;
 
     /**
      * This method extracts the full ASF-Header from the given file.<br>
@@ -111,10 +114,10 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readHeader(final File file) throws IOException
     {
-        final InputStream stream = new FileInputStream(file);
-        final AsfHeader result = FULL_READER.read(Utils.readGUID(stream), stream, 0);
-        stream.close();
-        return result;
+        try (FileInputStream stream = new FileInputStream(file))
+        {
+            return FULL_READER.read(stream.getChannel(), 0);
+        }
     }
 
     /**
@@ -128,8 +131,7 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return FULL_READER.read(Utils.readGUID(stream), stream, 0);
+        return FULL_READER.read(file.getChannel(), file.getFilePointer());
     }
 
     /**
@@ -144,8 +146,7 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readInfoHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return INFO_READER.read(Utils.readGUID(stream), stream, 0);
+        return INFO_READER.read(file.getChannel(), file.getFilePointer());
     }
 
     /**
@@ -160,8 +161,67 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader>
      */
     public static AsfHeader readTagHeader(final RandomAccessFile file) throws IOException
     {
-        final InputStream stream = createStream(file);
-        return TAG_READER.read(Utils.readGUID(stream), stream, 0);
+        return TAG_READER.read(file.getChannel(), file.getFilePointer());
+    }
+
+    /**
+     * Reads the header object starting at <code>position</code>. The whole
+     * object is read with one positional read and the chunks are parsed from
+     * memory. If the object's size doesn't fit in the file it is read through a
+     * buffered stream as before, so the readers decide how much of it is usable.
+     * The channel's position is not used or changed.
+     *
+     * @param channel  the ASF file.
+     * @param position where the header object starts, usually 0.
+     * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
+     * header was found.
+     * @throws IOException Read errors
+     */
+    public AsfHeader read(final FileChannel channel, final long position) throws IOException
+    {
+        final ByteBuffer objectHeader = ByteBuffer.allocate(OBJECT_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        final long objectSize;
+        if (readFully(channel, objectHeader, position))
+        {
+            objectSize = objectHeader.getLong(GUID.GUID_LENGTH);
+        }
+        else
+        {
+            objectSize = -1;
+        }
+        if (objectSize < OBJECT_HEADER_SIZE || objectSize > Integer.MAX_VALUE || position + objectSize > channel.size())
+        {
+            final InputStream stream =
+                    new FullRequestInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(position))));
+            return read(Utils.readGUID(stream), stream, position);
+        }
+
+        final ByteBuffer object = ByteBuffer.allocate((int)objectSize);
+        if (!readFully(channel, object, position))
+        {
+            throw new EOFException();
+        }
+        object.flip();
+        final InputStream stream = new FullRequestInputStream(new ByteBufferInputStream(object));
+        return read(Utils.readGUID(stream), stream, position);
+    }
+
+    /**
+     * @return false if the end of the file was reached before <code>buffer</code> was filled
+     */
+    private static boolean readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException
+    {
+        long readPosition = position;
+        while (buffer.hasRemaining())
+        {
+            final int read = channel.read(buffer, readPosition);
+            if (read < 0)
+            {
+                return false;
+            }
+            readPosition += read;
+        }
+        return true;
     }
 
     /**
@@ -50,6 +50,24 @@ public class AsfStreamer
      * @throws IOException on I/O errors.
      */
     public void createModifiedCopy(final InputStream source, final OutputStream dest, final List<ChunkModifier> modifiers) throws IOException
+    {
+        createModifiedHeader(source, dest, modifiers);
+        // copy the rest of the file (data and index)
+        Utils.flush(source, dest);
+    }
+
+    /**
+     * Like {@link #createModifiedCopy(InputStream, OutputStream, List)} but
+     * stops after the modified ASF header object has been written, leaving
+     * <code>source</code> positioned at the start of the data object so the
+     * caller can copy the rest of the file itself.<br>
+     *
+     * @param source    the source ASF file
+     * @param dest      the destination to write the modified header to.
+     * @param modifiers list of chunk modifiers to apply.
+     * @throws IOException on I/O errors.
+     */
+    public void createModifiedHeader(final InputStream source, final OutputStream dest, final List<ChunkModifier> modifiers) throws IOException
     {
         final List<ChunkModifier> modders = new ArrayList<ChunkModifier>();
         if (modifiers != null)
@@ -148,8 +166,6 @@ public class AsfStreamer
             modifyFileHeader(new ByteArrayInputStream(fileHeader), dest, totalDiff);
             // write the header objects (chunks)
             dest.write(bos.toByteArray());
-            // copy the rest of the file (data and index)
-            Utils.flush(source, dest);
         }
         else
         {
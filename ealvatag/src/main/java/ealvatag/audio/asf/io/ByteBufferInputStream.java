@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.asf.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An unsynchronized stream over a buffer which already holds everything to be read, such as a whole ASF header object. Mark and
+ * reset are supported with no read limit.
+ */
+final class ByteBufferInputStream extends InputStream {
+  private final ByteBuffer buffer;
+
+  /**
+   * @param buffer bytes from the buffer's position to its limit are read
+   */
+  ByteBufferInputStream(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  @Override public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override public int read(final byte[] destination, final int off, final int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    final int count = Math.min(len, buffer.remaining());
+    buffer.get(destination, off, count);
+    return count;
+  }
+
+  @Override public long skip(final long amount) {
+    if (amount <= 0) {
+      return 0;
+    }
+    final int count = (int)Math.min(amount, buffer.remaining());
+    buffer.position(buffer.position() + count);
+    return count;
+  }
+
+  @Override public int available() {
+    return buffer.remaining();
+  }
+
+  @Override public boolean markSupported() {
+    return true;
+  }
+
+  @Override public void mark(final int readLimit) {
+    buffer.mark();
+  }
+
+  @Override public void reset() {
+    buffer.reset();
+  }
+}
@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This class represents a reader implementation, which is able to read ASF
@@ -39,6 +41,11 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
    */
   public final static int READ_LIMIT = 8192;
 
+  /**
+   * Chunk readers hold no state, so every container shares one instance of each.
+   */
+  private static final ConcurrentMap<Class<? extends ChunkReader>, ChunkReader> SHARED_READERS = new ConcurrentHashMap<>();
+
   /**
    * If <code>true</code> each chunk type will only be read once.<br>
    */
@@ -204,7 +211,14 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
    */
   private <T extends ChunkReader> void register(final Class<T> toRegister) {
     try {
-      final T reader = toRegister.newInstance();
+      ChunkReader reader = SHARED_READERS.get(toRegister);
+      if (reader == null) {
+        final ChunkReader created = toRegister.newInstance();
+        reader = SHARED_READERS.putIfAbsent(toRegister, created);
+        if (reader == null) {
+          reader = created;
+        }
+      }
       for (final GUID curr : reader.getApplyingIds()) {
         this.readerMap.put(curr, reader);
       }
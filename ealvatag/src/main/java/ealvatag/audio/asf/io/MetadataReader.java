@@ -40,8 +40,10 @@ public class MetadataReader implements ChunkReader
     /**
      * {@inheritDoc}
      */
-    public Chunk read(final GUID guid, final InputStream stream, final long streamPosition) throws IOException
+    public Chunk read(final GUID guid, final InputStream source, final long streamPosition) throws IOException
     {
+        // counts the bytes read, so binary values know where they are in the file
+        final CountingInputStream stream = new CountingInputStream(source);
         final BigInteger chunkLen = Utils.readBig64(stream);
 
         final MetadataContainer result = new MetadataContainer(guid, streamPosition, chunkLen);
@@ -88,6 +90,7 @@ public class MetadataReader implements ChunkReader
                     descriptor.setStringValue(Utils.readFixedSizeUTF16Str(stream, (int) dataLen));
                     break;
                 case MetadataDescriptor.TYPE_BINARY:
+                    descriptor.setContentPosition(streamPosition + GUID.GUID_LENGTH + stream.getReadCount());
                     descriptor.setBinaryValue(Utils.readBinary(stream, dataLen));
                     break;
                 case MetadataDescriptor.TYPE_BOOLEAN:
@@ -356,11 +356,10 @@ public class Utils {
     if (stream == null) {
       throw new IllegalArgumentException("Argument must not be null"); //$NON-NLS-1$
     }
-    int[] binaryGuid = new int[GUID.GUID_LENGTH];
-    for (int i = 0; i < binaryGuid.length; i++) {
-      binaryGuid[i] = stream.read();
-    }
-    return new GUID(binaryGuid);
+    final GUID guid = new GUID(readFully(stream, GUID.GUID_LENGTH));
+    // share the known instances rather than keep a copy of the same GUID for every chunk read
+    final GUID configured = GUID.getConfigured(guid);
+    return configured != null ? configured : guid;
   }
 
   /**
@@ -373,9 +372,7 @@ public class Utils {
    * @throws IOException on I/O Errors.
    */
   public static int readUINT16(InputStream stream) throws IOException {
-    int result = stream.read();
-    result |= stream.read() << 8;
-    return result;
+    return (int)readLittleEndian(stream, 2);
   }
 
   /**
@@ -388,15 +385,7 @@ public class Utils {
    * @throws IOException on I/O Errors.
    */
   public static long readUINT32(InputStream stream) throws IOException {
-    long result = 0;
-    for (int i = 0; i <= 24; i += 8) {
-      // Warning, always cast to long here. Otherwise it will be
-      // shifted as int, which may produce a negative value, which will
-      // then be extended to long and assign the long variable a negative
-      // value.
-      result |= (long)stream.read() << i;
-    }
-    return result;
+    return readLittleEndian(stream, 4);
   }
 
   /**
@@ -409,17 +398,32 @@ public class Utils {
    * @throws IOException read error, or eof is reached before long is completed
    */
   public static long readUINT64(InputStream stream) throws IOException {
+    return readLittleEndian(stream, 8);
+  }
+
+  private static long readLittleEndian(InputStream stream, int byteCount) throws IOException {
+    final byte[] bytes = readFully(stream, byteCount);
     long result = 0;
-    for (int i = 0; i <= 56; i += 8) {
-      // Warning, always cast to long here. Otherwise it will be
-      // shifted as int, which may produce a negative value, which will
-      // then be extended to long and assign the long variable a negative
-      // value.
-      result |= (long)stream.read() << i;
+    for (int i = byteCount - 1; i >= 0; i--) {
+      // mask so the byte isn't sign extended
+      result = (result << 8) | (bytes[i] & 0xFFL);
     }
     return result;
   }
 
+  private static byte[] readFully(InputStream stream, int byteCount) throws IOException {
+    final byte[] bytes = new byte[byteCount];
+    int total = 0;
+    while (total < byteCount) {
+      final int read = stream.read(bytes, total, byteCount - total);
+      if (read < 0) {
+        throw new EOFException();
+      }
+      total += read;
+    }
+    return bytes;
+  }
+
   /**
    * This method reads a UTF-16 encoded String, beginning with a 16-bit value
    * representing the number of bytes needed. The String is terminated with as
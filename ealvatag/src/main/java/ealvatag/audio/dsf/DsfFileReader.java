@@ -9,8 +9,12 @@ import com.ealva.ealvalog.java.JLoggers;
 
 import static com.ealva.ealvalog.LogLevel.WARN;
 
+import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader2;
+import ealvatag.audio.AudioHeader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.NullAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.IffHeaderChunk;
@@ -24,6 +28,7 @@ import ealvatag.tag.id3.ID3v24Tag;
 
 import static ealvatag.audio.dsf.DsdChunk.CHUNKSIZE_LENGTH;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -42,18 +47,46 @@ public class DsfFileReader extends AudioFileReader2 {
   protected GenericAudioHeader getEncodingInfo(FileChannel fc, final String fileName) throws CannotReadException, IOException {
     DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
     if (dsd != null) {
-      ByteBuffer fmtChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
-      FmtChunk fmt = FmtChunk.readChunkHeader(fmtChunkBuffer);
-      if (fmt != null) {
-        return fmt.readChunkData(dsd, fc);
-      } else {
-        throw new CannotReadException(fileName + " Not a valid dsf file. Content does not include 'fmt ' chunk");
+      return readEncodingInfo(fc, dsd, fileName);
+    } else {
+      throw new CannotReadException(fileName + " Not a valid dsf file. Content does not start with 'DSD '");
+    }
+  }
+
+  /**
+   * The DSD chunk locates both the fmt chunk following it and the tag, so read it once for both
+   */
+  @Override
+  protected AudioFileImpl makeAudioFile(final FileChannel fc,
+                                        final File file,
+                                        final String extension,
+                                        final ReadOptions options) throws CannotReadException, IOException {
+    final String fileName = file.getAbsolutePath();
+    DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+    if (dsd != null) {
+      AudioHeader info = NullAudioHeader.INSTANCE;
+      if (!options.isIgnoreAudioHeader()) {
+        info = readEncodingInfo(fc, dsd, fileName);
       }
+      return new AudioFileImpl(file, extension, info, readTag(fc, dsd, fileName, options.isIgnoreArtwork()));
     } else {
       throw new CannotReadException(fileName + " Not a valid dsf file. Content does not start with 'DSD '");
     }
   }
 
+  /**
+   * Reads the fmt chunk, which must immediately follow the DSD chunk
+   */
+  private GenericAudioHeader readEncodingInfo(FileChannel fc, DsdChunk dsd, String fileName) throws CannotReadException, IOException {
+    ByteBuffer fmtChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
+    FmtChunk fmt = FmtChunk.readChunkHeader(fmtChunkBuffer);
+    if (fmt != null) {
+      return fmt.readChunkData(dsd, fc);
+    } else {
+      throw new CannotReadException(fileName + " Not a valid dsf file. Content does not include 'fmt ' chunk");
+    }
+  }
+
   @Override
   protected TagFieldContainer getTag(FileChannel fc, final String fileName, final boolean ignoreArtwork)
       throws CannotReadException, IOException {
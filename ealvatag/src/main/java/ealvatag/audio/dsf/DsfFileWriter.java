@@ -20,6 +20,7 @@ package ealvatag.audio.dsf;
 
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.AudioFileWriter2;
+import ealvatag.audio.SaveMode;
 import ealvatag.audio.Utils;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
@@ -34,7 +35,7 @@ import java.nio.channels.FileChannel;
  */
 public class DsfFileWriter extends AudioFileWriter2
 {
-    protected void writeTag(TagFieldContainer tag, FileChannel fc, final String fileName) throws CannotWriteException
+    protected SaveMode writeTag(TagFieldContainer tag, FileChannel fc, final String fileName) throws CannotWriteException
     {
         try
         {
@@ -74,6 +75,8 @@ public class DsfFileWriter extends AudioFileWriter2
         {
             throw new CannotWriteException(ioe.getMessage());
         }
+        //The ID3 chunk is always the last chunk so the audio is never moved
+        return SaveMode.IN_PLACE;
     }
 
     /**
@@ -43,7 +43,29 @@ public class FmtChunk {
   public GenericAudioHeader readChunkData(DsdChunk dsd, FileChannel fc) throws IOException {
     long sizeExcludingChunkHeader = chunkSizeLength - (IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
     ByteBuffer audioData = Utils.readFileDataIntoBufferLE(fc, (int)sizeExcludingChunkHeader);
-    return readAudioInfo(dsd, audioData);
+    GenericAudioHeader audioHeader = readAudioInfo(dsd, audioData);
+    readDataChunkPosition(fc, audioHeader);
+    return audioHeader;
+  }
+
+  /**
+   * The data chunk immediately follows the fmt chunk. Record where its samples are, without moving the channel position.
+   */
+  private void readDataChunkPosition(FileChannel fc, GenericAudioHeader audioHeader) throws IOException {
+    long chunkStart = fc.position();
+    ByteBuffer header = ByteBuffer.allocate(IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+    while (header.hasRemaining()) {
+      if (fc.read(header, chunkStart + header.position()) == -1) {
+        LOG.log(WARN, "No data chunk after fmt chunk");
+        return;
+      }
+    }
+    header.flip();
+    if (DsfChunkType.DATA.getCode().equals(Utils.readFourBytesAsChars(header))) {
+      long chunkSize = header.getLong();
+      audioHeader.setAudioDataStartPosition(chunkStart + header.limit());
+      audioHeader.setAudioDataEndPosition(chunkStart + chunkSize);
+    }
   }
 
   /**
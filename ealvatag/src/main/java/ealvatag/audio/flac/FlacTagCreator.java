@@ -30,7 +30,9 @@ import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 import ealvatag.audio.flac.metadatablock.MetadataBlockHeader;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.flac.FlacTag;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.tag.vorbiscomment.VorbisCommentCreator;
 
 import java.io.UnsupportedEncodingException;
@@ -45,8 +47,8 @@ public class FlacTagCreator
   // Logger Object
   public static JLogger LOG = JLoggers.get(FlacTagCreator.class, EalvaTagLog.MARKER);
 
-  //TODO make an option
-  static final int DEFAULT_PADDING = 4000;
+  /** Padding added when the audio has to be moved, unless {@link TagOptionSingleton#setPaddingPolicy(PaddingPolicy)} says otherwise */
+  static final PaddingPolicy DEFAULT_PADDING_POLICY = PaddingPolicy.fixed(4000);
 
   private static final VorbisCommentCreator creator = new VorbisCommentCreator();
 
@@ -30,10 +30,12 @@ import ealvatag.audio.flac.metadatablock.MetadataBlockHeader;
 import ealvatag.logging.Hex;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.InvalidFrameException;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.flac.FlacTag;
 import ealvatag.tag.vorbiscomment.VorbisCommentReader;
 import ealvatag.tag.vorbiscomment.VorbisCommentTag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -61,6 +63,7 @@ public class FlacTagReader {
     //Seems like we have a valid stream
     boolean containsArtwork = false;
     boolean isLastBlock = false;
+    final boolean lazyArtwork = TagOptionSingleton.getInstance().isLazyArtwork();
     while (!isLastBlock) {
       LOG.log(TRACE, "%s Looking for MetaBlockHeader at:%d", path, fc.position());
 
@@ -91,7 +94,8 @@ public class FlacTagReader {
               fc.position(fc.position() + mbh.getDataLength());
             } else {
               try {
-                MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
+                MetadataBlockDataPicture mbdp = lazyArtwork ? new MetadataBlockDataPicture(mbh, fc, new File(path))
+                                                            : new MetadataBlockDataPicture(mbh, fc);
                 images.add(mbdp);
               } catch (IOException | InvalidFrameException e) {
                 LOG.log(WARN, "%s Unable to read picture metablock, ignoring:%s", path, e.getMessage());
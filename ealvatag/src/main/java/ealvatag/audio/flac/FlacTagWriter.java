@@ -24,8 +24,11 @@ import com.ealva.ealvalog.java.JLoggers;
 import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
+import ealvatag.audio.SaveMode;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.audio.flac.metadatablock.BlockType;
 import ealvatag.audio.flac.metadatablock.MetadataBlock;
 import ealvatag.audio.flac.metadatablock.MetadataBlockData;
 import ealvatag.audio.flac.metadatablock.MetadataBlockDataApplication;
@@ -40,14 +43,14 @@ import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.flac.FlacTag;
+import ealvatag.tag.vorbiscomment.VorbisCommentCreator;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 
 /**
@@ -56,7 +59,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class FlacTagWriter {
   // Logger Object
   public static JLogger LOG = JLoggers.get(FlacTagWriter.class, EalvaTagLog.MARKER);
-  private FlacTagCreator tc = new FlacTagCreator();
+  /** Metadata block lengths are 24 bits */
+  private static final int MAX_BLOCK_DATA_LENGTH = 0xFFFFFF;
+  private VorbisCommentCreator vorbisCreator = new VorbisCommentCreator();
 
   /**
    * @param tag
@@ -84,9 +89,12 @@ public class FlacTagWriter {
    * @param fc
    * @param fileName
    *
+   * @return {@link SaveMode#IN_PLACE} if the tag fit in the existing metadata blocks and padding, {@link SaveMode#REWRITE} if the
+   * audio had to be shifted
+   *
    * @throws CannotWriteException
    */
-  public void write(TagFieldContainer tag, FileChannel fc, final String fileName) throws CannotWriteException {
+  public SaveMode write(TagFieldContainer tag, FileChannel fc, final String fileName) throws CannotWriteException {
     LOG.log(TRACE, "%s Writing tag", fileName);
     try {
       MetadataBlockInfo blockInfo = new MetadataBlockInfo();
@@ -153,7 +161,9 @@ public class FlacTagWriter {
       int availableRoom = computeAvailableRoom(blockInfo);
 
       //Minimum Size of the New tag data without padding
-      int newTagSize = tc.convert(tag).limit();
+      FlacTag flacTag = (FlacTag)tag;
+      ByteBuffer vorbisComment = flacTag.getVorbisCommentTag() != null ? vorbisCreator.convert(flacTag.getVorbisCommentTag()) : null;
+      int newTagSize = computeTagLength(flacTag, vorbisComment);
 
       //Other blocks required size
       int otherBlocksRequiredSize = computeNeededRoom(blockInfo);
@@ -173,11 +183,15 @@ public class FlacTagWriter {
         //Jump over Id3 (if exists) and flac header
         fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
 
+        //Move image data still in the file before anything is written over it
+        moveDeferredImages(fc, fileName, flacTag, vorbisComment, fc.position() + computeOtherBlocksLength(blockInfo));
+
         //Write stream info and other non metadata blocks
         writeOtherMetadataBlocks(fc, blockInfo);
 
         //Write tag (and padding)
-        fc.write(tc.convert(tag, availableRoom - neededRoom));
+        writeTag(fc, flacTag, vorbisComment, availableRoom - neededRoom);
+        return SaveMode.IN_PLACE;
       }
       //Need to move audio
       else {
@@ -186,14 +200,27 @@ public class FlacTagWriter {
                 newTagSize,
                 availableRoom,
                 neededRoom - availableRoom);
-        //As we are having to both anyway may as well put in the default padding
+        //As we are having to both anyway may as well put in some padding
+        int padding = TagOptionSingleton.getInstance()
+                                        .getPaddingPolicy()
+                                        .or(FlacTagCreator.DEFAULT_PADDING_POLICY)
+                                        .getPadding(newTagSize);
+        //A padding block can't be smaller than its header, nor larger than a 24 bit length allows. If there's already slightly
+        //more room than needed, too little for a padding block, a minimal one keeps the audio moving towards the end
+        if (padding < MetadataBlockHeader.HEADER_LENGTH) {
+          padding = availableRoom > neededRoom ? MetadataBlockHeader.HEADER_LENGTH : 0;
+        }
+        padding = Math.min(padding, MetadataBlockHeader.HEADER_LENGTH + MAX_BLOCK_DATA_LENGTH);
         insertUsingChunks(fileName,
-                          tag,
+                          flacTag,
+                          vorbisComment,
                           fc,
                           blockInfo,
                           flacStream,
-                          neededRoom + FlacTagCreator.DEFAULT_PADDING,
-                          availableRoom);
+                          neededRoom,
+                          availableRoom,
+                          padding);
+        return SaveMode.REWRITE;
       }
     } catch (IOException ioe) {
       LOG.log(ERROR, "Cannot write %s %s", fileName, ioe.getMessage());
@@ -205,19 +232,20 @@ public class FlacTagWriter {
   /**
    * Insert metadata into space that is not large enough
    * <p>
-   * We do this by reading/writing chunks of data allowing it to work on low memory systems
+   * We do this by shifting the audio towards the end of the file in chunks allowing it to work on low memory systems, then
+   * writing the metadata into the space made
    * <p>
    * Chunk size defined by TagOptionSingleton.getInstance().getWriteChunkSize()
    */
   private void insertUsingChunks(String file,
-                                 TagFieldContainer tag,
+                                 FlacTag tag,
+                                 ByteBuffer vorbisComment,
                                  FileChannel fc,
                                  MetadataBlockInfo blockInfo,
                                  FlacStreamReader flacStream,
                                  int neededRoom,
-                                 int availableRoom) throws IOException {
-    long originalFileSize = fc.size();
-
+                                 int availableRoom,
+                                 int padding) throws IOException {
     //Find end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for
     // streaminfo header and
     //34 bytes for streaminfo and then size of all the other existing blocks
@@ -228,52 +256,22 @@ public class FlacTagWriter {
         + availableRoom;
 
     //Extra Space Required for larger metadata block
-    int extraSpaceRequired = neededRoom - availableRoom;
+    int extraSpaceRequired = neededRoom + padding - availableRoom;
     LOG.log(TRACE, "%s Audio needs shifting:%s", file, extraSpaceRequired);
 
-    //ChunkSize must be at least as large as the extra space required to write the metadata
-    int chunkSize = (int)TagOptionSingleton.getInstance().getWriteChunkSize();
-    if (chunkSize < extraSpaceRequired) {
-      chunkSize = extraSpaceRequired;
-    }
-
-    Queue<ByteBuffer> queue = new LinkedBlockingQueue<>();
-
-    //Read first chunk of audio
-    fc.position(audioStart);
-    {
-      ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-      fc.read(audioBuffer);
-      audioBuffer.flip();
-      queue.add(audioBuffer);
-    }
-    long readPosition = fc.position();
+    new FileOperator(fc).move(audioStart,
+                              audioStart + extraSpaceRequired,
+                              fc.size() - audioStart,
+                              (int)TagOptionSingleton.getInstance().getWriteChunkSize());
 
     //Jump over Id3 (if exists) and Flac Header
     fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
+    moveDeferredImages(fc, file, tag, vorbisComment, fc.position() + computeOtherBlocksLength(blockInfo));
     writeOtherMetadataBlocks(fc, blockInfo);
-    fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
-    long writePosition = fc.position();
-
-
-    fc.position(readPosition);
-    while (fc.position() < originalFileSize) {
-      //Read next chunk
-      ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-      fc.read(audioBuffer);
-      readPosition = fc.position();
-      audioBuffer.flip();
-      queue.add(audioBuffer);
-
-      //Write previous chunk
-      fc.position(writePosition);
-      fc.write(queue.remove());
-      writePosition = fc.position();
-
-      fc.position(readPosition);
+    writeTag(fc, tag, vorbisComment, padding);
+    if (fc.position() != audioStart + extraSpaceRequired) {
+      throw new IOException("Metadata ends at " + fc.position() + " but audio was moved to " + (audioStart + extraSpaceRequired));
     }
-    fc.position(writePosition);
-    fc.write(queue.remove());
   }
 
   /**
@@ -310,6 +308,116 @@ public class FlacTagWriter {
     }
   }
 
+  /**
+   * @return length of the vorbis comment and picture blocks, without padding. Doesn't read image data left in the file
+   */
+  private int computeTagLength(FlacTag tag, ByteBuffer vorbisComment) {
+    int length = 0;
+    if (vorbisComment != null) {
+      length += MetadataBlockHeader.HEADER_LENGTH + vorbisComment.limit();
+    }
+    for (MetadataBlockDataPicture image : tag.getImages()) {
+      length += MetadataBlockHeader.HEADER_LENGTH + image.getLength();
+    }
+    return length;
+  }
+
+  /**
+   * @return length of the stream info block and the blocks written by {@link #writeOtherMetadataBlocks(FileChannel, MetadataBlockInfo)}
+   */
+  private int computeOtherBlocksLength(MetadataBlockInfo blockInfo) {
+    return blockInfo.streamInfoBlock.getLength() + computeNeededRoom(blockInfo);
+  }
+
+  /**
+   * Write the vorbis comment, picture and padding blocks, as {@link FlacTagCreator#convert(TagFieldContainer, int)} would, at the
+   * current position. The data of images still in the file has already been moved into place by
+   * {@link #moveDeferredImages(FileChannel, String, FlacTag, ByteBuffer, long)} and is skipped over.
+   */
+  private void writeTag(FileChannel fc, FlacTag tag, ByteBuffer vorbisComment, int paddingSize) throws IOException {
+    List<MetadataBlockDataPicture> images = tag.getImages();
+    if (vorbisComment != null) {
+      boolean isLast = paddingSize == 0 && images.isEmpty();
+      fc.write(ByteBuffer.wrap(new MetadataBlockHeader(isLast, BlockType.VORBIS_COMMENT, vorbisComment.limit()).getBytes()));
+      fc.write(vorbisComment.duplicate());
+    }
+
+    for (int i = 0; i < images.size(); i++) {
+      MetadataBlockDataPicture image = images.get(i);
+      boolean isLast = paddingSize == 0 && i == images.size() - 1;
+      fc.write(ByteBuffer.wrap(new MetadataBlockHeader(isLast, BlockType.PICTURE, image.getLength()).getBytes()));
+      fc.write(ByteBuffer.wrap(image.getFieldBytes()));
+      if (image.isImageDataDeferred()) {
+        fc.position(fc.position() + image.getImageDataLength());
+      } else {
+        fc.write(ByteBuffer.wrap(image.getImageData()));
+      }
+    }
+
+    if (paddingSize > 0) {
+      int paddingDataSize = paddingSize - MetadataBlockHeader.HEADER_LENGTH;
+      fc.write(ByteBuffer.wrap(new MetadataBlockHeader(true, BlockType.PADDING, paddingDataSize).getBytes()));
+      fc.write(new MetadataBlockDataPadding(paddingDataSize).getBytes());
+    }
+  }
+
+  /**
+   * Move the data of images which was left in the file when read to where it goes in the new tag, so it never has to be read into
+   * memory. Must be done before anything else is written as the data may be anywhere in the existing metadata.
+   * <p>
+   * Moving towards the start of the file in file order, then towards the end in reverse order, never overwrites data which hasn't been
+   * moved yet, as long as the images are still in file order. If they aren't, or the data is in another file, it's read into memory.
+   *
+   * @param tagStart where the vorbis comment block will be written
+   */
+  private void moveDeferredImages(FileChannel fc, String fileName, FlacTag tag, ByteBuffer vorbisComment, long tagStart)
+      throws IOException {
+    File file = new File(fileName);
+    List<MetadataBlockDataPicture> deferred = new ArrayList<>();
+    List<Long> destinations = new ArrayList<>();
+    long position = tagStart + (vorbisComment != null ? MetadataBlockHeader.HEADER_LENGTH + vorbisComment.limit() : 0);
+    boolean inFileOrder = true;
+    for (MetadataBlockDataPicture image : tag.getImages()) {
+      if (image.isImageDataDeferred()) {
+        if (!file.equals(image.getImageFile())) {
+          image.getImageData();
+        } else {
+          if (!deferred.isEmpty() && image.getImageDataOffset() <= deferred.get(deferred.size() - 1).getImageDataOffset()) {
+            inFileOrder = false;
+          }
+          deferred.add(image);
+          destinations.add(position + MetadataBlockHeader.HEADER_LENGTH + image.getLength() - image.getImageDataLength());
+        }
+      }
+      position += MetadataBlockHeader.HEADER_LENGTH + image.getLength();
+    }
+
+    if (!inFileOrder) {
+      for (MetadataBlockDataPicture image : deferred) {
+        image.getImageData();
+      }
+      return;
+    }
+
+    FileOperator operator = new FileOperator(fc);
+    int chunkSize = (int)TagOptionSingleton.getInstance().getWriteChunkSize();
+    for (int i = 0; i < deferred.size(); i++) {
+      MetadataBlockDataPicture image = deferred.get(i);
+      if (destinations.get(i) < image.getImageDataOffset()) {
+        operator.move(image.getImageDataOffset(), destinations.get(i), image.getImageDataLength(), chunkSize);
+        image.setImageDataLocation(file, destinations.get(i));
+      }
+    }
+    for (int i = deferred.size() - 1; i >= 0; i--) {
+      MetadataBlockDataPicture image = deferred.get(i);
+      if (destinations.get(i) > image.getImageDataOffset()) {
+        operator.move(image.getImageDataOffset(), destinations.get(i), image.getImageDataLength(), chunkSize);
+        image.setImageDataLocation(file, destinations.get(i));
+      }
+    }
+    LOG.log(TRACE, "%s Moved %d images within the file", fileName, deferred.size());
+  }
+
   /**
    * @param blockInfo
    *
@@ -12,13 +12,19 @@ import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.FieldKey;
 import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.TagField;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.reference.PictureTypes;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Picture Block
@@ -50,6 +56,11 @@ public class MetadataBlockDataPicture
     implements MetadataBlockData, TagField {
   public static final String IMAGE_IS_URL = "-->";
 
+  /** Bytes read to get the fields before the image data, enough unless the description is very long */
+  private static final int FIELDS_READ_SIZE = 1024;
+  /** Picture type, the mime type, description and image lengths, width, height, colour depth and indexed colour count */
+  private static final int FIXED_FIELDS_LENGTH = 32;
+
   private int pictureType;
   private String mimeType = "";
   private String description;
@@ -59,11 +70,22 @@ public class MetadataBlockDataPicture
   private int indexedColouredCount;
   private int lengthOfPictureInBytes;
   private byte[] imageData;
+  /** Image data left in the file, null if it was read with the block */
+  private DeferredImageData deferredImageData;
 
   // Logger Object
   public static JLogger LOG = JLoggers.get(MetadataBlockDataPicture.class, EalvaTagLog.MARKER);
 
   private void initFromByteBuffer(ByteBuffer rawdata) throws IOException, InvalidFrameException {
+    readFields(rawdata);
+    //ImageData
+    imageData = new byte[lengthOfPictureInBytes];
+    rawdata.get(imageData);
+
+    LOG.log(TRACE, "Read image:%s", this);
+  }
+
+  private void readFields(ByteBuffer rawdata) throws IOException, InvalidFrameException {
     //Picture Type
     pictureType = rawdata.getInt();
     if (pictureType >= PictureTypes.getInstanceOf().getSize()) {
@@ -92,11 +114,6 @@ public class MetadataBlockDataPicture
     indexedColouredCount = rawdata.getInt();
 
     lengthOfPictureInBytes = rawdata.getInt();
-    //ImageData
-    imageData = new byte[lengthOfPictureInBytes];
-    rawdata.get(imageData);
-
-    LOG.log(TRACE, "Read image:%s", this);
   }
 
   /**
@@ -126,8 +143,44 @@ public class MetadataBlockDataPicture
     }
     rawdata.rewind();
     initFromByteBuffer(rawdata);
+  }
 
-
+  /**
+   * Construct picture block by reading from file, but leave the image data in the file until it's needed. Only the fields before the
+   * image data are read, the channel is left positioned after the block.
+   *
+   * @param header the block header, the channel positioned after it
+   * @param fc     the file
+   * @param file   the file {@code fc} was opened on, to read the image data from later
+   *
+   * @throws java.io.IOException                if error reading the file
+   * @throws ealvatag.tag.InvalidFrameException if the block is invalid
+   */
+  public MetadataBlockDataPicture(MetadataBlockHeader header, FileChannel fc, File file)
+      throws IOException, InvalidFrameException {
+    final long blockStart = fc.position();
+    final int dataLength = header.getDataLength();
+    ByteBuffer rawdata = ByteBuffer.allocate(Math.min(dataLength, FIELDS_READ_SIZE));
+    fc.read(rawdata, blockStart);
+    rawdata.flip();
+    try {
+      readFields(rawdata);
+    } catch (BufferUnderflowException e) {
+      // a very long description, read the whole block
+      fc.position(blockStart);
+      rawdata = ByteBuffer.allocate(dataLength);
+      fc.read(rawdata);
+      rawdata.rewind();
+      initFromByteBuffer(rawdata);
+      return;
+    }
+    if (lengthOfPictureInBytes < 0 || lengthOfPictureInBytes > dataLength - rawdata.position()) {
+      throw new InvalidFrameException("Picture length " + lengthOfPictureInBytes + " but only " + (dataLength - rawdata.position()) +
+                                          " bytes left in block");
+    }
+    deferredImageData = new DeferredImageData(file, blockStart + rawdata.position(), lengthOfPictureInBytes);
+    fc.position(blockStart + dataLength);
+    LOG.log(TRACE, "Deferred image:%s", this);
   }
 
   /**
@@ -179,6 +232,18 @@ public class MetadataBlockDataPicture
   }
 
   public ByteBuffer getBytes() {
+    byte[] fields = getFieldBytes();
+    byte[] image = getImageData();
+    ByteBuffer buffer = ByteBuffer.allocate(fields.length + image.length);
+    buffer.put(fields).put(image);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * @return the block up to, but not including, the image data
+   */
+  public byte[] getFieldBytes() {
     try {
       ByteArrayOutputStream baos = new ByteArrayOutputStream();
       baos.write(Utils.getSizeBEInt32(pictureType));
@@ -190,17 +255,18 @@ public class MetadataBlockDataPicture
       baos.write(Utils.getSizeBEInt32(height));
       baos.write(Utils.getSizeBEInt32(colourDepth));
       baos.write(Utils.getSizeBEInt32(indexedColouredCount));
-      baos.write(Utils.getSizeBEInt32(imageData.length));
-      baos.write(imageData);
-      return ByteBuffer.wrap(baos.toByteArray());
-
+      baos.write(Utils.getSizeBEInt32(getImageDataLength()));
+      return baos.toByteArray();
     } catch (IOException ioe) {
       throw new RuntimeException(ioe.getMessage());
     }
   }
 
   public int getLength() {
-    return getBytes().limit();
+    return FIXED_FIELDS_LENGTH +
+        mimeType.getBytes(StandardCharsets.ISO_8859_1).length +
+        description.getBytes(StandardCharsets.UTF_8).length +
+        getImageDataLength();
   }
 
   public int getPictureType() {
@@ -231,8 +297,95 @@ public class MetadataBlockDataPicture
     return indexedColouredCount;
   }
 
+  /**
+   * Get the image data, reading it from the file first if it was left there when the block was read
+   *
+   * @return the image data
+   *
+   * @throws IllegalStateException if the image data can't be read from the file
+   */
   public byte[] getImageData() {
-    return imageData;
+    return deferredImageData != null ? deferredImageData.getImageData() : imageData;
+  }
+
+  /**
+   * @return the number of bytes of image data, without reading it from the file
+   */
+  public int getImageDataLength() {
+    if (deferredImageData != null) {
+      return deferredImageData.getImageDataLength();
+    }
+    return imageData != null ? imageData.length : lengthOfPictureInBytes;
+  }
+
+  /**
+   * @return true if the image data is still in the file, see {@link #getImageDataOffset()}
+   */
+  public boolean isImageDataDeferred() {
+    return deferredImageData != null && deferredImageData.isImageDataDeferred();
+  }
+
+  /**
+   * @return the image data left in the file when the block was read, which may since have been read, or null if it was read with
+   * the block
+   */
+  public DeferredImageData getDeferredImageData() {
+    return deferredImageData;
+  }
+
+  /**
+   * @return the file holding the image data if it hasn't been read yet, else null
+   */
+  public File getImageFile() {
+    return deferredImageData != null ? deferredImageData.getImageFile() : null;
+  }
+
+  /**
+   * @return where the image data starts in {@link #getImageFile()}, only meaningful while {@link #isImageDataDeferred()}
+   */
+  public long getImageDataOffset() {
+    return deferredImageData != null ? deferredImageData.getImageDataOffset() : 0;
+  }
+
+  /**
+   * Record that the image data, still not read, was moved within the file when the tag was saved
+   *
+   * @param file   the file now holding the image data
+   * @param offset where the image data now starts
+   */
+  public void setImageDataLocation(File file, long offset) {
+    if (deferredImageData != null) {
+      deferredImageData.setImageDataLocation(file, offset);
+    }
+  }
+
+  /**
+   * Update {@code digest} with the image data, reading it from the file through a direct buffer if it hasn't been read yet
+   *
+   * @param digest the digest to update
+   *
+   * @throws IOException if the file can't be read
+   */
+  public void digestImageData(MessageDigest digest) throws IOException {
+    if (deferredImageData != null) {
+      deferredImageData.digestImageData(digest);
+    } else if (imageData != null) {
+      digest.update(imageData);
+    }
+  }
+
+  /**
+   * Open a stream over the image data, reading it from the file if it hasn't been read yet, without holding all of it in memory
+   *
+   * @return a stream of the image data, the caller must close it
+   *
+   * @throws IOException if the file can't be opened
+   */
+  public InputStream openImageData() throws IOException {
+    if (deferredImageData != null) {
+      return deferredImageData.openImageData();
+    }
+    return new ByteArrayInputStream(imageData != null ? imageData : new byte[0]);
   }
 
   /**
@@ -257,7 +410,7 @@ public class MetadataBlockDataPicture
     return PictureTypes.getInstanceOf().getValue(pictureType) + ":" + mimeType + ":" + description + ":" +
         "width:" + width + ":height:" + height + ":colourdepth:" + colourDepth + ":indexedColourCount:" +
         indexedColouredCount
-        + ":image size in bytes:" + lengthOfPictureInBytes + "/" + imageData.length;
+        + ":image size in bytes:" + lengthOfPictureInBytes + "/" + getImageDataLength();
   }
 
   /**
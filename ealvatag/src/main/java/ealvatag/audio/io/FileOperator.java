@@ -23,7 +23,9 @@ import okio.Okio;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Read and write a target file. Unlike Okio's built-in {@linkplain Okio#source(java.io.File) file
@@ -40,10 +42,14 @@ import java.nio.channels.FileChannel;
 @SuppressWarnings("unused")
 public final class FileOperator {
     private static final int BUFFER_SIZE = 8192;
+    private static final int DIGEST_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_MOVE_BUFFER_SIZE = 1024 * 1024;
 
     private final byte[] byteArray = new byte[BUFFER_SIZE];
     private final ByteBuffer byteBuffer = ByteBuffer.wrap(byteArray);
     private final FileChannel fileChannel;
+    private ByteBuffer digestBuffer;
+    private ByteBuffer moveBuffer;
 
     public FileOperator(FileChannel fileChannel) {
         this.fileChannel = fileChannel;
@@ -107,4 +113,128 @@ public final class FileOperator {
             }
         }
     }
+
+    /**
+     * Same as {@link #read(long, Buffer, long)}, but if {@code byteCount} is at least {@code
+     * mapThreshold} the region is mapped and written to {@code sink} in one pass, rather than
+     * through many 8K positional reads and copies. Falls back to copying if {@code mapThreshold}
+     * is 0, the region is shorter, or it can't be mapped.
+     */
+    public void read(long pos, Buffer sink, long byteCount, long mapThreshold) throws IOException {
+        if (byteCount < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (mapThreshold > 0L && byteCount >= mapThreshold && byteCount <= Integer.MAX_VALUE
+                && pos + byteCount <= fileChannel.size()) {
+            MappedByteBuffer mapped = null;
+            try {
+                mapped = fileChannel.map(FileChannel.MapMode.READ_ONLY, pos, byteCount);
+            } catch (IOException | UnsupportedOperationException e) {
+                // some file systems and channels can't be mapped, copy instead
+            }
+            if (mapped != null) {
+                while (mapped.hasRemaining()) {
+                    sink.write(mapped);
+                }
+                return;
+            }
+        }
+        read(pos, sink, byteCount);
+    }
+
+    /**
+     * Copy {@code byteCount} bytes from the file at {@code pos} to {@code target}, starting at the
+     * target's current position and leaving it positioned after the copied bytes. The position of
+     * this file is not changed.
+     *
+     * <p>Bytes are copied with {@link FileChannel#transferTo} so the platform can move them without
+     * passing through the Java heap (sendfile or copy_file_range on Linux). At most {@code
+     * chunkSize} bytes are requested per call. Throws {@link EOFException} if the file ends before
+     * {@code byteCount} bytes have been copied.
+     */
+    public void transferTo(long pos, long byteCount, FileChannel target, long chunkSize)
+            throws IOException {
+        if (byteCount < 0 || chunkSize <= 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        while (byteCount > 0L) {
+            long transferred = fileChannel.transferTo(pos, Math.min(chunkSize, byteCount), target);
+            if (transferred <= 0L) {
+                throw new EOFException();
+            }
+            pos += transferred;
+            byteCount -= transferred;
+        }
+    }
+
+    /**
+     * Update {@code digest} with {@code byteCount} bytes of the file at {@code pos}. The position of
+     * this file is not changed.
+     *
+     * <p>Bytes are read into a direct buffer, allocated on first use and reused by later calls, so
+     * they are not copied into a heap array on the way from the file. Throws {@link EOFException}
+     * if the file ends before {@code byteCount} bytes have been read.
+     */
+    public void digest(long pos, long byteCount, MessageDigest digest) throws IOException {
+        if (byteCount < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (digestBuffer == null) {
+            digestBuffer = ByteBuffer.allocateDirect(DIGEST_BUFFER_SIZE);
+        }
+
+        while (byteCount > 0L) {
+            digestBuffer.clear();
+            digestBuffer.limit((int) Math.min(DIGEST_BUFFER_SIZE, byteCount));
+            if (fileChannel.read(digestBuffer, pos) == -1) {
+                throw new EOFException();
+            }
+            digestBuffer.flip();
+            int bytesRead = digestBuffer.remaining();
+            digest.update(digestBuffer);
+            pos += bytesRead;
+            byteCount -= bytesRead;
+        }
+    }
+
+    /**
+     * Move {@code byteCount} bytes within the file from {@code from} to {@code to}. The ranges may
+     * overlap: bytes are copied front to back when moving towards the start of the file and back to
+     * front otherwise, through a buffer of at most {@code chunkSize} bytes, capped at 1M. The buffer is
+     * kept for later moves by this operator.
+     */
+    public void move(long from, long to, long byteCount, int chunkSize) throws IOException {
+        if (byteCount < 0 || chunkSize <= 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (from == to || byteCount == 0L) {
+            return;
+        }
+
+        int bufferSize = (int) Math.min(Math.min(chunkSize, MAX_MOVE_BUFFER_SIZE), byteCount);
+        if (moveBuffer == null || moveBuffer.capacity() < bufferSize) {
+            moveBuffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+        ByteBuffer buffer = moveBuffer;
+        long remaining = byteCount;
+        while (remaining > 0L) {
+            int count = (int) Math.min(bufferSize, remaining);
+            long offset = to < from ? byteCount - remaining : remaining - count;
+
+            buffer.clear();
+            buffer.limit(count);
+            while (buffer.hasRemaining()) {
+                if (fileChannel.read(buffer, from + offset + buffer.position()) == -1) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                fileChannel.write(buffer, to + offset + buffer.position());
+            }
+            remaining -= count;
+        }
+    }
 }
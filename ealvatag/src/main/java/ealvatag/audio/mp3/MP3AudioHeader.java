@@ -86,12 +86,18 @@ import java.util.concurrent.TimeUnit;
   public static JLogger LOG = JLoggers.get(MP3AudioHeader.class, EalvaTagLog.MARKER);
 
   /**
-   * After testing the average location of the first MP3Header bit was at 5000 bytes so this is
-   * why chosen as a default.
+   * After testing the average location of the first MP3Header bit was at 5000 bytes. Historically this was the read buffer size and it
+   * still bounds the frame length of a believable header.
    */
   private final static int FILE_BUFFER_SIZE = 5000;
   private final static int MIN_BUFFER_REMAINING_REQUIRED =
       MPEGFrameHeader.HEADER_SIZE + XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
+  private final static int MAX_FRAME_LENGTH = FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED;
+  /**
+   * Bytes copied from the scan window for the Xing and Vbri parsers, enough to leave room for the optional LAME header after the Xing
+   * fields
+   */
+  private final static int XING_VBRI_COPY_SIZE = 2 * MIN_BUFFER_REMAINING_REQUIRED;
   private static final int NO_SECONDS_IN_HOUR = 3600;
 
   MP3AudioHeader(final FileOperator fileOperator, final long startByte, final String fileName) throws IOException,
@@ -116,84 +122,60 @@ import java.util.concurrent.TimeUnit;
    */
   public boolean seek(final FileOperator fileOperator, final long startByte, final String fileName)
       throws IOException {
-    //This is substantially faster than updating the filechannels position
-    long fileSize = fileOperator.getFileChannel().size();
-    long filePointerCount;
-
-    //Update filePointerCount
-    filePointerCount = startByte;
-
-    Buffer buffer = new Buffer();
-    //Read from here into the byte buffer , doesn't move location of filepointer
-    long byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
-    fileOperator.read(filePointerCount, buffer, byteCount);
+    final long fileSize = fileOperator.getFileChannel().size();
+    final MpegSyncScanner scanner = new MpegSyncScanner(fileOperator.getFileChannel(), fileSize);
 
-    boolean syncFound;
+    long filePointerCount = startByte;
+    boolean syncFound = false;
     try {
-      while (true) {
-        if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
-          buffer.clear();
-          byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
-          fileOperator.read(filePointerCount, buffer, byteCount);
-          if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
-            //No mp3 exists
-            return false;
+      // A candidate must be followed by more than MIN_BUFFER_REMAINING_REQUIRED bytes so any Xing/Vbri frame can be read
+      while ((filePointerCount = scanner.findSync(filePointerCount, MIN_BUFFER_REMAINING_REQUIRED + 1)) >= 0) {
+        LOG.log(TRACE, "Found Possible header at:%s", filePointerCount);
+        try {
+          mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(scanner.getInt(filePointerCount));
+
+          //if(2==1) use this line when you want to test getting the next frame without using xing
+
+          final Buffer xingFrameBuffer = XingFrame.isXingFrame(scanner.copy(filePointerCount, XING_VBRI_COPY_SIZE),
+                                                               mp3FrameHeader);
+          if (xingFrameBuffer != null) {
+            LOG.log(TRACE, "Found Possible XingHeader");
+            try {
+              mp3XingFrame = XingFrame.parseXingFrame(xingFrameBuffer);
+            } catch (InvalidAudioFrameException ex) {
+              // We Ignore because even if Xing Header is corrupted
+              //doesn't mean file is corrupted
+            }
+            syncFound = true;
+            break;
           }
-        }
 
-        if (MPEGFrameHeader.isMPEGFrame(buffer)) {  // doesn't move buffer position
-          try {
-            LOG.log(TRACE, "Found Possible header at:%s", filePointerCount);
-
-            mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(buffer);  // doesn't move buffer position
+          final Buffer vbriFrameBuffer = VbriFrame.isVbriFrame(scanner.copy(filePointerCount, XING_VBRI_COPY_SIZE));
+          if (vbriFrameBuffer != null) {
+            LOG.log(TRACE, "Found Possible VbriHeader");
+            mp3VbriFrame = VbriFrame.parseVBRIFrame(vbriFrameBuffer);
             syncFound = true;
+            break;
+          }
 
-            //if(2==1) use this line when you want to test getting the next frame without using xing
-
-            final Buffer xingFrameBuffer = XingFrame.isXingFrame(buffer.clone(), mp3FrameHeader);
-            if (xingFrameBuffer != null) {
-              LOG.log(TRACE, "Found Possible XingHeader");
-              try {
-                mp3XingFrame = XingFrame.parseXingFrame(xingFrameBuffer);
-                xingFrameBuffer.skip(xingFrameBuffer.size());
-              } catch (InvalidAudioFrameException ex) {
-                // We Ignore because even if Xing Header is corrupted
-                //doesn't mean file is corrupted
-              }
-              break;
-            }
-
-            final Buffer vbriFrameBuffer = VbriFrame.isVbriFrame(buffer.clone());
-            if (vbriFrameBuffer != null) {
-              LOG.log(TRACE, "Found Possible VbriHeader");
-              mp3VbriFrame = VbriFrame.parseVBRIFrame(vbriFrameBuffer);
-              vbriFrameBuffer.skip(vbriFrameBuffer.size());
-              break;
-            }
-
-            // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
-            // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
-            // forming a Xing frame header are very remote. On the basis that  most files these days have
-            // Xing headers we do an additional check for when an apparent frame header has been found
-            // but is not followed by a Xing Header:We check the next header this wont impose a large
-            // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
-            // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
-            // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
-            syncFound = isNextFrameValid(filePointerCount, buffer.clone(), fileOperator, fileName);
-            if (syncFound) {
-              break;
-            }
-
-          } catch (InvalidAudioFrameException ex) {
-            // We Ignore because likely to be incorrect sync bits ,
-            // will just continue in loop
+          // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
+          // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
+          // forming a Xing frame header are very remote. On the basis that  most files these days have
+          // Xing headers we do an additional check for when an apparent frame header has been found
+          // but is not followed by a Xing Header:We check the next header this wont impose a large
+          // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
+          // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
+          // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
+          if (isNextFrameValid(filePointerCount, scanner, fileName)) {
+            syncFound = true;
+            break;
           }
-        }
 
-        buffer.readByte();  // move 1 byte further in
+        } catch (InvalidAudioFrameException ex) {
+          // We Ignore because likely to be incorrect sync bits ,
+          // will just continue in loop
+        }
         filePointerCount++;
-
-
       }
     } catch (EOFException ex) {
       LOG.log(WARN, "Reached end of file without finding sync match", ex);
@@ -203,65 +185,57 @@ import java.util.concurrent.TimeUnit;
       throw iox;
     }
 
+    if (!syncFound) {
+      //No mp3 exists
+      return false;
+    }
+
     //Return to start of audio header
     LOG.log(TRACE, "Return found matching mp3 header starting at %s", filePointerCount);
-    setFileSize(fileOperator.getFileChannel().size());
+    setFileSize(fileSize);
     setMp3StartByte(filePointerCount);
     setTimePerFrame();
     setNumberOfFrames();
     setTrackLength();
     setBitRate();
     setEncoder();
-    return syncFound;
+    return true;
   }
 
-  private boolean isNextFrameValid(long filePointerCount, Buffer bb, FileOperator fileOperator, final String seekFileName)
+  private boolean isNextFrameValid(final long filePointerCount, final MpegSyncScanner scanner, final String seekFileName)
       throws IOException {
+    final int frameLength = mp3FrameHeader.getFrameLength();
     LOG.log(TRACE, "Checking next frame %s:fpc:%sskipping to:%s",
             seekFileName,
             filePointerCount,
-            (filePointerCount + mp3FrameHeader.getFrameLength()));
-    boolean result = false;
+            (filePointerCount + frameLength));
 
-    final long fileSize = fileOperator.getFileChannel().size();
-
-    //Our buffer is not large enough to fit in the whole of this frame, something must
-    //have gone wrong because frames are not this large, so just return false
+    //Frames are not this large, something must have gone wrong so just return false
     //bad frame header
-    if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED)) {
-      LOG.log(DEBUG, "Frame size is too large to be a frame:%s", mp3FrameHeader.getFrameLength());
+    if (frameLength > MAX_FRAME_LENGTH) {
+      LOG.log(DEBUG, "Frame size is too large to be a frame:%s", frameLength);
       return false;
     }
 
-    //Check for end of buffer if not enough room get some more
-    if (bb.size() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
-      LOG.log(DEBUG, "Buffer too small, need to reload, buffer size:%s", bb.size());
-      bb.clear();
-      final long byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
-      fileOperator.read(filePointerCount, bb, byteCount);
-      //Not enough left
-      if (bb.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
-        //No mp3 exists
-        LOG.log(DEBUG, "Nearly at end of file, no header found:");
-        return false;
-      }
+    //Keep the current candidate in the window, the search continues from there if the next frame isn't valid
+    if (!scanner.ensure(filePointerCount, frameLength + MPEGFrameHeader.HEADER_SIZE)) {
+      LOG.log(DEBUG, "Nearly at end of file, no header found:");
+      return false;
     }
 
-    //Position bb to the start of the alleged next frame
-    bb.skip(mp3FrameHeader.getFrameLength());
-    if (MPEGFrameHeader.isMPEGFrame(bb)) {
-      try {
-        MPEGFrameHeader.parseMPEGHeader(bb);
+    final long nextFrame = filePointerCount + frameLength;
+    if (scanner.isSync(nextFrame)) {
+      if (MPEGFrameHeader.isValidHeader(scanner.getInt(nextFrame))) {
         LOG.log(DEBUG, "Check next frame confirms is an audio header ");
-        result = true;
-      } catch (InvalidAudioFrameException ex) {
+        return true;
+      } else {
         LOG.log(DEBUG, "Check next frame has identified this is not an audio header");
-        result = false;
+        return false;
       }
     } else {
       LOG.log(DEBUG, "isMPEGFrame has identified this is not an audio header");
+      return false;
     }
-    return result;
   }
 
   /**
@@ -326,7 +300,7 @@ import java.util.concurrent.TimeUnit;
    * the number of samples is fixed by the MPEG Version and Layer
    */
   private void setTimePerFrame() {
-    timePerFrame = mp3FrameHeader.getNoOfSamples() / mp3FrameHeader.getSamplingRate().doubleValue();
+    timePerFrame = mp3FrameHeader.getNoOfSamples() / (double)mp3FrameHeader.getSamplingRate();
 
     //Because when calculating framelength we may have altered the calculation slightly for MPEGVersion2
     //to account for mono/stereo we seem to have to make a corresponding modification to get the correct time
@@ -539,7 +513,7 @@ import java.util.concurrent.TimeUnit;
 
   @Override
   public long getAudioDataStartPosition() {
-    return audioDataStartPosition;
+    return audioDataStartPosition == null ? 0 : audioDataStartPosition;
   }
 
   public void setAudioDataStartPosition(Long audioDataStartPosition) {
@@ -548,7 +522,7 @@ import java.util.concurrent.TimeUnit;
 
   @Override
   public long getAudioDataEndPosition() {
-    return audioDataEndPosition;
+    return audioDataEndPosition == null ? 0 : audioDataEndPosition;
   }
 
   public void setAudioDataEndPosition(Long audioDataEndPosition) {
@@ -27,6 +27,8 @@ import com.google.common.io.Files;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFileImpl;
+import ealvatag.audio.NullAudioHeader;
+import ealvatag.audio.SaveMode;
 import ealvatag.audio.UnsupportedFileType;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
@@ -53,6 +55,7 @@ import ealvatag.tag.id3.ID3v22Tag;
 import ealvatag.tag.id3.ID3v23Tag;
 import ealvatag.tag.id3.ID3v24Tag;
 import ealvatag.tag.id3.Id3v2Header;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.lyrics3.AbstractLyrics3;
 import okio.Buffer;
 
@@ -70,6 +73,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.util.Locale;
 
 /**
@@ -84,8 +88,10 @@ public class MP3File extends AudioFileImpl {
    * This option is currently ignored
    */
   private static final int LOAD_LYRICS3 = 8;
+  /* Search for the first MPEG frame and read the audio header, without it the file cannot be written */
+  static final int LOAD_AUDIO_HEADER = 16;
 
-  private static final int LOAD_ALL = LOAD_IDV1TAG | LOAD_IDV2TAG | LOAD_LYRICS3;
+  private static final int LOAD_ALL = LOAD_IDV1TAG | LOAD_IDV2TAG | LOAD_LYRICS3 | LOAD_AUDIO_HEADER;
   private static final JLogger LOG = JLoggers.get(MP3File.class, EalvaTagLog.MARKER);
   private static final int MINIMUM_FILESIZE = 150;
 
@@ -148,6 +154,10 @@ public class MP3File extends AudioFileImpl {
       final int v2TagHeaderSize = AbstractID3v2Tag.TAG_HEADER_LENGTH;
       if (v2HeaderOptional.isPresent()) {
         audioStart = v2HeaderOptional.get().getTagSize() + v2TagHeaderSize;
+      }
+      if ((loadOptions & LOAD_AUDIO_HEADER) == 0) {
+        audioHeader = NullAudioHeader.INSTANCE;
+      } else if (v2HeaderOptional.isPresent()) {
         MP3AudioHeader mp3AudioHeader = new MP3AudioHeader(fileOperator, audioStart, file.getPath());
 
         //If the audio header is not straight after the end of the tag then search from start of file
@@ -165,16 +175,22 @@ public class MP3File extends AudioFileImpl {
         final Id3v2Header header = v2HeaderOptional.get();
         Buffer buffer = new Buffer();
         // TODO: 1/26/17 Remove the "- v2TaqHeaderSize" from the number of bytes read to see about some tag data reading too far
-        fileOperator.read(v2TagHeaderSize, buffer, audioStart - v2TagHeaderSize);
+        fileOperator.read(v2TagHeaderSize,
+                          buffer,
+                          audioStart - v2TagHeaderSize,
+                          TagOptionSingleton.getInstance().getMappedReadThreshold());
+        // the buffer runs up to the audio, so image data can be located in the file from what's left in the buffer
+        final DeferredImageData.Locator artworkLocator =
+            TagOptionSingleton.getInstance().isLazyArtwork() ? new DeferredImageData.Locator(file, buffer, audioStart) : null;
         switch (header.getMajorVersion()) {
           case ID3v22Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v22Tag(buffer, header, file.getPath(), ignoreArtwork));
+            setID3v2Tag(new ID3v22Tag(buffer, header, file.getPath(), ignoreArtwork, artworkLocator));
             break;
           case ID3v23Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v23Tag(buffer, header, file.getPath(), ignoreArtwork));
+            setID3v2Tag(new ID3v23Tag(buffer, header, file.getPath(), ignoreArtwork, artworkLocator));
             break;
           case ID3v24Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v24Tag(buffer, header, file.getPath(), ignoreArtwork));
+            setID3v2Tag(new ID3v24Tag(buffer, header, file.getPath(), ignoreArtwork, artworkLocator));
             break;
         }
       }
@@ -389,7 +405,7 @@ public class MP3File extends AudioFileImpl {
    * @param outputFile to write the data to
    */
   public File extractID3v2TagDataIntoFile(File outputFile) throws TagNotFoundException, IOException {
-    int startByte = (int)((MP3AudioHeader)audioHeader).getMp3StartByte();
+    int startByte = (int)getMP3AudioHeader().getMp3StartByte();
     if (startByte >= 0) {
 
       //Read byte into buffer
@@ -425,6 +441,7 @@ public class MP3File extends AudioFileImpl {
    * Return audio header
    */
   public MP3AudioHeader getMP3AudioHeader() {
+    checkState(audioHeader instanceof MP3AudioHeader, "Audio header was not read");
     return (MP3AudioHeader)getAudioHeader();
   }
 
@@ -658,12 +675,18 @@ public class MP3File extends AudioFileImpl {
   }
 
   public void save() throws CannotWriteException {
+    checkReadOnly();
+    fileWillBeModified(false);
+    final TagOptionSingleton.Scope scope = useTagOptions();
     try {
       saveMp3();
     } catch (UnableToModifyFileException umfe) {
       throw new NoWritePermissionsException(umfe);
     } catch (IOException | TagException ioe) {
       throw new CannotWriteException(ioe);
+    } finally {
+      scope.close();
+      fileOperationFinished();
     }
   }
 
@@ -674,7 +697,7 @@ public class MP3File extends AudioFileImpl {
    * @throws TagException on any exception generated by this library.
    */
   public void saveMp3() throws IOException, TagException {
-    saveMp3(this.file);
+    lastSaveMode = saveMp3(this.file);
   }
 
   /**
@@ -683,10 +706,13 @@ public class MP3File extends AudioFileImpl {
    *
    * @param fileToSave file to save the this dataTypes tags to
    *
+   * @return {@link SaveMode#IN_PLACE} if the ID3v2 tag fit within the existing tag and padding, {@link SaveMode#REWRITE} if the
+   * audio had to be moved
+   *
    * @throws FileNotFoundException if unable to find file
    * @throws IOException           on any I/O error
    */
-  private void saveMp3(File fileToSave) throws IOException {
+  private SaveMode saveMp3(File fileToSave) throws IOException {
     //Ensure we are dealing with absolute filepaths not relative ones
     File file = fileToSave.getAbsoluteFile();
 
@@ -695,79 +721,123 @@ public class MP3File extends AudioFileImpl {
     //Checks before starting write
     precheck(file);
 
-    RandomAccessFile rfile = null;
-    try {
-      //ID3v2 Tag
-      if (TagOptionSingleton.getInstance().isId3v2Save()) {
-        if (id3v2tag == null) {
-          rfile = new RandomAccessFile(file, "rw");
-          (new ID3v24Tag()).delete(rfile);
-          (new ID3v23Tag()).delete(rfile);
-          (new ID3v22Tag()).delete(rfile);
-          LOG.log(TRACE, "Deleting ID3v2 tag:%s", file);
-          rfile.close();
-        } else {
-          LOG.log(TRACE, "Writing ID3v2 tag:%s", file);
-          final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader)this.getAudioHeader();
-          final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
-          final long newMp3StartByte = id3v2tag.write(file, mp3StartByte);
-          if (mp3StartByte != newMp3StartByte) {
-            LOG.log(TRACE, "New mp3 start byte: %s", newMp3StartByte);
-            mp3AudioHeader.setMp3StartByte(newMp3StartByte);
-          }
-
+    // One open and one lock for every tag. The ID3v2 tag is written at the head, then the Lyrics3 and ID3v1 tags at the tail. If the
+    // ID3v2 tag no longer fits before the audio, the audio is moved within the file when its identity is to be preserved. Otherwise the
+    // tags and audio are written to a new file which then replaces the original, so a crash can't leave the audio half moved.
+    SaveMode saveMode = SaveMode.IN_PLACE;
+    final AbstractID3v2Tag.Replacement replacement =
+        TagOptionSingleton.getInstance().isPreserveFileIdentity() ? null : new AbstractID3v2Tag.Replacement(file);
+    File newFile = null;
+    try (RandomAccessFile rfile = openForWriting(file)) {
+      final FileLock fileLock = AbstractID3v2Tag.getFileLockForWriting(rfile.getChannel(), file.getPath());
+      try {
+        if (rfile.length() <= MINIMUM_FILESIZE) {
+          LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL, file.getName());
+          throw new IOException(String.format(Locale.getDefault(),
+                                              ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL,
+                                              file.getName()));
         }
-      }
-      rfile = new RandomAccessFile(file, "rw");
 
-      //Lyrics 3 Tag
-      if (TagOptionSingleton.getInstance().isLyrics3Save()) {
-        if (lyrics3tag != null) {
-          lyrics3tag.write(rfile);
+        //ID3v2 Tag
+        if (TagOptionSingleton.getInstance().isId3v2Save()) {
+          if (id3v2tag == null) {
+            (new ID3v24Tag()).delete(rfile);
+            (new ID3v23Tag()).delete(rfile);
+            (new ID3v22Tag()).delete(rfile);
+            LOG.log(TRACE, "Deleting ID3v2 tag:%s", file);
+          } else {
+            LOG.log(TRACE, "Writing ID3v2 tag:%s", file);
+            final MP3AudioHeader mp3AudioHeader = getMP3AudioHeader();
+            final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
+            final long newMp3StartByte = id3v2tag.write(rfile.getChannel(), file.getName(), mp3StartByte, replacement);
+            if (mp3StartByte != newMp3StartByte) {
+              LOG.log(TRACE, "New mp3 start byte: %s", newMp3StartByte);
+              mp3AudioHeader.setMp3StartByte(newMp3StartByte);
+              saveMode = SaveMode.REWRITE;
+              if (replacement != null) {
+                newFile = replacement.getNewFile();
+              }
+            }
+
+          }
         }
-      }
-      //ID3v1 tag
-      if (TagOptionSingleton.getInstance().isId3v1Save()) {
-        LOG.log(TRACE, "Processing ID3v1");
-        if (id3v1tag == null) {
-          LOG.log(TRACE, "Deleting ID3v1");
-          (new ID3v1Tag()).delete(rfile);
+
+        if (newFile != null) {
+          try (RandomAccessFile newRfile = openForWriting(newFile)) {
+            writeTailTags(newRfile);
+            newRfile.getChannel().force(false);
+          }
         } else {
-          LOG.log(TRACE, "Saving ID3v1");
-          id3v1tag.write(rfile);
+          writeTailTags(rfile);
+          rfile.getChannel().force(false);
+        }
+      } finally {
+        if (fileLock != null) {
+          fileLock.release();
         }
       }
-    } catch (FileNotFoundException ex) {
-      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND, file, ex);
-      throw ex;
     } catch (IOException | RuntimeException iex) {
       LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE, file, iex);
+      if (replacement != null) {
+        replacement.delete();
+      }
       throw iex;
-    } finally {
-      if (rfile != null) {
-        rfile.close();
+    }
+    if (replacement != null) {
+      replacement.replaceOriginal();
+    }
+    return saveMode;
+  }
+
+  /**
+   * Write the Lyrics3 and ID3v1 tags at the end of the file
+   */
+  private void writeTailTags(RandomAccessFile rfile) throws IOException {
+    //Lyrics 3 Tag
+    if (TagOptionSingleton.getInstance().isLyrics3Save()) {
+      if (lyrics3tag != null) {
+        lyrics3tag.write(rfile);
+      }
+    }
+    //ID3v1 tag
+    if (TagOptionSingleton.getInstance().isId3v1Save()) {
+      LOG.log(TRACE, "Processing ID3v1");
+      if (id3v1tag == null) {
+        LOG.log(TRACE, "Deleting ID3v1");
+        (new ID3v1Tag()).delete(rfile);
+      } else {
+        LOG.log(TRACE, "Saving ID3v1");
+        id3v1tag.write(rfile);
       }
     }
   }
 
   /**
-   * Check can write to file
+   * Open the file to save to, only going back to the file system to find out why if it can't be
    */
-  private void precheck(File file) throws IOException {
-    if (!file.exists()) {
-      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND, file);
-      throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND, file.getName()));
+  private RandomAccessFile openForWriting(File file) throws IOException {
+    try {
+      return AbstractID3v2Tag.openForWriting(file);
+    } catch (IOException e) {
+      if (!file.exists()) {
+        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND, file);
+        throw new FileNotFoundException(String.format(Locale.getDefault(),
+                                                      ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND,
+                                                      file.getName()));
+      }
+      throw e;
     }
+  }
 
+  /**
+   * Check can write to file. Only done if asked for by {@link TagOptionSingleton#isCheckIsWritable()}, opening the file for writing is
+   * the check otherwise
+   */
+  private void precheck(File file) throws IOException {
     if (TagOptionSingleton.getInstance().isCheckIsWritable() && !file.canWrite()) {
       LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED, file.getName());
       throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED, file.getName()));
     }
-
-    if (file.length() <= MINIMUM_FILESIZE) {
-      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL, file.getName());
-      throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL, file.getName()));
-    }
   }
 
   /**
@@ -3,20 +3,37 @@ package ealvatag.audio.mp3;
 import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.SupportedFileFormat;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.tag.TagException;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.utils.StandardCharsets;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Read Mp3 Info (retrofitted to entagged ,done differently to entagged which is why some methods throw RuntimeException)
  * because done elsewhere
  */
 public class MP3FileReader extends AudioFileReader {
+    private static final String ID3V1_ID = "TAG";
+    private static final int ID3V1_LENGTH = 128;
+    private static final String LYRICS3V2_END = "LYRICS200";
+    /** 6 digit size followed by {@link #LYRICS3V2_END} */
+    private static final int LYRICS3V2_FOOTER_LENGTH = 15;
+    private static final String APE_ID = "APETAGEX";
+    private static final int APE_FOOTER_LENGTH = 32;
+    private static final int APE_HAS_HEADER = 0x80000000;
+
     protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
@@ -25,11 +42,93 @@ public class MP3FileReader extends AudioFileReader {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
 
-    public AudioFile read(File f, final String extension, final boolean ignoreArtwork) throws IOException,
-                                                                                              TagException,
-                                                                                              CannotReadException,
-                                                                                              InvalidAudioFrameException {
-        return new MP3File(f, extension, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, ignoreArtwork);
+    public AudioFile read(File f, final String extension, final ReadOptions options) throws IOException,
+                                                                                            TagException,
+                                                                                            CannotReadException,
+                                                                                            InvalidAudioFrameException {
+        int loadOptions = MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG;
+        if (!options.isIgnoreAudioHeader()) {
+            loadOptions |= MP3File.LOAD_AUDIO_HEADER;
+        }
+        return new MP3File(f, extension, loadOptions, options.isIgnoreArtwork());
+    }
+
+    /**
+     * Digest from the first audio frame up to any APEv2, Lyrics3v2 or ID3v1 tags at the end of the file
+     */
+    @Override protected void digestAudioPayload(final RandomAccessFile raf, final File file, final MessageDigest digest)
+            throws CannotReadException, IOException {
+        final long audioStart;
+        try {
+            audioStart = new MP3File(file, SupportedFileFormat.MP3.getFileSuffix(), MP3File.LOAD_IDV2TAG | MP3File.LOAD_AUDIO_HEADER, true)
+                    .getMP3AudioHeader()
+                    .getMp3StartByte();
+        } catch (TagException | InvalidAudioFrameException e) {
+            throw new CannotReadException(e, "Unable to find start of audio in " + file);
+        }
+        final FileChannel channel = raf.getChannel();
+        new FileOperator(channel).digest(audioStart, findAudioEnd(channel, audioStart) - audioStart, digest);
+    }
+
+    /**
+     * Step back over the tags which may be appended to the audio, in whichever order they were written
+     */
+    private static long findAudioEnd(final FileChannel channel, final long audioStart) throws IOException {
+        long end = channel.size();
+        while (true) {
+            final ByteBuffer id3v1 = readBefore(channel, end, ID3V1_LENGTH, audioStart);
+            if (id3v1 != null && ID3V1_ID.equals(readString(id3v1, ID3V1_ID.length()))) {
+                end -= ID3V1_LENGTH;
+                continue;
+            }
+            final ByteBuffer lyrics = readBefore(channel, end, LYRICS3V2_FOOTER_LENGTH, audioStart);
+            if (lyrics != null) {
+                final String size = readString(lyrics, LYRICS3V2_FOOTER_LENGTH - LYRICS3V2_END.length());
+                if (LYRICS3V2_END.equals(readString(lyrics, LYRICS3V2_END.length())) && size.matches("\\d{6}")) {
+                    end -= Integer.parseInt(size) + LYRICS3V2_FOOTER_LENGTH;
+                    continue;
+                }
+            }
+            final ByteBuffer ape = readBefore(channel, end, APE_FOOTER_LENGTH, audioStart);
+            if (ape != null && APE_ID.equals(readString(ape, APE_ID.length()))) {
+                ape.order(ByteOrder.LITTLE_ENDIAN);
+                ape.getInt();    // version
+                final long size = ape.getInt() & 0xFFFFFFFFL;
+                ape.getInt();    // item count
+                final int flags = ape.getInt();
+                // the size includes the footer, anything less and it isn't really a tag
+                if (size >= APE_FOOTER_LENGTH) {
+                    end -= size + ((flags & APE_HAS_HEADER) != 0 ? APE_FOOTER_LENGTH : 0);
+                    continue;
+                }
+            }
+            return Math.max(end, audioStart);
+        }
+    }
+
+    /**
+     * @return the {@code length} bytes before {@code end}, or null if they would start before {@code audioStart}
+     */
+    private static ByteBuffer readBefore(final FileChannel channel, final long end, final int length, final long audioStart)
+            throws IOException {
+        final long start = end - length;
+        if (start < audioStart) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) == -1) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String readString(final ByteBuffer buffer, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
     }
 
 }
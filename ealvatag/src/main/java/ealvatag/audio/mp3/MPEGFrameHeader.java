@@ -7,31 +7,24 @@
  */
 package ealvatag.audio.mp3;
 
-import ealvatag.tag.id3.FileConstants;
+import com.google.common.collect.ImmutableMap;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
 import ealvatag.logging.AbstractTagDisplayFormatter;
 import okio.Buffer;
 
-import java.io.EOFException;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
 import java.util.Map;
 
 
 /**
  * Represents a MPEGFrameHeader, an MP3 is made up of a number of frames each frame starts with a four
  * byte frame header.
+ * <p>
+ * The four header bytes are packed, big endian, into a single int and every field is decoded from that int using primitive lookup
+ * tables. Instances are immutable and parsing uses no shared mutable state, so headers may be parsed concurrently from any number of
+ * threads.
  */
-@SuppressWarnings({"PointlessArithmeticExpression"})
 public class MPEGFrameHeader {
-    /**
-     * Constants for MP3 Frame header, each frame has a basic header of
-     * 4 bytes
-     */
-    private static final int BYTE_1 = 0;
-    private static final int BYTE_2 = 1;
-    private static final int BYTE_3 = 2;
-    private static final int BYTE_4 = 3;
     public static final int HEADER_SIZE = 4;
 
     /**
@@ -43,36 +36,29 @@ public class MPEGFrameHeader {
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
-
     /**
      * Constants for MPEG Version
      */
-    public static final Map<Integer, String> mpegVersionMap = new HashMap<Integer, String>();
     public final static int VERSION_2_5 = 0;
     public final static int VERSION_2 = 2;
     public final static int VERSION_1 = 3;
-
-    static {
-        mpegVersionMap.put(VERSION_2_5, "MPEG-2.5");
-        mpegVersionMap.put(VERSION_2, "MPEG-2");
-        mpegVersionMap.put(VERSION_1, "MPEG-1");
-    }
+    /** Indexed by version, null entries are reserved/invalid */
+    private static final String[] VERSION_NAMES = {"MPEG-2.5", null, "MPEG-2", "MPEG-1"};
+    public static final Map<Integer, String> mpegVersionMap = ImmutableMap.of(VERSION_2_5, VERSION_NAMES[VERSION_2_5],
+                                                                              VERSION_2, VERSION_NAMES[VERSION_2],
+                                                                              VERSION_1, VERSION_NAMES[VERSION_1]);
 
     /**
      * Constants for MPEG Layer
      */
-    public static final Map<Integer, String> mpegLayerMap = new HashMap<Integer, String>();
     public final static int LAYER_I = 3;
     public final static int LAYER_II = 2;
     public final static int LAYER_III = 1;
-
-    static {
-        mpegLayerMap.put(LAYER_I, "Layer 1");
-        mpegLayerMap.put(LAYER_II, "Layer 2");
-        mpegLayerMap.put(LAYER_III, "Layer 3");
-    }
+    /** Indexed by layer, null entries are reserved/invalid */
+    private static final String[] LAYER_NAMES = {null, "Layer 3", "Layer 2", "Layer 1"};
+    public static final Map<Integer, String> mpegLayerMap = ImmutableMap.of(LAYER_I, LAYER_NAMES[LAYER_I],
+                                                                            LAYER_II, LAYER_NAMES[LAYER_II],
+                                                                            LAYER_III, LAYER_NAMES[LAYER_III]);
 
     /**
      * Slot Size is dependent on Layer
@@ -82,356 +68,135 @@ public class MPEGFrameHeader {
     public final static int LAYER_III_SLOT_SIZE = 1;
 
     /**
-     * Bit Rates, the setBitrate varies for different Version and Layer
-     */
-    private static final Map<Integer, Integer> bitrateMap = new HashMap<Integer, Integer>();
-
-    static {
-        // MPEG-1, Layer I (E)
-        bitrateMap.put(0x1E, 32);
-        bitrateMap.put(0x2E, 64);
-        bitrateMap.put(0x3E, 96);
-        bitrateMap.put(0x4E, 128);
-        bitrateMap.put(0x5E, 160);
-        bitrateMap.put(0x6E, 192);
-        bitrateMap.put(0x7E, 224);
-        bitrateMap.put(0x8E, 256);
-        bitrateMap.put(0x9E, 288);
-        bitrateMap.put(0xAE, 320);
-        bitrateMap.put(0xBE, 352);
-        bitrateMap.put(0xCE, 384);
-        bitrateMap.put(0xDE, 416);
-        bitrateMap.put(0xEE, 448);
-        // MPEG-1, Layer II (C)
-        bitrateMap.put(0x1C, 32);
-        bitrateMap.put(0x2C, 48);
-        bitrateMap.put(0x3C, 56);
-        bitrateMap.put(0x4C, 64);
-        bitrateMap.put(0x5C, 80);
-        bitrateMap.put(0x6C, 96);
-        bitrateMap.put(0x7C, 112);
-        bitrateMap.put(0x8C, 128);
-        bitrateMap.put(0x9C, 160);
-        bitrateMap.put(0xAC, 192);
-        bitrateMap.put(0xBC, 224);
-        bitrateMap.put(0xCC, 256);
-        bitrateMap.put(0xDC, 320);
-        bitrateMap.put(0xEC, 384);
-        // MPEG-1, Layer III (A)
-        bitrateMap.put(0x1A, 32);
-        bitrateMap.put(0x2A, 40);
-        bitrateMap.put(0x3A, 48);
-        bitrateMap.put(0x4A, 56);
-        bitrateMap.put(0x5A, 64);
-        bitrateMap.put(0x6A, 80);
-        bitrateMap.put(0x7A, 96);
-        bitrateMap.put(0x8A, 112);
-        bitrateMap.put(0x9A, 128);
-        bitrateMap.put(0xAA, 160);
-        bitrateMap.put(0xBA, 192);
-        bitrateMap.put(0xCA, 224);
-        bitrateMap.put(0xDA, 256);
-        bitrateMap.put(0xEA, 320);
-        // MPEG-2, Layer I (6)
-        bitrateMap.put(0x16, 32);
-        bitrateMap.put(0x26, 48);
-        bitrateMap.put(0x36, 56);
-        bitrateMap.put(0x46, 64);
-        bitrateMap.put(0x56, 80);
-        bitrateMap.put(0x66, 96);
-        bitrateMap.put(0x76, 112);
-        bitrateMap.put(0x86, 128);
-        bitrateMap.put(0x96, 144);
-        bitrateMap.put(0xA6, 160);
-        bitrateMap.put(0xB6, 176);
-        bitrateMap.put(0xC6, 192);
-        bitrateMap.put(0xD6, 224);
-        bitrateMap.put(0xE6, 256);
-        // MPEG-2, Layer II (4)
-        bitrateMap.put(0x14, 8);
-        bitrateMap.put(0x24, 16);
-        bitrateMap.put(0x34, 24);
-        bitrateMap.put(0x44, 32);
-        bitrateMap.put(0x54, 40);
-        bitrateMap.put(0x64, 48);
-        bitrateMap.put(0x74, 56);
-        bitrateMap.put(0x84, 64);
-        bitrateMap.put(0x94, 80);
-        bitrateMap.put(0xA4, 96);
-        bitrateMap.put(0xB4, 112);
-        bitrateMap.put(0xC4, 128);
-        bitrateMap.put(0xD4, 144);
-        bitrateMap.put(0xE4, 160);
-        // MPEG-2, Layer III (2)
-        bitrateMap.put(0x12, 8);
-        bitrateMap.put(0x22, 16);
-        bitrateMap.put(0x32, 24);
-        bitrateMap.put(0x42, 32);
-        bitrateMap.put(0x52, 40);
-        bitrateMap.put(0x62, 48);
-        bitrateMap.put(0x72, 56);
-        bitrateMap.put(0x82, 64);
-        bitrateMap.put(0x92, 80);
-        bitrateMap.put(0xA2, 96);
-        bitrateMap.put(0xB2, 112);
-        bitrateMap.put(0xC2, 128);
-        bitrateMap.put(0xD2, 144);
-        bitrateMap.put(0xE2, 160);
-    }
+     * Bit Rates in kbps, indexed by [MPEG-1 flag][layer][bitrate index]. MPEG-2 and MPEG-2.5 share a table. Zero is an invalid
+     * entry: the free format index 0, the bad index 15 and the reserved layer 0.
+     */
+    private static final int[][][] BITRATES = {
+            // MPEG-2/MPEG-2.5
+            {
+                    {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                    // Layer III
+                    {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160, 0},
+                    // Layer II
+                    {0, 8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160, 0},
+                    // Layer I
+                    {0, 32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256, 0}
+            },
+            // MPEG-1
+            {
+                    {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+                    // Layer III
+                    {0, 32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 0},
+                    // Layer II
+                    {0, 32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384, 0},
+                    // Layer I
+                    {0, 32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448, 0}
+            }
+    };
 
     /**
      * Constants for Channel mode
      */
-    public static final Map<Integer, String> modeMap = new HashMap<Integer, String>();
     public final static int MODE_STEREO = 0;
     public final static int MODE_JOINT_STEREO = 1;
     public final static int MODE_DUAL_CHANNEL = 2;
     public final static int MODE_MONO = 3;
-
-    static {
-        modeMap.put(MODE_STEREO, "Stereo");
-        modeMap.put(MODE_JOINT_STEREO, "Joint Stereo");
-        modeMap.put(MODE_DUAL_CHANNEL, "Dual");
-        modeMap.put(MODE_MONO, "Mono");
-    }
+    private static final String[] MODE_NAMES = {"Stereo", "Joint Stereo", "Dual", "Mono"};
+    public static final Map<Integer, String> modeMap = ImmutableMap.of(MODE_STEREO, MODE_NAMES[MODE_STEREO],
+                                                                       MODE_JOINT_STEREO, MODE_NAMES[MODE_JOINT_STEREO],
+                                                                       MODE_DUAL_CHANNEL, MODE_NAMES[MODE_DUAL_CHANNEL],
+                                                                       MODE_MONO, MODE_NAMES[MODE_MONO]);
+    private static final int[] CHANNEL_COUNTS = {2, 2, 2, 1};
 
     /**
      * Constants for Emphasis
      */
-    private static final Map<Integer, String> emphasisMap = new HashMap<Integer, String>();
     public final static int EMPHASIS_NONE = 0;
     public final static int EMPHASIS_5015MS = 1;
     public final static int EMPHASIS_RESERVED = 2;
     public final static int EMPHASIS_CCITT = 3;
-
-    static {
-        emphasisMap.put(EMPHASIS_NONE, "None");
-        emphasisMap.put(EMPHASIS_5015MS, "5015MS");
-        emphasisMap.put(EMPHASIS_RESERVED, "Reserved");
-        emphasisMap.put(EMPHASIS_CCITT, "CCITT");
-    }
-
-
-    private static final Map<Integer, String> modeExtensionMap = new HashMap<Integer, String>();
-    private final static int MODE_EXTENSION_NONE = 0;
-    private final static int MODE_EXTENSION_ONE = 1;
-    private final static int MODE_EXTENSION_TWO = 2;
-    private final static int MODE_EXTENSION_THREE = 3;
-
-    private static final Map<Integer, String> modeExtensionLayerIIIMap = new HashMap<Integer, String>();
-    private final static int MODE_EXTENSION_OFF_OFF = 0;
-    private final static int MODE_EXTENSION_ON_OFF = 1;
-    private final static int MODE_EXTENSION_OFF_ON = 2;
-    private final static int MODE_EXTENSION_ON_ON = 3;
-
-    static {
-        modeExtensionMap.put(MODE_EXTENSION_NONE, "4-31");
-        modeExtensionMap.put(MODE_EXTENSION_ONE, "8-31");
-        modeExtensionMap.put(MODE_EXTENSION_TWO, "12-31");
-        modeExtensionMap.put(MODE_EXTENSION_THREE, "16-31");
-
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_OFF_OFF, "off-off");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_ON_OFF, "on-off");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_OFF_ON, "off-on");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_ON_ON, "on-on");
-    }
-
-    /**
-     * Sampling Rate in Hz
-     */
-    private static final Map<Integer, Map<Integer, Integer>> samplingRateMap = new HashMap<Integer, Map<Integer, Integer>>();
-    private static final Map<Integer, Integer> samplingV1Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplingV2Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplingV25Map = new HashMap<Integer, Integer>();
-
-    static {
-        samplingV1Map.put(0, 44100);
-        samplingV1Map.put(1, 48000);
-        samplingV1Map.put(2, 32000);
-
-        samplingV2Map.put(0, 22050);
-        samplingV2Map.put(1, 24000);
-        samplingV2Map.put(2, 16000);
-
-        samplingV25Map.put(0, 11025);
-        samplingV25Map.put(1, 12000);
-        samplingV25Map.put(2, 8000);
-
-        samplingRateMap.put(VERSION_1, samplingV1Map);
-        samplingRateMap.put(VERSION_2, samplingV2Map);
-        samplingRateMap.put(VERSION_2_5, samplingV25Map);
-    }
-
-    /* Samples Per Frame */
-    private static final Map<Integer, Map<Integer, Integer>> samplesPerFrameMap = new HashMap<Integer, Map<Integer, Integer>>();
-    private static final Map<Integer, Integer> samplesPerFrameV1Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplesPerFrameV2Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplesPerFrameV25Map = new HashMap<Integer, Integer>();
-
-    static {
-        samplesPerFrameV1Map.put(LAYER_I, 384);
-        samplesPerFrameV1Map.put(LAYER_II, 1152);
-        samplesPerFrameV1Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV2Map.put(LAYER_I, 384);
-        samplesPerFrameV2Map.put(LAYER_II, 1152);
-        samplesPerFrameV2Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV25Map.put(LAYER_I, 384);
-        samplesPerFrameV25Map.put(LAYER_II, 1152);
-        samplesPerFrameV25Map.put(LAYER_III, 1152);
-
-        samplesPerFrameMap.put(VERSION_1, samplesPerFrameV1Map);
-        samplesPerFrameMap.put(VERSION_2, samplesPerFrameV2Map);
-        samplesPerFrameMap.put(VERSION_2_5, samplesPerFrameV25Map);
-
-    }
-
-
-    private static final int SCALE_BY_THOUSAND = 1000;
-    private static final int LAYER_I_FRAME_SIZE_COEFFICIENT = 12;
-    private static final int LAYER_II_FRAME_SIZE_COEFFICIENT = 144;
-    private static final int LAYER_III_FRAME_SIZE_COEFFICIENT = 144;
-
-    /**
-     * MP3 Frame Header bit mask
-     */
-    private static final int MASK_MP3_ID = FileConstants.BIT3;
-
-    /**
-     * MP3 version, confusingly for MP3s the version is 1.
-     */
-    private static final int MASK_MP3_VERSION = FileConstants.BIT4 | FileConstants.BIT3;
-
-    /**
-     * MP3 Layer, for MP3s the Layer is 3
-     */
-    private static final int MASK_MP3_LAYER = FileConstants.BIT2 | FileConstants.BIT1;
-
-    /**
-     * Does it include a CRC Checksum at end of header, this can be used to check the header.
-     */
-    private static final int MASK_MP3_PROTECTION = FileConstants.BIT0;
-
-    /**
-     * The setBitrate of this MP3
-     */
-    private static final int MASK_MP3_BITRATE = FileConstants.BIT7 | FileConstants.BIT6 | FileConstants.BIT5 | FileConstants.BIT4;
-
-    /**
-     * The sampling/frequency rate
-     */
-    private static final int MASK_MP3_FREQUENCY = FileConstants.BIT3 + FileConstants.BIT2;
-
-    /**
-     * An extra padding bit is sometimes used to make sure frames are exactly the right length
-     */
-    private static final int MASK_MP3_PADDING = FileConstants.BIT1;
+    private static final String[] EMPHASIS_NAMES = {"None", "5015MS", "Reserved", "CCITT"};
 
     /**
-     * Private bit set, for application specific
+     * Mode extension, indexed by the 2 mode extension bits
      */
-    private static final int MASK_MP3_PRIVACY = FileConstants.BIT0;
+    private static final String[] MODE_EXTENSION_NAMES = {"4-31", "8-31", "12-31", "16-31"};
+    private static final String[] MODE_EXTENSION_LAYER_III_NAMES = {"off-off", "on-off", "off-on", "on-on"};
 
     /**
-     * Channel Mode, Stero/Mono/Dual Channel
+     * Sampling Rate in Hz, indexed by [version][sampling rate index]. Zero is an invalid entry.
      */
-    private static final int MASK_MP3_MODE = FileConstants.BIT7 | FileConstants.BIT6;
+    private static final int[][] SAMPLING_RATES = {
+            // MPEG-2.5
+            {11025, 12000, 8000, 0},
+            // reserved
+            {0, 0, 0, 0},
+            // MPEG-2
+            {22050, 24000, 16000, 0},
+            // MPEG-1
+            {44100, 48000, 32000, 0}
+    };
 
     /**
-     * MP3 Frame Header bit mask
+     * Samples Per Frame, indexed by layer. The same for every version.
      */
-    private static final int MASK_MP3_MODE_EXTENSION = FileConstants.BIT5 | FileConstants.BIT4;
+    private static final int[] SAMPLES_PER_FRAME = {0, 1152, 1152, 384};
 
-    /**
-     * MP3 Frame Header bit mask
-     */
-    private static final int MASK_MP3_COPY = FileConstants.BIT3;
+    private static final int SCALE_BY_THOUSAND = 1000;
+    private static final int LAYER_I_FRAME_SIZE_COEFFICIENT = 12;
+    private static final int LAYER_II_FRAME_SIZE_COEFFICIENT = 144;
+    private static final int LAYER_III_FRAME_SIZE_COEFFICIENT = 144;
 
     /**
-     * MP3 Frame Header bit mask
+     * Shifts and masks to extract each field from the packed header. The sync bits are the top 11.
      */
-    private static final int MASK_MP3_HOME = FileConstants.BIT2;
+    private static final int SHIFT_VERSION = 19;
+    private static final int SHIFT_MP3_ID = 19;
+    private static final int SHIFT_LAYER = 17;
+    private static final int SHIFT_PROTECTION = 16;
+    private static final int SHIFT_BITRATE = 12;
+    private static final int SHIFT_FREQUENCY = 10;
+    private static final int SHIFT_PADDING = 9;
+    private static final int SHIFT_PRIVACY = 8;
+    private static final int SHIFT_MODE = 6;
+    private static final int SHIFT_MODE_EXTENSION = 4;
+    private static final int SHIFT_COPY = 3;
+    private static final int SHIFT_HOME = 2;
+    private static final int MASK_ONE_BIT = 0x01;
+    private static final int MASK_TWO_BITS = 0x03;
+    private static final int MASK_FOUR_BITS = 0x0F;
 
     /**
-     * MP3 Frame Header bit mask
+     * The 4 header bytes, big endian
      */
-    private static final int MASK_MP3_EMPHASIS = FileConstants.BIT1 | FileConstants.BIT0;
-
-
-    private byte[] mpegBytes;
+    private final int header;
 
     /**
      * The version of this MPEG frame (see the constants)
      */
-    private int version;
-
-    private String versionAsString;
+    private final int version;
 
     /**
      * Contains the mpeg layer of this frame (see constants)
      */
-    private int layer;
+    private final int layer;
 
-    private String layerAsString;
     /**
      * Bitrate of this frame
      */
-    private Integer bitRate;
+    private final int bitRate;
 
     /**
      * Channel Mode of this Frame (see constants)
      */
-    private int channelMode;
-
-    /**
-     * Channel Mode of this Frame As English String
-     */
-    private String channelModeAsString;
+    private final int channelMode;
 
     /**
      * Emphasis of this frame
      */
-    private int emphasis;
-
-    /**
-     * Emphasis mode string
-     */
-    private String emphasisAsString;
-
-    /**
-     * Mode Extension
-     */
-    private String modeExtension;
-
-    /**
-     * Flag indicating if this frame has padding byte
-     */
-    private boolean isPadding;
-
-    /**
-     * Flag indicating if this frame contains copyrighted material
-     */
-    private boolean isCopyrighted;
-
-    /**
-     * Flag indicating if this frame contains original material
-     */
-    private boolean isOriginal;
-
-    /**
-     * Flag indicating if this frame is protected
-     */
-    private boolean isProtected;
-
-
-    /**
-     * Flag indicating if this frame is private
-     */
-    private boolean isPrivate;
-
-    private Integer samplingRate;
+    private final int emphasis;
 
+    private final int samplingRate;
 
     /**
      * Gets the layerVersion attribute of the MPEGFrame object
@@ -443,146 +208,7 @@ public class MPEGFrameHeader {
     }
 
     public String getLayerAsString() {
-        return layerAsString;
-    }
-
-    /**
-     * Gets the copyrighted attribute of the MPEGFrame object
-     */
-    private void setCopyrighted() {
-        isCopyrighted = (mpegBytes[BYTE_4] & MASK_MP3_COPY) != 0;
-    }
-
-
-    /**
-     * Set the version of this frame as an int value (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setVersion() throws InvalidAudioFrameException {
-        //MPEG Version
-        version = (byte)((mpegBytes[BYTE_2] & MASK_MP3_VERSION) >> 3);
-        versionAsString = mpegVersionMap.get(version);
-        if (versionAsString == null) {
-            throw new InvalidAudioFrameException("Invalid mpeg version");
-        }
-    }
-
-    /**
-     * Sets the original attribute of the MPEGFrame object
-     */
-    private void setOriginal() {
-        isOriginal = (mpegBytes[BYTE_4] & MASK_MP3_HOME) != 0;
-    }
-
-    /**
-     * Sets the protected attribute of the MPEGFrame object
-     */
-    private void setProtected() {
-        isProtected = (mpegBytes[BYTE_2] & MASK_MP3_PROTECTION) == 0x00;
-    }
-
-    /**
-     * Sets the private attribute of the MPEGFrame object
-     */
-    private void setPrivate() {
-        isPrivate = (mpegBytes[BYTE_3] & MASK_MP3_PRIVACY) != 0;
-    }
-
-    /**
-     * Get the setBitrate of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setBitrate() throws InvalidAudioFrameException {
-        /* BitRate, get by checking header setBitrate bits and MPEG Version and Layer */
-        int bitRateIndex = mpegBytes[BYTE_3] & MASK_MP3_BITRATE | mpegBytes[BYTE_2] & MASK_MP3_ID | mpegBytes[BYTE_2] & MASK_MP3_LAYER;
-
-        bitRate = bitrateMap.get(bitRateIndex);
-        if (bitRate == null) {
-            throw new InvalidAudioFrameException("Invalid bitrate");
-        }
-    }
-
-
-    /**
-     * Set the Mpeg channel mode of this frame as a constant (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setChannelMode() throws InvalidAudioFrameException {
-        channelMode = (mpegBytes[BYTE_4] & MASK_MP3_MODE) >>> 6;
-        channelModeAsString = modeMap.get(channelMode);
-        if (channelModeAsString == null) {
-            throw new InvalidAudioFrameException("Invalid channel mode");
-        }
-    }
-
-    /**
-     * Get the setEmphasis mode of this frame in a string representation
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setEmphasis() throws InvalidAudioFrameException {
-        emphasis = mpegBytes[BYTE_4] & MASK_MP3_EMPHASIS;
-        emphasisAsString = emphasisMap.get(emphasis);
-        if (getEmphasisAsString() == null) {
-            throw new InvalidAudioFrameException("Invalid emphasis");
-        }
-    }
-
-
-    /**
-     * Set whether this frame uses padding bytes
-     */
-    private void setPadding() {
-        isPadding = (mpegBytes[BYTE_3] & MASK_MP3_PADDING) != 0;
-    }
-
-
-    /**
-     * Get the layer version of this frame as a constant int value (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setLayer() throws InvalidAudioFrameException {
-        layer = (mpegBytes[BYTE_2] & MASK_MP3_LAYER) >>> 1;
-        layerAsString = mpegLayerMap.get(layer);
-        if (layerAsString == null) {
-            throw new InvalidAudioFrameException("Invalid Layer");
-        }
-    }
-
-
-    /**
-     * Sets the string representation of the mode extension of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setModeExtension() throws InvalidAudioFrameException {
-        int index = (mpegBytes[BYTE_4] & MASK_MP3_MODE_EXTENSION) >> 4;
-        if (layer == LAYER_III) {
-            modeExtension = modeExtensionLayerIIIMap.get(index);
-            if (getModeExtension() == null) {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        } else {
-            modeExtension = modeExtensionMap.get(index);
-            if (getModeExtension() == null) {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        }
-    }
-
-    /**
-     * set the sampling rate in Hz of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setSamplingRate() throws InvalidAudioFrameException {
-        //Frequency
-        int index = (mpegBytes[BYTE_3] & MASK_MP3_FREQUENCY) >>> 2;
-        Map<Integer, Integer> samplingRateMapForVersion = samplingRateMap.get(version);
-        if (samplingRateMapForVersion == null) {
-            throw new InvalidAudioFrameException("Invalid version");
-        }
-        samplingRate = samplingRateMapForVersion.get(index);
-        if (samplingRate == null) {
-            throw new InvalidAudioFrameException("Invalid sampling rate");
-        }
+        return LAYER_NAMES[layer];
     }
 
     /**
@@ -591,18 +217,7 @@ public class MPEGFrameHeader {
      * @return The setChannelMode value
      */
     public int getNumberOfChannels() {
-        switch (channelMode) {
-            case MODE_DUAL_CHANNEL:
-                return 2;
-            case MODE_JOINT_STEREO:
-                return 2;
-            case MODE_MONO:
-                return 1;
-            case MODE_STEREO:
-                return 2;
-            default:
-                return 0;
-        }
+        return CHANNEL_COUNTS[channelMode];
     }
 
     public int getChannelMode() {
@@ -610,7 +225,7 @@ public class MPEGFrameHeader {
     }
 
     public String getChannelModeAsString() {
-        return channelModeAsString;
+        return MODE_NAMES[channelMode];
     }
 
     /**
@@ -623,7 +238,7 @@ public class MPEGFrameHeader {
     }
 
     public String getVersionAsString() {
-        return versionAsString;
+        return VERSION_NAMES[version];
     }
 
     /**
@@ -661,19 +276,19 @@ public class MPEGFrameHeader {
             case VERSION_2_5:
                 switch (layer) {
                     case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                 getPaddingLength()) * LAYER_I_SLOT_SIZE;
 
                     case LAYER_II:
-                        return (LAYER_II_FRAME_SIZE_COEFFICIENT) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                        return (LAYER_II_FRAME_SIZE_COEFFICIENT) * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                 getPaddingLength() * LAYER_II_SLOT_SIZE;
 
                     case LAYER_III:
                         if (this.getChannelMode() == MODE_MONO) {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2) * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                     getPaddingLength() * LAYER_III_SLOT_SIZE;
                         } else {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                     getPaddingLength() * LAYER_III_SLOT_SIZE;
                         }
 
@@ -687,15 +302,15 @@ public class MPEGFrameHeader {
             case VERSION_1:
                 switch (layer) {
                     case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                 getPaddingLength()) * LAYER_I_SLOT_SIZE;
 
                     case LAYER_II:
-                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                 getPaddingLength() * LAYER_II_SLOT_SIZE;
 
                     case LAYER_III:
-                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() +
+                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate +
                                 getPaddingLength() * LAYER_III_SLOT_SIZE;
 
                     default:
@@ -715,29 +330,28 @@ public class MPEGFrameHeader {
      * @return
      */
     public int getNoOfSamples() {
-        Integer noOfSamples = samplesPerFrameMap.get(version).get(layer);
-        return noOfSamples;
+        return SAMPLES_PER_FRAME[layer];
     }
 
 
     public boolean isPadding() {
-        return isPadding;
+        return bit(SHIFT_PADDING) != 0;
     }
 
     public boolean isCopyrighted() {
-        return isCopyrighted;
+        return bit(SHIFT_COPY) != 0;
     }
 
     public boolean isOriginal() {
-        return isOriginal;
+        return bit(SHIFT_HOME) != 0;
     }
 
     public boolean isProtected() {
-        return isProtected;
+        return bit(SHIFT_PROTECTION) == 0;
     }
 
     public boolean isPrivate() {
-        return isPrivate;
+        return bit(SHIFT_PRIVACY) != 0;
     }
 
     public boolean isVariableBitRate() {
@@ -749,43 +363,77 @@ public class MPEGFrameHeader {
     }
 
     public String getEmphasisAsString() {
-        return emphasisAsString;
+        return EMPHASIS_NAMES[emphasis];
     }
 
     public String getModeExtension() {
-        return modeExtension;
+        final int index = (header >>> SHIFT_MODE_EXTENSION) & MASK_TWO_BITS;
+        return layer == LAYER_III ? MODE_EXTENSION_LAYER_III_NAMES[index] : MODE_EXTENSION_NAMES[index];
     }
 
+    private int bit(final int shift) {
+        return (header >>> shift) & MASK_ONE_BIT;
+    }
 
     /**
-     * Hide Constructor
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
+     * Try and create a new MPEG frame with the given packed header and decodes its contents
+     * If decoding header causes a problem it is not a valid header
+     *
+     * @param header the 4 bytes of the frame header, big endian
+     * @throws InvalidAudioFrameException if does not match expected format
      */
-    private MPEGFrameHeader() throws InvalidAudioFrameException {
+    private MPEGFrameHeader(final int header) throws InvalidAudioFrameException {
+        this.header = header;
+        bitRate = bitRateOf(header);
+        if (bitRate == 0) {
+            throw new InvalidAudioFrameException("Invalid bitrate");
+        }
+        version = (header >>> SHIFT_VERSION) & MASK_TWO_BITS;
+        if (VERSION_NAMES[version] == null) {
+            throw new InvalidAudioFrameException("Invalid mpeg version");
+        }
+        layer = (header >>> SHIFT_LAYER) & MASK_TWO_BITS;
+        if (LAYER_NAMES[layer] == null) {
+            throw new InvalidAudioFrameException("Invalid Layer");
+        }
+        samplingRate = SAMPLING_RATES[version][(header >>> SHIFT_FREQUENCY) & MASK_TWO_BITS];
+        if (samplingRate == 0) {
+            throw new InvalidAudioFrameException("Invalid sampling rate");
+        }
+        channelMode = (header >>> SHIFT_MODE) & MASK_TWO_BITS;
+        emphasis = header & MASK_TWO_BITS;
+    }
 
+    private static int bitRateOf(final int header) {
+        return BITRATES[(header >>> SHIFT_MP3_ID) & MASK_ONE_BIT]
+                [(header >>> SHIFT_LAYER) & MASK_TWO_BITS]
+                [(header >>> SHIFT_BITRATE) & MASK_FOUR_BITS];
     }
 
     /**
-     * Try and create a new MPEG frame with the given byte array and decodes its contents
-     * If decoding header causes a problem it is not a valid header
+     * Check the packed header decodes to a valid frame header without creating an instance.
      *
-     * @param b the array of bytes representing this mpeg frame
-     * @throws InvalidAudioFrameException if does not match expected format
+     * @param header the 4 bytes of the frame header, big endian
+     *
+     * @return true if {@link #parseMPEGHeader(Buffer)} would succeed for this header
      */
-    private MPEGFrameHeader(byte[] b) throws InvalidAudioFrameException {
-        mpegBytes = b;
-        setBitrate();
-        setVersion();
-        setLayer();
-        setProtected();
-        setSamplingRate();
-        setPadding();
-        setPrivate();
-        setChannelMode();
-        setModeExtension();
-        setCopyrighted();
-        setOriginal();
-        setEmphasis();
+    static boolean isValidHeader(final int header) {
+        final int version = (header >>> SHIFT_VERSION) & MASK_TWO_BITS;
+        return bitRateOf(header) != 0 &&
+                VERSION_NAMES[version] != null &&
+                LAYER_NAMES[(header >>> SHIFT_LAYER) & MASK_TWO_BITS] != null &&
+                SAMPLING_RATES[version][(header >>> SHIFT_FREQUENCY) & MASK_TWO_BITS] != 0;
+    }
+
+    /**
+     * Parse a packed MPEGFrameHeader
+     *
+     * @param header the 4 bytes of the frame header, big endian
+     * @return the header
+     * @throws InvalidAudioFrameException if the header is not valid
+     */
+    static MPEGFrameHeader parseMPEGHeader(final int header) throws InvalidAudioFrameException {
+        return new MPEGFrameHeader(header);
     }
 
     /**
@@ -796,21 +444,43 @@ public class MPEGFrameHeader {
      * @throws InvalidAudioFrameException if there is no header at this point
      */
     static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException {
-        int position = bb.position();
-        bb.get(header, 0, HEADER_SIZE);
-        bb.position(position);
-        MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
+        return new MPEGFrameHeader(readHeader(bb));
+    }
 
-        return frameHeader;
+    /**
+     * Parse the MPEGFrameHeader at the start of the buffer, the buffer is not consumed
+     *
+     * @param buffer the buffer containing the header
+     * @return the header
+     * @throws InvalidAudioFrameException if there is no header at this point
+     */
+    static MPEGFrameHeader parseMPEGHeader(final Buffer buffer) throws InvalidAudioFrameException {
+        return new MPEGFrameHeader(readHeader(buffer));
     }
 
+    /**
+     * @param bb buffer positioned at a frame header, position is not changed
+     *
+     * @return the 4 header bytes packed big endian into an int, regardless of the buffer's byte order
+     */
+    static int readHeader(final ByteBuffer bb) {
+        final int position = bb.position();
+        return (bb.get(position) & 0xFF) << 24 |
+                (bb.get(position + 1) & 0xFF) << 16 |
+                (bb.get(position + 2) & 0xFF) << 8 |
+                (bb.get(position + 3) & 0xFF);
+    }
 
-    static MPEGFrameHeader parseMPEGHeader(final Buffer buffer) throws EOFException, InvalidAudioFrameException {
-        byte[] headerBytes = new byte[HEADER_SIZE];
-        for (int i = 0, size = Math.min(headerBytes.length, HEADER_SIZE); i < size; i++) {
-            headerBytes[i] = buffer.getByte(i);
-        }
-        return new MPEGFrameHeader(headerBytes);
+    /**
+     * @param buffer buffer with a frame header at the front, nothing is consumed
+     *
+     * @return the 4 header bytes packed big endian into an int
+     */
+    static int readHeader(final Buffer buffer) {
+        return (buffer.getByte(0) & 0xFF) << 24 |
+                (buffer.getByte(1) & 0xFF) << 16 |
+                (buffer.getByte(2) & 0xFF) << 8 |
+                (buffer.getByte(3) & 0xFF);
     }
 
     /**
@@ -834,35 +504,35 @@ public class MPEGFrameHeader {
                 " frame length:" +
                 getFrameLength() +
                 " version:" +
-                versionAsString +
+                getVersionAsString() +
                 " layer:" +
-                layerAsString +
+                getLayerAsString() +
                 " channelMode:" +
-                channelModeAsString +
+                getChannelModeAsString() +
                 " noOfSamples:" +
                 getNoOfSamples() +
                 " samplingRate:" +
                 samplingRate +
                 " isPadding:" +
-                isPadding +
+                isPadding() +
                 " isProtected:" +
-                isProtected +
+                isProtected() +
                 " isPrivate:" +
-                isPrivate +
+                isPrivate() +
                 " isCopyrighted:" +
-                isCopyrighted +
+                isCopyrighted() +
                 " isOriginal:" +
-                isCopyrighted +
+                isCopyrighted() +
                 " isVariableBitRate" +
                 this.isVariableBitRate() +
                 " header as binary:" +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_1]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)(header >>> 24)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_2]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)(header >>> 16)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_3]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)(header >>> 8)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_4]);
+                AbstractTagDisplayFormatter.displayAsBinary((byte)header);
     }
 
     static boolean isMPEGFrame(final Buffer bb) {
@@ -872,4 +542,3 @@ public class MPEGFrameHeader {
                 && ((bb.getByte(position + 2) & SYNC_BIT_ANDSAMPING_BYTE3) != SYNC_BIT_ANDSAMPING_BYTE3));
     }
 }
-
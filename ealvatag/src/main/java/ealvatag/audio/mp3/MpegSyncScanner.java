@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Searches a file for MPEG frame sync patterns through a single, reused window. The window starts small, as most files have audio very
+ * near the start, and doubles each time it's refilled so files with large unsynchronised artwork or junk before the audio need few
+ * reads. Bytes still needed are compacted to the front of the window on refill rather than re-read.
+ * <p>
+ * The search tests 8 bytes at a time for an 0xFF byte and only examines individual bytes of a word that contains one, so long runs of
+ * image data are skipped at word speed.
+ * <p>
+ * Not thread safe, create one per search.
+ */
+final class MpegSyncScanner {
+  static final int INITIAL_WINDOW_SIZE = 8 * 1024;
+  static final int MAX_WINDOW_SIZE = 256 * 1024;
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGHS = 0x8080808080808080L;
+  private static final int LONG_SIZE = 8;
+  private static final byte SYNC_BYTE1 = (byte)MPEGFrameHeader.SYNC_BYTE1;
+
+  private final FileChannel channel;
+  private final long fileSize;
+  private byte[] array;
+  private ByteBuffer window;
+  /** File offset of window index 0 */
+  private long windowStart;
+  /** Number of valid bytes in the window */
+  private int limit;
+  private int nextWindowSize;
+
+  MpegSyncScanner(final FileChannel channel, final long fileSize) {
+    this.channel = channel;
+    this.fileSize = fileSize;
+    this.array = new byte[INITIAL_WINDOW_SIZE];
+    this.window = ByteBuffer.wrap(array);
+    this.windowStart = 0;
+    this.limit = 0;
+    this.nextWindowSize = INITIAL_WINDOW_SIZE;
+  }
+
+  /**
+   * Find the next position, at or after {@code from}, that starts with an MPEG sync pattern (see
+   * {@link MPEGFrameHeader#isMPEGFrame(Buffer)}) and is followed by at least {@code required} bytes, counting the sync bytes, before the
+   * end of the file. On success those bytes are in the window.
+   *
+   * @param from     file offset to start searching
+   * @param required minimum number of bytes, at least 3, which must be available from a match
+   *
+   * @return the file offset of the match or -1 if the end of the file is reached first
+   *
+   * @throws IOException if error reading the file
+   */
+  long findSync(final long from, final int required) throws IOException {
+    long position = from;
+    while (ensure(position, required)) {
+      final int found = scan((int)(position - windowStart), limit - required);
+      if (found >= 0) {
+        return windowStart + found;
+      }
+      // every position whose required bytes are in the window has been checked
+      position = windowStart + limit - required + 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Make bytes [{@code offset}, {@code offset + count}) available in the window
+   *
+   * @return false if the file ends before {@code offset + count}
+   *
+   * @throws IOException if error reading the file
+   */
+  boolean ensure(final long offset, final int count) throws IOException {
+    if (offset + count > fileSize) {
+      return false;
+    }
+    if (offset >= windowStart && offset + count <= windowStart + limit) {
+      return true;
+    }
+    final int size = Math.max(count, nextWindowSize);
+    nextWindowSize = Math.min(nextWindowSize * 2, MAX_WINDOW_SIZE);
+
+    int kept = 0;
+    if (offset >= windowStart && offset < windowStart + limit) {
+      kept = (int)(windowStart + limit - offset);
+    }
+    final byte[] destination = array.length < size ? new byte[size] : array;
+    if (kept > 0) {
+      System.arraycopy(array, (int)(offset - windowStart), destination, 0, kept);
+    }
+    if (destination != array) {
+      array = destination;
+      window = ByteBuffer.wrap(array);
+    }
+    windowStart = offset;
+    limit = kept;
+
+    final int toRead = (int)Math.min(size - kept, fileSize - (offset + kept));
+    window.clear();
+    window.position(kept);
+    window.limit(kept + toRead);
+    while (window.hasRemaining()) {
+      if (channel.read(window, windowStart + window.position()) < 0) {
+        break;
+      }
+    }
+    limit = window.position();
+    return offset + count <= windowStart + limit;
+  }
+
+  /**
+   * @param offset file offset, which must be in the window
+   *
+   * @return the 4 bytes at the offset packed big endian into an int
+   */
+  int getInt(final long offset) {
+    return window.getInt((int)(offset - windowStart));
+  }
+
+  /**
+   * @param offset file offset, the 3 bytes from which must be in the window
+   *
+   * @return true if the bytes at offset are an MPEG sync pattern
+   */
+  boolean isSync(final long offset) {
+    return isSync((int)(offset - windowStart));
+  }
+
+  /**
+   * Copy bytes from the window into a new {@link Buffer} for the frame parsers which need one
+   *
+   * @param offset file offset, which must be in the window
+   * @param count  maximum number of bytes to copy, fewer are copied if the window ends first
+   *
+   * @return a new buffer
+   */
+  Buffer copy(final long offset, final int count) {
+    final int index = (int)(offset - windowStart);
+    return new Buffer().write(array, index, Math.min(count, limit - index));
+  }
+
+  /**
+   * @return the index of the first sync pattern starting in [from, last], or -1 if none
+   */
+  private int scan(final int from, final int last) {
+    int i = from;
+    final int lastWordStart = last - LONG_SIZE + 1;
+    while (i <= last) {
+      if (i <= lastWordStart && !hasSyncByte(window.getLong(i))) {
+        i += LONG_SIZE;
+        continue;
+      }
+      if (isSync(i)) {
+        return i;
+      }
+      i++;
+    }
+    return -1;
+  }
+
+  private boolean isSync(final int index) {
+    return array[index] == SYNC_BYTE1 &&
+        (array[index + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2 &&
+        (array[index + 2] & MPEGFrameHeader.SYNC_BIT_ANDSAMPING_BYTE3) != MPEGFrameHeader.SYNC_BIT_ANDSAMPING_BYTE3;
+  }
+
+  /**
+   * @return true if any byte of the word is 0xFF. Inverting turns 0xFF bytes into zero bytes, which the standard "has zero byte" test
+   * detects without false negatives
+   */
+  private static boolean hasSyncByte(final long word) {
+    final long inverted = ~word;
+    return ((inverted - ONES) & ~inverted & HIGHS) != 0;
+  }
+}
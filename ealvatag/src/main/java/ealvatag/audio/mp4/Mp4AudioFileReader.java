@@ -22,15 +22,20 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
+import ealvatag.audio.AudioHeader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.NullAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.audio.mp4.atom.Mp4FtypBox;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagFieldContainer;
-import okio.BufferedSource;
-import okio.Okio;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.DeferredImageData;
+import okio.Buffer;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.WARN;
@@ -39,6 +44,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Reads an Mp4 and parses it into an AudioFile
@@ -102,7 +109,6 @@ import java.io.RandomAccessFile;
  */
 public class Mp4AudioFileReader extends AudioFileReader {
   private static final JLogger LOG = JLoggers.get(Mp4AudioFileReader.class, EalvaTagLog.MARKER);
-
   // Almost a complete rewrite from the original which artificially separated header from tag parsing. This was causing the entire moov
   // box to be read into memory TWICE! I have seen this larger than 500KB in my own music library. That's opening a file, reading 500KB
   // and  parsing part of it, throwing it away, reloading the exact same data, and parsing a different part. It's now one pass. The
@@ -119,23 +125,73 @@ public class Mp4AudioFileReader extends AudioFileReader {
 
   public AudioFile read(final File file,
                         final String extension,
-                        final boolean ignoreArtwork) throws CannotReadException, FileNotFoundException {
-    try (BufferedSource bufferedSource = Okio.buffer(Okio.source(file))) {
-      Mp4FtypBox mp4FtypBox = new Mp4FtypBox(bufferedSource);
+                        final ReadOptions options) throws CannotReadException, FileNotFoundException {
+    try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+      // only ftyp and moov are read, mdat and padding are stepped over however large and wherever they are
+      final Mp4BoxWalker walker = new Mp4BoxWalker(channel);
+      if (!walker.next()) {
+        throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER);
+      }
+      Mp4FtypBox mp4FtypBox = new Mp4FtypBox(walker.readBox());
       LOG.log(DEBUG, "%s", mp4FtypBox);
 
-      Mp4BoxHeader boxHeader = new Mp4BoxHeader(bufferedSource);
-      while (!Mp4AtomIdentifier.MOOV.getFieldName().equals(boxHeader.getId())) {
-        LOG.log(WARN, "Expected %s found %s", Mp4AtomIdentifier.MOOV, boxHeader);
-        bufferedSource.skip(boxHeader.getDataLength());
-        boxHeader = new Mp4BoxHeader(bufferedSource);
+      if (!nextMoov(walker)) {
+        throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER);
       }
-      Mp4MoovBox moovBox = new Mp4MoovBox(boxHeader, bufferedSource, mp4FtypBox, file.length(), ignoreArtwork);
-      return new AudioFileImpl(file, extension, moovBox.getAudioHeader(), moovBox.getMp4Tag());
+      // the moov buffer runs to the end of the box, so image data can be located in the file from what's left in the buffer
+      final long moovEnd = walker.getDataPosition() + walker.getDataLength();
+      final Buffer moov = walker.readBox();
+      final DeferredImageData.Locator artworkLocator =
+          TagOptionSingleton.getInstance().isLazyArtwork() ? new DeferredImageData.Locator(file, moov, moovEnd) : null;
+      Mp4MoovBox moovBox = new Mp4MoovBox(new Mp4BoxHeader(moov),
+                                          moov,
+                                          mp4FtypBox,
+                                          channel.size(),
+                                          options.isIgnoreArtwork(),
+                                          artworkLocator);
+      // the header comes from the same walk of moov as the tag, drop it anyway so every format behaves the same
+      final AudioHeader audioHeader = options.isIgnoreAudioHeader() ? NullAudioHeader.INSTANCE : moovBox.getAudioHeader();
+      return new AudioFileImpl(file, extension, audioHeader, moovBox.getMp4Tag());
     } catch (FileNotFoundException e) {
       throw e;
     } catch (IOException e) {
       throw new CannotReadException(e, ErrorMessage.MP4_FILE_NOT_CONTAINER);
     }
   }
+
+  private static boolean nextMoov(final Mp4BoxWalker walker) throws CannotReadException, IOException {
+    while (walker.next()) {
+      final String id = walker.getId();
+      if (Mp4AtomIdentifier.MOOV.getFieldName().equals(id)) {
+        return true;
+      }
+      if (!Mp4AtomIdentifier.MDAT.getFieldName().equals(id) &&
+          !Mp4AtomIdentifier.FREE.getFieldName().equals(id) &&
+          !Mp4AtomIdentifier.SKIP.getFieldName().equals(id)) {
+        LOG.log(WARN, "Expected %s found %s", Mp4AtomIdentifier.MOOV, id);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Digest the data of every top level mdat box. The moov box, holding the tag, may be before or after the audio and is left out, as
+   * is any free box used as padding.
+   */
+  @Override protected void digestAudioPayload(final RandomAccessFile raf, final File file, final MessageDigest digest)
+      throws CannotReadException, IOException {
+    final FileChannel channel = raf.getChannel();
+    final FileOperator fileOperator = new FileOperator(channel);
+    final Mp4BoxWalker walker = new Mp4BoxWalker(channel);
+    boolean foundAudio = false;
+    while (walker.next()) {
+      if (Mp4AtomIdentifier.MDAT.getFieldName().equals(walker.getId())) {
+        fileOperator.digest(walker.getDataPosition(), walker.getDataLength(), digest);
+        foundAudio = true;
+      }
+    }
+    if (!foundAudio) {
+      throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO);
+    }
+  }
 }
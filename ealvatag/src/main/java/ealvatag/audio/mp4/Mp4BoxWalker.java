@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp4;
+
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.audio.mp4.atom.Mp4BoxHeader;
+import ealvatag.logging.ErrorMessage;
+import ealvatag.utils.StandardCharsets;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Walks the top level boxes of an mp4 file by position, reading only each box's header. Skipping a box, however large, is a change of
+ * position rather than a read, so an mdat of hundreds of megabytes before the moov costs nothing to get past.
+ * <p>
+ * Boxes with a 64 bit size ("largesize", a 32 bit size of 1) and a last box running to the end of the file (size 0) are supported.
+ */
+final class Mp4BoxWalker {
+    /** A 32 bit size of 1 means a 64 bit size follows the identifier */
+    private static final int LARGE_SIZE_LENGTH = 8;
+
+    private final FileChannel channel;
+    private final FileOperator fileOperator;
+    private final long fileSize;
+    private final ByteBuffer header = ByteBuffer.allocate(Mp4BoxHeader.HEADER_LENGTH + LARGE_SIZE_LENGTH);
+    private final byte[] id = new byte[Mp4BoxHeader.IDENTIFIER_LENGTH];
+
+    private long position;
+    private long length;
+    private int headerLength;
+    private String boxId;
+
+    Mp4BoxWalker(final FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileOperator = new FileOperator(channel);
+        this.fileSize = channel.size();
+    }
+
+    /**
+     * Move to the next top level box, or the first if not yet moved
+     *
+     * @return false if there are no more boxes
+     *
+     * @throws CannotReadException if the box header is invalid
+     * @throws IOException         if there is an error reading from the file
+     */
+    boolean next() throws CannotReadException, IOException {
+        final long next = position + length;
+        if (next + Mp4BoxHeader.HEADER_LENGTH > fileSize) {
+            return false;
+        }
+
+        header.clear();
+        header.limit((int)Math.min(header.capacity(), fileSize - next));
+        while (header.hasRemaining()) {
+            if (channel.read(header, next + header.position()) == -1) {
+                break;
+            }
+        }
+        header.flip();
+
+        long boxLength = header.getInt() & 0xFFFFFFFFL;
+        header.get(id);
+        int boxHeaderLength = Mp4BoxHeader.HEADER_LENGTH;
+        if (boxLength == 1 && header.remaining() >= LARGE_SIZE_LENGTH) {
+            boxLength = header.getLong();
+            boxHeaderLength += LARGE_SIZE_LENGTH;
+        } else if (boxLength == 0) {
+            boxLength = fileSize - next;
+        }
+        if (boxLength < boxHeaderLength) {
+            throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER);
+        }
+
+        position = next;
+        length = Math.min(boxLength, fileSize - next);
+        headerLength = boxHeaderLength;
+        boxId = new String(id, StandardCharsets.ISO_8859_1);
+        return true;
+    }
+
+    /**
+     * @return the 4 character identifier of the current box
+     */
+    String getId() {
+        return boxId;
+    }
+
+    /**
+     * @return where the current box's data, after its header, starts in the file
+     */
+    long getDataPosition() {
+        return position + headerLength;
+    }
+
+    /**
+     * @return length of the current box's data, not including its header, and not past the end of the file
+     */
+    long getDataLength() {
+        return length - headerLength;
+    }
+
+    /**
+     * Read the current box, as a box with an 8 byte header. A box with a 64 bit size is given a 32 bit one so the result can be parsed
+     * by {@link Mp4BoxHeader#Mp4BoxHeader(okio.BufferedSource)}.
+     *
+     * @return buffer holding the box
+     *
+     * @throws CannotReadException if the box is too large to hold in memory
+     * @throws IOException         if there is an error reading from the file
+     */
+    Buffer readBox() throws CannotReadException, IOException {
+        final long dataLength = getDataLength();
+        if (dataLength > Integer.MAX_VALUE - Mp4BoxHeader.HEADER_LENGTH) {
+            throw new CannotReadException("%s box too large to read: %d", boxId, dataLength);
+        }
+        final Buffer buffer = new Buffer();
+        buffer.writeInt((int)dataLength + Mp4BoxHeader.HEADER_LENGTH);
+        buffer.write(id);
+        fileOperator.read(getDataPosition(), buffer, dataLength);
+        return buffer;
+    }
+}
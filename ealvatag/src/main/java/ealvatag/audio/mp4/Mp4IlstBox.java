@@ -27,6 +27,7 @@ import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagField;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.mp4.Mp4FieldKey;
 import ealvatag.tag.mp4.Mp4NonStandardFieldKey;
 import ealvatag.tag.mp4.Mp4Tag;
@@ -44,6 +45,7 @@ import ealvatag.tag.mp4.field.Mp4TagTextNumberField;
 import ealvatag.tag.mp4.field.Mp4TrackField;
 import ealvatag.utils.Buffers;
 import okio.BufferedSource;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.WARN;
@@ -63,7 +65,8 @@ public class Mp4IlstBox {
   public Mp4IlstBox(final Mp4BoxHeader ilstBoxHeader,
                     final BufferedSource bufferedSource,
                     final Mp4Tag mp4Tag,
-                    final boolean ignoreArtwork) throws IOException, CannotReadException {
+                    final boolean ignoreArtwork,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws IOException, CannotReadException {
     Preconditions.checkArgument(Mp4AtomIdentifier.ILST.matches(ilstBoxHeader.getId()));
 
     int dataSize = ilstBoxHeader.getDataLength();
@@ -87,6 +90,8 @@ public class Mp4IlstBox {
             if (ignoreArtwork) {
               mp4Tag.markReadOnly();
               bufferedSource.skip(dataLength);
+            } else if (artworkLocator != null && artworkLocator.isLocating(bufferedSource)) {
+              handleArtwork(mp4Tag, childHeader, bufferedSource, artworkLocator);
             } else {
               handleArtwork(mp4Tag, childHeader, ByteBuffer.wrap(bufferedSource.readByteArray(dataLength)),
                             fieldType);
@@ -197,6 +202,40 @@ public class Mp4IlstBox {
     }
   }
 
+  /**
+   * Read the data atoms of a covr atom, leaving the image data in the file
+   */
+  private void handleArtwork(final Mp4Tag tag,
+                             final Mp4BoxHeader header,
+                             final BufferedSource bufferedSource,
+                             final DeferredImageData.Locator artworkLocator) throws IOException {
+    int dataSize = header.getDataLength();
+    while (dataSize >= Mp4BoxHeader.HEADER_LENGTH) {
+      Mp4BoxHeader childHeader = new Mp4BoxHeader(bufferedSource);
+      final int childLength = childHeader.getLength();
+      if (childLength < Mp4BoxHeader.HEADER_LENGTH || childLength > dataSize) {
+        dataSize -= Mp4BoxHeader.HEADER_LENGTH;
+        break;
+      }
+      final int imageLength = childHeader.getDataLength() - Mp4DataBox.PRE_DATA_LENGTH;
+      if (Mp4DataBox.IDENTIFIER.equals(childHeader.getId()) && imageLength >= 0) {
+        //There maybe a mixture of PNG and JPEG images so have to check type of each
+        Mp4FieldType fieldType = Mp4FieldType.getFieldType(Buffers.peek3ByteInt(bufferedSource,
+                                                                                Mp4DataBox.TYPE_POS_INCLUDING_HEADER -
+                                                                                    Mp4BoxHeader.HEADER_LENGTH));
+        bufferedSource.skip(Mp4DataBox.PRE_DATA_LENGTH);
+        tag.addField(new Mp4TagCoverField(artworkLocator.skip(imageLength), fieldType));
+      } else {
+        //A name atom following the data atom isn't kept, as when the image data is read
+        bufferedSource.skip(childHeader.getDataLength());
+      }
+      dataSize -= childLength;
+    }
+    if (dataSize > 0) {
+      bufferedSource.skip(dataSize);
+    }
+  }
+
   private boolean isArtworkField(final Mp4BoxHeader header, final Mp4FieldType fieldType) {
     return Mp4FieldKey.ARTWORK.fieldMatchesId(header.getId()) || Mp4FieldType.isCoverArtType(fieldType);
   }
@@ -25,8 +25,10 @@ import ealvatag.audio.mp4.atom.Mp4MetaBox;
 import ealvatag.audio.mp4.atom.Mp4MvhdBox;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.mp4.Mp4Tag;
 import okio.BufferedSource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 
@@ -40,13 +42,16 @@ public class Mp4MoovBox {
     private final Mp4AudioHeader audioHeader;
     private final Mp4Tag mp4Tag;
     private final boolean ignoreArtwork;
+    private final DeferredImageData.Locator artworkLocator;
 
     Mp4MoovBox(final Mp4BoxHeader moovBoxHeader,
                final BufferedSource bufferedSource,
                final Mp4FtypBox mp4FtypBox,
                final long fileLength,
-               final boolean ignoreArtwork) throws CannotReadException, IOException {
+               final boolean ignoreArtwork,
+               @Nullable final DeferredImageData.Locator artworkLocator) throws CannotReadException, IOException {
         this.ignoreArtwork = ignoreArtwork;
+        this.artworkLocator = artworkLocator;
         Preconditions.checkArgument(Mp4AtomIdentifier.MOOV.matches(moovBoxHeader.getId()));
         boxHeader = moovBoxHeader;
         audioHeader = new Mp4AudioHeader(fileLength);
@@ -86,10 +91,10 @@ public class Mp4MoovBox {
                     trak = new Mp4TrakBox(childBoxHeader, bufferedSource, audioHeader, trak != null);
                     break;
                 case UDTA:
-                    udta = new Mp4UdtaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    udta = new Mp4UdtaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork, artworkLocator);
                     break;
                 case META:
-                    meta = new Mp4MetaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    meta = new Mp4MetaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork, artworkLocator);
                     break;
                 default:
                     bufferedSource.skip(childBoxHeader.getDataLength());
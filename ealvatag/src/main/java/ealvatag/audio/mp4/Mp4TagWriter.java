@@ -22,6 +22,7 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.audio.mp4.atom.Mp4FreeBox;
 import ealvatag.audio.mp4.atom.Mp4HdlrBox;
@@ -33,6 +34,7 @@ import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.mp4.Mp4Tag;
 import ealvatag.tag.mp4.Mp4TagCreator;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.utils.tree.DefaultMutableTreeNode;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
@@ -114,6 +116,8 @@ import java.util.Locale;
 public class Mp4TagWriter {
   // Logger Object
   private static JLogger LOG = JLoggers.get(Mp4TagWriter.class, EalvaTagLog.MARKER);
+  /** No free atom is added after the ilst unless {@link TagOptionSingleton#setPaddingPolicy(PaddingPolicy)} asks for one */
+  private static final PaddingPolicy DEFAULT_PADDING_POLICY = PaddingPolicy.NONE;
 
   private Mp4TagCreator tc = new Mp4TagCreator();
 
@@ -131,8 +135,8 @@ public class Mp4TagWriter {
     LOG.log(DEBUG, "Writing:Option 1:Same Size");
 
     fileReadChannel.position(0);
-    fileWriteChannel.transferFrom(fileReadChannel, 0, ilstHeader.getFilePos());
-    fileWriteChannel.position(ilstHeader.getFilePos());
+    fileWriteChannel.position(0);
+    transfer(fileReadChannel, fileWriteChannel, ilstHeader.getFilePos());
     fileWriteChannel.write(newIlstData);
     fileReadChannel.position(ilstHeader.getFileEndPos());
 
@@ -150,8 +154,7 @@ public class Mp4TagWriter {
       throws IOException, CannotWriteException {
     //Write from after ilst upto tags atom
     long writeBetweenIlstAndTags = tagsHeader.getFilePos() - fileReadChannel.position();
-    fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), writeBetweenIlstAndTags);
-    fileWriteChannel.position(fileWriteChannel.position() + writeBetweenIlstAndTags);
+    transfer(fileReadChannel, fileWriteChannel, writeBetweenIlstAndTags);
 
     //Replace tags atom (and children) by a free atom
     convertandWriteTagsAtomToFreeAtom(fileWriteChannel, tagsHeader);
@@ -267,8 +270,8 @@ public class Mp4TagWriter {
 
         //Write stuff before Moov (ftyp)
         fileReadChannel.position(0);
-        fileWriteChannel.transferFrom(fileReadChannel, 0, moovHeader.getFilePos());
-        fileWriteChannel.position(moovHeader.getFilePos());
+        fileWriteChannel.position(0);
+        transfer(fileReadChannel, fileWriteChannel, moovHeader.getFilePos());
 
         //Edit stcos atoms within moov header, we need to adjust offsets by the amount mdat is going to be
         // shifted
@@ -330,7 +333,63 @@ public class Mp4TagWriter {
   }
 
   /**
-   * Write tag to {@code rafTemp} file.
+   * Create the new {@code ilst} followed by a {@code free} atom filling the remainder of the space currently taken by the
+   * existing {@code ilst} and the {@code free} atom immediately after it (if any).
+   *
+   * @return the data to overwrite the existing atoms with, or null if the new {@code ilst} doesn't fit or leaves too little
+   * room for a {@code free} atom header
+   */
+  private ByteBuffer createInPlaceIlstData(Mp4BoxHeader ilstHeader,
+                                           ByteBuffer newIlstData,
+                                           int sizeOfExistingMetaLevelFreeAtom) {
+    int availableSpace = ilstHeader.getLength() + sizeOfExistingMetaLevelFreeAtom;
+    int newFreeSize = availableSpace - newIlstData.limit();
+    if (newFreeSize != 0 && newFreeSize < Mp4BoxHeader.HEADER_LENGTH) {
+      return null;
+    }
+
+    ByteBuffer inPlaceData = ByteBuffer.allocate(availableSpace);
+    inPlaceData.put(newIlstData);
+    newIlstData.rewind();
+    if (newFreeSize > 0) {
+      Mp4FreeBox newFreeBox = new Mp4FreeBox(newFreeSize - Mp4BoxHeader.HEADER_LENGTH);
+      inPlaceData.put(newFreeBox.getHeader().getHeaderData());
+      inPlaceData.put(newFreeBox.getData());
+    }
+    inPlaceData.flip();
+    return inPlaceData;
+  }
+
+  /**
+   * Follow the new {@code ilst} with a {@code free} atom sized by the padding policy. The free atom is under {@code meta} immediately
+   * after the {@code ilst}, where {@link #createInPlaceIlstData(Mp4BoxHeader, ByteBuffer, int)} looks for room on the next write.
+   *
+   * @return the {@code ilst} followed by the {@code free} atom, or {@code newIlstData} if there is to be no padding
+   */
+  private ByteBuffer addPadding(ByteBuffer newIlstData) {
+    int padding = TagOptionSingleton.getInstance()
+                                    .getPaddingPolicy()
+                                    .or(DEFAULT_PADDING_POLICY)
+                                    .getPadding(newIlstData.limit());
+    //A free atom can't be smaller than its header
+    if (padding < Mp4BoxHeader.HEADER_LENGTH) {
+      return newIlstData;
+    }
+    LOG.log(DEBUG, "Writing:Padding ilst with free atom:%s", padding);
+
+    ByteBuffer paddedData = ByteBuffer.allocate(newIlstData.limit() + padding);
+    paddedData.put(newIlstData);
+    newIlstData.rewind();
+    Mp4FreeBox freeBox = new Mp4FreeBox(padding - Mp4BoxHeader.HEADER_LENGTH);
+    paddedData.put(freeBox.getHeader().getHeaderData());
+    paddedData.put(freeBox.getData());
+    paddedData.flip();
+    return paddedData;
+  }
+
+  /**
+   * Write tag to {@code rafTemp} file, or directly to {@code raf} if the new metadata fits in the space used by the existing
+   * {@code ilst} and {@code free} atoms, in which case {@code rafTemp} is left empty.
    *
    * @param tag     tag data
    * @param raf     current file
@@ -470,6 +529,18 @@ public class Mp4TagWriter {
     }
 
     LOG.log(DEBUG, "Read header successfully ready for writing");
+    //If the new ilst fits in the space taken by the old ilst and the free atom after it, and there is no nero tags
+    //atom to convert, nothing else in the file changes so overwrite them in the original file leaving rafTemp empty
+    if (neroTagsHeader == null && ilstHeader != null) {
+      ByteBuffer inPlaceData = createInPlaceIlstData(ilstHeader, newIlstData, sizeOfExistingMetaLevelFreeAtom);
+      if (inPlaceData != null) {
+        LOG.log(DEBUG, "Writing:In place:%s:%s", sizeOfExistingIlstAtom, sizeRequiredByNewIlstAtom);
+        fileReadChannel.write(inPlaceData, ilstHeader.getFilePos());
+        fileReadChannel.close();
+        raf.close();
+        return;
+      }
+    }
     //The easiest option since no difference in the size of the metadata so all we have to do is
     //create a new file identical to first file but with replaced ilst
     if (sizeOfExistingIlstAtom == sizeRequiredByNewIlstAtom) {
@@ -506,6 +577,10 @@ public class Mp4TagWriter {
       }
       //There is not enough padding in the metadata free atom anyway
       else {
+        //Everything after the ilst is being rewritten, so leave room for the metadata to grow in place next time
+        newIlstData = addPadding(newIlstData);
+        sizeRequiredByNewIlstAtom = newIlstData.limit();
+        additionalSpaceRequiredForMetadata = sizeRequiredByNewIlstAtom - sizeOfExistingIlstAtom;
         int additionalMetaSizeThatWontFitWithinMetaAtom =
             additionalSpaceRequiredForMetadata - (sizeOfExistingMetaLevelFreeAtom);
 
@@ -581,8 +656,8 @@ public class Mp4TagWriter {
       throws IOException, CannotWriteException {
     //Write stuff before Moov (ftyp)
     fileReadChannel.position(0);
-    fileWriteChannel.transferFrom(fileReadChannel, 0, moovHeader.getFilePos());
-    fileWriteChannel.position(moovHeader.getFilePos());
+    fileWriteChannel.position(0);
+    transfer(fileReadChannel, fileWriteChannel, moovHeader.getFilePos());
   }
 
   /**
@@ -590,26 +665,21 @@ public class Mp4TagWriter {
    * {@link TagOptionSingleton#getWriteChunkSize()}
    * chunks, needed if writing large amounts of data.
    */
-  private void writeDataInChunks(FileChannel fileReadChannel, FileChannel fileWriteChannel)
-      throws IOException, CannotWriteException {
-    long amountToBeWritten = fileReadChannel.size() - fileReadChannel.position();
-    long written = 0;
-    long chunksize = TagOptionSingleton.getInstance().getWriteChunkSize();
-    long count = amountToBeWritten / chunksize;
-
-    long mod = amountToBeWritten % chunksize;
-    for (int i = 0; i < count; i++) {
-      written += fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), chunksize);
-      fileWriteChannel.position(fileWriteChannel.position() + chunksize);
-    }
+  private void writeDataInChunks(FileChannel fileReadChannel, FileChannel fileWriteChannel) throws IOException {
+    transfer(fileReadChannel, fileWriteChannel, fileReadChannel.size() - fileReadChannel.position());
+  }
 
-    if (mod > 0) {
-      written += fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), mod);
-      if (written != amountToBeWritten) {
-        throw new CannotWriteException(
-            "Was meant to write " + amountToBeWritten + " bytes but only written " + written + " bytes");
-      }
-    }
+  /**
+   * Copy {@code byteCount} bytes from the current position of the read channel to the current position of the write channel,
+   * leaving both positioned after the copied data.
+   */
+  private static void transfer(FileChannel fileReadChannel, FileChannel fileWriteChannel, long byteCount) throws IOException {
+    long readPosition = fileReadChannel.position();
+    new FileOperator(fileReadChannel).transferTo(readPosition,
+                                                 byteCount,
+                                                 fileWriteChannel,
+                                                 TagOptionSingleton.getInstance().getWriteChunkSize());
+    fileReadChannel.position(readPosition + byteCount);
   }
 
   /**
@@ -631,8 +701,8 @@ public class Mp4TagWriter {
                                           Mp4BoxHeader ilstHeader,
                                           ByteBuffer newIlstAtomData) throws IOException {
     fileReadChannel.position(0);
-    fileWriteChannel.transferFrom(fileReadChannel, 0, ilstHeader.getFilePos());
-    fileWriteChannel.position(ilstHeader.getFilePos());
+    fileWriteChannel.position(0);
+    transfer(fileReadChannel, fileWriteChannel, ilstHeader.getFilePos());
     fileWriteChannel.write(newIlstAtomData);
     fileReadChannel.position(ilstHeader.getFileEndPos());
   }
@@ -856,8 +926,7 @@ public class Mp4TagWriter {
     } else {
       //Write the remaining children under moov that come after ilst/free which wont have changed
       long extraData = endOfMoov - fileReadChannel.position();
-      fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), extraData);
-      fileWriteChannel.position(fileWriteChannel.position() + extraData);
+      transfer(fileReadChannel, fileWriteChannel, extraData);
     }
 
     if (!isMdatDataMoved) {
@@ -956,8 +1025,7 @@ public class Mp4TagWriter {
     } else {
       //Now write the rest of children under moov thats come after ilst/free which wont have changed
       long extraData = endOfMoov - fileReadChannel.position();
-      fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), extraData);
-      fileWriteChannel.position(fileWriteChannel.position() + extraData);
+      transfer(fileReadChannel, fileWriteChannel, extraData);
     }
 
     if (!isMdatDataMoved) {
@@ -1059,14 +1127,13 @@ public class Mp4TagWriter {
       throws IOException {
     //Write from after ilst upto tags atom
     long writeBetweenIlstAndTags = neroTagsHeader.getFilePos() - fileReadChannel.position();
-    fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), writeBetweenIlstAndTags);
-    fileWriteChannel.position(fileWriteChannel.position() + writeBetweenIlstAndTags);
+    transfer(fileReadChannel, fileWriteChannel, writeBetweenIlstAndTags);
     convertandWriteTagsAtomToFreeAtom(fileWriteChannel, neroTagsHeader);
 
     //Write after tags atom upto end of moov
     fileReadChannel.position(neroTagsHeader.getFileEndPos());
     long extraData = endOfMoov - fileReadChannel.position();
-    fileWriteChannel.transferFrom(fileReadChannel, fileWriteChannel.position(), extraData);
+    transfer(fileReadChannel, fileWriteChannel, extraData);
   }
 
   /**
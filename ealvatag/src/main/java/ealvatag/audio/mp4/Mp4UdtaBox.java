@@ -22,8 +22,10 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.audio.mp4.atom.Mp4MetaBox;
 import ealvatag.logging.ErrorMessage;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.mp4.Mp4Tag;
 import okio.BufferedSource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 
@@ -36,7 +38,9 @@ class Mp4UdtaBox {
 
     Mp4UdtaBox(final Mp4BoxHeader udtaBoxHeader,
                final BufferedSource bufferedSource,
-               final Mp4Tag mp4Tag, final boolean ignoreArtwork) throws IOException, CannotReadException {
+               final Mp4Tag mp4Tag,
+               final boolean ignoreArtwork,
+               @Nullable final DeferredImageData.Locator artworkLocator) throws IOException, CannotReadException {
         Preconditions.checkArgument(Mp4AtomIdentifier.UDTA.matches(udtaBoxHeader.getId()));
         int dataSize = udtaBoxHeader.getDataLength();
 
@@ -45,7 +49,7 @@ class Mp4UdtaBox {
             Mp4BoxHeader childHeader = new Mp4BoxHeader(bufferedSource);
             switch (childHeader.getIdentifier()) {
                 case META:
-                    metaBox = new Mp4MetaBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    metaBox = new Mp4MetaBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork, artworkLocator);
                     break;
                 default:
                     bufferedSource.skip(childHeader.getDataLength());
@@ -31,13 +31,8 @@ public class Mp4FreeBox extends AbstractMp4Box
             headerBaos.write(Mp4AtomIdentifier.FREE.getFieldName().getBytes(StandardCharsets.ISO_8859_1));
             header.update(ByteBuffer.wrap(headerBaos.toByteArray()));
 
-            //Body
-            ByteArrayOutputStream freeBaos = new ByteArrayOutputStream();
-            for (int i = 0; i < datasize; i++)
-            {
-                freeBaos.write(0x0);
-            }
-            dataBuffer = ByteBuffer.wrap(freeBaos.toByteArray());
+            //Body, all zeroes
+            dataBuffer = ByteBuffer.allocate(datasize);
         }
         catch (IOException ioe)
         {
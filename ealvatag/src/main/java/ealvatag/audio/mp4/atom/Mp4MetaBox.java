@@ -5,8 +5,10 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.mp4.Mp4AtomIdentifier;
 import ealvatag.audio.mp4.Mp4IlstBox;
 import ealvatag.logging.ErrorMessage;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.mp4.Mp4Tag;
 import okio.BufferedSource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -31,7 +33,8 @@ public class Mp4MetaBox extends AbstractMp4Box {
     public Mp4MetaBox(final Mp4BoxHeader metaBoxHeader,
                       final BufferedSource bufferedSource,
                       final Mp4Tag mp4Tag,
-                      final boolean ignoreArtwork)
+                      final boolean ignoreArtwork,
+                      @Nullable final DeferredImageData.Locator artworkLocator)
             throws IOException, CannotReadException {
         Preconditions.checkArgument(Mp4AtomIdentifier.META.matches(metaBoxHeader.getId()));
 
@@ -46,7 +49,7 @@ public class Mp4MetaBox extends AbstractMp4Box {
             Mp4BoxHeader childHeader = new Mp4BoxHeader(bufferedSource);
             switch (childHeader.getIdentifier()) {
                 case ILST:
-                    ilstBox = new Mp4IlstBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    ilstBox = new Mp4IlstBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork, artworkLocator);
                     break;
                 default:
                     bufferedSource.skip(childHeader.getDataLength());
@@ -21,6 +21,7 @@ package ealvatag.audio.ogg;
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.ogg.util.OggInfoReader;
 import ealvatag.audio.ogg.util.OggPageHeader;
 import ealvatag.tag.TagFieldContainer;
@@ -29,6 +30,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.RandomAccessFile;
+import java.security.MessageDigest;
 
 /**
  * Read Ogg File Tag and Encoding information
@@ -36,6 +38,9 @@ import java.io.RandomAccessFile;
  * Only implemented for ogg files containing a vorbis stream with vorbis comments
  */
 public class OggFileReader extends AudioFileReader {
+  /** Identification, comment and setup headers precede the audio */
+  private static final int VORBIS_HEADER_PACKET_COUNT = 3;
+
   private OggInfoReader ir;
   private OggVorbisTagReader vtr;
 
@@ -48,10 +53,46 @@ public class OggFileReader extends AudioFileReader {
     return ir.read(raf);
   }
 
+  @Override protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf, File file) throws CannotReadException, IOException {
+    return ir.read(raf, file);
+  }
+
   protected TagFieldContainer getTag(RandomAccessFile raf, final boolean ignoreArtwork) throws CannotReadException, IOException {
     return vtr.read(raf);
   }
 
+  /**
+   * Digest the data of the pages after the setup header, which is where the audio starts on a new page. The page headers are left out
+   * as their sequence numbers and checksums change if the comment header grows or shrinks by a page.
+   */
+  @Override protected void digestAudioPayload(final RandomAccessFile raf, final File file, final MessageDigest digest)
+      throws CannotReadException, IOException {
+    final FileOperator fileOperator = new FileOperator(raf.getChannel());
+    final long fileLength = raf.length();
+    int packetCount = 0;
+    boolean foundAudio = false;
+    raf.seek(0);
+    while (raf.getFilePointer() < fileLength) {
+      final OggPageHeader pageHeader = OggPageHeader.read(raf);
+      final long dataStart = raf.getFilePointer();
+      final long dataLength = Math.min(pageHeader.getPageLength(), fileLength - dataStart);
+      if (packetCount >= VORBIS_HEADER_PACKET_COUNT) {
+        fileOperator.digest(dataStart, dataLength, digest);
+        foundAudio = true;
+      } else {
+        for (final byte segmentLength : pageHeader.getSegmentTable()) {
+          if ((segmentLength & 0xFF) < OggPageHeader.MAXIMUM_SEGMENT_SIZE) {
+            packetCount++;
+          }
+        }
+      }
+      raf.seek(dataStart + dataLength);
+    }
+    if (!foundAudio) {
+      throw new CannotReadException("No audio pages in " + file);
+    }
+  }
+
   /**
    * Return count Ogg Page header, count starts from zero
    * <p>
@@ -24,11 +24,14 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.ogg.util.OggCRCFactory;
 import ealvatag.audio.ogg.util.OggPageHeader;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.id3.AbstractID3v1Tag;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.tag.vorbiscomment.VorbisCommentTag;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
@@ -38,6 +41,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
 /**
@@ -47,6 +51,8 @@ import java.util.List;
  */
 public class OggVorbisTagWriter {
   private static JLogger LOG = JLoggers.get(OggVorbisTagWriter.class, EalvaTagLog.MARKER);
+  /** The comment only keeps the room it already has unless {@link TagOptionSingleton#setPaddingPolicy(PaddingPolicy)} asks for more */
+  private static final PaddingPolicy DEFAULT_PADDING_POLICY = PaddingPolicy.NONE;
 
   private OggVorbisCommentTagCreator tc = new OggVorbisCommentTagCreator();
   private OggVorbisTagReader reader = new OggVorbisTagReader();
@@ -76,14 +82,14 @@ public class OggVorbisTagWriter {
     OggPageHeader pageHeader = OggPageHeader.read(raf);
     raf.seek(pageHeader.getStartByte());
 
-    //Write 1st page (unchanged) and place writer pointer at end of data
-    rafTemp.getChannel()
-           .transferFrom(raf.getChannel(),
-                         0,
-                         pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH +
-                             pageHeader.getSegmentTable().length);
-    rafTemp.skipBytes(pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH +
-                          pageHeader.getSegmentTable().length);
+    //Write 1st page (unchanged) and place reader and writer pointers at end of data
+    long firstPageLength = pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH +
+        pageHeader.getSegmentTable().length;
+    new FileOperator(raf.getChannel()).transferTo(pageHeader.getStartByte(),
+                                                  firstPageLength,
+                                                  rafTemp.getChannel(),
+                                                  TagOptionSingleton.getInstance().getWriteChunkSize());
+    raf.seek(pageHeader.getStartByte() + firstPageLength);
     LOG.log(DEBUG, "Written identificationHeader:");
 
     //2nd page:Comment and Setup if there is enough room, may also (although not normally) contain audio frames
@@ -99,7 +105,7 @@ public class OggVorbisTagWriter {
     OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes = reader.readOggVorbisHeaderSizes(raf);
 
     //Convert the OggVorbisComment header to raw packet data
-    ByteBuffer newComment = tc.convert(tag);
+    ByteBuffer newComment = padComment(tc.convert(tag), vorbisHeaderSizes);
 
     //Compute new comment length(this may need to be spread over multiple pages)
     int newCommentLength = newComment.capacity();
@@ -166,6 +172,57 @@ public class OggVorbisTagWriter {
     }
   }
 
+  /**
+   * Add zero bytes after the framing bit of the new comment packet, which decoders ignore. If the new comment fits in the existing
+   * packet it's padded to the same length, so the 2nd page is the same length and can be replaced in place. Otherwise the file is
+   * being rewritten and the padding policy decides how much room to leave for next time, but no more than keeps the comment and
+   * setup header on one page, as the page can only be replaced in place if they are.
+   *
+   * @param newComment        the comment packet
+   * @param vorbisHeaderSizes sizes of the existing header packets
+   *
+   * @return the padded comment packet, or {@code newComment} if no padding is needed
+   */
+  private ByteBuffer padComment(ByteBuffer newComment, OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes) {
+    int newCommentLength = newComment.capacity();
+    int existingCommentLength = vorbisHeaderSizes.getCommentHeaderSize();
+    int padding;
+    if (newCommentLength <= existingCommentLength && fitsOnSecondPage(existingCommentLength, vorbisHeaderSizes)) {
+      padding = existingCommentLength - newCommentLength;
+    } else if (fitsOnSecondPage(newCommentLength, vorbisHeaderSizes)) {
+      int maxPadding = TagOptionSingleton.getInstance()
+                                         .getPaddingPolicy()
+                                         .or(DEFAULT_PADDING_POLICY)
+                                         .getPadding(newCommentLength);
+      //Most padding which keeps everything on the one page
+      padding = 0;
+      while (padding < maxPadding) {
+        int mid = padding + (maxPadding - padding + 1) / 2;
+        if (fitsOnSecondPage(newCommentLength + mid, vorbisHeaderSizes)) {
+          padding = mid;
+        } else {
+          maxPadding = mid - 1;
+        }
+      }
+    } else {
+      padding = 0;
+    }
+    if (padding == 0) {
+      return newComment;
+    }
+    LOG.log(DEBUG, "Padding comment:" + padding);
+    ByteBuffer paddedComment = ByteBuffer.allocate(newCommentLength + padding);
+    paddedComment.put(newComment);
+    paddedComment.rewind();
+    return paddedComment;
+  }
+
+  private boolean fitsOnSecondPage(int commentLength, OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes) {
+    return isCommentAndSetupHeaderFitsOnASinglePage(commentLength,
+                                                    vorbisHeaderSizes.getSetupHeaderSize(),
+                                                    vorbisHeaderSizes.getExtraPacketList());
+  }
+
   /**
    * Calculate checkSum over the Page
    *
@@ -271,9 +328,22 @@ public class OggVorbisTagWriter {
     //Read in setup header and extra packets
     raf.getChannel().read(secondPageBuffer);
     calculateChecksumOverPage(secondPageBuffer);
+
+    //New page is exactly the size of the old one so overwrite it, nothing else in the file has to change
+    int oldSecondPageLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + secondPageHeader.getSegmentTable().length +
+        secondPageHeader.getPageLength();
+    if (secondPageBuffer.limit() == oldSecondPageLength) {
+      LOG.log(DEBUG, "Replacing 2nd page in place");
+      //Discard the identification header already copied, an empty temporary file means the original file was modified directly
+      rafTemp.setLength(0);
+      raf.getChannel().write(secondPageBuffer, secondPageHeader.getStartByte());
+      return;
+    }
     rafTemp.getChannel().write(secondPageBuffer);
-    rafTemp.getChannel()
-           .transferFrom(raf.getChannel(), rafTemp.getFilePointer(), raf.length() - raf.getFilePointer());
+    new FileOperator(raf.getChannel()).transferTo(raf.getFilePointer(),
+                                                  raf.length() - raf.getFilePointer(),
+                                                  rafTemp.getChannel(),
+                                                  TagOptionSingleton.getInstance().getWriteChunkSize());
   }
 
   /**
@@ -503,16 +573,29 @@ public class OggVorbisTagWriter {
       throws IOException, CannotReadException, CannotWriteException {
     long startAudio = raf.getFilePointer();
     long startAudioWritten = rafTemp.getFilePointer();
-
-    //TODO there is a risk we wont have enough memory to create these buffers
-    ByteBuffer bb = ByteBuffer.allocate((int)(raf.length() - raf.getFilePointer()));
-    ByteBuffer bbTemp = ByteBuffer.allocate((int)(raf.length() - raf.getFilePointer()));
-
-    //Read in the rest of the data into bytebuffer and rewind it to start
-    raf.getChannel().read(bb);
-    bb.rewind();
+    FileChannel readChannel = raf.getChannel();
+    FileChannel writeChannel = rafTemp.getChannel();
+
+    //Stream the pages through a window that always holds at least one complete page, every page has to be read to
+    //renumber it and recalculate its checksum so this cannot be a plain channel transfer
+    int bufferSize = (int)Math.max(OggPageHeader.MAXIMUM_PAGE_SIZE,
+                                   Math.min(TagOptionSingleton.getInstance().getWriteChunkSize(), raf.length() - startAudio));
+    ByteBuffer bb = ByteBuffer.allocate(bufferSize);
+    ByteBuffer bbTemp = ByteBuffer.allocate(bufferSize);
+    bb.limit(0);
     long bytesToDiscard = 0;
-    while (bb.hasRemaining()) {
+    while (true) {
+      if (bb.remaining() < OggPageHeader.MAXIMUM_PAGE_SIZE && readChannel.position() < readChannel.size()) {
+        bb.compact();
+        while (bb.hasRemaining() && readChannel.read(bb) != -1) {
+          //keep filling
+        }
+        bb.flip();
+      }
+      if (!bb.hasRemaining()) {
+        break;
+      }
+
       OggPageHeader nextPage = null;
       try {
         nextPage = OggPageHeader.read(bb);
@@ -521,7 +604,7 @@ public class OggVorbisTagWriter {
         bb.position(bb.position() - OggPageHeader.CAPTURE_PATTERN.length);
         //#117:Ogg file with invalid ID3v1 tag at end remove and save
         if (Utils.readThreeBytesAsChars(bb).equals(AbstractID3v1Tag.TAG)) {
-          bytesToDiscard = bb.remaining() + AbstractID3v1Tag.TAG.length();
+          bytesToDiscard = readChannel.size() - readChannel.position() + bb.remaining() + AbstractID3v1Tag.TAG.length();
           break;
         } else {
           throw cre;
@@ -541,11 +624,12 @@ public class OggVorbisTagWriter {
       bb.position(bb.position() + nextPage.getPageLength());
 
       nextPageHeaderBuffer.rewind();
+      if (bbTemp.remaining() < nextPageHeaderBuffer.remaining()) {
+        writeFully(writeChannel, bbTemp);
+      }
       bbTemp.put(nextPageHeaderBuffer);
     }
-    //Now just write as a single IO operation
-    bbTemp.flip();
-    rafTemp.getChannel().write(bbTemp);
+    writeFully(writeChannel, bbTemp);
     //Check we have written all the data (minus any invalid Tag at end)
     if ((raf.length() - startAudio) != ((rafTemp.length() + bytesToDiscard) - startAudioWritten)) {
       throw new CannotWriteException("File written counts don't match, file not written:"
@@ -556,6 +640,17 @@ public class OggVorbisTagWriter {
     }
   }
 
+  /**
+   * Write out everything put into the buffer and clear it ready to be filled again
+   */
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
   /**
    * This method creates a new segment table for the second page (header).
    *
@@ -26,10 +26,12 @@ import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.id3.AbstractID3v2Tag;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.Arrays;
@@ -42,11 +44,36 @@ public class OggInfoReader {
   // Logger Object
   private static JLogger LOG = JLoggers.get(OggInfoReader.class, EalvaTagLog.MARKER);
 
+  /**
+   * Read the encoding info, including walking back from the end of the file to the last page for the duration
+   *
+   * @param raf the file, positioned at its start
+   *
+   * @return the encoding info
+   *
+   * @throws CannotReadException if this isn't a vorbis stream
+   * @throws IOException         on any I/O error
+   */
   public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException {
+    return read(raf, null);
+  }
+
+  /**
+   * Read the encoding info from the identification header. If {@code file} isn't null the duration, which needs the last page of
+   * the file, is deferred until first asked for and read by reopening {@code file}.
+   *
+   * @param raf  the file, positioned at its start
+   * @param file the file raf was opened from, or null to read the duration now
+   *
+   * @return the encoding info
+   *
+   * @throws CannotReadException if this isn't a vorbis stream
+   * @throws IOException         on any I/O error
+   */
+  public GenericAudioHeader read(RandomAccessFile raf, File file) throws CannotReadException, IOException {
     long start = raf.getFilePointer();
     GenericAudioHeader info = new GenericAudioHeader();
     LOG.log(DEBUG, "Started");
-    long oldPos;
 
     //Check start of file does it have Ogg pattern
     byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
@@ -63,44 +90,14 @@ public class OggInfoReader {
       }
     }
 
-    //Now work backwards from file looking for the last ogg page, it reads the granule position for this last page
-    //which must be set.
-    //TODO should do buffering to cut down the number of file reads
-    raf.seek(start);
-    double pcmSamplesNumber = -1;
-    raf.seek(raf.length() - 2);
-    while (raf.getFilePointer() >= 4) {
-      if (raf.read() == OggPageHeader.CAPTURE_PATTERN[3]) {
-        raf.seek(raf.getFilePointer() - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH);
-        byte[] ogg = new byte[3];
-        raf.readFully(ogg);
-        if (ogg[0] == OggPageHeader.CAPTURE_PATTERN[0] && ogg[1] == OggPageHeader.CAPTURE_PATTERN[1] &&
-            ogg[2] == OggPageHeader.CAPTURE_PATTERN[2]) {
-          raf.seek(raf.getFilePointer() - 3);
-
-          oldPos = raf.getFilePointer();
-          raf.seek(raf.getFilePointer() + OggPageHeader.FIELD_PAGE_SEGMENTS_POS);
-          int pageSegments = raf.readByte() & 0xFF; //Unsigned
-          raf.seek(oldPos);
-
-          b = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
-          raf.readFully(b);
-
-          OggPageHeader pageHeader = new OggPageHeader(b);
-          raf.seek(0);
-          pcmSamplesNumber = pageHeader.getAbsoluteGranulePosition();
-          break;
-        }
-      }
-      raf.seek(raf.getFilePointer() - 2);
-    }
-
-    if (pcmSamplesNumber == -1) {
-      //According to spec a value of -1 indicates no packet finished on this page, this should not occur
-      throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_SETUP_BLOCK);
+    final long searchLimit = TagOptionSingleton.getInstance().getOggLastPageSearchLimit();
+    double pcmSamplesNumber = 0;
+    if (file == null) {
+      pcmSamplesNumber = readLastGranulePosition(raf, searchLimit);
     }
 
     //1st page = Identification Header
+    raf.seek(0);
     OggPageHeader pageHeader = OggPageHeader.read(raf);
     byte[] vorbisData = new byte[pageHeader.getPageLength()];
 
@@ -111,7 +108,6 @@ public class OggInfoReader {
     VorbisIdentificationHeader vorbisIdentificationHeader = new VorbisIdentificationHeader(vorbisData);
 
     //Map to generic encodingInfo
-    info.setPreciseLength((float)(pcmSamplesNumber / vorbisIdentificationHeader.getSamplingRate()));
     info.setChannelNumber(vorbisIdentificationHeader.getChannelNumber());
     info.setSamplingRate(vorbisIdentificationHeader.getSamplingRate());
     info.setEncodingType(vorbisIdentificationHeader.getEncodingType());
@@ -120,6 +116,7 @@ public class OggInfoReader {
     info.setBitsPerSample(16);
 
     //TODO this calculation should be done within identification header
+    boolean bitrateFromDuration = false;
     if (vorbisIdentificationHeader.getNominalBitrate() != 0 &&
         vorbisIdentificationHeader.getMaxBitrate() == vorbisIdentificationHeader.getNominalBitrate() &&
         vorbisIdentificationHeader.getMinBitrate() == vorbisIdentificationHeader.getNominalBitrate()) {
@@ -132,19 +129,59 @@ public class OggInfoReader {
       info.setBitRate(vorbisIdentificationHeader.getNominalBitrate() / 1000);
       info.setVariableBitRate(true);
     } else {
-      //TODO need to remove comment from raf.getLength()
-      info.setBitRate((int)computeBitrate(info.getDuration(TimeUnit.SECONDS, true), raf.length()));
+      bitrateFromDuration = true;
       info.setVariableBitRate(true);
     }
+
+    if (file == null) {
+      setDuration(info, pcmSamplesNumber, bitrateFromDuration, raf.length());
+    } else {
+      info.setDeferred(new LastPageDuration(file, searchLimit, bitrateFromDuration));
+    }
     return info;
   }
 
-  private long computeBitrate(long length, long size) {
+  /**
+   * Work backwards from the end of the file looking for the last ogg page and return its granule position, which must be set.
+   */
+  private static double readLastGranulePosition(RandomAccessFile raf, long searchLimit) throws CannotReadException, IOException {
+    return new OggLastPageScanner(raf.getChannel(), searchLimit).findLastGranulePosition();
+  }
+
+  private static void setDuration(GenericAudioHeader info, double pcmSamplesNumber, boolean bitrateFromDuration, long fileSize) {
+    info.setPreciseLength((float)(pcmSamplesNumber / info.getSampleRate()));
+    if (bitrateFromDuration) {
+      info.setBitRate((int)computeBitrate(info.getDuration(TimeUnit.SECONDS, true), fileSize));
+    }
+  }
+
+  private static long computeBitrate(long length, long size) {
     //Protect against audio less than 0.5 seconds that can be rounded to zero causing Arithmetic Exception
     if (length == 0) {
       length = 1;
     }
     return ((size / Utils.KILOBYTE_MULTIPLIER) * Utils.BITS_IN_BYTE_MULTIPLIER / length);
   }
-}
 
+  /**
+   * Finds the last page when the duration is first asked for. Only holds the file name, the file is reopened to read it. The search
+   * limit is the one in effect when the file was read, not when the duration is asked for.
+   */
+  private static final class LastPageDuration implements GenericAudioHeader.Deferred {
+    private final File file;
+    private final long searchLimit;
+    private final boolean bitrateFromDuration;
+
+    LastPageDuration(final File file, final long searchLimit, final boolean bitrateFromDuration) {
+      this.file = file;
+      this.searchLimit = searchLimit;
+      this.bitrateFromDuration = bitrateFromDuration;
+    }
+
+    @Override public void read(final GenericAudioHeader header) throws IOException, CannotReadException {
+      try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+        setDuration(header, readLastGranulePosition(raf, searchLimit), bitrateFromDuration, raf.length());
+      }
+    }
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.ogg.util;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.logging.EalvaTagLog;
+import ealvatag.logging.ErrorMessage;
+
+import static com.ealva.ealvalog.LogLevel.DEBUG;
+import static com.ealva.ealvalog.LogLevel.WARN;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Finds the last page of an ogg stream by reading the file backwards from the end in blocks and searching each block for the capture
+ * pattern. A candidate is only accepted if the whole page is in the file and its CRC matches, so a truncated last page, or "OggS"
+ * appearing in trailing junk, is passed over for the page before it. Pages that don't finish a packet (granule position -1) are
+ * skipped too.
+ * <p>
+ * If no page in the searched range passes its CRC the last candidate with a complete header is used, as the CRC was never checked
+ * before this scanner was written and files with bad checksums still play.
+ * <p>
+ * Not thread safe, create one per search.
+ */
+public final class OggLastPageScanner {
+  public static final int BLOCK_SIZE = 64 * 1024;
+
+  private static final JLogger LOG = JLoggers.get(OggLastPageScanner.class, EalvaTagLog.MARKER);
+  private static final int CAPTURE_PATTERN_OVERLAP = OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH - 1;
+  private static final int GRANULE_POS = 6;
+  private static final int GRANULE_LENGTH = 8;
+  private static final int CHECKSUM_LENGTH = 4;
+
+  private final FileChannel channel;
+  private final long searchLimit;
+  private final ByteBuffer block;
+  /** File offset of block index 0 */
+  private long blockStart;
+  /** Number of valid bytes in the block */
+  private int blockLength;
+
+  /**
+   * @param channel     the ogg file
+   * @param searchLimit the number of bytes from the end of the file to search, 0 to search the whole file
+   */
+  public OggLastPageScanner(final FileChannel channel, final long searchLimit) {
+    this.channel = channel;
+    this.searchLimit = searchLimit;
+    this.block = ByteBuffer.allocate(BLOCK_SIZE + CAPTURE_PATTERN_OVERLAP);
+  }
+
+  /**
+   * @return the absolute granule position of the last complete page, which for vorbis is the number of samples in the stream
+   *
+   * @throws CannotReadException if no page is found
+   * @throws IOException         on any I/O error
+   */
+  public double findLastGranulePosition() throws CannotReadException, IOException {
+    final long fileSize = channel.size();
+    final long stop = searchLimit > 0 ? Math.max(0, fileSize - searchLimit) : 0;
+    final byte[] bytes = block.array();
+    OggPageHeader fallback = null;
+
+    long blockEnd = fileSize;
+    while (blockEnd > stop) {
+      blockStart = Math.max(stop, blockEnd - BLOCK_SIZE);
+      // overlap the following block so a capture pattern spanning the two is found
+      blockLength = (int)(Math.min(fileSize, blockEnd + CAPTURE_PATTERN_OVERLAP) - blockStart);
+      block.clear();
+      block.limit(blockLength);
+      read(block, blockStart);
+
+      for (int i = blockLength - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH; i >= 0; i--) {
+        if (bytes[i] == OggPageHeader.CAPTURE_PATTERN[0] &&
+            bytes[i + 1] == OggPageHeader.CAPTURE_PATTERN[1] &&
+            bytes[i + 2] == OggPageHeader.CAPTURE_PATTERN[2] &&
+            bytes[i + 3] == OggPageHeader.CAPTURE_PATTERN[3]) {
+          final long pageStart = blockStart + i;
+          final OggPageHeader header = readHeader(pageStart, fileSize);
+          if (header == null || isGranuleUnset(header.getRawHeaderData())) {
+            continue;
+          }
+          if (isPageValid(pageStart, header, fileSize)) {
+            LOG.log(DEBUG, "Last ogg page at %d", pageStart);
+            return header.getAbsoluteGranulePosition();
+          }
+          LOG.log(DEBUG, "Ogg page at %d fails CRC check", pageStart);
+          if (fallback == null) {
+            fallback = header;
+          }
+        }
+      }
+      blockEnd = blockStart;
+    }
+
+    if (fallback != null) {
+      LOG.log(WARN, "No ogg page passed its CRC check, using the last page found");
+      return fallback.getAbsoluteGranulePosition();
+    }
+    //According to spec a value of -1 indicates no packet finished on this page, this should not occur
+    throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_SETUP_BLOCK);
+  }
+
+  /**
+   * @return the header at {@code pageStart} or null if it's not a version 0 header or doesn't fit in the file
+   */
+  private OggPageHeader readHeader(final long pageStart, final long fileSize) throws IOException {
+    final long segmentsPosition = pageStart + OggPageHeader.FIELD_PAGE_SEGMENTS_POS;
+    if (segmentsPosition >= fileSize) {
+      return null;
+    }
+    final byte[] pageSegments = new byte[1];
+    copy(segmentsPosition, pageSegments);
+    final int headerLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + (pageSegments[0] & 0xFF);
+    if (pageStart + headerLength > fileSize) {
+      return null;
+    }
+    final byte[] headerBytes = new byte[headerLength];
+    copy(pageStart, headerBytes);
+    final OggPageHeader header = new OggPageHeader(headerBytes);
+    return header.isValid() ? header : null;
+  }
+
+  private boolean isPageValid(final long pageStart, final OggPageHeader header, final long fileSize) throws IOException {
+    final int pageSize = header.getRawHeaderData().length + header.getPageLength();
+    if (pageStart + pageSize > fileSize) {
+      return false;
+    }
+    final byte[] data = new byte[pageSize];
+    copy(pageStart, data);
+
+    // the checksum is calculated with the checksum field set to 0
+    final byte[] expected = new byte[CHECKSUM_LENGTH];
+    System.arraycopy(data, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, expected, 0, CHECKSUM_LENGTH);
+    for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+      data[OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i] = 0;
+    }
+    final byte[] actual = OggCRCFactory.computeCRC(data);
+    for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+      if (actual[i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Fill {@code dest} from {@code position}, from the current block if it holds those bytes, which it usually does for the last page
+   */
+  private void copy(final long position, final byte[] dest) throws IOException {
+    final long offset = position - blockStart;
+    if (offset >= 0 && offset + dest.length <= blockLength) {
+      System.arraycopy(block.array(), (int)offset, dest, 0, dest.length);
+    } else {
+      read(ByteBuffer.wrap(dest), position);
+    }
+  }
+
+  private static boolean isGranuleUnset(final byte[] headerBytes) {
+    for (int i = GRANULE_POS; i < GRANULE_POS + GRANULE_LENGTH; i++) {
+      if (headerBytes[i] != (byte)0xFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void read(final ByteBuffer buffer, final long position) throws IOException {
+    long readPosition = position;
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, readPosition);
+      if (read < 0) {
+        throw new EOFException("Unexpected end of file at " + readPosition);
+      }
+      readPosition += read;
+    }
+  }
+}
@@ -61,13 +61,13 @@ public class OggPageHeader {
   public static final int MAXIMUM_SEGMENT_SIZE = 255;
 
   //Maximum size of pageheader (27 + 255 = 282)
-//    private static final int MAXIMUM_PAGE_HEADER_SIZE = OGG_PAGE_HEADER_FIXED_LENGTH + MAXIMUM_NO_OF_SEGMENT_SIZE;
+  private static final int MAXIMUM_PAGE_HEADER_SIZE = OGG_PAGE_HEADER_FIXED_LENGTH + MAXIMUM_NO_OF_SEGMENT_SIZE;
 
   //Maximum size of page data following the page header (255 * 255 = 65025)
   public static final int MAXIMUM_PAGE_DATA_SIZE = MAXIMUM_NO_OF_SEGMENT_SIZE * MAXIMUM_SEGMENT_SIZE;
 
   //Maximum size of page includes header and data (282 + 65025 = 65307 bytes)
-//    public static final int MAXIMUM_PAGE_SIZE = MAXIMUM_PAGE_HEADER_SIZE + MAXIMUM_PAGE_DATA_SIZE;
+  public static final int MAXIMUM_PAGE_SIZE = MAXIMUM_PAGE_HEADER_SIZE + MAXIMUM_PAGE_DATA_SIZE;
 
   //Starting positions of the various attributes
 //    public static final int FIELD_CAPTURE_PATTERN_POS = 0;
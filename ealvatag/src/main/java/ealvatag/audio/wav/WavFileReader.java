@@ -19,12 +19,15 @@
 package ealvatag.audio.wav;
 
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader2;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.wav.WavTag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
 
@@ -46,7 +49,30 @@ public class WavFileReader extends AudioFileReader2
     @Override
     protected TagFieldContainer getTag(FileChannel channel, final String fileName, final boolean ignoreArtwork) throws IOException, CannotReadException
     {
-        WavTag tag =  new WavTagReader(fileName).read(channel);
+        return syncTags(new WavTagReader(fileName).read(channel));
+    }
+
+    /**
+     * The encoding info and the tag are found in the same chunks, so walk them once
+     */
+    @Override
+    protected AudioFileImpl makeAudioFile(final FileChannel channel,
+                                          final File file,
+                                          final String extension,
+                                          final ReadOptions options) throws CannotReadException, IOException
+    {
+        if (options.isIgnoreAudioHeader())
+        {
+            return super.makeAudioFile(channel, file, extension, options);
+        }
+        final String fileName = file.getAbsolutePath();
+        GenericAudioHeader info = new GenericAudioHeader();
+        WavTag tag = new WavTagReader(fileName).read(channel, new WavInfoReader(fileName), info);
+        return new AudioFileImpl(file, extension, info, syncTags(tag));
+    }
+
+    private WavTag syncTags(WavTag tag)
+    {
         switch (TagOptionSingleton.getInstance().getWavOptions())
         {
             case READ_ID3_ONLY_AND_SYNC:
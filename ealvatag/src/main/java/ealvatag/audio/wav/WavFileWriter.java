@@ -20,6 +20,7 @@ package ealvatag.audio.wav;
 
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.AudioFileWriter2;
+import ealvatag.audio.SaveMode;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 
@@ -28,9 +29,9 @@ import java.nio.channels.FileChannel;
 public class WavFileWriter extends AudioFileWriter2
 {
    @Override
-    protected void writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException
+    protected SaveMode writeTag(TagFieldContainer tag, FileChannel channel, final String fileName) throws CannotWriteException
     {
-        new WavTagWriter(fileName).write(tag, channel);
+        return new WavTagWriter(fileName).write(tag, channel);
     }
 
     @Override
@@ -74,7 +74,7 @@ public class WavInfoReader {
    *
    * @throws CannotReadException
    */
-  private void calculateTrackLength(GenericAudioHeader info) throws CannotReadException {
+  void calculateTrackLength(GenericAudioHeader info) throws CannotReadException {
     //If we have fact chunk we can calculate accurately by taking total of samples (per channel) divided by the
     // number
     //of samples taken per second (per channel)
@@ -95,7 +95,6 @@ public class WavInfoReader {
    * Reads a Wav Chunk.
    */
   protected boolean readChunk(FileChannel fc, GenericAudioHeader info) throws IOException, CannotReadException {
-    Chunk chunk;
     ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
     if (!chunkHeader.readHeader(fc)) {
       return false;
@@ -110,32 +109,13 @@ public class WavInfoReader {
     //If known chunkType
     if (chunkType != null) {
       switch (chunkType) {
-        case FACT: {
-          ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
-          chunk = new WavFactChunk(fmtChunkData, chunkHeader, info);
-          if (!chunk.readChunk()) {
-            return false;
-          }
-          break;
-        }
-
-        case DATA: {
-          //We just need this value from header dont actually need to read data itself
-          info.setAudioDataLength(chunkHeader.getSize());
-          info.setAudioDataStartPosition(fc.position());
-          info.setAudioDataEndPosition(fc.position() + chunkHeader.getSize());
-          fc.position(fc.position() + chunkHeader.getSize());
-          break;
-        }
-
-        case FORMAT: {
-          ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
-          chunk = new WavFormatChunk(fmtChunkData, chunkHeader, info);
-          if (!chunk.readChunk()) {
+        case FACT:
+        case DATA:
+        case FORMAT:
+          if (!readAudioChunk(fc, chunkHeader, chunkType, info)) {
             return false;
           }
           break;
-        }
 
         case CORRUPT_LIST:
           LOG.log(ERROR,
@@ -173,5 +153,40 @@ public class WavInfoReader {
     return true;
   }
 
+  /**
+   * Reads a chunk describing the audio, the header has been read and the channel is positioned at the start of the chunk data
+   *
+   * @param chunkType one of {@link WavChunkType#FACT}, {@link WavChunkType#DATA} or {@link WavChunkType#FORMAT}
+   *
+   * @return false if the chunk could not be read
+   */
+  boolean readAudioChunk(FileChannel fc, ChunkHeader chunkHeader, WavChunkType chunkType, GenericAudioHeader info)
+      throws IOException {
+    Chunk chunk;
+    switch (chunkType) {
+      case FACT: {
+        ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
+        chunk = new WavFactChunk(fmtChunkData, chunkHeader, info);
+        return chunk.readChunk();
+      }
 
+      case DATA: {
+        //We just need this value from header dont actually need to read data itself
+        info.setAudioDataLength(chunkHeader.getSize());
+        info.setAudioDataStartPosition(fc.position());
+        info.setAudioDataEndPosition(fc.position() + chunkHeader.getSize());
+        fc.position(fc.position() + chunkHeader.getSize());
+        return true;
+      }
+
+      case FORMAT: {
+        ByteBuffer fmtChunkData = Utils.readFileDataIntoBufferLE(fc, (int)chunkHeader.getSize());
+        chunk = new WavFormatChunk(fmtChunkData, chunkHeader, info);
+        return chunk.readChunk();
+      }
+
+      default:
+        throw new IllegalArgumentException(chunkType + " does not describe the audio");
+    }
+  }
 }
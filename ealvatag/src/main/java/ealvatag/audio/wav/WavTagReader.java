@@ -20,6 +20,7 @@ package ealvatag.audio.wav;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.GenericAudioHeader;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.iff.Chunk;
@@ -56,17 +57,41 @@ public class WavTagReader {
 
 
   public WavTag read(FileChannel fc) throws CannotReadException, IOException {
+    return read(fc, null, null);
+  }
+
+  /**
+   * Read the tag and, if {@code infoReader} isn't null, the encoding info in the same walk of the chunks
+   *
+   * @param fc         the channel, positioned at its start
+   * @param infoReader reads the chunks describing the audio, null to only read the tag
+   * @param info       receives the encoding info, ignored if infoReader is null
+   *
+   * @return the tag
+   */
+  WavTag read(FileChannel fc, WavInfoReader infoReader, GenericAudioHeader info) throws CannotReadException, IOException {
     LOG.log(DEBUG, loggingName + " Read Tag:start");
     WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
     if (WavRIFFHeader.isValidHeader(fc)) {
       while (fc.position() < fc.size()) {
-        if (!readChunk(fc, tag)) {
+        if (!readChunk(fc, tag, infoReader, info)) {
           break;
         }
       }
+      // a chunk of metadata that can't be read ends the tag, but the audio may be described by the chunks after it
+      if (infoReader != null) {
+        while (fc.position() < fc.size()) {
+          if (!infoReader.readChunk(fc, info)) {
+            break;
+          }
+        }
+      }
     } else {
       throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
     }
+    if (infoReader != null) {
+      infoReader.calculateTrackLength(info);
+    }
     createDefaultMetadataTagsIfMissing(tag);
     LOG.log(DEBUG, loggingName + " Read Tag:end");
     return tag;
@@ -93,12 +118,14 @@ public class WavTagReader {
    * If the same chunk exists more than once in the file we would just use the last occurence
    *
    * @param tag
+   * @param infoReader if not null also reads the chunks describing the audio into info
    *
    * @return
    *
    * @throws IOException
    */
-  protected boolean readChunk(FileChannel fc, WavTag tag) throws IOException, CannotReadException {
+  protected boolean readChunk(FileChannel fc, WavTag tag, WavInfoReader infoReader, GenericAudioHeader info)
+      throws IOException, CannotReadException {
     Chunk chunk;
     ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
     if (!chunkHeader.readHeader(fc)) {
@@ -121,6 +148,7 @@ public class WavTagReader {
                                      chunkHeader,
                                      tag);
             if (!chunk.readChunk()) {
+              IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
               return false;
             }
           } else {
@@ -151,6 +179,7 @@ public class WavTagReader {
                                     chunkHeader,
                                     tag);
             if (!chunk.readChunk()) {
+              IffHeaderChunk.ensureOnEqualBoundary(fc, chunkHeader);
               return false;
             }
           } else {
@@ -182,6 +211,20 @@ public class WavTagReader {
           fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
           return true;
 
+        case FACT:
+        case DATA:
+        case FORMAT:
+          tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
+                                               chunkHeader.getStartLocationInFile(),
+                                               chunkHeader.getSize()));
+          if (infoReader == null) {
+            fc.position(fc.position() + chunkHeader.getSize());
+          } else if (!infoReader.readAudioChunk(fc, chunkHeader, chunkType, info)) {
+            // carry on, there may be metadata still to come
+            LOG.log(ERROR, loggingName + " Unable to read " + chunkHeader.getID() + " chunk");
+          }
+          break;
+
         default:
           tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(),
                                                chunkHeader.getStartLocationInFile(),
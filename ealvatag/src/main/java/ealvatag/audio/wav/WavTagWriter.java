@@ -21,12 +21,14 @@ package ealvatag.audio.wav;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.utils.StandardCharsets;
+import ealvatag.audio.SaveMode;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.iff.ChunkHeader;
 import ealvatag.audio.iff.ChunkSummary;
 import ealvatag.audio.iff.IffHeaderChunk;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.wav.chunk.WavChunkSummary;
 import ealvatag.audio.wav.chunk.WavInfoIdentifier;
 import ealvatag.logging.EalvaTagLog;
@@ -61,6 +63,8 @@ import java.util.List;
 public class WavTagWriter {
   //For logging
   private String loggingName;
+  //Set once any chunk has been shifted up the file to close the gap left by a deleted tag chunk
+  private boolean chunksMoved;
 
   public WavTagWriter(String loggingName) {
     this.loggingName = loggingName;
@@ -273,31 +277,27 @@ public class WavTagWriter {
    */
   private void deleteTagChunk(final FileChannel fc, int endOfExistingChunk, final int lengthTagChunk)
       throws IOException {
-    //Position for reading after the tag
-    fc.position(endOfExistingChunk);
-
-    final ByteBuffer buffer = ByteBuffer.allocate((int)TagOptionSingleton.getInstance().getWriteChunkSize());
-    while (fc.read(buffer) >= 0 || buffer.position() != 0) {
-      buffer.flip();
-      final long readPosition = fc.position();
-      fc.position(readPosition - lengthTagChunk - buffer.limit());
-      fc.write(buffer);
-      fc.position(readPosition);
-      buffer.compact();
-    }
+    //Shift everything after the tag down over it
+    new FileOperator(fc).move(endOfExistingChunk,
+                              endOfExistingChunk - lengthTagChunk,
+                              fc.size() - endOfExistingChunk,
+                              (int)TagOptionSingleton.getInstance().getWriteChunkSize());
     //Truncate the file after the last chunk
     final long newLength = fc.size() - lengthTagChunk;
     LOG.log(DEBUG, loggingName + " Setting new length to:" + newLength);
     fc.truncate(newLength);
+    chunksMoved = true;
   }
 
   /**
    * @param tag
    * @param fc
    *
+   * @return {@link SaveMode#REWRITE} if any chunk after a metadata chunk had to be moved, otherwise {@link SaveMode#IN_PLACE}
+   *
    * @throws CannotWriteException
    */
-  public void write(final Tag tag, FileChannel fc) throws CannotWriteException {
+  public SaveMode write(final Tag tag, FileChannel fc) throws CannotWriteException {
     LOG.log(DEBUG, loggingName + " Writing tag to file:start");
 
     WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
@@ -333,6 +333,7 @@ public class WavTagWriter {
     } catch (IOException ioe) {
       throw new CannotWriteException(loggingName + ":" + ioe.getMessage());
     }
+    return chunksMoved ? SaveMode.REWRITE : SaveMode.IN_PLACE;
   }
 
   /**
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
+import ealvatag.tag.images.Artwork;
+
+import static ealvatag.utils.Check.checkArgNotNull;
+
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Tag} which can be read but not changed, for tags shared between callers. Methods which would change the tag throw {@link
+ * UnsupportedOperationException}. The lists returned can't be modified, but the {@link TagField}s and {@link Artwork} in them are
+ * those of the wrapped tag and must not be changed either.
+ */
+public final class ReadOnlyTag implements Tag {
+  private final Tag tag;
+
+  private ReadOnlyTag(final Tag tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * @param tag the tag to wrap
+   *
+   * @return {@code tag} if it's already a ReadOnlyTag, else a read only view of it
+   */
+  public static Tag of(final Tag tag) {
+    checkArgNotNull(tag);
+    if (tag instanceof ReadOnlyTag || tag == NullTag.INSTANCE) {
+      return tag;
+    }
+    return new ReadOnlyTag(tag);
+  }
+
+  @Override public boolean isReadOnly() {
+    return true;
+  }
+
+  @Override public ImmutableSet<FieldKey> getSupportedFields() {
+    return tag.getSupportedFields();
+  }
+
+  @Override public boolean isEmpty() {
+    return tag.isEmpty();
+  }
+
+  @Override public boolean hasField(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.hasField(genericKey);
+  }
+
+  @Override public boolean hasField(final String id) {
+    return tag.hasField(id);
+  }
+
+  @Override public int getFieldCount(final Key genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFieldCount(genericKey);
+  }
+
+  @Override public int getFieldCount() {
+    return tag.getFieldCount();
+  }
+
+  @Override public Tag setField(final FieldKey genericKey, final String... values) throws IllegalArgumentException,
+                                                                                          UnsupportedFieldException,
+                                                                                          FieldDataInvalidException {
+    throw readOnly();
+  }
+
+  @Override public Tag addField(final FieldKey genericKey, final String... values) throws IllegalArgumentException,
+                                                                                          UnsupportedFieldException,
+                                                                                          FieldDataInvalidException {
+    throw readOnly();
+  }
+
+  @Override public String getFirst(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFirst(genericKey);
+  }
+
+  @Deprecated @Override public String getFirst(final String id) throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFirst(id);
+  }
+
+  @Override public Optional<String> getValue(final FieldKey genericKey) throws IllegalArgumentException {
+    return tag.getValue(genericKey);
+  }
+
+  @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
+    return tag.getValue(genericKey, index);
+  }
+
+  @Deprecated @Override public String getFieldAt(final FieldKey genericKey, final int index)
+      throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFieldAt(genericKey, index);
+  }
+
+  @Override public List<String> getAll(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    return Collections.unmodifiableList(tag.getAll(genericKey));
+  }
+
+  @Override public Tag deleteField(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    throw readOnly();
+  }
+
+  @Override public Tag deleteField(final String id) throws IllegalArgumentException, UnsupportedFieldException {
+    throw readOnly();
+  }
+
+  @Override public Tag setArtwork(final Artwork artwork)
+      throws IllegalArgumentException, UnsupportedFieldException, FieldDataInvalidException {
+    throw readOnly();
+  }
+
+  @Override public Tag addArtwork(final Artwork artwork)
+      throws IllegalArgumentException, UnsupportedFieldException, FieldDataInvalidException {
+    throw readOnly();
+  }
+
+  @Override public Optional<Artwork> getFirstArtwork() throws UnsupportedFieldException {
+    return tag.getFirstArtwork();
+  }
+
+  @Override public List<Artwork> getArtworkList() throws UnsupportedFieldException {
+    return Collections.unmodifiableList(tag.getArtworkList());
+  }
+
+  @Override public Tag deleteArtwork() throws UnsupportedFieldException {
+    throw readOnly();
+  }
+
+  @Override public boolean hasCommonFields() {
+    return tag.hasCommonFields();
+  }
+
+  @Override public int getFieldCountIncludingSubValues() {
+    return tag.getFieldCountIncludingSubValues();
+  }
+
+  @Override public boolean setEncoding(final Charset enc) throws FieldDataInvalidException {
+    throw readOnly();
+  }
+
+  @Override public TagField createField(final FieldKey genericKey, final String... value) throws IllegalArgumentException,
+                                                                                                 UnsupportedFieldException,
+                                                                                                 FieldDataInvalidException {
+    return tag.createField(genericKey, value);
+  }
+
+  @Override public TagField createArtwork(final Artwork artwork) throws UnsupportedFieldException, FieldDataInvalidException {
+    return tag.createArtwork(artwork);
+  }
+
+  @Override public ImmutableList<TagField> getFields(final FieldKey genericKey)
+      throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFields(genericKey);
+  }
+
+  @Override public Iterator<TagField> getFields() {
+    return Iterators.unmodifiableIterator(tag.getFields());
+  }
+
+  @Override public ImmutableList<TagField> getFields(final String id) {
+    return tag.getFields(id);
+  }
+
+  @Override public Optional<TagField> getFirstField(final String id) throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFirstField(id);
+  }
+
+  @Override public Optional<TagField> getFirstField(final FieldKey genericKey)
+      throws IllegalArgumentException, UnsupportedFieldException {
+    return tag.getFirstField(genericKey);
+  }
+
+  @Override public TagField createCompilationField(final boolean value) throws UnsupportedFieldException {
+    return tag.createCompilationField(value);
+  }
+
+  @Override public String toString() {
+    return tag.toString();
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Tag is read only");
+  }
+}
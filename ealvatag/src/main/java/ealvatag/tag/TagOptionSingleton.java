@@ -20,6 +20,7 @@
  */
 package ealvatag.tag;
 
+import com.google.common.base.Optional;
 import ealvatag.audio.wav.WavOptions;
 import ealvatag.audio.wav.WavSaveOptions;
 import ealvatag.audio.wav.WavSaveOrder;
@@ -31,6 +32,7 @@ import ealvatag.tag.id3.framebody.ID3v24FrameBody;
 import ealvatag.tag.id3.valuepair.TextEncoding;
 import ealvatag.tag.lyrics3.Lyrics3v2Fields;
 import ealvatag.tag.options.PadNumberOption;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.tag.reference.GenreTypes;
 import ealvatag.tag.reference.ID3V2Version;
 import ealvatag.tag.reference.Languages;
@@ -43,17 +45,20 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @SuppressWarnings("unused")
 public class TagOptionSingleton {
 
   private static ConcurrentMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<>();
   private static String DEFAULT = "default";
-  private static String defaultOptions = DEFAULT;
-
-  private static final Lock tagOptionTableLock = new ReentrantLock();
+  private static volatile String defaultOptions = DEFAULT;
+  /**
+   * The instance for {@link #defaultOptions}, so {@link #getInstance()} doesn't need a table lookup. Only written here and by {@link
+   * #setInstanceKey(String)}, so it can't be left holding the options of an old key
+   */
+  private static volatile TagOptionSingleton defaultInstance = getInstance(DEFAULT);
+  /** Options in use by the current thread, see {@link #use(TagOptionSingleton)} */
+  private static final ThreadLocal<TagOptionSingleton> threadOptions = new ThreadLocal<>();
 
   private boolean isWriteWavForTwonky = false;
   private WavOptions wavOptions = WavOptions.READ_ID3_ONLY;
@@ -258,6 +263,36 @@ public class TagOptionSingleton {
    */
   private boolean readAheadMp4 = true;
 
+  /**
+   * Should ID3v2.3 and ID3v2.4 frame bodies be decoded only when first accessed
+   */
+  private boolean lazyId3v2FrameBodies = false;
+
+  /**
+   * Should artwork image data be left in the file until it's needed
+   */
+  private boolean lazyArtwork = false;
+
+  /**
+   * How far back from the end of an ogg file to search for the last page, 0 for the whole file
+   */
+  private long oggLastPageSearchLimit = 0;
+
+  /**
+   * ID3v2 tags at least this long are mapped rather than copied through a small buffer, 0 to always copy
+   */
+  private long mappedReadThreshold = 0;
+
+  /**
+   * Padding left after a tag that has outgrown its space, null for each format's own
+   */
+  private PaddingPolicy paddingPolicy = null;
+
+  /**
+   * Body length at which large ID3v2 frames are compressed on write, 0 for never
+   */
+  private int compressFrameThreshold = 0;
+
   /**
    * Default based on user option
    *
@@ -267,24 +302,32 @@ public class TagOptionSingleton {
     return getInstance().getID3V2Version().makeTag();
   }
 
+  /**
+   * Called for nearly every frame read or written, so this does not lock. The options set for this thread by {@link
+   * #use(TagOptionSingleton)} are returned if there are any, else the instance for the current instance key.
+   *
+   * @return the options in effect for the calling thread
+   */
   public static TagOptionSingleton getInstance() {
-    return getInstance(defaultOptions);
+    final TagOptionSingleton scoped = threadOptions.get();
+    if (scoped != null) {
+      return scoped;
+    }
+    final TagOptionSingleton instance = defaultInstance;
+    // null only while the default instance itself is being created
+    return instance != null ? instance : getInstance(defaultOptions);
   }
 
   public static TagOptionSingleton getInstance(String instanceKey) {
-    tagOptionTableLock.lock();
-    try {
-      TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
-
+    TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
+    if (tagOptions == null) {
+      final TagOptionSingleton created = new TagOptionSingleton();
+      tagOptions = tagOptionTable.putIfAbsent(instanceKey, created);
       if (tagOptions == null) {
-        tagOptions = new TagOptionSingleton();
-        tagOptionTable.put(instanceKey, tagOptions);
+        tagOptions = created;
       }
-
-      return tagOptions;
-    } finally {
-      tagOptionTableLock.unlock();
     }
+    return tagOptions;
   }
 
   public static String getInstanceKey() {
@@ -292,7 +335,47 @@ public class TagOptionSingleton {
   }
 
   public void setInstanceKey(String instanceKey) {
-    TagOptionSingleton.defaultOptions = instanceKey;
+    synchronized (TagOptionSingleton.class) {
+      TagOptionSingleton.defaultOptions = instanceKey;
+      defaultInstance = getInstance(instanceKey);
+    }
+  }
+
+  /**
+   * Make {@link #getInstance()} return {@code options} on the calling thread until the returned scope is closed, without changing the
+   * options seen by other threads. Scopes nest, closing one restores the options in effect when it was opened.
+   * <pre>
+   * TagOptionSingleton.Scope scope = TagOptionSingleton.use(TagOptionSingleton.getInstance("import"));
+   * try {
+   *   // read or write files with the "import" options
+   * } finally {
+   *   scope.close();
+   * }
+   * </pre>
+   *
+   * @param options the options to use, typically from {@link #getInstance(String)}
+   *
+   * @return the scope to close when done with these options
+   */
+  public static Scope use(final TagOptionSingleton options) {
+    final TagOptionSingleton previous = threadOptions.get();
+    threadOptions.set(options);
+    return new Scope() {
+      @Override public void close() {
+        if (previous == null) {
+          threadOptions.remove();
+        } else {
+          threadOptions.set(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returned from {@link #use(TagOptionSingleton)}, close to restore the previous options
+   */
+  public interface Scope extends AutoCloseable {
+    @Override void close();
   }
 
   /**
@@ -474,6 +557,154 @@ public class TagOptionSingleton {
     this.readAheadMp4 = readAheadMp4;
   }
 
+  /**
+   * If this is true, ID3v2.3 and ID3v2.4 frames only record their header while the tag is read and keep the raw body bytes. A body is
+   * decoded the first time it is accessed, and a frame whose body was never decoded is written back byte for byte when the tag is
+   * saved. Compressed, encrypted and unsynchronised frames are always decoded while reading.
+   * <p>
+   * <b>Default is false</b>
+   *
+   * @return true if ID3v2 frame bodies are decoded on first access
+   */
+  public boolean isLazyId3v2FrameBodies() {
+    return lazyId3v2FrameBodies;
+  }
+
+  /**
+   * Determines if ID3v2.3 and ID3v2.4 frame bodies are decoded on first access instead of while reading the tag. Setting this to true
+   * reduces the cost of reading a tag when only a few of its fields are used.
+   * <p>
+   * <b>Default is false</b>
+   *
+   * @param lazyId3v2FrameBodies if true frame bodies are decoded on first access
+   *
+   * @see #isLazyId3v2FrameBodies()
+   */
+  public void setLazyId3v2FrameBodies(final boolean lazyId3v2FrameBodies) {
+    this.lazyId3v2FrameBodies = lazyId3v2FrameBodies;
+  }
+
+  /**
+   * If this is true, artwork fields only record where their image data is in the file while the tag is read. This applies to Flac
+   * picture blocks, ID3v2 APIC and PIC frames of an MP3's ID3v2 tag, MP4 covr atoms and WMA WM/Picture descriptors. The data is read
+   * the first time it's asked for, and {@link ealvatag.tag.images.Artwork#openBinaryData()} streams it from the file without holding
+   * it all in memory.
+   * <p>
+   * When a Flac tag is saved, image data which was never read is moved within the file rather than read and written back. The other
+   * formats build the tag in memory when saving, so their image data is read then. ID3v2 frames which are unsynchronized, compressed
+   * or encrypted, and ID3v2 tags in other containers such as Wav or Aiff, are always read straight away.
+   * <p>
+   * The file must not be changed, other than through this library, while its tag is in use.
+   * <p>
+   * <b>Default is false</b>
+   *
+   * @return true if artwork image data is read on first access
+   */
+  public boolean isLazyArtwork() {
+    return lazyArtwork;
+  }
+
+  /**
+   * Determines if artwork image data is read on first access instead of while reading the tag. Setting this to true greatly reduces the
+   * memory used by tags with large artwork.
+   * <p>
+   * <b>Default is false</b>
+   *
+   * @param lazyArtwork if true image data is read on first access
+   *
+   * @see #isLazyArtwork()
+   */
+  public void setLazyArtwork(final boolean lazyArtwork) {
+    this.lazyArtwork = lazyArtwork;
+  }
+
+  /**
+   * <b>Default is 0</b>, search the whole file
+   *
+   * @return the number of bytes from the end of an ogg file searched for its last page
+   */
+  public long getOggLastPageSearchLimit() {
+    return oggLastPageSearchLimit;
+  }
+
+  /**
+   * The duration of an ogg file is found from the last page, which is searched for backwards from the end of the file. If the file
+   * ends with a lot of junk, or is corrupt, this search can read most of the file. With a limit the search gives up, as it would for a
+   * file with no pages, if no page is found that close to the end.
+   * <p>
+   * <b>Default is 0</b>, search the whole file
+   *
+   * @param oggLastPageSearchLimit the number of bytes from the end of the file to search, 0 for the whole file
+   */
+  public void setOggLastPageSearchLimit(final long oggLastPageSearchLimit) {
+    this.oggLastPageSearchLimit = oggLastPageSearchLimit;
+  }
+
+  /**
+   * <b>Default is 0</b>, always copy
+   *
+   * @return the length at which an ID3v2 tag is mapped from the file rather than copied
+   */
+  public long getMappedReadThreshold() {
+    return mappedReadThreshold;
+  }
+
+  /**
+   * An mp3's ID3v2 tag is normally copied from the file 8K at a time. A tag at least this long, such as one with large artwork or
+   * lyrics, is instead mapped and copied in one pass, which is much faster for tags of a megabyte or more. If the region can't be
+   * mapped it's copied as usual.
+   * <p>
+   * Java can't unmap a file, the mapping lasts until it's garbage collected. On Windows a mapped file can't be truncated or
+   * replaced, so saving a file soon after reading it this way may fail. Only set this on Windows if files are read but not saved.
+   * <p>
+   * <b>Default is 0</b>, always copy
+   *
+   * @param mappedReadThreshold length in bytes at which a tag is mapped, 0 to always copy
+   */
+  public void setMappedReadThreshold(final long mappedReadThreshold) {
+    this.mappedReadThreshold = mappedReadThreshold;
+  }
+
+  /**
+   * @return the padding policy set by {@link #setPaddingPolicy(PaddingPolicy)}, absent if each format uses its own
+   */
+  public Optional<PaddingPolicy> getPaddingPolicy() {
+    return Optional.fromNullable(paddingPolicy);
+  }
+
+  /**
+   * When a tag no longer fits in the space it has, the audio is moved to make room, which means rewriting most of the file. The
+   * policy decides how much extra room to leave at the same time, so later edits that grow the tag a little are written in place.
+   * It's applied to ID3v2 tags (including the ID3 chunk of WAV and AIFF files), FLAC, MP4 and Ogg Vorbis.
+   * <p>
+   * <b>Default is null</b>, each format's own padding: 100 bytes for ID3v2, 4000 bytes for FLAC and none for MP4 and Ogg Vorbis
+   *
+   * @param paddingPolicy the policy for every format, or null for each format's own
+   */
+  public void setPaddingPolicy(final PaddingPolicy paddingPolicy) {
+    this.paddingPolicy = paddingPolicy;
+  }
+
+  /**
+   * @return body length at which large ID3v2 frames are compressed on write, 0 for never
+   */
+  public int getCompressFrameThreshold() {
+    return compressFrameThreshold;
+  }
+
+  /**
+   * Lyrics and data frames (USLT, SYLT, TXXX and PRIV) with a body at least this long are zlib compressed when written to an ID3v2.3
+   * or ID3v2.4 tag, if that makes them smaller. ID3v2.2 has no frame compression. Compressed frames are always read whatever this
+   * is set to.
+   * <p>
+   * <b>Default is 0</b>, never compress
+   *
+   * @param compressFrameThreshold frame body length in bytes, 0 to never compress
+   */
+  public void setCompressFrameThreshold(final int compressFrameThreshold) {
+    this.compressFrameThreshold = compressFrameThreshold;
+  }
+
   public Iterator<Class<? extends ID3v24FrameBody>> getKeywordIterator() {
     return keywordMap.keySet().iterator();
   }
@@ -678,6 +909,12 @@ public class TagOptionSingleton {
     id3v2Version = ID3V2Version.ID3_V23;
     checkIsWritable = false;
     preserveFileIdentity = false;
+    lazyId3v2FrameBodies = false;
+    lazyArtwork = false;
+    oggLastPageSearchLimit = 0;
+    mappedReadThreshold = 0;
+    paddingPolicy = null;
+    compressFrameThreshold = 0;
 
     //default all lyrics3 fields to save. id3v1 fields are individual
     // settings. id3v2 fields are always looked at to save.
@@ -1023,6 +1260,11 @@ public class TagOptionSingleton {
    * as well as the Unix inode or Windows
    * <a href="https://msdn.microsoft.com/en-us/library/aa363788(v=vs.85).aspx">fileIndex</a>.
    * </p>
+   * <p>
+   * When an mp3's ID3v2 tag no longer fits before the audio and this is {@code true}, the audio is moved within the file, so a crash
+   * part way through the save can leave the file corrupt. When {@code false} the tags and audio are written to a new file which then
+   * replaces the original, so the file is either as it was or fully saved.
+   * </p>
    *
    * @return {@code true} or {@code false}. Default is {@code false}.
    */
@@ -421,7 +421,11 @@ public final class AsfTag extends AbstractTag {
     for (final TagField next : coverartList) {
       final AsfTagCoverField coverArt = (AsfTagCoverField)next;
       final Artwork artwork = ArtworkFactory.getNew();
-      artwork.setBinaryData(coverArt.getRawImageData());
+      if (coverArt.getDeferredImageData() != null) {
+        artwork.setDeferredBinaryData(coverArt.getDeferredImageData());
+      } else {
+        artwork.setBinaryData(coverArt.getRawImageData());
+      }
       artwork.setMimeType(coverArt.getMimeType());
       artwork.setDescription(coverArt.getDescription());
       artwork.setPictureType(coverArt.getPictureType());
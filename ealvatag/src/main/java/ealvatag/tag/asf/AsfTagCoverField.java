@@ -8,10 +8,12 @@ import ealvatag.audio.asf.data.MetadataDescriptor;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.id3.valuepair.ImageFormats;
+import ealvatag.tag.images.DeferredImageData;
 
 import static com.ealva.ealvalog.LogLevel.WARN;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.UnsupportedEncodingException;
 
 /**
@@ -90,7 +92,7 @@ public class AsfTagCoverField extends AbstractAsfTagImageField {
     }
 
     try {
-      processRawContent();
+      processRawContent(getDescriptor().getRawDataInMemory());
     } catch (final UnsupportedEncodingException uee) {
       // Should never happen
       throw new RuntimeException(uee); // NOPMD by Christian Laireiter on 5/9/09 5:45 PM
@@ -166,6 +168,27 @@ public class AsfTagCoverField extends AbstractAsfTagImageField {
     return baos.toByteArray();
   }
 
+  /**
+   * Leave the image data in the file it was read from, to be read again when it's needed, see
+   * {@link ealvatag.tag.TagOptionSingleton#setLazyArtwork(boolean)}. Does nothing if the descriptor doesn't know where it was read
+   * from.
+   *
+   * @param file the file the field was read from
+   *
+   * @return the image data left in the file, or null if it's held in memory
+   */
+  public DeferredImageData deferImageData(final File file) {
+    return this.endOfName > 0 ? getDescriptor().deferContent(file, this.endOfName) : null;
+  }
+
+  /**
+   * @return the image data if it was left in the file, else null. It may since have been read, see
+   * {@link DeferredImageData#isImageDataDeferred()}
+   */
+  public DeferredImageData getDeferredImageData() {
+    return getDescriptor().getDeferredContent();
+  }
+
   public String getDescription() {
     return this.description;
   }
@@ -188,6 +211,10 @@ public class AsfTagCoverField extends AbstractAsfTagImageField {
    */
   @Override
   public byte[] getRawImageData() {
+    final DeferredImageData deferred = getDeferredImageData();
+    if (deferred != null) {
+      return deferred.getImageData().clone();
+    }
     final ByteArrayOutputStream baos = new ByteArrayOutputStream();
     baos.write(getRawContent(), this.endOfName, this.toWrap
         .getRawDataSize()
@@ -195,13 +222,12 @@ public class AsfTagCoverField extends AbstractAsfTagImageField {
     return baos.toByteArray();
   }
 
-  private void processRawContent() throws UnsupportedEncodingException {
+  private void processRawContent(final byte[] rawContent) throws UnsupportedEncodingException {
     // PictureType
-    this.pictureType = this.getRawContent()[0];
+    this.pictureType = rawContent[0];
 
     // ImageDataSize
-    this.imageDataSize = Utils.getIntLE(this
-                                            .getRawContent(), 1, 2);
+    this.imageDataSize = Utils.getIntLE(rawContent, 1, 2);
 
     // Set Count to after picture type,datasize and two byte nulls
     int count = 5;
@@ -209,14 +235,14 @@ public class AsfTagCoverField extends AbstractAsfTagImageField {
     this.description = null; // Optional
     int endOfMimeType = 0;
 
-    while (count < this.getRawContent().length - 1) {
-      if (getRawContent()[count] == 0 && getRawContent()[count + 1] == 0) {
+    while (count < rawContent.length - 1) {
+      if (rawContent[count] == 0 && rawContent[count + 1] == 0) {
         if (this.mimeType == null) {
-          this.mimeType = new String(getRawContent(), 5, (count) - 5,
+          this.mimeType = new String(rawContent, 5, (count) - 5,
                                      "UTF-16LE");
           endOfMimeType = count + 2;
         } else if (this.description == null) {
-          this.description = new String(getRawContent(),
+          this.description = new String(rawContent,
                                         endOfMimeType, count - endOfMimeType, "UTF-16LE");
           this.endOfName = count + 2;
           break;
@@ -22,23 +22,68 @@ package ealvatag.tag.datatype;
 
 import ealvatag.tag.InvalidDataTypeException;
 import ealvatag.tag.id3.AbstractTagFrameBody;
+import ealvatag.tag.images.DeferredImageData;
 import okio.Buffer;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 
 import java.io.EOFException;
+import java.util.Arrays;
 
 /**
  * Represents a stream of bytes, continuing until the end of the buffer. Usually used for binary data or where
  * we havent yet mapped the data to a better fitting type.
  */
 public class ByteArraySizeTerminated extends AbstractDataType {
+  /** Bytes left in the file, used in place of {@link #value} until they're read */
+  private DeferredImageData deferredValue;
+  /** Set only while reading, to leave the bytes in the file */
+  private DeferredImageData.Locator locator;
+
   public ByteArraySizeTerminated(String identifier, AbstractTagFrameBody frameBody) {
     super(identifier, frameBody);
   }
 
   public ByteArraySizeTerminated(ByteArraySizeTerminated object) {
     super(object);
+    deferredValue = object.deferredValue;
+  }
+
+  /**
+   * Leave the bytes in the file on the next {@link #read(Buffer, int)}, if it's from the buffer {@code locator} knows the file
+   * offsets of
+   *
+   * @param locator locates the buffer in the file
+   */
+  public void deferRead(DeferredImageData.Locator locator) {
+    this.locator = locator;
+  }
+
+  /**
+   * @return the bytes if they were left in the file when read, else null. They may since have been read, see
+   * {@link DeferredImageData#isImageDataDeferred()}
+   */
+  public DeferredImageData getDeferredValue() {
+    return deferredValue;
+  }
+
+  /**
+   * Set bytes which are still in the file, to be read when first asked for
+   *
+   * @param deferredValue the bytes left in the file
+   */
+  public void setDeferredValue(DeferredImageData deferredValue) {
+    this.value = null;
+    this.deferredValue = deferredValue;
+  }
+
+  @Override public void setValue(Object value) {
+    super.setValue(value);
+    deferredValue = null;
+  }
+
+  @Override public Object getValue() {
+    return deferredValue != null ? deferredValue.getImageData() : value;
   }
 
   /**
@@ -49,7 +94,9 @@ public class ByteArraySizeTerminated extends AbstractDataType {
   public int getSize() {
     int len = 0;
 
-    if (value != null) {
+    if (deferredValue != null) {
+      len = deferredValue.getImageDataLength();
+    } else if (value != null) {
       len = ((byte[])value).length;
     }
 
@@ -57,8 +104,15 @@ public class ByteArraySizeTerminated extends AbstractDataType {
   }
 
   public boolean equals(Object obj) {
-    return obj instanceof ByteArraySizeTerminated && super.equals(obj);
-
+    if (!(obj instanceof ByteArraySizeTerminated)) {
+      return false;
+    }
+    ByteArraySizeTerminated object = (ByteArraySizeTerminated)obj;
+    if (deferredValue == null && object.deferredValue == null) {
+      return super.equals(obj);
+    }
+    return getIdentifier().equals(object.getIdentifier()) &&
+        (deferredValue == object.deferredValue || Arrays.equals((byte[])getValue(), (byte[])object.getValue()));
   }
 
   public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
@@ -71,6 +125,7 @@ public class ByteArraySizeTerminated extends AbstractDataType {
           "Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
     }
 
+    deferredValue = null;
     //Empty Byte Array
     if (offset >= arr.length) {
       value = null;
@@ -84,7 +139,14 @@ public class ByteArraySizeTerminated extends AbstractDataType {
   }
 
   @Override public void read(final Buffer buffer, final int size) throws EOFException, InvalidDataTypeException {
-    value = buffer.readByteArray(size);
+    if (locator != null && locator.isLocating(buffer) && size > 0) {
+      value = null;
+      deferredValue = locator.skip(size);
+    } else {
+      value = buffer.readByteArray(size);
+      deferredValue = null;
+    }
+    locator = null;
   }
 
   /**
@@ -104,6 +166,6 @@ public class ByteArraySizeTerminated extends AbstractDataType {
    */
   public byte[] writeByteArray() {
     LOG.log(DEBUG, "Writing byte array %s", getIdentifier());
-    return (byte[])value;
+    return (byte[])getValue();
   }
 }
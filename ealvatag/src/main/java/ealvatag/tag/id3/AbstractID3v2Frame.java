@@ -35,14 +35,18 @@ import ealvatag.tag.TagField;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.TagTextField;
 import ealvatag.tag.id3.framebody.AbstractID3v2FrameBody;
+import ealvatag.tag.id3.framebody.FrameBodyAPIC;
 import ealvatag.tag.id3.framebody.FrameBodyEncrypted;
+import ealvatag.tag.id3.framebody.FrameBodyPIC;
 import ealvatag.tag.id3.framebody.FrameBodyUnsupported;
 import ealvatag.tag.id3.framebody.FrameIdentifierException;
 import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.utils.EqualsUtil;
 import okio.Buffer;
 import okio.BufferedSource;
+import okio.ByteString;
 import okio.InflaterSource;
 import okio.Okio;
 import org.jetbrains.annotations.Nullable;
@@ -53,8 +57,6 @@ import static ealvatag.tag.id3.ID3v24Frames.FRAME_ID_ATTACHED_PICTURE;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.zip.Inflater;
@@ -116,6 +118,19 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    */
   EncodingFlags encodingFlags = null;
 
+  /**
+   * Body bytes, exactly as read, of a frame whose body has not been decoded yet. Null once the body is decoded or set. Volatile and
+   * only cleared after {@link #frameBody} is set, so a thread that sees null also sees the decoded body.
+   *
+   * @see #deferBody(Buffer, String, int)
+   */
+  private volatile @Nullable ByteString deferredBody;
+
+  /**
+   * The identifier used to pick the frame body when decoding {@link #deferredBody}
+   */
+  private String deferredBodyIdentifier;
+
   /**
    * Create a frame based on another frame
    */
@@ -139,23 +154,12 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     LOG.log(DEBUG, "Creating empty frame of type %s", identifier);
     this.identifier = identifier;
 
-    // Use reflection to map id to frame body, which makes things much easier
-    // to keep things up to date.
-    // TODO: 2/23/17 ditch this reflection code - stated reason for use is nonsense. These things are rarely if ever added. Need
-    // factories and a map
     try {
-      @SuppressWarnings("unchecked") Class<AbstractID3v2FrameBody> c =
-          (Class<AbstractID3v2FrameBody>)Class.forName("ealvatag.tag.id3.framebody.FrameBody" + identifier);
-      frameBody = c.newInstance();
-    } catch (ClassNotFoundException cnfe) {
-      LOG.log(ERROR, "Can't find frame body type", cnfe);
+      frameBody = Id3FrameBodyFactories.instance().make(identifier);
+    } catch (FrameIdentifierException e) {
+      LOG.log(ERROR, "Can't find frame body type", e);
       frameBody = new FrameBodyUnsupported(identifier);
     }
-    //Instantiate Interface/Abstract should not happen
-    catch (InstantiationException | IllegalAccessException ie) {
-      LOG.log(ERROR, "Can't instantiate body for id:%s", identifier, ie);
-      throw new RuntimeException(ie);
-    }
     frameBody.setHeader(this);
     if (this instanceof ID3v24Frame) {
       frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v24DefaultTextEncoding());
@@ -255,25 +259,16 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    *
    * @throws InvalidFrameException unable to construct a framebody from the data
    */
-  @SuppressWarnings("unchecked")
-  //TODO using reflection is rather slow perhaps we should change this
   AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize)
       throws InvalidFrameException, InvalidDataTypeException {
-    //Use reflection to map id to frame body, which makes things much easier
-    //to keep things up to date,although slight performance hit.
     LOG.log(TRACE, "Creating framebody");
 
     AbstractID3v2FrameBody frameBody;
     try {
-      Class<AbstractID3v2FrameBody> c =
-          (Class<AbstractID3v2FrameBody>)Class.forName("ealvatag.tag.id3.framebody.FrameBody" + identifier);
-      Class<?>[] constructorParameterTypes = {Class.forName("java.nio.ByteBuffer"), Integer.TYPE};
-      Object[] constructorParameterValues = {byteBuffer, frameSize};
-      Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-      frameBody = (construct.newInstance(constructorParameterValues));
-    }
-    //No class defined for this frame type,use FrameUnsupported
-    catch (ClassNotFoundException cex) {
+      frameBody = Id3FrameBodyFactories.instance().make(identifier, byteBuffer, frameSize);
+    }
+    //No frame body defined for this frame type,use FrameUnsupported
+    catch (FrameIdentifierException e) {
       LOG.log(DEBUG, "%s:Identifier not recognized:%s using FrameBodyUnsupported", loggingFilename, identifier);
       try {
         frameBody = new FrameBodyUnsupported(byteBuffer, frameSize);
@@ -286,37 +281,15 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
         throw new InvalidFrameException(te.getMessage());
       }
     }
-    //An error has occurred during frame instantiation, if underlying cause is an unchecked exception or error
-    //propagate it up otherwise mark this frame as invalid
-    catch (InvocationTargetException ite) {
+    //An error has occurred reading the frame body, mark this frame as invalid
+    catch (InvalidFrameException | InvalidDataTypeException e) {
       LOG.log(ERROR, loggingFilename + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" +
-          identifier + ":" + ite.getCause().getMessage());
-      if (ite.getCause() instanceof Error) {
-        throw (Error)ite.getCause();
-      } else if (ite.getCause() instanceof RuntimeException) {
-        throw (RuntimeException)ite.getCause();
-      } else if (ite.getCause() instanceof InvalidFrameException) {
-        throw (InvalidFrameException)ite.getCause();
-      } else if (ite.getCause() instanceof InvalidDataTypeException) {
-        throw (InvalidDataTypeException)ite.getCause();
-      } else {
-        throw new InvalidFrameException(ite.getCause().getMessage());
-      }
-    }
-    //No Such Method should not happen
-    catch (NoSuchMethodException sme) {
-      LOG.log(ERROR, loggingFilename + ":" + "No such method:" + sme.getMessage(), sme);
-      throw new RuntimeException(sme.getMessage());
-    }
-    //Instantiate Interface/Abstract should not happen
-    catch (InstantiationException ie) {
-      LOG.log(ERROR, loggingFilename + ":" + "Instantiation exception:" + ie.getMessage(), ie);
-      throw new RuntimeException(ie.getMessage());
-    }
-    //Private Constructor shouild not happen
-    catch (IllegalAccessException iae) {
-      LOG.log(ERROR, loggingFilename + ":" + "Illegal access exception :" + iae.getMessage(), iae);
-      throw new RuntimeException(iae.getMessage());
+          identifier + ":" + e.getMessage());
+      throw e;
+    } catch (InvalidTagException te) {
+      LOG.log(ERROR, loggingFilename + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" +
+          identifier + ":" + te.getMessage());
+      throw new InvalidFrameException(te.getMessage());
     }
     LOG.log(TRACE, "%s:Created framebody %s", loggingFilename, frameBody);
     frameBody.setHeader(this);
@@ -324,7 +297,6 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
   }
 
   AbstractID3v2FrameBody readBody(String identifier, Buffer buffer, int frameSize) throws InvalidTagException {
-    // Stop using reflection. Frame types added/changed rarely. Performance penalty for no good reason.
     AbstractID3v2FrameBody frameBody;
     try {
       frameBody = Id3FrameBodyFactories.instance().make(identifier, buffer, frameSize);
@@ -335,6 +307,121 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return frameBody;
   }
 
+  /**
+   * Read the body, leaving the image data of an artwork frame in the file if {@code artworkLocator} knows where {@code buffer} lies
+   * in the file
+   *
+   * @param artworkLocator locates the tag buffer in the file, null to read image data into memory
+   */
+  AbstractID3v2FrameBody readBody(String identifier,
+                                  Buffer buffer,
+                                  int frameSize,
+                                  @Nullable DeferredImageData.Locator artworkLocator) throws InvalidTagException {
+    if (artworkLocator == null || !artworkLocator.isLocating(buffer)) {
+      return readBody(identifier, buffer, frameSize);
+    }
+    AbstractID3v2FrameBody frameBody;
+    switch (identifier) {
+      case FRAME_ID_ATTACHED_PICTURE:
+        frameBody = new FrameBodyAPIC(buffer, frameSize, artworkLocator);
+        break;
+      case FRAME_ID_V2_ATTACHED_PICTURE:
+        frameBody = new FrameBodyPIC(buffer, frameSize, artworkLocator);
+        break;
+      default:
+        return readBody(identifier, buffer, frameSize);
+    }
+    frameBody.setHeader(this);
+    return frameBody;
+  }
+
+  /**
+   * Keep the next {@code size} bytes of {@code buffer} as the undecoded body of this frame. The body is decoded by
+   * {@link #readDeferredBody(String, Buffer, int)} the first time {@link #getBody()} is called. If the body is never asked for, the
+   * kept bytes are written back unchanged when the tag is saved.
+   * <p>
+   * Only frames whose body is stored as is (not compressed, encrypted, or unsynchronised at the frame level) should be deferred.
+   * <p>
+   * A body that fails to decode during an eager read drops the frame from the tag. A deferred body that fails to decode can't be
+   * dropped, as the frame is already in the tag, so it becomes a {@link FrameBodyUnsupported} holding the bytes as read and is
+   * written back unchanged.
+   *
+   * @param buffer         positioned at the start of the frame body
+   * @param bodyIdentifier identifier used to select the frame body type
+   * @param size           size of the body in bytes
+   *
+   * @throws EOFException if {@code buffer} does not contain {@code size} bytes
+   */
+  void deferBody(Buffer buffer, String bodyIdentifier, int size) throws EOFException {
+    frameBody = null;
+    deferredBodyIdentifier = bodyIdentifier;
+    deferredBody = buffer.readByteString(size);
+  }
+
+  /**
+   * Decode a body kept by {@link #deferBody(Buffer, String, int)}. Subclasses convert the body as they would have during an eager
+   * read.
+   */
+  AbstractTagFrameBody readDeferredBody(String bodyIdentifier, Buffer buffer, int size) throws InvalidTagException {
+    return readBody(bodyIdentifier, buffer, size);
+  }
+
+  /**
+   * @return true if the body was deferred during read and has not yet been decoded
+   */
+  boolean isBodyDeferred() {
+    return deferredBody != null;
+  }
+
+  /**
+   * @return the undecoded body bytes, or null if the body has been decoded or set, in which case {@link #frameBody} holds it
+   */
+  @Nullable byte[] getDeferredBodyBytes() {
+    final ByteString body = deferredBody;
+    return body != null ? body.toByteArray() : null;
+  }
+
+  /**
+   * @return the size of the body as it will be written
+   */
+  int getBodySize() {
+    final ByteString body = deferredBody;
+    return body != null ? body.size() : frameBody.getSize();
+  }
+
+  /**
+   * Decodes a deferred body on first call. Frames of a read-only tag may be shared between threads, so the decode is done once, under
+   * the frame's lock, and the deferred bytes are cleared only after the body is set.
+   */
+  @Override public AbstractTagFrameBody getBody() {
+    if (deferredBody != null) {
+      synchronized (this) {
+        final ByteString body = deferredBody;
+        if (body != null) {
+          AbstractTagFrameBody decoded;
+          try {
+            decoded = readDeferredBody(deferredBodyIdentifier, new Buffer().write(body), body.size());
+          } catch (InvalidTagException | RuntimeException e) {
+            // the bytes were read fine but don't decode, keep them so they are written back as they were
+            LOG.log(WARN, "%s:Unable to decode deferred frame %s", loggingFilename, identifier, e);
+            decoded = new FrameBodyUnsupported(identifier, body.toByteArray());
+            decoded.setHeader(this);
+          }
+          frameBody = decoded;
+          deferredBody = null;
+        }
+      }
+    }
+    return frameBody;
+  }
+
+  @Override public void setBody(AbstractTagFrameBody frameBody) {
+    synchronized (this) {
+      super.setBody(frameBody);
+      deferredBody = null;
+    }
+  }
+
   /**
    * Get the next frame id, throwing an exception if unable to do this and check against just having padded data
    */
@@ -397,45 +484,20 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    *
    * @throws InvalidFrameException if unable to construct a framebody for the identifier and body provided.
    */
-  @SuppressWarnings("unchecked")
-  //TODO using reflection is rather slow perhaps we should change this
   AbstractID3v2FrameBody readBody(String identifier, AbstractID3v2FrameBody body)
       throws InvalidFrameException {
-        /* Use reflection to map id to frame body, which makes things much easier
-         * to keep things up to date, although slight performance hit.
-         */
     AbstractID3v2FrameBody frameBody;
     try {
-      Class<AbstractID3v2FrameBody> c =
-          (Class<AbstractID3v2FrameBody>)Class.forName("ealvatag.tag.id3.framebody.FrameBody" + identifier);
-      Class<?>[] constructorParameterTypes = {body.getClass()};
-      Object[] constructorParameterValues = {body};
-      Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-      frameBody = (construct.newInstance(constructorParameterValues));
-    } catch (ClassNotFoundException cex) {
+      frameBody = Id3FrameBodyFactories.instance().convert(identifier, body);
+    } catch (FrameIdentifierException e) {
       LOG.log(DEBUG, "Identifier not recognised:%s unable to create framebody", identifier);
       throw new InvalidFrameException("FrameBody" + identifier + " does not exist");
     }
     //If suitable constructor does not exist
-    catch (NoSuchMethodException sme) {
-      LOG.log(ERROR, "No such method", sme);
+    if (frameBody == null) {
+      LOG.log(ERROR, "FrameBody%s can't be created from:%s", identifier, body.getClass().getName());
       throw new InvalidFrameException(
           "FrameBody" + identifier + " does not have a constructor that takes:" + body.getClass().getName());
-    } catch (InvocationTargetException ite) {
-      LOG.log(ERROR, "Error constructing frame body:%s", ite.getCause().getMessage(), ite.getCause());
-      if (ite.getCause() instanceof Error) {
-        throw (Error)ite.getCause();
-      } else if (ite.getCause() instanceof RuntimeException) {
-        throw (RuntimeException)ite.getCause();
-      } else {
-        throw new InvalidFrameException(ite.getCause().getMessage());
-      }
-    }
-
-    //Instantiate Interface/Abstract should not happen
-    catch (InstantiationException | IllegalAccessException ie) {
-      LOG.log(ERROR, "Can't read body for:%s", identifier, ie);
-      throw new RuntimeException(ie.getMessage());
     }
 
     LOG.log(INFO, "frame Body created" + frameBody.getIdentifier());
@@ -473,13 +535,22 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return encodingFlags;
   }
 
+  /**
+   * Inflate the next {@code frameSize} bytes of {@code source} straight from its segments, using the calling thread's pooled inflater
+   */
   static Buffer decompressPartOfBuffer(Buffer source, int frameSize, final int decompressedFrameSize)
       throws IOException, InvalidFrameException {
     final Buffer sink = new Buffer();
     source.readFully(sink, frameSize);
     Buffer result = new Buffer();
-    final BufferedSource inflaterSource = Okio.buffer(new InflaterSource(sink, new Inflater()));
-    inflaterSource.readFully(result, decompressedFrameSize);
+    final Inflater inflater = ID3Compression.inflater();
+    try {
+      // not closed, that would end the pooled inflater
+      final BufferedSource inflaterSource = Okio.buffer(new InflaterSource(sink, inflater));
+      inflaterSource.readFully(result, decompressedFrameSize);
+    } finally {
+      inflater.reset();
+    }
     return result;
   }
 
@@ -31,6 +31,7 @@ import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.UnableToCreateFileException;
 import ealvatag.audio.exceptions.UnableToModifyFileException;
 import ealvatag.audio.exceptions.UnableToRenameFileException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.FileSystemMessage;
@@ -41,6 +42,7 @@ import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.datatype.DataTypes;
 import ealvatag.tag.datatype.Pair;
@@ -67,11 +69,12 @@ import ealvatag.tag.id3.valuepair.ID3NumberTotalFields;
 import ealvatag.tag.id3.valuepair.StandardIPLSKey;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.tag.reference.Languages;
 import ealvatag.utils.Check;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
-import static ealvatag.logging.ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING;
 import static ealvatag.utils.Check.CANNOT_BE_NULL;
 import static ealvatag.utils.Check.checkArgNotNull;
 import static ealvatag.utils.Check.checkVarArg0NotNull;
@@ -133,7 +136,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 //    protected static final int FIELD_TAG_MINOR_VERSION_POS = 4;
 //    protected static final int FIELD_TAG_FLAG_POS = 5;
 //    protected static final int FIELD_TAG_SIZE_POS = 6;
-  private static final int TAG_SIZE_INCREMENT = 100;
+  private static final PaddingPolicy DEFAULT_PADDING_POLICY = PaddingPolicy.fixed(100);
   /**
    * Holds the ids of invalid duplicate frames
    */
@@ -155,8 +158,6 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   private static final String TYPE_INVALIDFRAMES = "invalidFrames";
   private static final JLogger LOG = JLoggers.get(AbstractID3v2Tag.class, EalvaTagLog.MARKER);
-  //The max size we try to write in one go to avoid out of memory errors (10mb)
-  private static final long MAXIMUM_WRITABLE_CHUNK_SIZE = 10000000;
   /**
    * Map of all frames for this tag
    */
@@ -1458,11 +1459,67 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   /**
-   * Write tag to file.
+   * Write tag to file. If the tag no longer fits before the audio, the audio is moved within the file if
+   * {@link TagOptionSingleton#isPreserveFileIdentity()}, else the tag and audio are written to a new file which then replaces
+   * {@code file}.
    *
    * @return new audioStartByte - different only if the audio content had to be moved
    */
-  public abstract long write(File file, long audioStartByte) throws IOException;
+  public long write(File file, long audioStartByte) throws IOException {
+    final Replacement replacement = TagOptionSingleton.getInstance().isPreserveFileIdentity() ? null : new Replacement(file);
+    final long newAudioStartByte;
+    try (RandomAccessFile raf = openForWriting(file)) {
+      final FileLock fileLock = getFileLockForWriting(raf.getChannel(), file.getPath());
+      try {
+        newAudioStartByte = write(raf.getChannel(), file.getName(), audioStartByte, replacement);
+      } finally {
+        if (fileLock != null) {
+          fileLock.release();
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      if (replacement != null) {
+        replacement.delete();
+      }
+      throw e;
+    }
+    if (replacement != null) {
+      replacement.replaceOriginal();
+    }
+    return newAudioStartByte;
+  }
+
+  /**
+   * Write tag to the start of a file already open for writing, moving the audio within the file if the tag no longer fits before it.
+   * <p>
+   * Moving the audio rewrites most of the file in place, so a crash part way through leaves it corrupt. See
+   * {@link #write(FileChannel, String, long, File)} to leave the file untouched instead.
+   *
+   * @param channel        the file, locked by the caller if required
+   * @param fileName       name of the file, for logging
+   * @param audioStartByte where the audio currently starts
+   *
+   * @return new audioStartByte - different only if the audio content had to be moved
+   */
+  public long write(FileChannel channel, String fileName, long audioStartByte) throws IOException {
+    return write(channel, fileName, audioStartByte, null);
+  }
+
+  /**
+   * Write tag to the start of a file already open for writing. If the tag no longer fits before the audio and {@code replacement} is
+   * not null, a new file is created and the tag and then the audio, and anything after it, are written to it, leaving {@code channel}
+   * unchanged. The caller then replaces the file with it, see {@link Replacement#replaceOriginal()}. Otherwise the audio is moved within
+   * the file.
+   *
+   * @param channel        the file, locked by the caller if required
+   * @param fileName       name of the file, for logging
+   * @param audioStartByte where the audio currently starts
+   * @param replacement    creates the new file only if it's needed, or null to move the audio in place
+   *
+   * @return new audioStartByte - different only if the audio content had to be moved, which is also when the new file is written
+   */
+  public abstract long write(FileChannel channel, String fileName, long audioStartByte, @Nullable Replacement replacement)
+      throws IOException;
 
   /**
    * Write tag to output stream
@@ -1542,7 +1599,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * This method determines the total tag size taking into account
    * the preferredSize and the min size required for new tag. For mp3
    * preferred size is the location of the audio, for other formats
-   * preferred size is the size of the existing tag
+   * preferred size is the size of the existing tag. A tag that doesn't
+   * fit is padded according to {@link TagOptionSingleton#getPaddingPolicy()}
    */
   int calculateTagSize(int tagSize, int preferredSize) {
     // We can fit in the tag so no adjustments required
@@ -1550,7 +1608,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       return preferredSize;
     }
     // There is not enough room as we need to move the audio file we might as well increase it more than necessary for future changes
-    return tagSize + TAG_SIZE_INCREMENT;
+    return tagSize + TagOptionSingleton.getInstance().getPaddingPolicy().or(DEFAULT_PADDING_POLICY).getPadding(tagSize);
   }
 
   /**
@@ -1578,268 +1636,156 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   /**
-   * Write the data from the buffer to the file
+   * Write the data from the buffer to the start of the file. If the tag including padding no longer fits before the audio, it's written
+   * with the audio to a new file if {@code replacement} is given, else the audio is first moved towards the end of the file, within the file, to make
+   * room.
    */
-  void writeBufferToFile(File file,
+  void writeBufferToFile(FileChannel fc,
                          ByteBuffer headerBuffer,
                          byte[] bodyByteBuffer,
                          int padding,
                          int sizeIncPadding,
-                         long audioStartLocation) throws IOException {
-    FileChannel fc = null;
-    FileLock fileLock = null;
-
+                         long audioStartLocation,
+                         @Nullable Replacement replacement) throws IOException {
     //We need to adjust location of audio file if true
     if (sizeIncPadding > audioStartLocation) {
-      LOG.log(TRACE, "Adjusting Padding");
-      adjustPadding(file, sizeIncPadding, audioStartLocation);
-    }
-
-    try {
-      fc = new RandomAccessFile(file, "rw").getChannel();
-      fileLock = getFileLockForWriting(fc, file.getPath());
-      fc.write(headerBuffer);
-      fc.write(ByteBuffer.wrap(bodyByteBuffer));
-      fc.write(ByteBuffer.wrap(new byte[padding]));
-    } catch (FileNotFoundException fe) {
-      LOG.log(ERROR, loggingFilename + fe.getMessage(), fe);
-      if (fe.getMessage().contains(FileSystemMessage.ACCESS_IS_DENIED.getMsg()) ||
-          fe.getMessage().contains(FileSystemMessage.PERMISSION_DENIED.getMsg())) {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-        throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-      } else {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-        throw new UnableToCreateFileException(String.format(Locale.getDefault(),
-                                                            ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING,
-                                                            file));
-      }
-    } catch (IOException ioe) {
-      LOG.log(ERROR, loggingFilename + ioe.getMessage(), ioe);
-      if (ioe.getMessage().equals(FileSystemMessage.ACCESS_IS_DENIED.getMsg())) {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-        throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-      } else {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-        throw new UnableToCreateFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-      }
-    } finally {
-      if (fc != null) {
-        if (fileLock != null) {
-          fileLock.release();
-        }
-        fc.close();
+      LOG.log(DEBUG, "Need to move audio file to accommodate tag");
+      final long audioLength = fc.size() - audioStartLocation;
+      if (replacement != null) {
+        final File newFile = replacement.create();
+        LOG.log(DEBUG, "Copying: %s bytes from %s to %s in %s", audioLength, audioStartLocation, sizeIncPadding, newFile);
+        writeToNewFile(fc, headerBuffer, bodyByteBuffer, padding, audioStartLocation, audioLength, newFile);
+        return;
       }
+      LOG.log(DEBUG, "Moving: %s bytes from %s to %s", audioLength, audioStartLocation, sizeIncPadding);
+      new FileOperator(fc).move(audioStartLocation,
+                                sizeIncPadding,
+                                audioLength,
+                                (int)TagOptionSingleton.getInstance().getWriteChunkSize());
     }
+
+    fc.position(0);
+    fc.write(headerBuffer);
+    fc.write(ByteBuffer.wrap(bodyByteBuffer));
+    fc.write(ByteBuffer.wrap(new byte[padding]));
   }
 
   /**
-   * Is this tag equivalent to another
-   *
-   * @param obj to test for equivalence
-   *
-   * @return true if they are equivalent
+   * Write the tag followed by the audio of {@code fc} to {@code newFile}, making sure it's on disk before it can replace the original
    */
-  public boolean equals(Object obj) {
-    if (!(obj instanceof AbstractID3v2Tag)) {
-      return false;
+  private void writeToNewFile(FileChannel fc,
+                              ByteBuffer headerBuffer,
+                              byte[] bodyByteBuffer,
+                              int padding,
+                              long audioStartLocation,
+                              long audioLength,
+                              File newFile) throws IOException {
+    final FileOutputStream out;
+    try {
+      out = new FileOutputStream(newFile);
+    }
+    //Vista:Can occur if have special permission Create Folder/Append Data denied
+    catch (FileNotFoundException fe) {
+      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_MODIFY_TEMPORARY_FILE_IN_FOLDER, newFile, newFile.getParentFile(), fe);
+      throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_MODIFY_TEMPORARY_FILE_IN_FOLDER,
+                                            newFile.getName(),
+                                            newFile.getParentFile());
+    }
+    try (FileChannel fcOut = out.getChannel()) {
+      fcOut.write(headerBuffer);
+      fcOut.write(ByteBuffer.wrap(bodyByteBuffer));
+      fcOut.write(ByteBuffer.wrap(new byte[padding]));
+      //Copied a chunk at a time by the platform, large files never pass through the heap
+      new FileOperator(fc).transferTo(audioStartLocation, audioLength, fcOut, TagOptionSingleton.getInstance().getWriteChunkSize());
+      fcOut.force(false);
     }
-    AbstractID3v2Tag object = (AbstractID3v2Tag)obj;
-    return this.frameMap.equals(object.frameMap) && super.equals(obj);
   }
 
   /**
-   * Get file lock for writing too file
-   * <p>
-   * TODO:this appears to have little effect on Windows Vista
-   *
-   * @return lock or null if locking is not supported
-   *
-   * @throws IOException                                    if unable to get lock because already locked by another program
-   * @throws java.nio.channels.OverlappingFileLockException if already locked by another thread in the same VM, we dont catch this because
-   *                                                        indicates a programming error
+   * The new file a file's tag and audio are written to when the tag no longer fits before the audio, see
+   * {@link #write(FileChannel, String, long, Replacement)}. It's only created then, so a tag which fits costs no file system calls.
    */
-  private FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
-    LOG.log(TRACE, "locking fileChannel for %s", filePath);
-    FileLock fileLock;
-    try {
-      fileLock = fileChannel.tryLock();
+  public static final class Replacement {
+    private final File originalFile;
+    private @Nullable File newFile;
+
+    /**
+     * @param originalFile the file being written, which the new file replaces
+     */
+    public Replacement(File originalFile) {
+      this.originalFile = originalFile;
     }
-    //Assumes locking is not supported on this platform so just returns null
-    catch (IOException | Error exception) {  //catching Error - #129 Workaround for https://bugs.openjdk.java.net/browse/JDK-8025619
-      return null;
+
+    /**
+     * @return the new file, or null if the tag fitted before the audio and it wasn't needed
+     */
+    @Nullable public File getNewFile() {
+      return newFile;
     }
 
-    //Couldn't getFields lock because file is already locked by another application
-    if (fileLock == null) {
-      throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED_FILE_LOCKED, filePath));
+    private File create() throws IOException {
+      newFile = createNewFile(originalFile);
+      return newFile;
     }
-    return fileLock;
-  }
 
-  /**
-   * Return the frames in the order they were added
-   *
-   * @return and iterator of the frmaes/list of multi value frames
-   */
-  public Iterator iterator() {
-    return frameMap.values().iterator();
+    /**
+     * Replace the original file with the new file, if there is one
+     *
+     * @throws UnableToRenameFileException if either rename fails, the new file is then deleted
+     */
+    public void replaceOriginal() throws IOException {
+      if (newFile != null) {
+        replaceFile(originalFile, newFile);
+      }
+    }
+
+    /**
+     * Delete the new file, if there is one, after a failed write
+     */
+    public void delete() {
+      deleteNewFile(newFile);
+    }
   }
 
   /**
-   * Adjust the length of the  padding at the beginning of the MP3 file, this is only called when there is currently
-   * not enough space before the start of the audio to write the tag.
-   * <p>
-   * A new file will be created with enough size to fit the <code>ID3v2</code> tag.
-   * The old file will be deleted, and the new file renamed.
-   *
-   * @param paddingSize This is total size required to store tag before audio
-   * @param audioStart  beginning of the audio data
-   * @param file        The file to adjust the padding length of
+   * Create an empty file in the same folder as {@code file}
    *
-   * @throws FileNotFoundException if the file exists but is a directory rather than a regular file or cannot be opened for any other
-   *                               reason
-   * @throws IOException           on any I/O error
+   * @throws UnableToCreateFileException if the file can't be created
    */
-  private void adjustPadding(File file, int paddingSize, long audioStart) throws IOException {
-    LOG.log(DEBUG, "Need to move audio file to accommodate tag");
-    FileChannel fcIn = null;
-    FileChannel fcOut;
-
-    //Create buffer holds the necessary padding
-    ByteBuffer paddingBuffer = ByteBuffer.wrap(new byte[paddingSize]);
-
-    //Create Temporary File and write channel, make sure it is locked
-    File paddedFile;
-
+  private static File createNewFile(File file) throws IOException {
     try {
-      paddedFile = File.createTempFile(Utils.getBaseFilenameForTempFile(file), ".new", file.getParentFile());
-      LOG.log(TRACE, "Created temp file:%s for %s", paddedFile, file);
+      return File.createTempFile(Utils.getBaseFilenameForTempFile(file), ".new", file.getAbsoluteFile().getParentFile());
     }
     //Vista:Can occur if have Write permission on folder this file would be created in Denied
     catch (IOException ioe) {
-      if (ioe.getMessage().equals(FileSystemMessage.ACCESS_IS_DENIED.getMsg())) {
-        LOG.log(ERROR,
-                ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER,
-                file.getName(),
-                file.getParentFile(),
-                ioe);
-        throw new UnableToCreateFileException(ioe,
-                                              ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER,
-                                              file,
-                                              file.getParentFile());
-      } else {
-        LOG.log(ERROR,
-                ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER,
-                file.getName(),
-                file.getParentFile(),
-                ioe);
-        throw new UnableToCreateFileException(ioe,
-                                              ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER,
-                                              file,
-                                              file.getParentFile());
-      }
-    }
-
-    try {
-      fcOut = new FileOutputStream(paddedFile).getChannel();
-    }
-    //Vista:Can occur if have special permission Create Folder/Append Data denied
-    catch (FileNotFoundException ioe) {
-      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_MODIFY_TEMPORARY_FILE_IN_FOLDER, file, file.getParentFile(), ioe);
-      throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_MODIFY_TEMPORARY_FILE_IN_FOLDER,
-                                            file.getName(),
+      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER, file.getName(), file.getParentFile(), ioe);
+      throw new UnableToCreateFileException(ioe,
+                                            ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER,
+                                            file,
                                             file.getParentFile());
     }
+  }
 
-    try {
-      //Create read channel from original file
-      //TODO lock so cant be modified by anything else whilst reading from it ?
-      fcIn = new FileInputStream(file).getChannel();
-
-      //Write padding to new file (this is where the tag will be written to later)
-      long written = fcOut.write(paddingBuffer);
-
-      //Write rest of file starting from audio
-      LOG.log(DEBUG, "Copying: %s bytes", file.length() - audioStart);
-
-      //If the amount to be copied is very large we split into 10MB lumps to try and avoid
-      //out of memory errors
-      long audiolength = file.length() - audioStart;
-      if (audiolength <= MAXIMUM_WRITABLE_CHUNK_SIZE) {
-        fcIn.position(audioStart);
-        long written2 = fcOut.transferFrom(fcIn, paddingSize, audiolength);
-        LOG.log(DEBUG, "Written padding:%s Data%s", written, written2);
-        if (written2 != audiolength) {
-          throw new RuntimeException(String.format(Locale.getDefault(), MP3_UNABLE_TO_ADJUST_PADDING, audiolength, written2));
-        }
-      } else {
-        long noOfChunks = audiolength / MAXIMUM_WRITABLE_CHUNK_SIZE;
-        long lastChunkSize = audiolength % MAXIMUM_WRITABLE_CHUNK_SIZE;
-        long written2 = 0;
-        for (int i = 0; i < noOfChunks; i++) {
-          written2 += fcIn.transferTo(audioStart + (i * MAXIMUM_WRITABLE_CHUNK_SIZE),
-                                      MAXIMUM_WRITABLE_CHUNK_SIZE,
-                                      fcOut);
-        }
-        written2 +=
-            fcIn.transferTo(audioStart + (noOfChunks * MAXIMUM_WRITABLE_CHUNK_SIZE), lastChunkSize, fcOut);
-        LOG.log(DEBUG, "Written padding:%s Data:%s", written, written2);
-        if (written2 != audiolength) {
-          throw new RuntimeException(String.format(Locale.getDefault(), MP3_UNABLE_TO_ADJUST_PADDING, audiolength, written2));
-        }
-      }
-
-      //Store original modification time
-      long lastModified = file.lastModified();
-
-      //Close Channels and locks
-      if (fcIn != null) {
-        if (fcIn.isOpen()) {
-          fcIn.close();
-        }
-      }
-
-      if (fcOut != null) {
-        if (fcOut.isOpen()) {
-          fcOut.close();
-        }
-      }
-
-      //Replace file with paddedFile
-      replaceFile(file, paddedFile);
-
-      //Update modification time
-      //TODO is this the right file ?
-      paddedFile.setLastModified(lastModified);
-    } catch (UnableToRenameFileException ure) {
-      paddedFile.delete();
-      throw ure;
-    } finally {
-      try {
-        //Whatever happens ensure all locks and channels are closed/released
-        if (fcIn != null) {
-          if (fcIn.isOpen()) {
-            fcIn.close();
-          }
-        }
-
-        if (fcOut != null) {
-          if (fcOut.isOpen()) {
-            fcOut.close();
-          }
-        }
-      } catch (Exception e) {
-        LOG.log(WARN, "Problem closing channels and locks", e);
-      }
+  /**
+   * Delete a new file left behind by a failed write
+   *
+   * @param newFile the new file, null if there isn't one
+   */
+  private static void deleteNewFile(@Nullable File newFile) {
+    if (newFile != null && newFile.exists() && !newFile.delete()) {
+      LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE, newFile);
     }
   }
 
   /**
    * Replace originalFile with the contents of newFile
    * <p>
-   * Both files must exist in the same folder so that there are no problems with filesystem mount points
+   * Both files must exist in the same folder so that there are no problems with filesystem mount points. The original is renamed
+   * to a backup until the new file has taken its name, so one of them always holds the whole file.
+   *
+   * @throws UnableToRenameFileException if either rename fails, newFile is then deleted
    */
-  private void replaceFile(File originalFile, File newFile) throws IOException {
+  private static void replaceFile(File originalFile, File newFile) throws IOException {
     boolean renameOriginalResult;
     //Rename Original File to make a backup in case problem with new file
     File originalFileBackup = new File(originalFile.getAbsoluteFile().getParentFile().getPath(),
@@ -1855,7 +1801,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     renameOriginalResult = originalFile.renameTo(originalFileBackup);
     if (!renameOriginalResult) {
       LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP, originalFile, originalFileBackup);
-      newFile.delete();
+      deleteNewFile(newFile);
       throw new UnableToRenameFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP,
                                             originalFile,
                                             originalFileBackup);
@@ -1877,20 +1823,95 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_BACKUP_TO_ORIGINAL, originalFileBackup, originalFile);
       }
 
-
       LOG.log(WARN, ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE, originalFile, newFile);
-      newFile.delete();
+      deleteNewFile(newFile);
       throw new UnableToRenameFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE, originalFile, newFile);
     } else {
-      //Rename was okay so we can now deleteField the backup of the original
+      //Rename was okay so we can now delete the backup of the original
       boolean deleteResult = originalFileBackup.delete();
       if (!deleteResult) {
-        //Not a disaster but can't deleteField the backup so make a warning
+        //Not a disaster but can't delete the backup so make a warning
         LOG.log(WARN, ErrorMessage.GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE, originalFileBackup);
       }
     }
   }
 
+  /**
+   * Open a file for writing tags
+   *
+   * @throws UnableToModifyFileException if permission to write the file is denied
+   * @throws UnableToCreateFileException if the file can't be opened for any other reason
+   */
+  public static RandomAccessFile openForWriting(File file) throws IOException {
+    try {
+      return new RandomAccessFile(file, "rw");
+    } catch (FileNotFoundException fe) {
+      LOG.log(ERROR, file + fe.getMessage(), fe);
+      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
+      if (fe.getMessage().contains(FileSystemMessage.ACCESS_IS_DENIED.getMsg()) ||
+          fe.getMessage().contains(FileSystemMessage.PERMISSION_DENIED.getMsg())) {
+        throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
+      } else {
+        throw new UnableToCreateFileException(String.format(Locale.getDefault(),
+                                                            ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING,
+                                                            file));
+      }
+    }
+  }
+
+  /**
+   * Is this tag equivalent to another
+   *
+   * @param obj to test for equivalence
+   *
+   * @return true if they are equivalent
+   */
+  public boolean equals(Object obj) {
+    if (!(obj instanceof AbstractID3v2Tag)) {
+      return false;
+    }
+    AbstractID3v2Tag object = (AbstractID3v2Tag)obj;
+    return this.frameMap.equals(object.frameMap) && super.equals(obj);
+  }
+
+  /**
+   * Get file lock for writing too file
+   * <p>
+   * TODO:this appears to have little effect on Windows Vista
+   *
+   * @return lock or null if locking is not supported
+   *
+   * @throws IOException                                    if unable to get lock because already locked by another program
+   * @throws java.nio.channels.OverlappingFileLockException if already locked by another thread in the same VM, we dont catch this because
+   *                                                        indicates a programming error
+   */
+  public static FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
+    LOG.log(TRACE, "locking fileChannel for %s", filePath);
+    FileLock fileLock;
+    try {
+      fileLock = fileChannel.tryLock();
+    }
+    //Assumes locking is not supported on this platform so just returns null
+    catch (IOException | Error exception) {  //catching Error - #129 Workaround for https://bugs.openjdk.java.net/browse/JDK-8025619
+      return null;
+    }
+
+    //Couldn't getFields lock because file is already locked by another application
+    if (fileLock == null) {
+      throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED_FILE_LOCKED, filePath));
+    }
+    return fileLock;
+  }
+
+  /**
+   * Return the frames in the order they were added
+   *
+   * @return and iterator of the frmaes/list of multi value frames
+   */
+  public Iterator iterator() {
+    return frameMap.values().iterator();
+  }
+
   /**
    * Copy frame into map, whilst accounting for multiple frame of same type which can occur even if there were
    * not frames of the same type in the original tag
@@ -1928,7 +1949,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * Add frame to the frame map
    */
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyEncrypted) {
+    if (!next.isBodyDeferred() && next.getBody() instanceof FrameBodyEncrypted) {
       loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
     } else {
       loadFrameIntoSpecifiedMap(frameMap, frameId, next);
@@ -2457,6 +2478,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       if (coverArt.isImageUrl()) {
         artwork.setLinked(true);
         artwork.setImageUrl(coverArt.getImageUrl());
+      } else if (coverArt.getDeferredImageData() != null) {
+        artwork.setDeferredBinaryData(coverArt.getDeferredImageData());
       } else {
         artwork.setBinaryData(coverArt.getImageData());
       }
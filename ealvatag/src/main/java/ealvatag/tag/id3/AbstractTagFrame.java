@@ -22,6 +22,8 @@
 package ealvatag.tag.id3;
 
 import com.google.common.base.Objects;
+import ealvatag.tag.id3.framebody.AbstractID3v2FrameBody;
+import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.utils.EqualsUtil;
 
 /**
@@ -43,7 +45,13 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
      * @param copyObject
      */
     public AbstractTagFrame(AbstractTagFrame copyObject) {
-        this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(copyObject.frameBody);
+        final AbstractTagFrameBody body = copyObject.getBody();
+        if (body instanceof AbstractID3v2FrameBody) {
+            this.frameBody = Id3FrameBodyFactories.instance().copy((AbstractID3v2FrameBody)body);
+        } else {
+            //Lyrics3 fields aren't in the ID3v2 factory table
+            this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(body);
+        }
         this.frameBody.setHeader(this);
     }
 
@@ -80,15 +88,17 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
             return false;
         }
 
-        if ((frameBody == null) && (((AbstractTagFrame)obj).frameBody == null)) {
+        AbstractTagFrameBody body = getBody();
+        AbstractTagFrameBody objBody = ((AbstractTagFrame)obj).getBody();
+        if ((body == null) && (objBody == null)) {
             return true;
         }
 
-        if ((frameBody == null) || (((AbstractTagFrame)obj).frameBody == null)) {
+        if ((body == null) || (objBody == null)) {
             return false;
         }
 
-        return frameBody.isSubsetOf(((AbstractTagFrame)obj).frameBody);
+        return body.isSubsetOf(objBody);
 
     }
 
@@ -111,7 +121,7 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
 
         AbstractTagFrame that = (AbstractTagFrame)obj;
         return Objects.equal(this.getIdentifier(), that.getIdentifier()) &&
-                        Objects.equal(this.frameBody, that.frameBody);
+                        Objects.equal(this.getBody(), that.getBody());
 
     }
 
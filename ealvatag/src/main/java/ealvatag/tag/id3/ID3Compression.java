@@ -2,26 +2,63 @@ package ealvatag.tag.id3;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import com.google.common.collect.ImmutableSet;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.InvalidFrameException;
+import ealvatag.tag.TagOptionSingleton;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static ealvatag.logging.ErrorMessage.ID3_UNABLE_TO_DECOMPRESS_FRAME;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
 /**
  * compresses frame data
  * <p>
  * Is currently required for V23Frames and V24Frames
+ * <p>
+ * Each thread has one {@link Inflater} and one {@link Deflater}, reset between frames rather than created for every frame, as each
+ * holds native zlib memory that is otherwise only freed by finalization.
  */
-//TODO also need to support compress framedata
 @SuppressWarnings("Duplicates") class ID3Compression {
   private static JLogger LOG = JLoggers.get(ID3Compression.class, EalvaTagLog.MARKER);
 
+  /** A frame claiming to expand to more than this many times its size is treated as invalid */
+  static final int MAX_COMPRESSION_RATIO = 100;
+
+  /** Frames which may hold large amounts of text or data and are compressed on write if they are long enough */
+  private static final ImmutableSet<String> COMPRESSIBLE_FRAME_IDS = ImmutableSet.of(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS,
+                                                                                      ID3v24Frames.FRAME_ID_SYNC_LYRIC,
+                                                                                      ID3v24Frames.FRAME_ID_USER_DEFINED_INFO,
+                                                                                      ID3v24Frames.FRAME_ID_PRIVATE);
+
+  private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+    @Override protected Inflater initialValue() {
+      return new Inflater();
+    }
+  };
+
+  private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+    @Override protected Deflater initialValue() {
+      return new Deflater();
+    }
+  };
+
+  /**
+   * The calling thread's inflater, ready for a new stream. It must not be ended, and must be reset when done with so it doesn't hold
+   * on to its input.
+   */
+  static Inflater inflater() {
+    final Inflater inflater = INFLATER.get();
+    inflater.reset();
+    return inflater;
+  }
+
   /**
    * Decompress realFrameSize bytes to decompressedFrameSize bytes and return as ByteBuffer
    */
@@ -41,11 +78,11 @@ import java.util.zip.Inflater;
     byteBuffer.get(input, 0, realFrameSize);
     byteBuffer.position(position);
 
-    Inflater decompresser = new Inflater();
+    Inflater decompresser = inflater();
     decompresser.setInput(input);
     try {
       int inflatedTo = decompresser.inflate(result);
-      LOG.log(DEBUG, "%s:Decompressed to %s bytes", inflatedTo);
+      LOG.log(DEBUG, "%s:Decompressed to %s bytes", filename, inflatedTo);
     } catch (DataFormatException dfe) {
       LOG.log(DEBUG, "Unable to decompress this frame:%s", identifier, dfe);
 
@@ -53,11 +90,49 @@ import java.util.zip.Inflater;
       byteBuffer.position(byteBuffer.position() + realFrameSize);
       throw new InvalidFrameException(String.format(Locale.getDefault(), ID3_UNABLE_TO_DECOMPRESS_FRAME, identifier, filename),
                                       dfe);
+    } finally {
+      decompresser.reset();
     }
-    decompresser.end();
     return ByteBuffer.wrap(result);
   }
 
+  /**
+   * Compress a frame body if compression is enabled by {@link TagOptionSingleton#setCompressFrameThreshold(int)}, the frame is one which
+   * may hold large amounts of text or data, its body is at least the threshold long, and compressing it makes it smaller
+   *
+   * @param identifier frame identifier
+   * @param body       frame body data
+   *
+   * @return the compressed body, or null if it's to be written uncompressed
+   */
+  static byte[] compress(String identifier, byte[] body) {
+    final int threshold = TagOptionSingleton.getInstance().getCompressFrameThreshold();
+    if (threshold <= 0 || body.length < threshold || !COMPRESSIBLE_FRAME_IDS.contains(identifier)) {
+      return null;
+    }
+
+    final Deflater deflater = DEFLATER.get();
+    deflater.reset();
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      //Not worth compressing unless the result is smaller
+      final byte[] result = new byte[body.length];
+      int length = 0;
+      while (!deflater.finished() && length < result.length) {
+        length += deflater.deflate(result, length, result.length - length);
+      }
+      //A frame that expands too far is rejected on read, so don't write one
+      if (!deflater.finished() || body.length > (long)MAX_COMPRESSION_RATIO * length) {
+        return null;
+      }
+      LOG.log(DEBUG, "Compressed %s from %s to %s bytes", identifier, body.length, length);
+      return Arrays.copyOf(result, length);
+    } finally {
+      deflater.reset();
+    }
+  }
+
 //  protected static Buffer uncompress(String identifier,
 //                                     String filename,
 //                                     Buffer byteBuffer,
@@ -7,8 +7,6 @@ import ealvatag.logging.EalvaTagLog;
 
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -19,6 +17,7 @@ import java.nio.ByteBuffer;
 class ID3Unsynchronization {
   //Logger
   private static JLogger LOG = JLoggers.get(ID3Unsynchronization.class, EalvaTagLog.MARKER);
+  private static final byte FF = (byte)MPEGFrameHeader.SYNC_BYTE1;
 
 
   /**
@@ -30,9 +29,9 @@ class ID3Unsynchronization {
    * @return true if unsynchronization is required, false otherwise
    */
   static boolean requiresUnsynchronization(byte[] abySource) {
-    for (int i = 0; i < abySource.length - 1; i++) {
-      if (((abySource[i] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) &&
-          ((abySource[i + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2)) {
+    final int last = abySource.length - 1;
+    for (int i = indexOfFF(abySource, 0, last); i >= 0; i = indexOfFF(abySource, i + 1, last)) {
+      if ((abySource[i + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
         LOG.log(TRACE, "Unsynchronisation required found bit at:%s", i);
         return true;
       }
@@ -49,46 +48,62 @@ class ID3Unsynchronization {
    * followed by a byte with value >=224 must be followed by a $00 byte (thus, $FF $F0 sequences become $FF $00 $F0).
    * Additionally because unsynchronisation is being applied any existing $FF $00 have to be converted to
    * $FF $00 $00
+   * <p>
+   * The $FF bytes are found first, so the zeros needed can be counted and the result sized exactly. The bytes between them are
+   * copied as whole runs.
    *
    * @param abySource a byte array to be unsynchronized
    *
    * @return a unsynchronized representation of the source
    */
   static byte[] unsynchronize(byte[] abySource) {
-    ByteArrayInputStream input = new ByteArrayInputStream(abySource);
-    ByteArrayOutputStream output = new ByteArrayOutputStream(abySource.length);
-
-    int count = 0;
-    while (input.available() > 0) {
-      int firstByte = input.read();
-      count++;
-      output.write(firstByte);
-      if ((firstByte & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-        // if byte is $FF, we must check the following byte if there is one
-        if (input.available() > 0) {
-          input.mark(1);  // remember where we were, if we don't need to unsynchronize
-          int secondByte = input.read();
-          if ((secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Writing unsynchronisation bit at:%s", count);
-            output.write(0);
-
-          } else if (secondByte == 0) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Inserting zero unsynchronisation bit at:%s", count);
-            output.write(0);
-          }
-          input.reset();
-        }
+    final int length = abySource.length;
+    int zeros = 0;
+    for (int i = indexOfFF(abySource, 0, length); i >= 0; i = indexOfFF(abySource, i + 1, length)) {
+      if (requiresZeroAfter(abySource, i)) {
+        zeros++;
       }
     }
-    // if we needed to unsynchronize anything, and this tag ends with 0xff, we have to append a zero byte,
-    // which will be removed on de-unsynchronization later
-    if ((abySource[abySource.length - 1] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-      LOG.log(TRACE, "Adding unsynchronisation bit at end of stream");
-      output.write(0);
+    LOG.log(TRACE, "Inserting %s unsynchronisation bytes", zeros);
+
+    final byte[] output = new byte[length + zeros];
+    int from = 0;
+    int to = 0;
+    for (int i = indexOfFF(abySource, 0, length); i >= 0; i = indexOfFF(abySource, i + 1, length)) {
+      if (requiresZeroAfter(abySource, i)) {
+        final int run = i + 1 - from;
+        System.arraycopy(abySource, from, output, to, run);
+        to += run;
+        output[to++] = 0;
+        from = i + 1;
+      }
     }
-    return output.toByteArray();
+    System.arraycopy(abySource, from, output, to, length - from);
+    return output;
+  }
+
+  /**
+   * A $FF needs a $00 after it if it's followed by $00 or a byte >= 224. If the source ends with $FF a zero is also added, which
+   * will be removed on de-unsynchronization later
+   */
+  private static boolean requiresZeroAfter(byte[] source, int ffIndex) {
+    if (ffIndex == source.length - 1) {
+      return true;
+    }
+    final byte next = source[ffIndex + 1];
+    return next == 0 || (next & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2;
+  }
+
+  /**
+   * @return index of the first $FF in {@code bytes} from {@code fromIndex} up to, but not including, {@code toIndex}, or -1
+   */
+  private static int indexOfFF(byte[] bytes, int fromIndex, int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (bytes[i] == FF) {
+        return i;
+      }
+    }
+    return -1;
   }
 
 
@@ -200,22 +215,23 @@ class ID3Unsynchronization {
    * @return a synchronized representation of the source
    */
   static ByteBuffer synchronize(ByteBuffer source) {
-    //long start = System.nanoTime();
-
-    int len = source.remaining();
-    byte[] bytes = new byte[len + 1]; // an extra byte saves a check later.
+    final int len = source.remaining();
+    final byte[] bytes = new byte[len];
     source.get(bytes, 0, len);
-    int from = 0, to = 0;
-    boolean copy = true; // whether to copy the byte, if false, check the byte != 0.
-    while (from < len) {
-      byte byteValue = bytes[from++];
-      if (copy || byteValue != 0) { bytes[to++] = byteValue; }
-      copy = ((byteValue & MPEGFrameHeader.SYNC_BYTE1) != MPEGFrameHeader.SYNC_BYTE1);
+    // runs between $FF $00 pairs are moved down over the dropped zeros, in place
+    int from = 0;
+    int to = 0;
+    final int last = len - 1;
+    for (int i = indexOfFF(bytes, 0, last); i >= 0; i = indexOfFF(bytes, i + 1, last)) {
+      if (bytes[i + 1] == 0) {
+        final int run = i + 1 - from;
+        System.arraycopy(bytes, from, bytes, to, run);
+        to += run;
+        from = i + 2;
+      }
     }
-
-    //long time = System.nanoTime() - start;
-    //System.out.printf("Took %6.3f ms, was %d bytes, now %,d bytes%n", time/1e6, source.limit(), bb2.limit());
-    return ByteBuffer.wrap(bytes, 0, to);
+    System.arraycopy(bytes, from, bytes, to, len - from);
+    return ByteBuffer.wrap(bytes, 0, to + len - from);
   }
 
 }
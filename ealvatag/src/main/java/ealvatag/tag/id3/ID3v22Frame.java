@@ -30,9 +30,13 @@ import ealvatag.tag.InvalidTagException;
 import ealvatag.tag.id3.framebody.AbstractID3v2FrameBody;
 import ealvatag.tag.id3.framebody.FrameBodyDeprecated;
 import ealvatag.tag.id3.framebody.FrameBodyUnsupported;
+import ealvatag.tag.id3.framebody.FrameIdentifierException;
+import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.utils.Characters;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -117,7 +121,6 @@ import java.util.NoSuchElementException;
    * An empty body of the correct type will be automatically created. This constructor should be used when wish to
    * create a new frame from scratch using user values
    */
-  @SuppressWarnings("unchecked")
   public ID3v22Frame(String identifier) {
     LOG.log(DEBUG, "Creating empty frame of type %s", identifier);
     String bodyIdentifier = identifier;
@@ -146,21 +149,12 @@ import java.util.NoSuchElementException;
       }
     }
 
-    // Use reflection to map id to frame body, which makes things much easier
-    // to keep things up to date.
     try {
-      Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>)Class.forName(
-          "ealvatag.tag.id3.framebody.FrameBody" + bodyIdentifier);
-      frameBody = c.newInstance();
-    } catch (ClassNotFoundException cnfe) {
-      LOG.log(ERROR, "Can't make frame body for:%s", identifier, cnfe);
+      frameBody = Id3FrameBodyFactories.instance().make(bodyIdentifier);
+    } catch (FrameIdentifierException e) {
+      LOG.log(ERROR, "Can't make frame body for:%s", identifier, e);
       frameBody = new FrameBodyUnsupported(identifier);
     }
-    //Instantiate Interface/Abstract should not happen
-    catch (InstantiationException | IllegalAccessException ie) {
-      LOG.log(ERROR, "Can't make from body for:%s", identifier, ie);
-      throw new RuntimeException(ie);
-    }
 
     frameBody.setHeader(this);
   }
@@ -179,7 +173,7 @@ import java.util.NoSuchElementException;
     identifier = ID3Tags.convertFrameID23To22(frame.getIdentifier());
     if (identifier != null) {
       LOG.log(DEBUG, "V2:Orig id is:%s:New id is:", frame.getIdentifier(), identifier);
-      frameBody = (AbstractID3v2FrameBody)ID3Tags.copyObject(frame.getBody());
+      frameBody = Id3FrameBodyFactories.instance().copy((AbstractID3v2FrameBody)frame.getBody());
     }
     // Is it a known v3 frame which needs forcing to v2 frame e.g. APIC - PIC
     else if (ID3Tags.isID3v23FrameIdentifier(frame.getIdentifier())) {
@@ -253,8 +247,20 @@ import java.util.NoSuchElementException;
   }
 
   public ID3v22Frame(Buffer buffer, String loggingFilename, final boolean ignoreArtwork) throws InvalidTagException, EOFException {
+    this(buffer, loggingFilename, ignoreArtwork, null);
+  }
+
+  /**
+   * Read a frame from {@code buffer}
+   *
+   * @param artworkLocator if not null, and it locates {@code buffer} in the file, artwork image data is left in the file
+   */
+  public ID3v22Frame(Buffer buffer,
+                     String loggingFilename,
+                     final boolean ignoreArtwork,
+                     @Nullable final DeferredImageData.Locator artworkLocator) throws InvalidTagException, EOFException {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    read(buffer, ignoreArtwork, artworkLocator);
   }
 
   /**
@@ -342,6 +348,11 @@ import java.util.NoSuchElementException;
   }
 
   public void read(Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, EOFException {
+    read(buffer, ignoreArtwork, null);
+  }
+
+  private void read(Buffer buffer, final boolean ignoreArtwork, @Nullable final DeferredImageData.Locator artworkLocator)
+      throws InvalidTagException, EOFException {
     final String fileName = loggingFilename;
     try {
       String identifier = readIdentifier(buffer);
@@ -387,6 +398,17 @@ import java.util.NoSuchElementException;
       if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(id)) {
         buffer.skip(frameSize);
         frameBody = null;
+      } else if (artworkLocator != null && AbstractID3v2Frame.isArtworkFrameId(id)) {
+        //Read straight from the tag buffer so the locator can find the image data in the file
+        final long sizeBeforeBody = buffer.size();
+        try {
+          frameBody = readBody(id, buffer, frameSize, artworkLocator);
+        } finally {
+          final long unread = frameSize - (sizeBeforeBody - buffer.size());
+          if (unread > 0) {
+            buffer.skip(unread);
+          }
+        }
       } else {
         Buffer frameBodyBuffer = new Buffer();
         buffer.readFully(frameBodyBuffer, frameSize); // maybe do this in other frame versions? Not very expensive
@@ -42,7 +42,9 @@ import ealvatag.tag.id3.framebody.AbstractFrameBodyTextInfo;
 import ealvatag.tag.id3.framebody.FrameBodyTCON;
 import ealvatag.tag.id3.framebody.FrameBodyTDRC;
 import ealvatag.tag.id3.valuepair.ImageFormats;
+import ealvatag.tag.images.DeferredImageData;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -58,6 +60,7 @@ import static ealvatag.utils.Check.checkVarArg0NotNull;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -152,8 +155,21 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   }
 
   public ID3v22Tag(Buffer buffer, Id3v2Header header, String loggingFilename, final boolean ignoreArtwork) throws TagException {
+    this(buffer, header, loggingFilename, ignoreArtwork, null);
+  }
+
+  /**
+   * Read the tag from {@code buffer}
+   *
+   * @param artworkLocator if not null, artwork image data is left in the file, found through the locator
+   */
+  public ID3v22Tag(Buffer buffer,
+                   Id3v2Header header,
+                   String loggingFilename,
+                   final boolean ignoreArtwork,
+                   @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(buffer, header, ignoreArtwork, artworkLocator);
   }
 
   /**
@@ -281,8 +297,9 @@ public class ID3v22Tag extends AbstractID3v2Tag {
    * {@inheritDoc}
    */
   @Override
-  public long write(File file, long audioStartLocation) throws IOException {
-    setLoggingFilename(file.getName());
+  public long write(FileChannel channel, String fileName, long audioStartLocation, @Nullable Replacement replacement)
+      throws IOException {
+    setLoggingFilename(fileName);
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     // Write Body Buffer
@@ -303,7 +320,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "%s:Padding:%d", loggingFilename, padding);
 
     ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    writeBufferToFile(channel, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation, replacement);
     return sizeIncPadding;
   }
 
@@ -494,6 +511,13 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   }
 
   public void read(Buffer buffer, final Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+    read(buffer, header, ignoreArtwork, null);
+  }
+
+  private void read(Buffer buffer,
+                    final Id3v2Header header,
+                    final boolean ignoreArtwork,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     try {
       readHeaderFlags(header.getFlags());
 
@@ -505,14 +529,14 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         bufferWithoutHeader = Id3SynchronizingSink.synchronizeBuffer(buffer);
       }
 
-      readFrames(bufferWithoutHeader, size, ignoreArtwork);
+      readFrames(bufferWithoutHeader, size, ignoreArtwork, artworkLocator);
       LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
     } catch (IOException e) {
       throw new TagNotFoundException(getIdentifier() + " error reading tag", e);
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork, @Nullable final DeferredImageData.Locator artworkLocator) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
     LOG.log(TRACE, "Frame data is size:%s", size);
@@ -522,7 +546,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     while (buffer.size() > 0) {
       final String logName = loggingFilename;
       try {
-        ID3v22Frame next = new ID3v22Frame(buffer, logName, ignoreArtwork);
+        ID3v22Frame next = new ID3v22Frame(buffer, logName, ignoreArtwork, artworkLocator);
         if (next.isArtworkFrame() && ignoreArtwork) {
           setReadOnly();
         } else {
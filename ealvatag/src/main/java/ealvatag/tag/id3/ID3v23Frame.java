@@ -19,6 +19,7 @@ import com.google.common.base.Strings;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.utils.StandardCharsets;
+import ealvatag.audio.Utils;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.Hex;
 import ealvatag.logging.EalvaTagLog;
@@ -29,12 +30,16 @@ import ealvatag.tag.InvalidFrameIdentifierException;
 import ealvatag.tag.InvalidTagException;
 import ealvatag.tag.id3.framebody.AbstractID3v2FrameBody;
 import ealvatag.tag.id3.framebody.FrameBodyDeprecated;
+import ealvatag.tag.id3.framebody.FrameBodyTCON;
 import ealvatag.tag.id3.framebody.FrameBodyUnsupported;
 import ealvatag.tag.id3.framebody.ID3v23FrameBody;
+import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.utils.Characters;
 import ealvatag.utils.EqualsUtil;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -179,7 +184,7 @@ import java.util.NoSuchElementException;
         identifier = ID3Tags.convertFrameID24To23(frame.getIdentifier());
         if (identifier != null) {
           LOG.log(DEBUG, "V4:Orig id is:%s:New id is:%s", frame.getIdentifier(), identifier);
-          this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(frame.getBody());
+          this.frameBody = Id3FrameBodyFactories.instance().copy((AbstractID3v2FrameBody)frame.getBody());
           this.frameBody.setHeader(this);
           this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, frameBody.getTextEncoding()));
           return;
@@ -218,7 +223,7 @@ import java.util.NoSuchElementException;
         identifier = ID3Tags.convertFrameID22To23(frame.getIdentifier());
         if (identifier != null) {
           LOG.log(DEBUG, "V3:Orig id is:%s:New id is:%s", frame.getIdentifier(), identifier);
-          this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(frame.getBody());
+          this.frameBody = Id3FrameBodyFactories.instance().copy((AbstractID3v2FrameBody)frame.getBody());
           this.frameBody.setHeader(this);
           return;
         }
@@ -267,8 +272,32 @@ import java.util.NoSuchElementException;
 
   public ID3v23Frame(final Buffer buffer, final String loggingFilename, final boolean ignoreArtwork)
       throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, ignoreArtwork, false);
+  }
+
+  /**
+   * Read a frame from {@code buffer}
+   *
+   * @param deferBody if true, and the body is stored as is, keep the body bytes and decode them on first access to the body
+   */
+  public ID3v23Frame(final Buffer buffer, final String loggingFilename, final boolean ignoreArtwork, final boolean deferBody)
+      throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, ignoreArtwork, deferBody, null);
+  }
+
+  /**
+   * Read a frame from {@code buffer}
+   *
+   * @param deferBody      if true, and the body is stored as is, keep the body bytes and decode them on first access to the body
+   * @param artworkLocator if not null, and it locates {@code buffer} in the file, artwork image data is left in the file
+   */
+  public ID3v23Frame(final Buffer buffer,
+                     final String loggingFilename,
+                     final boolean ignoreArtwork,
+                     final boolean deferBody,
+                     @Nullable final DeferredImageData.Locator artworkLocator) throws InvalidTagException, IOException {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    read(buffer, ignoreArtwork, deferBody, artworkLocator);
   }
 
   /**
@@ -288,7 +317,7 @@ import java.util.NoSuchElementException;
    * @return int frame size
    */
   public int getSize() {
-    return frameBody.getSize() + ID3v23Frame.FRAME_HEADER_SIZE;
+    return getBodySize() + ID3v23Frame.FRAME_HEADER_SIZE;
   }
 
   /**
@@ -411,7 +440,7 @@ import java.util.NoSuchElementException;
     }
 
     if (((EncodingFlags)encodingFlags).isCompression()) {
-      if (decompressedFrameSize > (100 * frameSize)) {
+      if (decompressedFrameSize > (ID3Compression.MAX_COMPRESSION_RATIO * frameSize)) {
         throw new InvalidFrameException(identifier +
                                             " is invalid frame, frame size " +
                                             frameSize +
@@ -462,7 +491,10 @@ import java.util.NoSuchElementException;
     }
   }
 
-  private void read(final Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+  private void read(final Buffer buffer,
+                    final boolean ignoreArtwork,
+                    final boolean deferBody,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws InvalidTagException, IOException {
     final String fileName = loggingFilename;
     try {
       String identifier = readIdentifier(buffer);
@@ -546,7 +578,7 @@ import java.util.NoSuchElementException;
       }
 
       if (((EncodingFlags)encodingFlags).isCompression()) {
-        if (decompressedFrameSize > (100 * frameSize)) {
+        if (decompressedFrameSize > (ID3Compression.MAX_COMPRESSION_RATIO * frameSize)) {
           throw new InvalidFrameException(identifier +
                                               " is invalid frame, frame size " +
                                               frameSize +
@@ -566,6 +598,9 @@ import java.util.NoSuchElementException;
       if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(frameId)) {
         buffer.skip(realFrameSize);
         frameBody = null;
+      } else if (deferBody && !(artworkLocator != null && AbstractID3v2Frame.isArtworkFrameId(frameId)) &&
+          !((EncodingFlags)encodingFlags).isCompression() && !((EncodingFlags)encodingFlags).isEncryption()) {
+        deferBody(buffer, frameId, realFrameSize);
       } else {
         //Read the body data
         if (((EncodingFlags)encodingFlags).isCompression()) {
@@ -578,7 +613,7 @@ import java.util.NoSuchElementException;
         } else if (((EncodingFlags)encodingFlags).isEncryption()) {
           frameBody = readEncryptedBody(identifier, buffer, frameSize);
         } else {
-          frameBody = readBody(frameId, buffer, realFrameSize);
+          frameBody = readBody(frameId, buffer, realFrameSize, artworkLocator);
         }
         //TODO code seems to assume that if the frame created is not a v23FrameBody
         //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
@@ -596,6 +631,18 @@ import java.util.NoSuchElementException;
     }
   }
 
+  @Override AbstractTagFrameBody readDeferredBody(String bodyIdentifier, Buffer buffer, int size) throws InvalidTagException {
+    AbstractID3v2FrameBody body = readBody(bodyIdentifier, buffer, size);
+    if (!(body instanceof ID3v23FrameBody)) {
+      LOG.log(DEBUG, "%s:Converted frameBody with:%s to deprecated frameBody", loggingFilename, bodyIdentifier);
+      return new FrameBodyDeprecated(body);
+    }
+    if (body instanceof FrameBodyTCON) {
+      ((FrameBodyTCON)body).setV23Format();
+    }
+    return body;
+  }
+
   /**
    * Write the frame to bufferOutputStream
    */
@@ -605,18 +652,26 @@ import java.util.NoSuchElementException;
     //write body
     ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
-    //Write Frame Body Data
-    ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    //Write Frame Body Data, a body that was never decoded is written back as it was read
+    byte[] bodyBuffer = getDeferredBodyBytes();
+    if (bodyBuffer == null) {
+      ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
+      ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+      bodyBuffer = bodyOutputStream.toByteArray();
+    }
     //Write Frame Header write Frame ID
     if (getIdentifier().length() == 3) {
       identifier = identifier + ' ';
     }
     headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
-    //Write Frame Size
-    int size = frameBody.getSize();
+
+    //Large lyrics and data frames may be compressed, but not an encrypted body as that is written as it was read
+    byte[] compressedBody = ((EncodingFlags)encodingFlags).isEncryption() ? null : ID3Compression.compress(getIdentifier(), bodyBuffer);
+
+    //Write Frame Size, a compressed frame is preceded by its decompressed size
+    int size = compressedBody == null ? bodyBuffer.length : FRAME_COMPRESSION_UNCOMPRESSED_SIZE + compressedBody.length;
     LOG.log(INFO, "Frame Size Is:" + size);
-    headerBuffer.putInt(frameBody.getSize());
+    headerBuffer.putInt(size);
 
     //Write the Flags
     //Status Flags:leave as they were when we read
@@ -625,14 +680,22 @@ import java.util.NoSuchElementException;
     //Remove any non standard flags
     ((EncodingFlags)encodingFlags).unsetNonStandardFlags();
 
-    //Unset Compression flag if previously set because we uncompress previously compressed frames on write.
+    //A previously compressed frame was decompressed on read, so only set Compression if compressed now
     ((EncodingFlags)encodingFlags).unsetCompression();
+    if (compressedBody != null) {
+      ((EncodingFlags)encodingFlags).setCompression();
+    }
     headerBuffer.put(encodingFlags.getFlags());
 
     try {
       //Add header to the Byte Array Output Stream
       tagBuffer.write(headerBuffer.array());
 
+      if (compressedBody != null) {
+        tagBuffer.write(Utils.getSizeBEInt32(bodyBuffer.length));
+        bodyBuffer = compressedBody;
+      }
+
       if (((EncodingFlags)encodingFlags).isEncryption()) {
         tagBuffer.write(encryptionMethod);
       }
@@ -642,7 +705,7 @@ import java.util.NoSuchElementException;
       }
 
       //Add body to the Byte Array Output Stream
-      tagBuffer.write(bodyOutputStream.toByteArray());
+      tagBuffer.write(bodyBuffer);
     } catch (IOException ioe) {
       //This could never happen coz not writing to file, so convert to RuntimeException
       throw new RuntimeException(ioe);
@@ -885,7 +948,7 @@ import java.util.NoSuchElementException;
     MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
     statusFlags.createStructure();
     encodingFlags.createStructure();
-    frameBody.createStructure();
+    getBody().createStructure();
     MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
   }
 
@@ -51,7 +51,9 @@ import ealvatag.tag.id3.framebody.FrameBodyTIME;
 import ealvatag.tag.id3.framebody.FrameBodyTIPL;
 import ealvatag.tag.id3.framebody.FrameBodyTMCL;
 import ealvatag.tag.id3.framebody.FrameBodyTYER;
+import ealvatag.tag.images.DeferredImageData;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -67,6 +69,7 @@ import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -198,8 +201,21 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   }
 
   public ID3v23Tag(Buffer buffer, Id3v2Header header, String loggingFilename, final boolean ignoreArtwork) throws TagException {
+    this(buffer, header, loggingFilename, ignoreArtwork, null);
+  }
+
+  /**
+   * Read the tag from {@code buffer}
+   *
+   * @param artworkLocator if not null, artwork image data is left in the file, found through the locator
+   */
+  public ID3v23Tag(Buffer buffer,
+                   Id3v2Header header,
+                   String loggingFilename,
+                   final boolean ignoreArtwork,
+                   @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(buffer, header, ignoreArtwork, artworkLocator);
   }
 
   public int getCrc32() {
@@ -456,12 +472,16 @@ public class ID3v23Tag extends AbstractID3v2Tag {
    * TODO:we currently never write the Extended header , but if we did the size calculation in this
    * method would be slightly incorrect
    *
-   * @param file The file to write to
+   * @param channel            The file to write to
+   * @param fileName           name of the file, for logging
+   * @param audioStartLocation where the audio currently starts
    *
    * @throws IOException if write error
    */
-  public long write(File file, long audioStartLocation) throws IOException {
-    setLoggingFilename(file.getName());
+  @Override
+  public long write(FileChannel channel, String fileName, long audioStartLocation, @Nullable Replacement replacement)
+      throws IOException {
+    setLoggingFilename(fileName);
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     //Write Body Buffer
@@ -483,7 +503,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "%s:Padding:%s", loggingFilename, padding);
 
     ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    writeBufferToFile(channel, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation, replacement);
     return sizeIncPadding;
   }
 
@@ -553,7 +573,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   }
 
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyTCON) {
+    if (!next.isBodyDeferred() && next.getBody() instanceof FrameBodyTCON) {
       ((FrameBodyTCON)next.getBody()).setV23Format();
     }
     super.loadFrameIntoMap(frameId, next);
@@ -865,7 +885,10 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
   }
 
-  private void read(Buffer buffer, Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+  private void read(Buffer buffer,
+                    Id3v2Header header,
+                    final boolean ignoreArtwork,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     try {
       readHeaderFlags(header.getFlags());
 
@@ -882,7 +905,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         bufferWithoutHeader = Id3SynchronizingSink.synchronizeBuffer(buffer);
       }
 
-      readFrames(bufferWithoutHeader, size, ignoreArtwork);
+      readFrames(bufferWithoutHeader, size, ignoreArtwork, artworkLocator);
       LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
     } catch (IOException e) {
       throw new TagNotFoundException(getIdentifier() + " error reading tag", e);
@@ -949,16 +972,17 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork, @Nullable final DeferredImageData.Locator artworkLocator) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
     LOG.log(TRACE, "Frame data is size:%s", size);
+    final boolean deferBodies = TagOptionSingleton.getInstance().isLazyId3v2FrameBodies();
 
     // Read the frames until got to up to the size as specified in header or until
     // we hit an invalid frame identifier or padding
     while (buffer.size() > 0) {
       try {
-        ID3v23Frame next = new ID3v23Frame(buffer, loggingFilename, ignoreArtwork);
+        ID3v23Frame next = new ID3v23Frame(buffer, loggingFilename, ignoreArtwork, deferBodies, artworkLocator);
         if (next.isArtworkFrame() && ignoreArtwork) {
           setReadOnly();
         } else {
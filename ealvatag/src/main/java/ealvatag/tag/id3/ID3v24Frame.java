@@ -43,7 +43,9 @@ import ealvatag.tag.id3.framebody.FrameBodyTXXX;
 import ealvatag.tag.id3.framebody.FrameBodyUSLT;
 import ealvatag.tag.id3.framebody.FrameBodyUnsupported;
 import ealvatag.tag.id3.framebody.ID3v24FrameBody;
+import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.lyrics3.FieldFrameBodyAUT;
 import ealvatag.tag.lyrics3.FieldFrameBodyEAL;
 import ealvatag.tag.lyrics3.FieldFrameBodyEAR;
@@ -54,6 +56,7 @@ import ealvatag.tag.lyrics3.Lyrics3v2Field;
 import ealvatag.utils.Characters;
 import ealvatag.utils.EqualsUtil;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.INFO;
@@ -188,7 +191,7 @@ import java.util.NoSuchElementException;
         identifier = frameBody.getIdentifier();
       } else {
         LOG.log(DEBUG, "V3:Orig id is:%s:New id is:%s", frame.getIdentifier(), identifier);
-        this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(frame.getBody());
+        this.frameBody = Id3FrameBodyFactories.instance().copy((AbstractID3v2FrameBody)frame.getBody());
         this.frameBody.setHeader(this);
       }
     }
@@ -288,11 +291,44 @@ import java.util.NoSuchElementException;
   }
 
   public ID3v24Frame(Buffer buffer, String loggingFilename, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, ignoreArtwork, false);
+  }
+
+  /**
+   * Read a frame from {@code buffer}
+   *
+   * @param deferBody if true, and the body is stored as is, keep the body bytes and decode them on first access to the body
+   */
+  public ID3v24Frame(Buffer buffer,
+                     String loggingFilename,
+                     final boolean ignoreArtwork,
+                     final boolean deferBody) throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, ignoreArtwork, deferBody, null);
+  }
+
+  /**
+   * Read a frame from {@code buffer}
+   *
+   * @param deferBody      if true, and the body is stored as is, keep the body bytes and decode them on first access to the body
+   * @param artworkLocator if not null, and it locates {@code buffer} in the file, artwork image data is left in the file
+   */
+  public ID3v24Frame(Buffer buffer,
+                     String loggingFilename,
+                     final boolean ignoreArtwork,
+                     final boolean deferBody,
+                     @Nullable final DeferredImageData.Locator artworkLocator) throws InvalidTagException, IOException {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    read(buffer, ignoreArtwork, deferBody, artworkLocator);
   }
 
   public void read(Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+    read(buffer, ignoreArtwork, false, null);
+  }
+
+  private void read(Buffer buffer,
+                    final boolean ignoreArtwork,
+                    final boolean deferBody,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws InvalidTagException, IOException {
     long sizeBeforeRead = buffer.size();
     final String fileName = loggingFilename;
     try {
@@ -339,6 +375,8 @@ import java.util.NoSuchElementException;
         if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(identifier)) {
           buffer.skip(realFrameSize);
           frameBody = null;
+        } else if (deferBody && isBodyStoredAsIs() && !(artworkLocator != null && AbstractID3v2Frame.isArtworkFrameId(identifier))) {
+          deferBody(buffer, identifier, realFrameSize);
         } else {
           //Read the body data
           Buffer frameBodyBuffer = buffer;
@@ -366,7 +404,7 @@ import java.util.NoSuchElementException;
           } else if (((EncodingFlags)encodingFlags).isEncryption()) {
             frameBody = readEncryptedBody(identifier, frameBodyBuffer, syncSize);
           } else {
-            frameBody = readBody(identifier, frameBodyBuffer, syncSize);
+            frameBody = readBody(identifier, frameBodyBuffer, syncSize, artworkLocator);
           }
           if (!(frameBody instanceof ID3v24FrameBody)) {
             LOG.log(DEBUG, "%s:Converted frame body with:%s to deprecated framebody", fileName, identifier);
@@ -388,6 +426,20 @@ import java.util.NoSuchElementException;
     }
   }
 
+  private boolean isBodyStoredAsIs() {
+    EncodingFlags flags = (EncodingFlags)encodingFlags;
+    return !flags.isCompression() && !flags.isEncryption() && !flags.isUnsynchronised() && !flags.isDataLengthIndicator();
+  }
+
+  @Override AbstractTagFrameBody readDeferredBody(String bodyIdentifier, Buffer buffer, int size) throws InvalidTagException {
+    AbstractID3v2FrameBody body = readBody(bodyIdentifier, buffer, size);
+    if (!(body instanceof ID3v24FrameBody)) {
+      LOG.log(DEBUG, "%s:Converted frame body with:%s to deprecated framebody", loggingFilename, bodyIdentifier);
+      return new FrameBodyDeprecated(body);
+    }
+    return body;
+  }
+
   private void getFrameSize(Buffer buffer) throws InvalidFrameException, EOFException {
     //Read frame size as syncsafe integer
     frameSize = ID3SyncSafeInteger.peekBufferToValue(buffer);
@@ -536,12 +588,23 @@ import java.util.NoSuchElementException;
     //write bodybuffer
     ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
-    //Write Frame Body Data to a new stream
-    ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    //Write Frame Body Data to a new stream, a body that was never decoded is written back as it was read
+    byte[] bodyBuffer = getDeferredBodyBytes();
+    if (bodyBuffer == null) {
+      ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
+      ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+      bodyBuffer = bodyOutputStream.toByteArray();
+    }
+
+    //Large lyrics and data frames may be compressed, before unsynchronizing, but not an encrypted body as that is written as it
+    //was read. The data length indicator holds the decompressed size
+    int dataLength = bodyBuffer.length;
+    byte[] compressedBody = ((EncodingFlags)encodingFlags).isEncryption() ? null : ID3Compression.compress(getIdentifier(), bodyBuffer);
+    if (compressedBody != null) {
+      bodyBuffer = compressedBody;
+    }
 
     //Does it need unsynchronizing, and are we allowing unsychronizing
-    byte[] bodyBuffer = bodyOutputStream.toByteArray();
     unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
         ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
     if (unsynchronization) {
@@ -558,8 +621,8 @@ import java.util.NoSuchElementException;
     headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
 
     //Write Frame Size based on size of body buffer (if it has been unsynced then it size
-    //will have increased accordingly
-    int size = bodyBuffer.length;
+    //will have increased accordingly), and any data length indicator
+    int size = compressedBody == null ? bodyBuffer.length : bodyBuffer.length + FRAME_DATA_LENGTH_SIZE;
     LOG.log(INFO, "Frame Size Is:" + size);
     headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
@@ -576,9 +639,13 @@ import java.util.NoSuchElementException;
     } else {
       ((ID3v24Frame.EncodingFlags)encodingFlags).unsetUnsynchronised();
     }
-    //These are not currently supported on write
+    //A previously compressed frame was decompressed on read, so only set Compression if compressed now
     ((ID3v24Frame.EncodingFlags)encodingFlags).unsetCompression();
     ((ID3v24Frame.EncodingFlags)encodingFlags).unsetDataLengthIndicator();
+    if (compressedBody != null) {
+      ((ID3v24Frame.EncodingFlags)encodingFlags).setCompression();
+      ((ID3v24Frame.EncodingFlags)encodingFlags).setDataLengthIndicator();
+    }
     headerBuffer.put(encodingFlags.getFlags());
 
     try {
@@ -593,6 +660,10 @@ import java.util.NoSuchElementException;
         tagBuffer.write(groupIdentifier);
       }
 
+      if (compressedBody != null) {
+        tagBuffer.write(ID3SyncSafeInteger.valueToBuffer(dataLength));
+      }
+
       //Add bodybuffer to the Byte Array Output Stream
       tagBuffer.write(bodyBuffer);
     } catch (IOException ioe) {
@@ -623,7 +694,7 @@ import java.util.NoSuchElementException;
     MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
     statusFlags.createStructure();
     encodingFlags.createStructure();
-    frameBody.createStructure();
+    getBody().createStructure();
     MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
   }
 
@@ -683,7 +754,7 @@ import java.util.NoSuchElementException;
    * @return int frame size
    */
   public int getSize() {
-    return frameBody.getSize() + ID3v24Frame.FRAME_HEADER_SIZE;
+    return getBodySize() + ID3v24Frame.FRAME_HEADER_SIZE;
   }
 
   public void read(ByteBuffer byteBuffer) throws InvalidFrameException, InvalidDataTypeException {
@@ -1167,10 +1238,10 @@ import java.util.NoSuchElementException;
       MP3File.getStructureFormatter().closeHeadingElement(TYPE_FLAGS);
     }
 
-//        public void setCompression() {
-//            flags |= MASK_COMPRESSION;
-//        }
-//
+    void setCompression() {
+      flags |= MASK_COMPRESSION;
+    }
+
 //        public void setEncryption() {
 //            flags |= MASK_ENCRYPTION;
 //        }
@@ -1183,9 +1254,9 @@ import java.util.NoSuchElementException;
       flags |= MASK_FRAME_UNSYNCHRONIZATION;
     }
 
-//        public void setDataLengthIndicator() {
-//            flags |= MASK_DATA_LENGTH_INDICATOR;
-//        }
+    void setDataLengthIndicator() {
+      flags |= MASK_DATA_LENGTH_INDICATOR;
+    }
 
     void unsetCompression() {
       flags &= (byte)~MASK_COMPRESSION;
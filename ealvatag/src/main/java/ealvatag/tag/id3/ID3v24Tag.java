@@ -58,7 +58,9 @@ import ealvatag.tag.lyrics3.Lyrics3v2;
 import ealvatag.tag.lyrics3.Lyrics3v2Field;
 import ealvatag.tag.reference.GenreTypes;
 import ealvatag.utils.Check;
+import ealvatag.tag.images.DeferredImageData;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -75,6 +77,7 @@ import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -614,9 +617,22 @@ public class ID3v24Tag extends AbstractID3v2Tag {
                    final Id3v2Header header,
                    final String loggingFilename,
                    final boolean ignoreArtwork) throws TagException {
+    this(buffer, header, loggingFilename, ignoreArtwork, null);
+  }
+
+  /**
+   * Read the tag from {@code buffer}
+   *
+   * @param artworkLocator if not null, artwork image data is left in the file, found through the locator
+   */
+  public ID3v24Tag(final Buffer buffer,
+                   final Id3v2Header header,
+                   final String loggingFilename,
+                   final boolean ignoreArtwork,
+                   @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     ensureFrameMapsAndClear();
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(buffer, header, ignoreArtwork, artworkLocator);
   }
 
   /**
@@ -847,6 +863,13 @@ public class ID3v24Tag extends AbstractID3v2Tag {
   }
 
   public void read(final Buffer buffer, final Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+    read(buffer, header, ignoreArtwork, null);
+  }
+
+  private void read(final Buffer buffer,
+                    final Id3v2Header header,
+                    final boolean ignoreArtwork,
+                    @Nullable final DeferredImageData.Locator artworkLocator) throws TagException {
     readHeaderFlags(header.getFlags());
 
     //Extended Header
@@ -854,7 +877,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
       readExtendedHeader(buffer);
     }
 
-    readFrames(buffer, header.getTagSize(), ignoreArtwork);
+    readFrames(buffer, header.getTagSize(), ignoreArtwork, artworkLocator);
     LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
   }
 
@@ -908,12 +931,13 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork, @Nullable final DeferredImageData.Locator artworkLocator) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
+    final boolean deferBodies = TagOptionSingleton.getInstance().isLazyId3v2FrameBodies();
     while (buffer.size() > 0) {
       try {
-        ID3v24Frame next = new ID3v24Frame(buffer, loggingFilename, ignoreArtwork);
+        ID3v24Frame next = new ID3v24Frame(buffer, loggingFilename, ignoreArtwork, deferBodies, artworkLocator);
         if (ignoreArtwork && next.isArtworkFrame()) {
           setReadOnly();
         } else {
@@ -1094,8 +1118,9 @@ public class ID3v24Tag extends AbstractID3v2Tag {
    * {@inheritDoc}
    */
   @Override
-  public long write(File file, long audioStartLocation) throws IOException {
-    setLoggingFilename(file.getName());
+  public long write(FileChannel channel, String fileName, long audioStartLocation, @Nullable Replacement replacement)
+      throws IOException {
+    setLoggingFilename(fileName);
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     //Write Body Buffer
@@ -1108,7 +1133,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
 
     ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    writeBufferToFile(channel, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation, replacement);
     return sizeIncPadding;
   }
 
@@ -56,35 +56,33 @@ import java.io.IOException;
         sink = delegate;
     }
 
+    /**
+     * Each $FF is found with {@link Buffer#indexOf(byte, long, long)}, which scans the segments directly, and the run of bytes up to and
+     * including it is moved to the sink as a whole. Only the byte after a $FF is looked at individually.
+     */
     @Override public void write(final Buffer source, final long byteCount) throws IOException {
-        for (int i = 0; i < byteCount; i++) {
-            final byte current = source.readByte();
+        long remaining = byteCount;
+        while (remaining > 0) {
             if (lastByteWasFF) {
-                sink.writeByte(FF);
                 lastByteWasFF = false;
-                if (ZERO != current) {
-                    if (FF != current) {
-                        lastByteWasFF = false;
-                        sink.writeByte(current);
-                    } else {
-                        lastByteWasFF = true;
-                    }
-                }
-            } else {
-                if (FF == current) {
-                    lastByteWasFF = true;
-                } else {
-                    sink.writeByte(current);
+                if (ZERO == source.getByte(0)) {
+                    source.skip(1);
+                    remaining--;
+                    continue;
                 }
             }
+            final long ffIndex = source.indexOf(FF, 0, remaining);
+            if (ffIndex == -1) {
+                sink.write(source, remaining);
+                return;
+            }
+            sink.write(source, ffIndex + 1);
+            remaining -= ffIndex + 1;
+            lastByteWasFF = true;
         }
     }
 
     @Override public void flush() throws IOException {
-        if (lastByteWasFF) {
-            sink.writeByte(0xFF);
-            lastByteWasFF = false;
-        }
         sink.flush();
     }
 
@@ -19,7 +19,9 @@ package ealvatag.tag.id3.framebody;
 
 import ealvatag.utils.StandardCharsets;
 import ealvatag.tag.InvalidTagException;
+import ealvatag.tag.datatype.ByteArraySizeTerminated;
 import ealvatag.tag.datatype.DataTypes;
+import ealvatag.tag.images.DeferredImageData;
 import okio.Buffer;
 
 import java.nio.ByteBuffer;
@@ -39,8 +41,57 @@ public abstract class AbstractArtworkFrameBody extends AbstractID3v2FrameBody {
 
     AbstractArtworkFrameBody(final Buffer buffer, final int frameSize) throws InvalidTagException {super(buffer, frameSize);}
 
+    /**
+     * Read the body, leaving the image data in the file
+     *
+     * @param buffer    the frame body
+     * @param frameSize size of the body
+     * @param locator   locates {@code buffer} in the file
+     *
+     * @throws InvalidTagException if unable to create framebody from buffer
+     */
+    AbstractArtworkFrameBody(final Buffer buffer, final int frameSize, final DeferredImageData.Locator locator)
+            throws InvalidTagException {
+        setSize(frameSize);
+        getPictureData().deferRead(locator);
+        read(buffer);
+    }
+
     AbstractArtworkFrameBody(final AbstractID3v2FrameBody copyObject) {super(copyObject);}
 
+    private ByteArraySizeTerminated getPictureData() {
+        return (ByteArraySizeTerminated)getObject(DataTypes.OBJ_PICTURE_DATA);
+    }
+
+    /**
+     * @return the image data if it was left in the file when the frame was read, else null. It may since have been read, see
+     * {@link DeferredImageData#isImageDataDeferred()}
+     */
+    public DeferredImageData getDeferredImageData() {
+        return getPictureData().getDeferredValue();
+    }
+
+    /**
+     * @return the number of bytes of image data, without reading it if it's still in the file
+     */
+    public int getImageDataLength() {
+        return getPictureData().getSize();
+    }
+
+    /**
+     * Take the image data of {@code body}, leaving it in the file if it hasn't been read yet
+     *
+     * @param body converted from
+     */
+    void copyImageData(final AbstractArtworkFrameBody body) {
+        final DeferredImageData deferred = body.getDeferredImageData();
+        if (deferred != null) {
+            getPictureData().setDeferredValue(deferred);
+        } else {
+            setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
+        }
+    }
+
     public abstract byte[] getImageData();
 
     public int getPictureType() {
@@ -26,6 +26,7 @@ import ealvatag.tag.datatype.TextEncodedStringNullTerminated;
 import ealvatag.tag.id3.ID3v24Frames;
 import ealvatag.tag.id3.valuepair.ImageFormats;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.reference.PictureTypes;
 import okio.Buffer;
 
@@ -119,8 +120,7 @@ public class FrameBodyAPIC extends AbstractArtworkFrameBody implements ID3v24Fra
                             ImageFormats.getMimeTypeForFormat((String)body.getObjectValue(DataTypes.OBJ_IMAGE_FORMAT)));
         this.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, body.getObjectValue(DataTypes.OBJ_PICTURE_TYPE));
         this.setObjectValue(DataTypes.OBJ_DESCRIPTION, body.getDescription());
-        this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
-
+        copyImageData(body);
     }
 
     /**
@@ -156,12 +156,12 @@ public class FrameBodyAPIC extends AbstractArtworkFrameBody implements ID3v24Fra
         super(byteBuffer, frameSize);
     }
 
+    public FrameBodyAPIC(Buffer byteBuffer, int frameSize, DeferredImageData.Locator locator) throws InvalidTagException {
+        super(byteBuffer, frameSize, locator);
+    }
+
     public String getUserFriendlyValue() {
-        if (getImageData() != null) {
-            return getMimeType() + ":" + getDescription() + ":" + getImageData().length;
-        } else {
-            return getMimeType() + ":" + getDescription() + ":0";
-        }
+        return getMimeType() + ":" + getDescription() + ":" + getImageDataLength();
     }
 
 
@@ -30,6 +30,7 @@ import ealvatag.tag.datatype.StringNullTerminated;
 import ealvatag.tag.id3.ID3v22Frames;
 import ealvatag.tag.id3.valuepair.ImageFormats;
 import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.reference.PictureTypes;
 import okio.Buffer;
 
@@ -123,9 +124,8 @@ public class FrameBodyPIC extends AbstractArtworkFrameBody implements ID3v22Fram
         this.setObjectValue(DataTypes.OBJ_TEXT_ENCODING, body.getTextEncoding());
         this.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT,
                             ImageFormats.getFormatForMimeType((String)body.getObjectValue(DataTypes.OBJ_MIME_TYPE)));
-        this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
         this.setDescription(body.getDescription());
-        this.setImageData(body.getImageData());
+        copyImageData(body);
     }
 
     /**
@@ -143,6 +143,10 @@ public class FrameBodyPIC extends AbstractArtworkFrameBody implements ID3v22Fram
         super(byteBuffer, frameSize);
     }
 
+    public FrameBodyPIC(Buffer byteBuffer, int frameSize, DeferredImageData.Locator locator) throws InvalidTagException {
+        super(byteBuffer, frameSize, locator);
+    }
+
     /**
      * Set a description of the image
      *
@@ -24,9 +24,13 @@ import ealvatag.tag.id3.ID3v23Frames;
 import ealvatag.tag.id3.ID3v24Frames;
 import ealvatag.tag.id3.ID3v2ChapterFrames;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 /**
- * This contains all the factories for Id3v2 frames
+ * This contains all the factories for Id3v2 frames. Every frame body is created through this table, keyed by frame id, whether it
+ * is read from a {@link Buffer} or {@link ByteBuffer}, created empty, or converted from a body of another version of the frame.
  * <p>
  * Created by Eric A. Snell on 1/25/17.
  */
@@ -44,644 +48,2150 @@ public class Id3FrameBodyFactories implements Id3FrameBodyFactory {
         return instance;
     }
 
-    private final ImmutableMap<String, Id3FrameBodyFactory> factoryMap;
+    private final ImmutableMap<String, FrameBodyConstructors> factoryMap;
 
     private Id3FrameBodyFactories() {
-        factoryMap = ImmutableMap.<String, Id3FrameBodyFactory>builder()
-                .put(ID3v24Frames.FRAME_ID_AUDIO_ENCRYPTION, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+        factoryMap = ImmutableMap.<String, FrameBodyConstructors>builder()
+                .put(ID3v24Frames.FRAME_ID_AUDIO_ENCRYPTION, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyAENC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyAENC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyAENC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyAENC) {
+                            return new FrameBodyAENC((FrameBodyAENC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyAPIC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyAPIC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyAPIC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyAPIC) {
+                            return new FrameBodyAPIC((FrameBodyAPIC)body);
+                        }
+                        if (body instanceof FrameBodyPIC) {
+                            return new FrameBodyAPIC((FrameBodyPIC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_AUDIO_SEEK_POINT_INDEX, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_AUDIO_SEEK_POINT_INDEX, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyASPI();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyASPI(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyASPI(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyASPI) {
+                            return new FrameBodyASPI((FrameBodyASPI)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v2ChapterFrames.FRAME_ID_CHAPTER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v2ChapterFrames.FRAME_ID_CHAPTER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyCHAP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyCHAP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyCHAP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyCHAP) {
+                            return new FrameBodyCHAP((FrameBodyCHAP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_COMMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_COMMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyCOMM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyCOMM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyCOMM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyCOMM) {
+                            return new FrameBodyCOMM((FrameBodyCOMM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_COMMERCIAL_FRAME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_COMMERCIAL_FRAME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyCOMR();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyCOMR(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyCOMR(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyCOMR) {
+                            return new FrameBodyCOMR((FrameBodyCOMR)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v22Frames.FRAME_ID_V2_ENCRYPTED_FRAME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v22Frames.FRAME_ID_V2_ENCRYPTED_FRAME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyCRM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyCRM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyCRM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyCRM) {
+                            return new FrameBodyCRM((FrameBodyCRM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v2ChapterFrames.FRAME_ID_TABLE_OF_CONTENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v2ChapterFrames.FRAME_ID_TABLE_OF_CONTENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyCTOC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyCTOC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyCTOC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyCTOC) {
+                            return new FrameBodyCTOC((FrameBodyCTOC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ENCRYPTION, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ENCRYPTION, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyENCR();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyENCR(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyENCR(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyENCR) {
+                            return new FrameBodyENCR((FrameBodyENCR)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_EQUALISATION2, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_EQUALISATION2, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyEQU2();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyEQU2(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyEQU2(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyEQU2) {
+                            return new FrameBodyEQU2((FrameBodyEQU2)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_EQUALISATION, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_EQUALISATION, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyEQUA();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyEQUA(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyEQUA(toBuffer(byteBuffer, frameSize), frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyEQUA) {
+                            return new FrameBodyEQUA((FrameBodyEQUA)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_EVENT_TIMING_CODES, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_EVENT_TIMING_CODES, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyETCO();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyETCO(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyETCO(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyETCO) {
+                            return new FrameBodyETCO((FrameBodyETCO)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_GENERAL_ENCAPS_OBJECT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_GENERAL_ENCAPS_OBJECT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyGEOB();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyGEOB(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyGEOB(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyGEOB) {
+                            return new FrameBodyGEOB((FrameBodyGEOB)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_GROUP_ID_REG, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_GROUP_ID_REG, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyGRID();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyGRID(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyGRID(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyGRID) {
+                            return new FrameBodyGRID((FrameBodyGRID)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ITUNES_GROUPING, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ITUNES_GROUPING, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyGRP1();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyGRP1(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyGRP1(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyGRP1) {
+                            return new FrameBodyGRP1((FrameBodyGRP1)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_INVOLVED_PEOPLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_INVOLVED_PEOPLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyIPLS();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyIPLS(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyIPLS(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyIPLS) {
+                            return new FrameBodyIPLS((FrameBodyIPLS)body);
+                        }
+                        if (body instanceof FrameBodyTIPL) {
+                            return new FrameBodyIPLS((FrameBodyTIPL)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_LINKED_INFO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_LINKED_INFO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyLINK();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyLINK(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyLINK(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyLINK) {
+                            return new FrameBodyLINK((FrameBodyLINK)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MUSIC_CD_ID, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MUSIC_CD_ID, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyMCDI();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyMCDI(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyMCDI(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyMCDI) {
+                            return new FrameBodyMCDI((FrameBodyMCDI)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MPEG_LOCATION_LOOKUP_TABLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MPEG_LOCATION_LOOKUP_TABLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyMLLT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyMLLT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyMLLT(toBuffer(byteBuffer, frameSize), frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyMLLT) {
+                            return new FrameBodyMLLT((FrameBodyMLLT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MOVEMENT_NO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MOVEMENT_NO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyMVIN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyMVIN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyMVIN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyMVIN) {
+                            return new FrameBodyMVIN((FrameBodyMVIN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MOVEMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MOVEMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyMVNM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyMVNM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyMVNM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyMVNM) {
+                            return new FrameBodyMVNM((FrameBodyMVNM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_OWNERSHIP, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_OWNERSHIP, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyOWNE();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyOWNE(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyOWNE(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyOWNE) {
+                            return new FrameBodyOWNE((FrameBodyOWNE)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_PLAY_COUNTER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_PLAY_COUNTER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyPCNT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyPCNT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyPCNT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyPCNT) {
+                            return new FrameBodyPCNT((FrameBodyPCNT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyPIC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyPIC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyPIC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyPIC) {
+                            return new FrameBodyPIC((FrameBodyPIC)body);
+                        }
+                        if (body instanceof FrameBodyAPIC) {
+                            return new FrameBodyPIC((FrameBodyAPIC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_POPULARIMETER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_POPULARIMETER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyPOPM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyPOPM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyPOPM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyPOPM) {
+                            return new FrameBodyPOPM((FrameBodyPOPM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_POSITION_SYNC, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_POSITION_SYNC, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyPOSS();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyPOSS(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyPOSS(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyPOSS) {
+                            return new FrameBodyPOSS((FrameBodyPOSS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_PRIVATE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_PRIVATE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyPRIV();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyPRIV(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyPRIV(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyPRIV) {
+                            return new FrameBodyPRIV((FrameBodyPRIV)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_RECOMMENDED_BUFFER_SIZE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_RECOMMENDED_BUFFER_SIZE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyRBUF();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyRBUF(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyRBUF(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyRBUF) {
+                            return new FrameBodyRBUF((FrameBodyRBUF)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_RELATIVE_VOLUME_ADJUSTMENT2, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_RELATIVE_VOLUME_ADJUSTMENT2, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyRVA2();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyRVA2(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyRVA2(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyRVA2) {
+                            return new FrameBodyRVA2((FrameBodyRVA2)body);
+                        }
+                        if (body instanceof FrameBodyRVAD) {
+                            return new FrameBodyRVA2((FrameBodyRVAD)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_RELATIVE_VOLUME_ADJUSTMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_RELATIVE_VOLUME_ADJUSTMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyRVAD();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyRVAD(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyRVAD(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyRVAD) {
+                            return new FrameBodyRVAD((FrameBodyRVAD)body);
+                        }
+                        if (body instanceof FrameBodyRVA2) {
+                            return new FrameBodyRVAD((FrameBodyRVA2)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_REVERB, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_REVERB, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyRVRB();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyRVRB(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyRVRB(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyRVRB) {
+                            return new FrameBodyRVRB((FrameBodyRVRB)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SEEK, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SEEK, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodySEEK();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodySEEK(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodySEEK(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodySEEK) {
+                            return new FrameBodySEEK((FrameBodySEEK)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SIGNATURE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SIGNATURE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodySIGN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodySIGN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodySIGN(toBuffer(byteBuffer, frameSize), frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodySIGN) {
+                            return new FrameBodySIGN((FrameBodySIGN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SYNC_LYRIC, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SYNC_LYRIC, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodySYLT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodySYLT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodySYLT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodySYLT) {
+                            return new FrameBodySYLT((FrameBodySYLT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SYNC_TEMPO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SYNC_TEMPO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodySYTC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodySYTC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodySYTC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodySYTC) {
+                            return new FrameBodySYTC((FrameBodySYTC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_BPM, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_BPM, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTBPM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTBPM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTBPM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTBPM) {
+                            return new FrameBodyTBPM((FrameBodyTBPM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_IS_COMPILATION, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_IS_COMPILATION, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTCMP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTCMP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTCMP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTCMP) {
+                            return new FrameBodyTCMP((FrameBodyTCMP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_COMPOSER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_COMPOSER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTCOM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTCOM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTCOM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTCOM) {
+                            return new FrameBodyTCOM((FrameBodyTCOM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_GENRE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_GENRE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTCON();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTCON(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTCON(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTCON) {
+                            return new FrameBodyTCON((FrameBodyTCON)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_COPYRIGHTINFO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_COPYRIGHTINFO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTCOP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTCOP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTCOP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTCOP) {
+                            return new FrameBodyTCOP((FrameBodyTCOP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TDAT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TDAT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDAT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTDAT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDAT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDAT) {
+                            return new FrameBodyTDAT((FrameBodyTDAT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ENCODING_TIME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ENCODING_TIME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDEN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTDEN(buffer, frameSize);
                     }
-                })
-                .put(ID3v24Frames.FRAME_ID_PLAYLIST_DELAY, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
-                        return new FrameBodyTDLY(buffer, frameSize);
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDEN(byteBuffer, frameSize);
                     }
-                })
-                .put(ID3v24Frames.FRAME_ID_ORIGINAL_RELEASE_TIME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
-                        return new FrameBodyTDOR(buffer, frameSize);
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDEN) {
+                            return new FrameBodyTDEN((FrameBodyTDEN)body);
+                        }
+                        return null;
                     }
                 })
-                .put(ID3v24Frames.FRAME_ID_YEAR, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
-                        return new FrameBodyTDRC(buffer, frameSize);
+                .put(ID3v24Frames.FRAME_ID_PLAYLIST_DELAY, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDLY();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDLY(buffer, frameSize);
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDLY(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDLY) {
+                            return new FrameBodyTDLY((FrameBodyTDLY)body);
+                        }
+                        return null;
+                    }
+                })
+                .put(ID3v24Frames.FRAME_ID_ORIGINAL_RELEASE_TIME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDOR();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDOR(buffer, frameSize);
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDOR(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDOR) {
+                            return new FrameBodyTDOR((FrameBodyTDOR)body);
+                        }
+                        if (body instanceof FrameBodyTORY) {
+                            return new FrameBodyTDOR((FrameBodyTORY)body);
+                        }
+                        return null;
                     }
                 })
-                .put(ID3v24Frames.FRAME_ID_RELEASE_TIME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_YEAR, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDRC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDRC(buffer, frameSize);
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDRC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDRC) {
+                            return new FrameBodyTDRC((FrameBodyTDRC)body);
+                        }
+                        if (body instanceof FrameBodyTYER) {
+                            return new FrameBodyTDRC((FrameBodyTYER)body);
+                        }
+                        if (body instanceof FrameBodyTIME) {
+                            return new FrameBodyTDRC((FrameBodyTIME)body);
+                        }
+                        if (body instanceof FrameBodyTDAT) {
+                            return new FrameBodyTDRC((FrameBodyTDAT)body);
+                        }
+                        if (body instanceof FrameBodyTRDA) {
+                            return new FrameBodyTDRC((FrameBodyTRDA)body);
+                        }
+                        return null;
+                    }
+                })
+                .put(ID3v24Frames.FRAME_ID_RELEASE_TIME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDRL();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTDRL(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDRL(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDRL) {
+                            return new FrameBodyTDRL((FrameBodyTDRL)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TAGGING_TIME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TAGGING_TIME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTDTG();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTDTG(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTDTG(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTDTG) {
+                            return new FrameBodyTDTG((FrameBodyTDTG)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ENCODEDBY, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ENCODEDBY, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTENC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTENC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTENC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTENC) {
+                            return new FrameBodyTENC((FrameBodyTENC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_LYRICIST, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_LYRICIST, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTEXT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTEXT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTEXT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTEXT) {
+                            return new FrameBodyTEXT((FrameBodyTEXT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_FILE_TYPE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_FILE_TYPE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTFLT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTFLT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTFLT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTFLT) {
+                            return new FrameBodyTFLT((FrameBodyTFLT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TIME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TIME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTIME();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTIME(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTIME(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTIME) {
+                            return new FrameBodyTIME((FrameBodyTIME)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_INVOLVED_PEOPLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_INVOLVED_PEOPLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTIPL();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTIPL(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTIPL(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyIPLS) {
+                            return new FrameBodyTIPL((FrameBodyIPLS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_CONTENT_GROUP_DESC, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_CONTENT_GROUP_DESC, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTIT1();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTIT1(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTIT1(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTIT1) {
+                            return new FrameBodyTIT1((FrameBodyTIT1)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TITLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TITLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTIT2();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTIT2(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTIT2(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTIT2) {
+                            return new FrameBodyTIT2((FrameBodyTIT2)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TITLE_REFINEMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TITLE_REFINEMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTIT3();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTIT3(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTIT3(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTIT3) {
+                            return new FrameBodyTIT3((FrameBodyTIT3)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_INITIAL_KEY, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_INITIAL_KEY, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTKEY();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTKEY(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTKEY(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTKEY) {
+                            return new FrameBodyTKEY((FrameBodyTKEY)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_LANGUAGE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_LANGUAGE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTLAN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTLAN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTLAN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTLAN) {
+                            return new FrameBodyTLAN((FrameBodyTLAN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_LENGTH, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_LENGTH, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTLEN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTLEN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTLEN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTLEN) {
+                            return new FrameBodyTLEN((FrameBodyTLEN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MUSICIAN_CREDITS, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MUSICIAN_CREDITS, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTMCL();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTMCL(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTMCL(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyIPLS) {
+                            return new FrameBodyTMCL((FrameBodyIPLS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MEDIA_TYPE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MEDIA_TYPE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTMED();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTMED(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTMED(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTMED) {
+                            return new FrameBodyTMED((FrameBodyTMED)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_MOOD, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_MOOD, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTMOO();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTMOO(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTMOO(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTMOO) {
+                            return new FrameBodyTMOO((FrameBodyTMOO)body);
+                        }
+                        if (body instanceof FrameBodyTXXX) {
+                            return new FrameBodyTMOO((FrameBodyTXXX)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ORIG_TITLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ORIG_TITLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTOAL();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTOAL(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTOAL(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTOAL) {
+                            return new FrameBodyTOAL((FrameBodyTOAL)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ORIG_FILENAME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ORIG_FILENAME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTOFN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTOFN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTOFN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTOFN) {
+                            return new FrameBodyTOFN((FrameBodyTOFN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ORIG_LYRICIST, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ORIG_LYRICIST, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTOLY();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTOLY(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTOLY(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTOLY) {
+                            return new FrameBodyTOLY((FrameBodyTOLY)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ORIGARTIST, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ORIGARTIST, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTOPE();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTOPE(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTOPE(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTOPE) {
+                            return new FrameBodyTOPE((FrameBodyTOPE)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TORY, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TORY, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTORY();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTORY(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTORY(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTORY) {
+                            return new FrameBodyTORY((FrameBodyTORY)body);
+                        }
+                        if (body instanceof FrameBodyTDOR) {
+                            return new FrameBodyTORY((FrameBodyTDOR)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_FILE_OWNER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_FILE_OWNER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTOWN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTOWN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTOWN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTOWN) {
+                            return new FrameBodyTOWN((FrameBodyTOWN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ARTIST, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ARTIST, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPE1();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPE1(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPE1(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPE1) {
+                            return new FrameBodyTPE1((FrameBodyTPE1)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ACCOMPANIMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ACCOMPANIMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPE2();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPE2(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPE2(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPE2) {
+                            return new FrameBodyTPE2((FrameBodyTPE2)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_CONDUCTOR, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_CONDUCTOR, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPE3();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPE3(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPE3(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPE3) {
+                            return new FrameBodyTPE3((FrameBodyTPE3)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_REMIXED, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_REMIXED, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPE4();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPE4(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPE4(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPE4) {
+                            return new FrameBodyTPE4((FrameBodyTPE4)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SET, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SET, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPOS();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPOS(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPOS(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPOS) {
+                            return new FrameBodyTPOS((FrameBodyTPOS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_PRODUCED_NOTICE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_PRODUCED_NOTICE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPRO();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPRO(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPRO(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPRO) {
+                            return new FrameBodyTPRO((FrameBodyTPRO)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_PUBLISHER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_PUBLISHER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTPUB();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTPUB(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTPUB(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTPUB) {
+                            return new FrameBodyTPUB((FrameBodyTPUB)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TRACK, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TRACK, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTRCK();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTRCK(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTRCK(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTRCK) {
+                            return new FrameBodyTRCK((FrameBodyTRCK)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TRDA, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TRDA, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTRDA();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTRDA(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTRDA(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTRDA) {
+                            return new FrameBodyTRDA((FrameBodyTRDA)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_RADIO_NAME, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_RADIO_NAME, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTRSN();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTRSN(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTRSN(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTRSN) {
+                            return new FrameBodyTRSN((FrameBodyTRSN)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_RADIO_OWNER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_RADIO_OWNER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTRSO();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTRSO(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTRSO(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTRSO) {
+                            return new FrameBodyTRSO((FrameBodyTRSO)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TSIZ, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TSIZ, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSIZ();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSIZ(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSIZ(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSIZ) {
+                            return new FrameBodyTSIZ((FrameBodyTSIZ)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ALBUM_ARTIST_SORT_ORDER_ITUNES, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ALBUM_ARTIST_SORT_ORDER_ITUNES, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSO2();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSO2(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSO2(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSO2) {
+                            return new FrameBodyTSO2((FrameBodyTSO2)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ALBUM_SORT_ORDER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ALBUM_SORT_ORDER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSOA();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSOA(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSOA(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSOA) {
+                            return new FrameBodyTSOA((FrameBodyTSOA)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_COMPOSER_SORT_ORDER_ITUNES, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_COMPOSER_SORT_ORDER_ITUNES, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSOC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSOC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSOC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSOC) {
+                            return new FrameBodyTSOC((FrameBodyTSOC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ARTIST_SORT_ORDER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ARTIST_SORT_ORDER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSOP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSOP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSOP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSOP) {
+                            return new FrameBodyTSOP((FrameBodyTSOP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TITLE_SORT_ORDER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TITLE_SORT_ORDER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSOT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSOT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSOT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSOT) {
+                            return new FrameBodyTSOT((FrameBodyTSOT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_ISRC, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_ISRC, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSRC();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSRC(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSRC(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSRC) {
+                            return new FrameBodyTSRC((FrameBodyTSRC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_HW_SW_SETTINGS, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_HW_SW_SETTINGS, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSSE();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSSE(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSSE(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSSE) {
+                            return new FrameBodyTSSE((FrameBodyTSSE)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_SET_SUBTITLE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_SET_SUBTITLE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTSST();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTSST(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTSST(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTSST) {
+                            return new FrameBodyTSST((FrameBodyTSST)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTXXX();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTXXX(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTXXX(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTXXX) {
+                            return new FrameBodyTXXX((FrameBodyTXXX)body);
+                        }
+                        if (body instanceof FrameBodyTMOO) {
+                            return new FrameBodyTXXX((FrameBodyTMOO)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TYER, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TYER, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTYER();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyTYER(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTYER(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTYER) {
+                            return new FrameBodyTYER((FrameBodyTYER)body);
+                        }
+                        if (body instanceof FrameBodyTDRC) {
+                            return new FrameBodyTYER((FrameBodyTDRC)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_UNIQUE_FILE_ID, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_UNIQUE_FILE_ID, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyUFID();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyUFID(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyUFID(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyUFID) {
+                            return new FrameBodyUFID((FrameBodyUFID)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_TERMS_OF_USE, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_TERMS_OF_USE, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyUSER();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyUSER(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyUSER(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyUSER) {
+                            return new FrameBodyUSER((FrameBodyUSER)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyUSLT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyUSLT(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyUSLT(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyUSLT) {
+                            return new FrameBodyUSLT((FrameBodyUSLT)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_COMMERCIAL, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_COMMERCIAL, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWCOM();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWCOM(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWCOM(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWCOM) {
+                            return new FrameBodyWCOM((FrameBodyWCOM)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_COPYRIGHT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_COPYRIGHT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWCOP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWCOP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWCOP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWCOP) {
+                            return new FrameBodyWCOP((FrameBodyWCOP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_FILE_WEB, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_FILE_WEB, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWOAF();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWOAF(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWOAF(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWOAF) {
+                            return new FrameBodyWOAF((FrameBodyWOAF)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_ARTIST_WEB, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_ARTIST_WEB, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWOAR();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWOAR(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWOAR(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWOAR) {
+                            return new FrameBodyWOAR((FrameBodyWOAR)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_SOURCE_WEB, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_SOURCE_WEB, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWOAS();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWOAS(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWOAS(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWOAS) {
+                            return new FrameBodyWOAS((FrameBodyWOAS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_OFFICIAL_RADIO, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_OFFICIAL_RADIO, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWORS();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWORS(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWORS(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWORS) {
+                            return new FrameBodyWORS((FrameBodyWORS)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_PAYMENT, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_PAYMENT, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWPAY();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWPAY(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWPAY(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWPAY) {
+                            return new FrameBodyWPAY((FrameBodyWPAY)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_URL_PUBLISHERS, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_URL_PUBLISHERS, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWPUB();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWPUB(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWPUB(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWPUB) {
+                            return new FrameBodyWPUB((FrameBodyWPUB)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v24Frames.FRAME_ID_USER_DEFINED_URL, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v24Frames.FRAME_ID_USER_DEFINED_URL, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyWXXX();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyWXXX(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyWXXX(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyWXXX) {
+                            return new FrameBodyWXXX((FrameBodyWXXX)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_ALBUM_SORT_ORDER_MUSICBRAINZ, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_ALBUM_SORT_ORDER_MUSICBRAINZ, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyXSOA();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyXSOA(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyXSOA(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyXSOA) {
+                            return new FrameBodyXSOA((FrameBodyXSOA)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_ARTIST_SORT_ORDER_MUSICBRAINZ, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_ARTIST_SORT_ORDER_MUSICBRAINZ, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyXSOP();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyXSOP(buffer, frameSize);
                     }
+
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyXSOP(byteBuffer, frameSize);
+                    }
+
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyXSOP) {
+                            return new FrameBodyXSOP((FrameBodyXSOP)body);
+                        }
+                        return null;
+                    }
                 })
-                .put(ID3v23Frames.FRAME_ID_V3_TITLE_SORT_ORDER_MUSICBRAINZ, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId, final Buffer buffer, final int frameSize)
-                            throws FrameIdentifierException, InvalidTagException {
+                .put(ID3v23Frames.FRAME_ID_V3_TITLE_SORT_ORDER_MUSICBRAINZ, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyXSOT();
+                    }
+
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
                         return new FrameBodyXSOT(buffer, frameSize);
                     }
-                })
 
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyXSOT(byteBuffer, frameSize);
+                    }
 
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyXSOT) {
+                            return new FrameBodyXSOT((FrameBodyXSOT)body);
+                        }
+                        return null;
+                    }
+                })
+                .put(ID3v24Frames.FRAME_ID_ALBUM, new FrameBodyConstructors() {
+                    @Override AbstractID3v2FrameBody make() {
+                        return new FrameBodyTALB();
+                    }
 
+                    @Override AbstractID3v2FrameBody make(final Buffer buffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTALB(buffer, frameSize);
+                    }
 
+                    @Override AbstractID3v2FrameBody make(final ByteBuffer byteBuffer, final int frameSize) throws InvalidTagException {
+                        return new FrameBodyTALB(byteBuffer, frameSize);
+                    }
 
-                .put(ID3v24Frames.FRAME_ID_ALBUM, new Id3FrameBodyFactory() {
-                    @Override public AbstractID3v2FrameBody make(final String frameId,
-                                                                 final Buffer buffer,
-                                                                 final int frameSize) throws InvalidTagException {
-                        return new FrameBodyTALB(buffer, frameSize);
+                    @Override @Nullable AbstractID3v2FrameBody convert(final AbstractID3v2FrameBody body) {
+                        if (body instanceof FrameBodyTALB) {
+                            return new FrameBodyTALB((FrameBodyTALB)body);
+                        }
+                        return null;
                     }
                 })
                 .build();
@@ -690,10 +2200,70 @@ public class Id3FrameBodyFactories implements Id3FrameBodyFactory {
     @Override public AbstractID3v2FrameBody make(final String frameId,
                                                  final Buffer buffer,
                                                  final int frameSize) throws FrameIdentifierException, InvalidTagException {
-        final Id3FrameBodyFactory id3FrameBodyFactory = factoryMap.get(frameId);
-        if (id3FrameBodyFactory == null) {
+        return getConstructors(frameId).make(buffer, frameSize);
+    }
+
+    @Override public AbstractID3v2FrameBody make(final String frameId,
+                                                 final ByteBuffer byteBuffer,
+                                                 final int frameSize) throws FrameIdentifierException, InvalidTagException {
+        return getConstructors(frameId).make(byteBuffer, frameSize);
+    }
+
+    @Override public AbstractID3v2FrameBody make(final String frameId) throws FrameIdentifierException {
+        return getConstructors(frameId).make();
+    }
+
+    @Override public @Nullable AbstractID3v2FrameBody convert(final String frameId, final AbstractID3v2FrameBody body)
+            throws FrameIdentifierException {
+        return getConstructors(frameId).convert(body);
+    }
+
+    @Override public AbstractID3v2FrameBody copy(final AbstractID3v2FrameBody body) {
+        if (body instanceof FrameBodyUnsupported) {
+            return new FrameBodyUnsupported((FrameBodyUnsupported)body);
+        } else if (body instanceof FrameBodyDeprecated) {
+            return new FrameBodyDeprecated((FrameBodyDeprecated)body);
+        } else if (body instanceof FrameBodyEncrypted) {
+            return new FrameBodyEncrypted((FrameBodyEncrypted)body);
+        }
+        final FrameBodyConstructors constructors = factoryMap.get(body.getIdentifier());
+        final AbstractID3v2FrameBody copy = constructors != null ? constructors.convert(body) : null;
+        if (copy == null || copy.getClass() != body.getClass()) {
+            throw new IllegalArgumentException("Unable to create copy:" + body.getClass().getName());
+        }
+        return copy;
+    }
+
+    private FrameBodyConstructors getConstructors(final String frameId) throws FrameIdentifierException {
+        final FrameBodyConstructors constructors = factoryMap.get(frameId);
+        if (constructors == null) {
             throw new FrameIdentifierException(frameId);
         }
-        return id3FrameBodyFactory.make(frameId, buffer, frameSize);
+        return constructors;
+    }
+
+    /**
+     * For the few bodies that are only read from a {@link Buffer}, consumes up to {@code frameSize} bytes of {@code byteBuffer}
+     */
+    private static Buffer toBuffer(final ByteBuffer byteBuffer, final int frameSize) {
+        final byte[] bytes = new byte[Math.min(frameSize, byteBuffer.remaining())];
+        byteBuffer.get(bytes);
+        return new Buffer().write(bytes);
+    }
+
+    /**
+     * The constructors of one frame body type
+     */
+    private static abstract class FrameBodyConstructors {
+        abstract AbstractID3v2FrameBody make();
+
+        abstract AbstractID3v2FrameBody make(Buffer buffer, int frameSize) throws InvalidTagException;
+
+        abstract AbstractID3v2FrameBody make(ByteBuffer byteBuffer, int frameSize) throws InvalidTagException;
+
+        /**
+         * @return a body copied or converted from {@code body}, null if there is no constructor for the type of {@code body}
+         */
+        abstract @Nullable AbstractID3v2FrameBody convert(AbstractID3v2FrameBody body);
     }
 }
@@ -21,6 +21,9 @@ import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.InvalidFrameIdentifierException;
 import ealvatag.tag.InvalidTagException;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 /**
  * Interface for creating {@link AbstractID3v2FrameBody} instances.
@@ -43,4 +46,53 @@ public interface Id3FrameBodyFactory {
      */
     AbstractID3v2FrameBody make(String frameId, Buffer buffer, int frameSize) throws FrameIdentifierException, InvalidTagException;
 
+    /**
+     * Make a frame body of the type specified by {@code frameId}, reading its contents from {@code byteBuffer}
+     *
+     * @param frameId    the frame id parsed from the tag
+     * @param byteBuffer source of frame contents
+     * @param frameSize  the size of the frame
+     *
+     * @return an Id3v2 frame body instance of the type specified by {@code frameId}
+     *
+     * @throws FrameIdentifierException if the frameId cannot be found
+     * @throws InvalidTagException      if the frame data could not be parsed
+     */
+    AbstractID3v2FrameBody make(String frameId, ByteBuffer byteBuffer, int frameSize) throws FrameIdentifierException, InvalidTagException;
+
+    /**
+     * Make an empty frame body of the type specified by {@code frameId}
+     *
+     * @param frameId the frame id
+     *
+     * @return a new Id3v2 frame body instance of the type specified by {@code frameId}
+     *
+     * @throws FrameIdentifierException if the frameId cannot be found
+     */
+    AbstractID3v2FrameBody make(String frameId) throws FrameIdentifierException;
+
+    /**
+     * Make a frame body of the type specified by {@code frameId} from {@code body}, which may be a body of the same type or the
+     * equivalent frame body in another version of ID3v2, eg. TYER to TDRC
+     *
+     * @param frameId the frame id of the body to create
+     * @param body    the body to copy or convert
+     *
+     * @return the new frame body or null if a body of the type specified by {@code frameId} cannot be made from {@code body}
+     *
+     * @throws FrameIdentifierException if the frameId cannot be found
+     */
+    @Nullable AbstractID3v2FrameBody convert(String frameId, AbstractID3v2FrameBody body) throws FrameIdentifierException;
+
+    /**
+     * Make a copy of {@code body}
+     *
+     * @param body the body to copy
+     *
+     * @return a new frame body of the same type as {@code body}
+     *
+     * @throws IllegalArgumentException if {@code body} is not a type known to this factory
+     */
+    AbstractID3v2FrameBody copy(AbstractID3v2FrameBody body);
+
 }
@@ -21,9 +21,13 @@ import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 import ealvatag.tag.id3.valuepair.ImageFormats;
 import ealvatag.tag.reference.PictureTypes;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Base class for Artwork implementations
@@ -32,6 +36,8 @@ import java.io.RandomAccessFile;
  */
 public abstract class AbstractArtwork implements Artwork {
     private byte[] binaryData;
+    /** Image data still in the file, until the data is asked for */
+    private DeferredImageData deferredImageData;
     private String mimeType = "";
     private String description = "";
     private boolean isLinked = false;
@@ -60,6 +66,8 @@ public abstract class AbstractArtwork implements Artwork {
         if (coverArt.isImageUrl()) {
             setLinked(coverArt.isImageUrl());
             setImageUrl(coverArt.getImageUrl());
+        } else if (coverArt.isImageDataDeferred()) {
+            setDeferredBinaryData(coverArt.getDeferredImageData());
         } else {
             setBinaryData(coverArt.getImageData());
         }
@@ -69,14 +77,49 @@ public abstract class AbstractArtwork implements Artwork {
     }
 
     public byte[] getBinaryData() {
+        if (deferredImageData != null) {
+            binaryData = deferredImageData.getImageData();
+            deferredImageData = null;
+        }
         return binaryData;
     }
 
     public Artwork setBinaryData(byte[] binaryData) {
         this.binaryData = binaryData;
+        deferredImageData = null;
+        return this;
+    }
+
+    public Artwork setDeferredBinaryData(DeferredImageData imageData) {
+        binaryData = null;
+        deferredImageData = imageData;
         return this;
     }
 
+    public int getBinaryDataLength() {
+        if (deferredImageData != null) {
+            return deferredImageData.getImageDataLength();
+        }
+        return binaryData != null ? binaryData.length : 0;
+    }
+
+    public InputStream openBinaryData() throws IOException {
+        if (deferredImageData != null) {
+            return deferredImageData.openImageData();
+        }
+        return new ByteArrayInputStream(binaryData != null ? binaryData : new byte[0]);
+    }
+
+    public byte[] digest(String algorithm) throws NoSuchAlgorithmException, IOException {
+        final MessageDigest digest = MessageDigest.getInstance(algorithm);
+        if (deferredImageData != null) {
+            deferredImageData.digestImageData(digest);
+        } else if (binaryData != null) {
+            digest.update(binaryData);
+        }
+        return digest.digest();
+    }
+
     public String getMimeType() {
         return mimeType;
     }
@@ -4,6 +4,9 @@ import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Represents artwork in a format independent  way
@@ -13,6 +16,49 @@ public interface Artwork {
 
     Artwork setBinaryData(byte[] binaryData);
 
+    /**
+     * Set image data which is still in the file, to be read when it's first asked for
+     *
+     * @param imageData the image data left in the file when the tag was read
+     *
+     * @return this
+     *
+     * @see ealvatag.tag.TagOptionSingleton#setLazyArtwork(boolean)
+     */
+    Artwork setDeferredBinaryData(DeferredImageData imageData);
+
+    /**
+     * @return the length of the image data, without reading it if it's still in the file
+     *
+     * @see ealvatag.tag.TagOptionSingleton#setLazyArtwork(boolean)
+     */
+    int getBinaryDataLength();
+
+    /**
+     * Open a stream over the image data. If the data hasn't been read from the file it's streamed from there rather than read into
+     * memory.
+     *
+     * @return a stream over the image data, the caller must close it
+     *
+     * @throws IOException if the file can't be read
+     *
+     * @see ealvatag.tag.TagOptionSingleton#setLazyArtwork(boolean)
+     */
+    InputStream openBinaryData() throws IOException;
+
+    /**
+     * Digest the image data, to find the same image in other tags. Image data still in the file is read from there through a direct
+     * buffer rather than into memory.
+     *
+     * @param algorithm name of a {@link MessageDigest} algorithm, such as "MD5" or "SHA-1"
+     *
+     * @return the digest of the image data
+     *
+     * @throws NoSuchAlgorithmException if the algorithm isn't available
+     * @throws IOException              if the file can't be read
+     */
+    byte[] digest(String algorithm) throws NoSuchAlgorithmException, IOException;
+
     String getMimeType();
 
     Artwork setMimeType(String mimeType);
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.images;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import ealvatag.tag.id3.valuepair.ImageFormats;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static ealvatag.utils.Check.CANNOT_BE_NULL;
+import static ealvatag.utils.Check.checkArgNotNull;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Makes scaled copies of artwork, for showing a library's album covers.
+ * <p>
+ * Images are decoded with {@link ImageReadParam#setSourceSubsampling(int, int, int, int)} so a large cover is never decoded at full
+ * resolution when only small thumbnails are needed, and each decode produces every requested size. Results are cached by the SHA-1 of
+ * the image data, so the same cover in every track of an album is decoded once. The image data is hashed from {@link
+ * Artwork#openBinaryData()}, so artwork still in the file isn't read into memory to find it's cached.
+ * <p>
+ * Thread safe. If several threads ask for the same uncached cover, one decodes it and the others wait for the result.
+ * <p>
+ * Not compatible with Android, delete from your source tree.
+ */
+public final class ArtworkThumbnailer {
+    public enum Format {
+        JPEG(ImageFormats.MIME_TYPE_JPEG, "jpeg", BufferedImage.TYPE_INT_RGB),
+        PNG(ImageFormats.MIME_TYPE_PNG, "png", BufferedImage.TYPE_INT_ARGB);
+
+        private final String mimeType;
+        private final String formatName;
+        private final int imageType;
+
+        Format(final String mimeType, final String formatName, final int imageType) {
+            this.mimeType = mimeType;
+            this.formatName = formatName;
+            this.imageType = imageType;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+    }
+
+    private final Cache<Key, ImmutableSortedMap<Integer, byte[]>> cache;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong decodes = new AtomicLong();
+
+    /**
+     * @param maxCachedBytes roughly how many bytes of thumbnails to keep before the least recently used are dropped
+     */
+    public ArtworkThumbnailer(final long maxCachedBytes) {
+        checkArgument(maxCachedBytes > 0, "maxCachedBytes must be > 0");
+        cache = CacheBuilder.newBuilder()
+                            .maximumWeight(maxCachedBytes)
+                            .weigher(new Weigher<Key, ImmutableSortedMap<Integer, byte[]>>() {
+                                @Override public int weigh(final Key key, final ImmutableSortedMap<Integer, byte[]> value) {
+                                    int bytes = 0;
+                                    for (final byte[] thumbnail : value.values()) {
+                                        bytes += thumbnail.length;
+                                    }
+                                    return bytes;
+                                }
+                            })
+                            .build();
+    }
+
+    /**
+     * Scale {@code artwork} to fit within each of {@code sizes}, keeping its aspect ratio. Artwork smaller than a size isn't enlarged.
+     *
+     * @param artwork the artwork, which must have image data rather than be linked
+     * @param format  format of the thumbnails
+     * @param sizes   width and height, in pixels, of the square each thumbnail must fit within
+     *
+     * @return the encoded thumbnails by size
+     *
+     * @throws IOException if the image data can't be read or decoded
+     */
+    public ImmutableSortedMap<Integer, byte[]> thumbnails(final Artwork artwork, final Format format, final int... sizes)
+            throws IOException {
+        checkArgNotNull(artwork, CANNOT_BE_NULL, "artwork");
+        checkArgNotNull(format, CANNOT_BE_NULL, "format");
+        checkArgument(sizes.length > 0, "No sizes");
+        final int[] sortedSizes = sizes.clone();
+        Arrays.sort(sortedSizes);
+        checkArgument(sortedSizes[0] > 0, "Sizes must be > 0");
+        if (artwork.isLinked()) {
+            throw new IOException("Linked artwork has no image data " + artwork.getImageUrl());
+        }
+
+        requests.incrementAndGet();
+        final Key key = new Key(hash(artwork), format, sortedSizes);
+        try {
+            return cache.get(key, new Callable<ImmutableSortedMap<Integer, byte[]>>() {
+                @Override public ImmutableSortedMap<Integer, byte[]> call() throws IOException {
+                    decodes.incrementAndGet();
+                    return make(artwork, format, sortedSizes);
+                }
+            });
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw asIOException(e.getCause());
+        }
+    }
+
+    /**
+     * Make thumbnails of each artwork in parallel, see {@link #thumbnails(Artwork, Format, int...)}
+     *
+     * @param artwork  the artwork
+     * @param format   format of the thumbnails
+     * @param executor runs the work, one task per artwork
+     * @param sizes    width and height, in pixels, of the square each thumbnail must fit within
+     *
+     * @return the thumbnails by size for each artwork, in the same order as {@code artwork}
+     *
+     * @throws IOException          if any artwork can't be read or decoded
+     * @throws InterruptedException if interrupted waiting for the work to finish
+     */
+    public List<ImmutableSortedMap<Integer, byte[]>> thumbnails(final List<? extends Artwork> artwork,
+                                                                final Format format,
+                                                                final Executor executor,
+                                                                final int... sizes) throws IOException, InterruptedException {
+        checkArgNotNull(executor, CANNOT_BE_NULL, "executor");
+        final List<FutureTask<ImmutableSortedMap<Integer, byte[]>>> tasks = new ArrayList<>(artwork.size());
+        for (final Artwork each : artwork) {
+            final FutureTask<ImmutableSortedMap<Integer, byte[]>> task =
+                    new FutureTask<>(new Callable<ImmutableSortedMap<Integer, byte[]>>() {
+                        @Override public ImmutableSortedMap<Integer, byte[]> call() throws IOException {
+                            return thumbnails(each, format, sizes);
+                        }
+                    });
+            tasks.add(task);
+            executor.execute(task);
+        }
+
+        final ImmutableList.Builder<ImmutableSortedMap<Integer, byte[]>> results = ImmutableList.builder();
+        try {
+            for (final FutureTask<ImmutableSortedMap<Integer, byte[]>> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (ExecutionException e) {
+            throw asIOException(e.getCause());
+        } finally {
+            for (final FutureTask<ImmutableSortedMap<Integer, byte[]>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+        return results.build();
+    }
+
+    /**
+     * @return number of artwork decoded, the rest were answered from the cache
+     */
+    public long getDecodeCount() {
+        return decodes.get();
+    }
+
+    /**
+     * @return number of artwork for which thumbnails were asked
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static HashCode hash(final Artwork artwork) throws IOException {
+        return new ByteSource() {
+            @Override public InputStream openStream() throws IOException {
+                return artwork.openBinaryData();
+            }
+        }.hash(Hashing.sha1());
+    }
+
+    private static ImmutableSortedMap<Integer, byte[]> make(final Artwork artwork, final Format format, final int[] sizes)
+            throws IOException {
+        final BufferedImage source = decode(artwork, sizes[sizes.length - 1]);
+        final ImmutableSortedMap.Builder<Integer, byte[]> thumbnails = ImmutableSortedMap.naturalOrder();
+        for (final int size : sizes) {
+            thumbnails.put(size, encode(scale(source, size, format), format));
+        }
+        return thumbnails.build();
+    }
+
+    /**
+     * Decode, skipping rows and columns as long as the result is still at least {@code largestSize} on its shorter side
+     */
+    private static BufferedImage decode(final Artwork artwork, final int largestSize) throws IOException {
+        try (InputStream in = artwork.openBinaryData(); ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("No reader for image " + artwork.getMimeType());
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                final int shorterSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                final int subsampling = Math.max(1, shorterSide / largestSize);
+                final ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(final BufferedImage source, final int size, final Format format) {
+        final double scale = Math.min(1.0, (double)size / Math.max(source.getWidth(), source.getHeight()));
+        final int width = Math.max(1, (int)Math.round(source.getWidth() * scale));
+        final int height = Math.max(1, (int)Math.round(source.getHeight() * scale));
+        final BufferedImage scaled = new BufferedImage(width, height, format.imageType);
+        final Graphics2D g2d = scaled.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g2d.dispose();
+        }
+        return scaled;
+    }
+
+    private static byte[] encode(final BufferedImage image, final Format format) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format.formatName, baos)) {
+            throw new IOException("No writer for " + format.mimeType);
+        }
+        return baos.toByteArray();
+    }
+
+    private static IOException asIOException(final Throwable cause) {
+        if (cause instanceof IOException) {
+            return (IOException)cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        return new IOException(cause);
+    }
+
+    private static final class Key {
+        private final HashCode hash;
+        private final Format format;
+        private final int[] sizes;
+
+        Key(final HashCode hash, final Format format, final int[] sizes) {
+            this.hash = hash;
+            this.format = format;
+            this.sizes = sizes;
+        }
+
+        @Override public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key)o;
+            return hash.equals(key.hash) && format == key.format && Arrays.equals(sizes, key.sizes);
+        }
+
+        @Override public int hashCode() {
+            return 31 * (31 * hash.hashCode() + format.hashCode()) + Arrays.hashCode(sizes);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.images;
+
+import com.google.common.io.ByteStreams;
+import ealvatag.audio.io.FileOperator;
+import okio.Buffer;
+import okio.BufferedSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Image data left in the file when a tag was read, see {@link ealvatag.tag.TagOptionSingleton#setLazyArtwork(boolean)}. The data is
+ * read the first time it's asked for and then held, so every field and {@link Artwork} sharing an instance reads it at most once.
+ */
+public final class DeferredImageData {
+    /** File holding the image data until it's read, null once read */
+    private File file;
+    private long offset;
+    private final int length;
+    private byte[] data;
+
+    public DeferredImageData(File file, long offset, int length) {
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Get the image data, reading it from the file the first time
+     *
+     * @return the image data
+     *
+     * @throws IllegalStateException if the image data can't be read from the file
+     */
+    public synchronized byte[] getImageData() {
+        if (data == null) {
+            final byte[] imageData = new byte[length];
+            try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+                final ByteBuffer buffer = ByteBuffer.wrap(imageData);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) == -1) {
+                        throw new EOFException();
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read image data from " + file, e);
+            }
+            data = imageData;
+            file = null;
+        }
+        return data;
+    }
+
+    /**
+     * @return the number of bytes of image data, without reading it from the file
+     */
+    public int getImageDataLength() {
+        return length;
+    }
+
+    /**
+     * @return true if the image data is still in the file, see {@link #getImageDataOffset()}
+     */
+    public synchronized boolean isImageDataDeferred() {
+        return data == null;
+    }
+
+    /**
+     * @return the file holding the image data if it hasn't been read yet, else null
+     */
+    public synchronized File getImageFile() {
+        return file;
+    }
+
+    /**
+     * @return where the image data starts in {@link #getImageFile()}, only meaningful while {@link #isImageDataDeferred()}
+     */
+    public synchronized long getImageDataOffset() {
+        return offset;
+    }
+
+    /**
+     * Record that the image data, still not read, was moved within the file when the tag was saved
+     *
+     * @param file   the file now holding the image data
+     * @param offset where the image data now starts
+     */
+    public synchronized void setImageDataLocation(File file, long offset) {
+        if (data == null) {
+            this.file = file;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Update {@code digest} with the image data, reading it from the file through a direct buffer if it hasn't been read yet
+     *
+     * @param digest the digest to update
+     *
+     * @throws IOException if the file can't be read
+     */
+    public synchronized void digestImageData(MessageDigest digest) throws IOException {
+        if (data != null) {
+            digest.update(data);
+            return;
+        }
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            new FileOperator(channel).digest(offset, length, digest);
+        }
+    }
+
+    /**
+     * Open a stream over the image data, reading it from the file if it hasn't been read yet, without holding all of it in memory
+     *
+     * @return a stream of the image data, the caller must close it
+     *
+     * @throws IOException if the file can't be opened
+     */
+    public synchronized InputStream openImageData() throws IOException {
+        if (data != null) {
+            return new ByteArrayInputStream(data);
+        }
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            ByteStreams.skipFully(in, offset);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return ByteStreams.limit(in, length);
+    }
+
+    @Override public String toString() {
+        return "DeferredImageData{" + (isImageDataDeferred() ? getImageFile() + "@" + getImageDataOffset() : "read") + ", length=" +
+                length + "}";
+    }
+
+    /**
+     * Finds where image data lies in the file while a tag is parsed from a buffer holding a run of the file. Only the buffer the
+     * locator was made for can be used: a buffer which has been unsynchronized, decompressed or copied no longer matches file
+     * offsets, see {@link #isLocating(BufferedSource)}.
+     */
+    public static final class Locator {
+        private final File file;
+        private final Buffer buffer;
+        private final long bufferEnd;
+
+        /**
+         * @param file      the file being read
+         * @param buffer    the buffer holding part of the file
+         * @param bufferEnd the file offset just after the last byte in {@code buffer}
+         */
+        public Locator(File file, Buffer buffer, long bufferEnd) {
+            this.file = file;
+            this.buffer = buffer;
+            this.bufferEnd = bufferEnd;
+        }
+
+        /**
+         * @param source the source a tag is being parsed from
+         *
+         * @return true if {@code source} is the buffer this locator knows the file offsets of
+         */
+        public boolean isLocating(BufferedSource source) {
+            return source == buffer;
+        }
+
+        /**
+         * Skip over image data at the head of the buffer, leaving it in the file
+         *
+         * @param length the number of bytes of image data
+         *
+         * @return the image data, to be read from the file when needed
+         *
+         * @throws EOFException if the buffer holds fewer than {@code length} bytes
+         */
+        public DeferredImageData skip(int length) throws EOFException {
+            if (length < 0 || buffer.size() < length) {
+                throw new EOFException("Image data of " + length + " bytes but only " + buffer.size() + " left");
+            }
+            final DeferredImageData deferred = new DeferredImageData(file, bufferEnd - buffer.size(), length);
+            buffer.skip(length);
+            return deferred;
+        }
+    }
+}
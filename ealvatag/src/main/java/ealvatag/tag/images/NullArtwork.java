@@ -20,9 +20,13 @@ package ealvatag.tag.images;
 import com.google.common.base.Optional;
 import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * A no-op implementation of {@link Artwork}. Works very well with {@link Optional<Artwork>} if caller is unconcerned with results
@@ -42,6 +46,22 @@ public final class NullArtwork implements Artwork {
         return this;
     }
 
+    @Override public Artwork setDeferredBinaryData(final DeferredImageData imageData) {
+        return this;
+    }
+
+    @Override public int getBinaryDataLength() {
+        return 0;
+    }
+
+    @Override public InputStream openBinaryData() throws IOException {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+
+    @Override public byte[] digest(final String algorithm) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(algorithm).digest();
+    }
+
     @Override public String getMimeType() {
         return "";
     }
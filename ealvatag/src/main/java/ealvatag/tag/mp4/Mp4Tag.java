@@ -669,7 +669,11 @@ public class Mp4Tag extends AbstractTag {
     for (TagField next : coverartList) {
       Mp4TagCoverField mp4CoverArt = (Mp4TagCoverField)next;
       Artwork artwork = ArtworkFactory.getNew();
-      artwork.setBinaryData(mp4CoverArt.getData());
+      if (mp4CoverArt.getDeferredImageData() != null) {
+        artwork.setDeferredBinaryData(mp4CoverArt.getDeferredImageData());
+      } else {
+        artwork.setBinaryData(mp4CoverArt.getData());
+      }
       artwork.setMimeType(Mp4TagCoverField.getMimeTypeForImageType(mp4CoverArt.getFieldType()));
       artworkList.add(artwork);
     }
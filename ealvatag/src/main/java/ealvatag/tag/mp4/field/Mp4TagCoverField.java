@@ -23,7 +23,9 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.TagField;
 import ealvatag.tag.id3.valuepair.ImageFormats;
+import ealvatag.tag.images.DeferredImageData;
 import ealvatag.tag.mp4.Mp4FieldKey;
 import ealvatag.tag.mp4.atom.Mp4DataBox;
 import ealvatag.tag.mp4.atom.Mp4NameBox;
@@ -50,6 +52,9 @@ public class Mp4TagCoverField extends Mp4TagBinaryField {
   //may have data and name atom
   private int dataAndHeaderSize;
 
+  //Image data left in the file, used in place of dataBytes until it's read
+  private DeferredImageData deferredImageData;
+
   /**
    * Empty CoverArt Field
    */
@@ -80,6 +85,23 @@ public class Mp4TagCoverField extends Mp4TagBinaryField {
     }
   }
 
+  /**
+   * Construct CoverField whose image data was left in the audio file
+   *
+   * @param deferredImageData the image data, read when first asked for
+   * @param imageType         type of the image
+   */
+  public Mp4TagCoverField(DeferredImageData deferredImageData, Mp4FieldType imageType) {
+    super(Mp4FieldKey.ARTWORK.getFieldName());
+    this.deferredImageData = deferredImageData;
+    this.imageType = imageType;
+    dataSize = Mp4DataBox.PRE_DATA_LENGTH + deferredImageData.getImageDataLength();
+    dataAndHeaderSize = Mp4BoxHeader.HEADER_LENGTH + dataSize;
+    if (!Mp4FieldType.isCoverArtType(imageType)) {
+      LOG.log(WARN, ErrorMessage.MP4_IMAGE_FORMAT_IS_NOT_TO_EXPECTED_TYPE, imageType);
+    }
+  }
+
   /**
    * Construct new cover art with binarydata provided
    * <p>
@@ -124,7 +146,53 @@ public class Mp4TagCoverField extends Mp4TagBinaryField {
 
 
   public String toString() {
-    return imageType + ":" + dataBytes.length + "bytes";
+    return imageType + ":" + getDataLength() + "bytes";
+  }
+
+  /**
+   * @return the image data if it was left in the file when the field was read, else null. It may since have been read, see
+   * {@link DeferredImageData#isImageDataDeferred()}
+   */
+  public DeferredImageData getDeferredImageData() {
+    return deferredImageData;
+  }
+
+  /**
+   * @return the number of bytes of image data, without reading it if it's still in the file
+   */
+  public int getDataLength() {
+    if (deferredImageData != null) {
+      return deferredImageData.getImageDataLength();
+    }
+    return dataBytes != null ? dataBytes.length : 0;
+  }
+
+  protected byte[] getDataBytes() {
+    return getData();
+  }
+
+  public byte[] getData() {
+    return deferredImageData != null ? deferredImageData.getImageData() : dataBytes;
+  }
+
+  public void setData(byte[] d) {
+    deferredImageData = null;
+    super.setData(d);
+  }
+
+  public boolean isEmpty() {
+    return getDataLength() == 0;
+  }
+
+  public void copyContent(TagField field) {
+    if (field instanceof Mp4TagCoverField && ((Mp4TagCoverField)field).deferredImageData != null) {
+      dataBytes = null;
+      deferredImageData = ((Mp4TagCoverField)field).deferredImageData;
+      isBinary = field.isBinary();
+    } else if (field instanceof Mp4TagBinaryField) {
+      deferredImageData = null;
+      super.copyContent(field);
+    }
   }
 
   protected void build(ByteBuffer raw) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.options;
+
+import ealvatag.tag.TagOptionSingleton;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * How much free space to leave after a tag when it no longer fits in the file and the audio has to be moved anyway. The space is
+ * ID3v2 padding (also in WAV and AIFF ID3 chunks), a FLAC PADDING block, an MP4 {@code free} atom after the {@code ilst} or zero bytes
+ * after the framing bit of an Ogg Vorbis comment packet. Later edits that fit in it are written over the tag in place, see {@link
+ * TagOptionSingleton#setPaddingPolicy(PaddingPolicy)}.
+ */
+public abstract class PaddingPolicy {
+  /** Never pad, a tag that grows always moves the audio */
+  public static final PaddingPolicy NONE = fixed(0);
+
+  /**
+   * @param tagLength length of the tag being written, without any padding
+   *
+   * @return number of bytes of padding to write after the tag, never negative. A format which can't hold padding this small, such as
+   * an MP4 {@code free} atom of less than 8 bytes, writes none
+   */
+  public abstract int getPadding(int tagLength);
+
+  /**
+   * @param padding bytes of padding whatever the length of the tag
+   *
+   * @return a policy giving the same padding to every tag
+   */
+  public static PaddingPolicy fixed(final int padding) {
+    checkArgument(padding >= 0, "padding must be >= 0");
+    return new PaddingPolicy() {
+      @Override public int getPadding(final int tagLength) {
+        return padding;
+      }
+
+      @Override public String toString() {
+        return "PaddingPolicy.fixed(" + padding + ")";
+      }
+    };
+  }
+
+  /**
+   * @param percent percentage of the tag length
+   * @param min     least padding, however short the tag
+   * @param max     most padding, however long the tag
+   *
+   * @return a policy giving padding in proportion to the tag, so a tag with large artwork gets more room to grow than one without
+   */
+  public static PaddingPolicy proportional(final int percent, final int min, final int max) {
+    checkArgument(percent >= 0, "percent must be >= 0");
+    checkArgument(min >= 0 && min <= max, "must have 0 <= min <= max");
+    return new PaddingPolicy() {
+      @Override public int getPadding(final int tagLength) {
+        final long padding = (long)tagLength * percent / 100;
+        return (int)Math.max(min, Math.min(max, padding));
+      }
+
+      @Override public String toString() {
+        return "PaddingPolicy.proportional(" + percent + ", " + min + ", " + max + ")";
+      }
+    };
+  }
+
+  /**
+   * @param blockSize tag and padding together are rounded up to a multiple of this, such as 4096 or 65536
+   *
+   * @return a policy padding the tag out to the next block boundary. A tag already on a boundary gets no padding
+   */
+  public static PaddingPolicy roundUpTo(final int blockSize) {
+    checkArgument(blockSize > 0, "blockSize must be > 0");
+    return new PaddingPolicy() {
+      @Override public int getPadding(final int tagLength) {
+        final int remainder = tagLength % blockSize;
+        return remainder == 0 ? 0 : blockSize - remainder;
+      }
+
+      @Override public String toString() {
+        return "PaddingPolicy.roundUpTo(" + blockSize + ")";
+      }
+    };
+  }
+}
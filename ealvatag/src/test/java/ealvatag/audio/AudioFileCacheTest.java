@@ -0,0 +1,130 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the in-memory {@link AudioFileCache}
+ */
+public class AudioFileCacheTest {
+
+    @After
+    public void tearDown() {
+        AudioFileIO.disableCache();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testHitAfterMiss() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testAudioFileCache.flac"));
+        AudioFileCache cache = AudioFileIO.enableCache(64 * 1024 * 1024);
+        Assert.assertSame(cache, AudioFileIO.getCache().get());
+
+        AudioFile first = AudioFileIO.readCached(testFile);
+        AudioFile second = AudioFileIO.readCached(testFile);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, cache.getMissCount());
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.TITLE),
+                            second.getTag().get().getFirst(FieldKey.TITLE));
+    }
+
+    @Test public void testDeferredDurationReadBeforeCaching() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testAudioFileCacheDeferred.ogg"));
+        long expected = AudioFileIO.read(testFile).getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false);
+        Assert.assertTrue(expected > 0);
+
+        AudioFileIO.enableCache(64 * 1024 * 1024);
+        AudioFile audioFile = AudioFileIO.readCached(testFile);
+        //The duration is found from the last page, which can no longer be read
+        Assert.assertTrue(testFile.delete());
+        Assert.assertEquals(expected, audioFile.getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false));
+    }
+
+    @Test public void testReadOnly() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.m4a", new File("testAudioFileCacheReadOnly.m4a"));
+        AudioFileIO.enableCache(64 * 1024 * 1024);
+        AudioFile audioFile = AudioFileIO.readCached(testFile);
+        Tag tag = audioFile.getTag().get();
+
+        Assert.assertTrue(audioFile.readOnly());
+        Assert.assertTrue(tag.isReadOnly());
+        try {
+            tag.setField(FieldKey.TITLE, "changed");
+            Assert.fail("Cached tag should be read only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            audioFile.save();
+            Assert.fail("Cached file should not save");
+        } catch (CannotWriteException e) {
+            // expected
+        }
+    }
+
+    @Test public void testReadCachedWithoutCache() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testAudioFileCacheDisabled.ogg"));
+        AudioFile audioFile = AudioFileIO.readCached(testFile);
+        Assert.assertFalse(AudioFileIO.getCache().isPresent());
+        Assert.assertTrue(audioFile.readOnly());
+        Assert.assertNotSame(audioFile, AudioFileIO.readCached(testFile));
+    }
+
+    @Test public void testSaveInvalidates() throws Exception {
+        File flac = TestUtil.copyAudioToTmp("test.flac", new File("testAudioFileCacheSave.flac"));
+        File mp3 = TestUtil.copyAudioToTmp("testV1.mp3", new File("testAudioFileCacheSave.mp3"));
+        AudioFileCache cache = AudioFileIO.enableCache(64 * 1024 * 1024);
+        AudioFileIO.readCached(flac);
+        AudioFileIO.readCached(mp3);
+        Assert.assertEquals(2, cache.size());
+
+        for (File file : new File[]{flac, mp3}) {
+            AudioFile audioFile = AudioFileIO.read(file);
+            audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "cached title");
+            audioFile.save();
+        }
+        Assert.assertEquals(0, cache.size());
+
+        Assert.assertEquals("cached title", AudioFileIO.readCached(flac).getTag().get().getFirst(FieldKey.TITLE));
+        Assert.assertEquals("cached title", AudioFileIO.readCached(mp3).getTag().get().getFirst(FieldKey.TITLE));
+        Assert.assertEquals(0, cache.getHitCount());
+    }
+
+    @Test public void testChangedFileIsReread() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testAudioFileCacheChanged.ogg"));
+        AudioFileCache cache = AudioFileIO.enableCache(64 * 1024 * 1024);
+        AudioFile first = AudioFileIO.readCached(testFile);
+        Assert.assertTrue(testFile.setLastModified(testFile.lastModified() - TimeUnit.DAYS.toMillis(1)));
+        AudioFile second = AudioFileIO.readCached(testFile);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, cache.getMissCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test public void testEvictsLeastRecentlyUsed() throws Exception {
+        File flac = TestUtil.copyAudioToTmp("test.flac", new File("testAudioFileCacheEvict.flac"));
+        File m4a = TestUtil.copyAudioToTmp("test.m4a", new File("testAudioFileCacheEvict.m4a"));
+        int flacBytes = AudioFileCache.estimateRetainedBytes(AudioFileIO.read(flac));
+        int m4aBytes = AudioFileCache.estimateRetainedBytes(AudioFileIO.read(m4a));
+        AudioFileCache cache = AudioFileIO.enableCache(Math.max(flacBytes, m4aBytes) + 1);
+
+        AudioFileIO.readCached(flac);
+        AudioFileIO.readCached(m4a);
+
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals(1, cache.size());
+        AudioFileIO.readCached(m4a);
+        Assert.assertEquals(1, cache.getHitCount());
+    }
+}
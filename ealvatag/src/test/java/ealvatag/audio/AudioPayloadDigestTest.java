@@ -0,0 +1,119 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.Artwork;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * {@link AudioFile#audioPayloadDigest(String)} leaves out the metadata, so is unchanged by tag edits
+ */
+public class AudioPayloadDigestTest {
+    private static final String LONG_COMMENT = new String(new char[20000]).replace('\0', 'd');
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testFlac() throws Exception {
+        assertStableAcrossTagEdit("test.flac", "testDigest.flac");
+    }
+
+    @Test public void testMp3() throws Exception {
+        assertStableAcrossTagEdit("testV1.mp3", "testDigest.mp3");
+    }
+
+    @Test public void testMp4() throws Exception {
+        assertStableAcrossTagEdit("test.m4a", "testDigest.m4a");
+    }
+
+    @Test public void testOgg() throws Exception {
+        assertStableAcrossTagEdit("test.ogg", "testDigest.ogg");
+    }
+
+    @Test public void testWav() throws Exception {
+        assertStableAcrossTagEdit("test.wav", "testDigest.wav");
+    }
+
+    @Test public void testAiff() throws Exception {
+        assertStableAcrossTagEdit("test119.aif", "testDigest.aif");
+    }
+
+    @Test public void testWma() throws Exception {
+        assertStableAcrossTagEdit("test1.wma", "testDigest.wma");
+    }
+
+    @Test public void testDsf() throws Exception {
+        assertStableAcrossTagEdit("test122.dsf", "testDigest.dsf");
+    }
+
+    @Test public void testMp3IgnoresId3v1AndAppendedTags() throws Exception {
+        File withV1 = TestUtil.copyAudioToTmp("testV1.mp3", new File("testDigestV1.mp3"));
+        byte[] expected = AudioFileIO.read(withV1).audioPayloadDigest("SHA-1");
+
+        AudioFile audioFile = AudioFileIO.read(withV1);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.ARTIST, "appended");
+        audioFile.save();
+        Assert.assertArrayEquals(expected, AudioFileIO.read(withV1).audioPayloadDigest("SHA-1"));
+
+        audioFile = AudioFileIO.read(withV1);
+        audioFile.deleteFileTag();
+        Assert.assertArrayEquals(expected, AudioFileIO.read(withV1).audioPayloadDigest("SHA-1"));
+    }
+
+    @Test public void testDifferentAudioDiffers() throws Exception {
+        File flac = TestUtil.copyAudioToTmp("test.flac", new File("testDigestDiffers.flac"));
+        File sameAudio = TestUtil.copyAudioToTmp("test2.flac", new File("testDigestDiffers2.flac"));
+        File otherAudio = TestUtil.copyAudioToTmp("test3.flac", new File("testDigestDiffers3.flac"));
+        byte[] digest = AudioFileIO.read(flac).audioPayloadDigest("MD5");
+
+        // same audio with a different tag
+        Assert.assertArrayEquals(digest, AudioFileIO.read(sameAudio).audioPayloadDigest("MD5"));
+        Assert.assertFalse(Arrays.equals(digest, AudioFileIO.read(otherAudio).audioPayloadDigest("MD5")));
+    }
+
+    @Test public void testCachedFile() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testDigestCached.ogg"));
+        Assert.assertArrayEquals(AudioFileIO.read(testFile).audioPayloadDigest("MD5"),
+                                 AudioFileIO.readCached(testFile).audioPayloadDigest("MD5"));
+    }
+
+    @Test public void testArtworkDigest() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testDigestArtwork.flac"));
+        byte[] expected = MessageDigest.getInstance("SHA-1")
+                                       .digest(AudioFileIO.read(testFile).getTag().get().getFirstArtwork().get().getBinaryData());
+
+        Assert.assertArrayEquals(expected, AudioFileIO.read(testFile).getTag().get().getFirstArtwork().get().digest("SHA-1"));
+
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+        Artwork deferred = AudioFileIO.read(testFile).getTag().get().getFirstArtwork().get();
+        Assert.assertArrayEquals(expected, deferred.digest("SHA-1"));
+    }
+
+    @Test(expected = CannotReadException.class) public void testUnsupported() throws Exception {
+        NullAudioFile.INSTANCE.audioPayloadDigest("MD5");
+    }
+
+    private static void assertStableAcrossTagEdit(String testFileName, String tmpName) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp(testFileName, new File(tmpName));
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        byte[] before = audioFile.audioPayloadDigest("SHA-1");
+        Assert.assertEquals(20, before.length);
+
+        // long enough that the audio has to be moved
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, LONG_COMMENT);
+        audioFile.save();
+        Assert.assertEquals(LONG_COMMENT, AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.COMMENT));
+        Assert.assertArrayEquals(before, AudioFileIO.read(testFile).audioPayloadDigest("SHA-1"));
+        Assert.assertArrayEquals(before, audioFile.audioPayloadDigest("SHA-1"));
+    }
+}
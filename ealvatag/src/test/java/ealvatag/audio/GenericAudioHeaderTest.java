@@ -0,0 +1,77 @@
+package ealvatag.audio;
+
+import ealvatag.audio.exceptions.CannotReadException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Values of a {@link GenericAudioHeader} computed on first access
+ */
+public class GenericAudioHeaderTest {
+    @Test public void testDeferredReadOnceAndSeenByEveryThread() throws Exception {
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final AtomicInteger reads = new AtomicInteger();
+                final GenericAudioHeader header = new GenericAudioHeader();
+                header.setBitRate(0);
+                header.setDeferred(new GenericAudioHeader.Deferred() {
+                    @Override public void read(GenericAudioHeader header) throws IOException, CannotReadException {
+                        reads.incrementAndGet();
+                        header.setPreciseLength(90.5);
+                        try {
+                            Thread.sleep(2);
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        //May use the getters itself
+                        header.setBitRate((int)header.getDurationAsDouble() * 2);
+                    }
+                });
+
+                final CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> bitRates = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    bitRates.add(executor.submit(new Callable<Integer>() {
+                        @Override public Integer call() throws Exception {
+                            start.await();
+                            return header.getBitRate();
+                        }
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> bitRate : bitRates) {
+                    Assert.assertEquals(180, bitRate.get().intValue());
+                }
+                Assert.assertEquals(1, reads.get());
+                Assert.assertEquals(90500, header.getDuration(TimeUnit.MILLISECONDS, false));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void testDeferredFailureKeepsValues() throws Exception {
+        GenericAudioHeader header = new GenericAudioHeader();
+        header.setBitRate(128);
+        header.setDeferred(new GenericAudioHeader.Deferred() {
+            @Override public void read(GenericAudioHeader header) throws IOException, CannotReadException {
+                throw new IOException("gone");
+            }
+        });
+        Assert.assertEquals(128, header.getBitRate());
+        Assert.assertEquals(0, header.getDuration(TimeUnit.MILLISECONDS, false));
+    }
+}
@@ -0,0 +1,130 @@
+package ealvatag.audio;
+
+import com.google.common.io.Files;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scans a generated library of copies of the test data files
+ */
+public class LibraryScannerTest {
+  private static final String[] GOOD_FILES = {"testV1.mp3",
+                                              "test.flac",
+                                              "test.ogg",
+                                              "test.m4a",
+                                              "test.wav",
+                                              "test1.wma",
+                                              "test119.aif",
+                                              "test122.dsf"};
+  private static final int ALBUM_COUNT = 25;
+
+  @Rule public final TemporaryFolder tempDir = new TemporaryFolder();
+
+  private File root;
+
+  @Before public void setUp() throws Exception {
+    root = tempDir.newFolder("library");
+    for (int i = 0; i < ALBUM_COUNT; i++) {
+      final File album = new File(new File(root, "artist" + (i % 5)), "album" + i);
+      assertThat(album.mkdirs(), is(true));
+      for (String name : GOOD_FILES) {
+        Files.copy(new File("testdata", name), new File(album, name));
+      }
+      Files.copy(new File("testdata", "corrupt.mp3"), new File(album, "corrupt.mp3"));
+      Files.copy(new File("testdata", "coverart.jpg"), new File(album, "folder.jpg"));
+    }
+  }
+
+  @Test public void testScanReadsEverySupportedFile() throws Exception {
+    final CollectingListener listener = new CollectingListener();
+
+    final ScanResult result = AudioFileIO.scan(root, new ScanOptions().setThreadCount(4).setMaxInFlight(8), listener);
+
+    assertThat(result.getFilesRead(), is(ALBUM_COUNT * GOOD_FILES.length));
+    assertThat(result.getErrorCount(), is(ALBUM_COUNT));
+    assertThat(result.getElapsed(TimeUnit.NANOSECONDS) > 0, is(true));
+    assertThat(result.getFilesPerSecond() > 0, is(true));
+    assertThat(listener.read.size(), is(ALBUM_COUNT * GOOD_FILES.length));
+    assertThat(listener.errors.get(), is(ALBUM_COUNT));
+    for (File file : listener.read) {
+      assertThat(file.getName().equals("folder.jpg"), is(false));
+      assertThat(file.getName().equals("corrupt.mp3"), is(false));
+    }
+  }
+
+  @Test public void testSingleThreadedScanMatchesParallelScan() throws Exception {
+    final CollectingListener parallel = new CollectingListener();
+    final CollectingListener serial = new CollectingListener();
+
+    AudioFileIO.scan(root, new ScanOptions(), parallel);
+    AudioFileIO.scan(root, new ScanOptions().setThreadCount(1).setMaxInFlight(1), serial);
+
+    assertThat(parallel.read, is(serial.read));
+    assertThat(parallel.errors.get(), is(serial.errors.get()));
+  }
+
+  @Test public void testNonRecursiveScan() throws Exception {
+    final File album = new File(new File(root, "artist0"), "album0");
+    final CollectingListener listener = new CollectingListener();
+
+    final ScanResult result = AudioFileIO.scan(album, new ScanOptions().setRecursive(false), listener);
+    assertThat(result.getFilesRead(), is(GOOD_FILES.length));
+
+    final ScanResult rootResult = AudioFileIO.scan(root, new ScanOptions().setRecursive(false), new CollectingListener());
+    assertThat(rootResult.getFilesRead(), is(0));
+  }
+
+  @Test public void testCyclicSymbolicLinkIsWalkedOnce() throws Exception {
+    final File album = new File(new File(root, "artist0"), "album0");
+    java.nio.file.Files.createSymbolicLink(new File(album, "Compilations").toPath(), root.toPath());
+    java.nio.file.Files.createSymbolicLink(new File(root, "Album0 Link").toPath(), album.toPath());
+    final CollectingListener listener = new CollectingListener();
+
+    final ScanResult result = AudioFileIO.scan(root, new ScanOptions(), listener);
+
+    assertThat(result.getFilesRead(), is(ALBUM_COUNT * GOOD_FILES.length));
+    assertThat(result.getErrorCount(), is(ALBUM_COUNT));
+    assertThat(listener.read.size(), is(ALBUM_COUNT * GOOD_FILES.length));
+  }
+
+  @Test public void testListenerExceptionDoesNotStopScan() throws Exception {
+    final AtomicInteger calls = new AtomicInteger(0);
+    final ScanResult result = AudioFileIO.scan(root, new ScanOptions(), new ScanListener() {
+      @Override public void onAudioFile(final AudioFile audioFile) {
+        calls.incrementAndGet();
+        throw new IllegalStateException("listener failure");
+      }
+
+      @Override public void onError(final File file, final Exception error) {
+      }
+    });
+
+    assertThat(calls.get(), is(ALBUM_COUNT * GOOD_FILES.length));
+    assertThat(result.getFilesRead(), is(ALBUM_COUNT * GOOD_FILES.length));
+  }
+
+  private static class CollectingListener implements ScanListener {
+    final Set<File> read = Collections.synchronizedSet(new HashSet<File>());
+    final AtomicInteger errors = new AtomicInteger(0);
+
+    @Override public void onAudioFile(final AudioFile audioFile) {
+      read.add(audioFile.getFile());
+    }
+
+    @Override public void onError(final File file, final Exception error) {
+      errors.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.wav.WavOptions;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.wav.WavInfoTag;
+import ealvatag.tag.wav.WavTag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+
+/**
+ * Test reading only the metadata of a file, without the audio header
+ */
+public class ReadOptionsTest {
+    private static final String INFO_OPTIONS = "readOptionsTestInfo";
+
+    @After
+    public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+        TagOptionSingleton.getInstance(INFO_OPTIONS).setToDefault();
+    }
+
+    @Test public void testMp3() throws Exception {
+        assertMetadataOnly("testV1.mp3", "testReadOptions.mp3");
+    }
+
+    @Test public void testFlac() throws Exception {
+        assertMetadataOnly("test.flac", "testReadOptions.flac");
+    }
+
+    @Test public void testOgg() throws Exception {
+        assertMetadataOnly("test.ogg", "testReadOptions.ogg");
+    }
+
+    @Test public void testMp4() throws Exception {
+        assertMetadataOnly("test.m4a", "testReadOptions.m4a");
+    }
+
+    @Test public void testWav() throws Exception {
+        assertMetadataOnly("test.wav", "testReadOptions.wav");
+    }
+
+    @Test public void testAiff() throws Exception {
+        assertMetadataOnly("test119.aif", "testReadOptions.aif");
+    }
+
+    @Test public void testWma() throws Exception {
+        assertMetadataOnly("test1.wma", "testReadOptions.wma");
+    }
+
+    @Test public void testDsf() throws Exception {
+        assertMetadataOnly("test122.dsf", "testReadOptions.dsf");
+    }
+
+    @Test public void testDefaultsReadEverything() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testReadOptionsDefault.flac"));
+        AudioFile audioFile = AudioFileIO.read(testFile, new ReadOptions());
+        Assert.assertNotSame(NullAudioHeader.INSTANCE, audioFile.getAudioHeader());
+        Assert.assertFalse(audioFile.readOnly());
+    }
+
+    @Test public void testTagOptionsOnlyForThatRead() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test153.wav", new File("testReadOptionsTagOptions.wav"));
+        WavOptions globalWavOptions = TagOptionSingleton.getInstance().getWavOptions();
+        TagOptionSingleton infoOptions = TagOptionSingleton.getInstance(INFO_OPTIONS);
+        infoOptions.setWavOptions(WavOptions.READ_INFO_ONLY);
+
+        AudioFile withInfoOptions = AudioFileIO.read(testFile, new ReadOptions().setTagOptions(infoOptions));
+        AudioFile withDefaults = AudioFileIO.read(testFile);
+
+        Assert.assertTrue(((WavTag)withInfoOptions.getTag().get()).getActiveTag() instanceof WavInfoTag);
+        Assert.assertFalse(((WavTag)withDefaults.getTag().get()).getActiveTag() instanceof WavInfoTag);
+        Assert.assertSame(globalWavOptions, TagOptionSingleton.getInstance().getWavOptions());
+    }
+
+    @Test public void testTagOptionsScopesNest() throws Exception {
+        TagOptionSingleton global = TagOptionSingleton.getInstance();
+        TagOptionSingleton infoOptions = TagOptionSingleton.getInstance(INFO_OPTIONS);
+        Assert.assertNotSame(global, infoOptions);
+        TagOptionSingleton.Scope outer = TagOptionSingleton.use(infoOptions);
+        try {
+            Assert.assertSame(infoOptions, TagOptionSingleton.getInstance());
+            TagOptionSingleton.Scope inner = TagOptionSingleton.use(global);
+            try {
+                Assert.assertSame(global, TagOptionSingleton.getInstance());
+            } finally {
+                inner.close();
+            }
+            Assert.assertSame(infoOptions, TagOptionSingleton.getInstance());
+        } finally {
+            outer.close();
+        }
+        Assert.assertSame(global, TagOptionSingleton.getInstance());
+    }
+
+    @Test public void testInstanceKey() throws Exception {
+        TagOptionSingleton global = TagOptionSingleton.getInstance();
+        String key = TagOptionSingleton.getInstanceKey();
+        try {
+            global.setInstanceKey(INFO_OPTIONS);
+            Assert.assertSame(TagOptionSingleton.getInstance(INFO_OPTIONS), TagOptionSingleton.getInstance());
+        } finally {
+            global.setInstanceKey(key);
+        }
+        Assert.assertSame(global, TagOptionSingleton.getInstance());
+    }
+
+    private static void assertMetadataOnly(String sourceName, String tempName) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp(sourceName, new File(tempName));
+        AudioFile full = AudioFileIO.read(testFile);
+        AudioFile metadataOnly = AudioFileIO.read(testFile, new ReadOptions().setIgnoreAudioHeader(true));
+
+        Assert.assertSame(NullAudioHeader.INSTANCE, metadataOnly.getAudioHeader());
+        Assert.assertEquals(full.getTag().isPresent(), metadataOnly.getTag().isPresent());
+        if (full.getTag().isPresent()) {
+            Tag fullTag = full.getTag().get();
+            Tag tag = metadataOnly.getTag().get();
+            Assert.assertEquals(fullTag.getFieldCount(), tag.getFieldCount());
+            Assert.assertEquals(fullTag.getFirst(FieldKey.TITLE), tag.getFirst(FieldKey.TITLE));
+            Assert.assertEquals(fullTag.getFirst(FieldKey.ARTIST), tag.getFirst(FieldKey.ARTIST));
+        }
+
+        Assert.assertTrue(metadataOnly.readOnly());
+        try {
+            metadataOnly.save();
+            Assert.fail("Saved a file read without its audio header");
+        } catch (CannotWriteException expected) {
+            // the audio position is needed to write
+        }
+    }
+}
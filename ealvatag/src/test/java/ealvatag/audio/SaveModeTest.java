@@ -0,0 +1,193 @@
+package ealvatag.audio;
+
+import com.google.common.base.Strings;
+import ealvatag.TestUtil;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.ID3v1Tag;
+import ealvatag.tag.options.PaddingPolicy;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Test that saving reports whether the tag was written in place or the file had to be rewritten
+ */
+public class SaveModeTest {
+    private static final String LARGE_COMMENT = Strings.repeat("comment ", 20000);
+    private static final String PADDED_COMMENT = Strings.repeat("padded ", 3000);
+
+    @Before
+    public void setup() {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    @After
+    public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testMp4() throws Exception {
+        assertSaveModes("test.m4a", "testSaveMode.m4a", SaveMode.REWRITE);
+    }
+
+    @Test public void testFlac() throws Exception {
+        assertSaveModes("test.flac", "testSaveMode.flac", SaveMode.REWRITE);
+    }
+
+    @Test public void testOgg() throws Exception {
+        assertSaveModes("test.ogg", "testSaveMode.ogg", SaveMode.REWRITE);
+    }
+
+    @Test public void testMp3() throws Exception {
+        assertSaveModes("testV1.mp3", "testSaveMode.mp3", SaveMode.REWRITE);
+    }
+
+    @Test public void testMp3RewriteMovesAudioWithinFile() throws Exception {
+        TagOptionSingleton.getInstance().setPreserveFileIdentity(true);
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("testSaveModeMoveAudio.mp3"));
+        Object fileKey = Files.readAttributes(testFile.toPath(), BasicFileAttributes.class).fileKey();
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        byte[] audioDigest = audioFile.audioPayloadDigest("MD5");
+
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, LARGE_COMMENT);
+        audioFile.save();
+        Assert.assertEquals(SaveMode.REWRITE, audioFile.getLastSaveMode().get());
+
+        //Same file, not a copy renamed over it, and nothing left behind
+        Assert.assertEquals(fileKey, Files.readAttributes(testFile.toPath(), BasicFileAttributes.class).fileKey());
+        File[] siblings = testFile.getParentFile().listFiles();
+        for (File sibling : siblings) {
+            Assert.assertFalse(sibling.getName(), sibling.getName().startsWith("testSaveModeMoveAudio") && !sibling.equals(testFile));
+        }
+        Assert.assertArrayEquals(audioDigest, AudioFileIO.read(testFile).audioPayloadDigest("MD5"));
+        Assert.assertEquals(LARGE_COMMENT, AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.COMMENT));
+    }
+
+    @Test public void testMp3RewriteReplacesFile() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("testSaveModeReplace.mp3"));
+        Object fileKey = Files.readAttributes(testFile.toPath(), BasicFileAttributes.class).fileKey();
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        byte[] audioDigest = audioFile.audioPayloadDigest("MD5");
+        ID3v1Tag v1Tag = new ID3v1Tag();
+        v1Tag.setField(FieldKey.TITLE, "v1 title");
+        ((MP3File)audioFile).setID3v1Tag(v1Tag);
+
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, LARGE_COMMENT);
+        audioFile.save();
+        Assert.assertEquals(SaveMode.REWRITE, audioFile.getLastSaveMode().get());
+
+        //The new file has taken the original's name, and nothing is left behind
+        Assert.assertNotEquals(fileKey, Files.readAttributes(testFile.toPath(), BasicFileAttributes.class).fileKey());
+        File[] siblings = testFile.getParentFile().listFiles();
+        for (File sibling : siblings) {
+            Assert.assertFalse(sibling.getName(), sibling.getName().startsWith("testSaveModeReplace") && !sibling.equals(testFile));
+        }
+        MP3File saved = (MP3File)AudioFileIO.read(testFile);
+        Assert.assertArrayEquals(audioDigest, saved.audioPayloadDigest("MD5"));
+        Assert.assertEquals(LARGE_COMMENT, saved.getTag().get().getFirst(FieldKey.COMMENT));
+        Assert.assertEquals("v1 title", saved.getID3v1Tag().getFirst(FieldKey.TITLE));
+    }
+
+    @Test public void testWav() throws Exception {
+        //Metadata chunks are at the end of the file so growing them never moves the audio
+        assertSaveModes("test.wav", "testSaveMode.wav", SaveMode.IN_PLACE);
+    }
+
+    @Test public void testMp3PaddingPolicy() throws Exception {
+        assertPaddingKeepsEditInPlace("testV1.mp3", "testSavePadding.mp3");
+    }
+
+    @Test public void testFlacPaddingPolicy() throws Exception {
+        assertPaddingKeepsEditInPlace("test.flac", "testSavePadding.flac");
+    }
+
+    @Test public void testMp4PaddingPolicy() throws Exception {
+        assertPaddingKeepsEditInPlace("test.m4a", "testSavePadding.m4a");
+    }
+
+    @Test public void testOggPaddingPolicy() throws Exception {
+        assertPaddingKeepsEditInPlace("test.ogg", "testSavePadding.ogg");
+    }
+
+    @Test public void testOggShrinkingCommentKeepsRoom() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testSaveShrink.ogg"));
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, PADDED_COMMENT);
+        audioFile.save();
+
+        audioFile = AudioFileIO.read(testFile);
+        long length = testFile.length();
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, "short");
+        audioFile.save();
+        Assert.assertEquals(SaveMode.IN_PLACE, audioFile.getLastSaveMode().get());
+        Assert.assertEquals(length, testFile.length());
+        Assert.assertEquals("short", AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.COMMENT));
+    }
+
+    @Test public void testNotSaved() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.m4a", new File("testSaveModeNotSaved.m4a"));
+        Assert.assertFalse(AudioFileIO.read(testFile).getLastSaveMode().isPresent());
+    }
+
+    private static void assertSaveModes(String sourceName, String tempName, SaveMode largeTagSaveMode) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp(sourceName, new File(tempName));
+
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "title one");
+        audioFile.save();
+        Assert.assertTrue(audioFile.getLastSaveMode().isPresent());
+
+        //Same size value so must fit in the space taken by the existing tag
+        audioFile = AudioFileIO.read(testFile);
+        long length = testFile.length();
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "title two");
+        audioFile.save();
+        Assert.assertEquals(SaveMode.IN_PLACE, audioFile.getLastSaveMode().get());
+        Assert.assertEquals(length, testFile.length());
+        Assert.assertEquals("title two", AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.TITLE));
+
+        //Far larger than any padding
+        audioFile = AudioFileIO.read(testFile);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, LARGE_COMMENT);
+        audioFile.save();
+        Assert.assertEquals(largeTagSaveMode, audioFile.getLastSaveMode().get());
+
+        Tag tag = AudioFileIO.read(testFile).getTag().get();
+        Assert.assertEquals("title two", tag.getFirst(FieldKey.TITLE));
+        Assert.assertEquals(LARGE_COMMENT, tag.getFirst(FieldKey.COMMENT));
+    }
+
+    private static void assertPaddingKeepsEditInPlace(String sourceName, String tempName) throws Exception {
+        TagOptionSingleton.getInstance().setPaddingPolicy(PaddingPolicy.proportional(25, 4096, 65536));
+        File testFile = TestUtil.copyAudioToTmp(sourceName, new File(tempName));
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        byte[] audioDigest = audioFile.audioPayloadDigest("MD5");
+
+        //Outgrows the existing space, so the policy's padding is added as the audio moves
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, PADDED_COMMENT);
+        audioFile.save();
+        Assert.assertEquals(SaveMode.REWRITE, audioFile.getLastSaveMode().get());
+
+        //Grows again, but by less than the padding
+        audioFile = AudioFileIO.read(testFile);
+        long length = testFile.length();
+        String longerComment = PADDED_COMMENT + Strings.repeat("more ", 200);
+        audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, longerComment);
+        audioFile.save();
+        Assert.assertEquals(SaveMode.IN_PLACE, audioFile.getLastSaveMode().get());
+        Assert.assertEquals(length, testFile.length());
+
+        audioFile = AudioFileIO.read(testFile);
+        Assert.assertEquals(longerComment, audioFile.getTag().get().getFirst(FieldKey.COMMENT));
+        Assert.assertArrayEquals(audioDigest, audioFile.audioPayloadDigest("MD5"));
+    }
+}
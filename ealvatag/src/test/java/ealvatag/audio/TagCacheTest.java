@@ -0,0 +1,137 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the persistent {@link TagCache}
+ */
+public class TagCacheTest {
+    private File store;
+
+    @Before
+    public void setUp() {
+        store = TestUtil.getTestDataTmpFile("testTagCache.cache");
+        store.delete();
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testHitAfterMiss() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testTagCache.flac"));
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        Tag tag = audioFile.getTag().get();
+
+        try (TagCache cache = TagCache.open(store)) {
+            TagCacheEntry first = cache.read(testFile);
+            TagCacheEntry second = cache.read(testFile);
+
+            Assert.assertSame(first, second);
+            Assert.assertEquals(1, cache.getMissCount());
+            Assert.assertEquals(1, cache.getHitCount());
+            Assert.assertEquals(0.5, cache.getHitRate(), 0.0);
+            Assert.assertEquals(testFile.length(), cache.getBytesSaved());
+
+            Assert.assertEquals(tag.getFirst(FieldKey.TITLE), second.getValue(FieldKey.TITLE).or(""));
+            Assert.assertEquals(tag.getAll(FieldKey.ARTIST), second.getAll(FieldKey.ARTIST));
+            Assert.assertEquals(tag.getArtworkList().size(), second.getArtworkFingerprints().size());
+            assertSameHeader(audioFile.getAudioHeader(), second.getAudioHeader());
+        }
+    }
+
+    @Test public void testEntriesPersist() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.m4a", new File("testTagCache.m4a"));
+        TagCacheEntry written;
+        try (TagCache cache = TagCache.open(store)) {
+            written = cache.read(testFile);
+        }
+
+        try (TagCache cache = TagCache.open(store)) {
+            Assert.assertEquals(1, cache.size());
+            TagCacheEntry read = cache.read(testFile);
+            Assert.assertEquals(1, cache.getHitCount());
+            Assert.assertEquals(0, cache.getMissCount());
+            Assert.assertEquals(written.getFields(), read.getFields());
+            Assert.assertEquals(written.getArtworkFingerprints(), read.getArtworkFingerprints());
+            assertSameHeader(written.getAudioHeader(), read.getAudioHeader());
+        }
+    }
+
+    @Test public void testSaveInvalidates() throws Exception {
+        File flac = TestUtil.copyAudioToTmp("test.flac", new File("testTagCacheSave.flac"));
+        File mp3 = TestUtil.copyAudioToTmp("testV1.mp3", new File("testTagCacheSave.mp3"));
+        try (TagCache cache = TagCache.open(store)) {
+            cache.read(flac);
+            cache.read(mp3);
+            Assert.assertEquals(2, cache.size());
+
+            for (File file : new File[]{flac, mp3}) {
+                AudioFile audioFile = AudioFileIO.read(file);
+                audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "cached title");
+                audioFile.save();
+            }
+            Assert.assertEquals(0, cache.size());
+
+            Assert.assertEquals("cached title", cache.read(flac).getValue(FieldKey.TITLE).or(""));
+            Assert.assertEquals("cached title", cache.read(mp3).getValue(FieldKey.TITLE).or(""));
+            Assert.assertEquals(0, cache.getHitCount());
+        }
+    }
+
+    @Test public void testChangedFileIsReread() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testTagCacheChanged.ogg"));
+        try (TagCache cache = TagCache.open(store)) {
+            cache.read(testFile);
+            Assert.assertTrue(testFile.setLastModified(testFile.lastModified() - TimeUnit.DAYS.toMillis(1)));
+            cache.read(testFile);
+            Assert.assertEquals(2, cache.getMissCount());
+            Assert.assertEquals(1, cache.size());
+        }
+    }
+
+    @Test public void testPartialRecordDiscarded() throws Exception {
+        File flac = TestUtil.copyAudioToTmp("test.flac", new File("testTagCachePartial.flac"));
+        File wav = TestUtil.copyAudioToTmp("test.wav", new File("testTagCachePartial.wav"));
+        long firstRecordEnd;
+        try (TagCache cache = TagCache.open(store)) {
+            cache.read(flac);
+            firstRecordEnd = store.length();
+            cache.read(wav);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(store, "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+
+        try (TagCache cache = TagCache.open(store)) {
+            Assert.assertEquals(firstRecordEnd, store.length());
+            Assert.assertEquals(1, cache.size());
+            cache.read(flac);
+            cache.read(wav);
+            Assert.assertEquals(1, cache.getHitCount());
+            Assert.assertEquals(1, cache.getMissCount());
+        }
+    }
+
+    private static void assertSameHeader(AudioHeader expected, AudioHeader actual) {
+        Assert.assertEquals(expected.getEncodingType(), actual.getEncodingType());
+        Assert.assertEquals(expected.getBitRate(), actual.getBitRate());
+        Assert.assertEquals(expected.getSampleRate(), actual.getSampleRate());
+        Assert.assertEquals(expected.getChannelCount(), actual.getChannelCount());
+        Assert.assertEquals(expected.getDurationAsDouble(), actual.getDurationAsDouble(), 0.0);
+        Assert.assertEquals(expected.getDuration(TimeUnit.MILLISECONDS, true), actual.getDuration(TimeUnit.MILLISECONDS, true));
+        Assert.assertEquals(expected.isLossless(), actual.isLossless());
+        Assert.assertEquals(expected.getNoOfSamples(), actual.getNoOfSamples());
+    }
+}
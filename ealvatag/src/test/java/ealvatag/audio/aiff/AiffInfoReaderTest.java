@@ -1,6 +1,7 @@
 package ealvatag.audio.aiff;
 
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.tag.aiff.AiffTag;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -67,6 +68,25 @@ public class AiffInfoReaderTest {
         aiff.delete();
     }
 
+    @Test public void testReadWithTag() throws Exception {
+
+        final String author = "AUTH4567";
+        final String name = "NAME456789";
+        final File aiff = createAIFF("FORM", "AIFF", new PseudoChunk("NAME", name), new PseudoChunk("XYZ0", "SOME_STUFF"),
+                                     new PseudoChunk("AUTH", author));
+
+        try (FileChannel fc = new RandomAccessFile(aiff, "rw").getChannel()) {
+            final AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
+            final AiffTag aiffTag = new AiffTagReader().read(fc, aiff.getAbsolutePath(), new AiffInfoReader(), aiffAudioHeader);
+            Assert.assertEquals(author, aiffAudioHeader.getAuthor());
+            Assert.assertEquals(name, aiffAudioHeader.getName());
+            Assert.assertNotNull(aiffTag.getID3Tag());
+            Assert.assertEquals(3, aiffTag.getChunkSummaryList().size());
+        }
+        //noinspection ResultOfMethodCallIgnored
+        aiff.delete();
+    }
+
     private static class PseudoChunk {
 
         private String chunkType;
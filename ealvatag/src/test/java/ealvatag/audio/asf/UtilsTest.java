@@ -8,6 +8,7 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
@@ -131,9 +132,17 @@ public class UtilsTest {
             ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
             GUID readGUID = Utils.readGUID(bis);
             Assert.assertTrue(readGUID.equals(GUID.KNOWN_GUIDS[i]));
+            Assert.assertSame(GUID.KNOWN_GUIDS[i], readGUID);
         }
     }
 
+    /**
+     * Reading past the end of the stream must fail rather than make up a value.
+     */
+    @Test(expected = EOFException.class) public void testReadUINT32Truncated() throws IOException {
+        Utils.readUINT32(new ByteArrayInputStream(MAX_UINT16));
+    }
+
     /**
      * Test method for
      * {@link ealvatag.audio.asf.util.Utils#readUINT16(java.io.InputStream)}
@@ -26,6 +26,16 @@ public class GUIDTest {
         }
     }
 
+    /**
+     * Test method for {@link ealvatag.audio.asf.data.GUID#hashCode()}.
+     */
+    @Test public void testHashCode() {
+        for (GUID curr : GUID.KNOWN_GUIDS) {
+            Assert.assertEquals(curr.hashCode(), new GUID(curr.getBytes()).hashCode());
+        }
+        Assert.assertNotEquals(GUID.GUID_HEADER.hashCode(), GUID.GUID_FILE.hashCode());
+    }
+
     /**
      * Test method for
      * {@link ealvatag.audio.asf.data.GUID#parseGUID(java.lang.String)}.
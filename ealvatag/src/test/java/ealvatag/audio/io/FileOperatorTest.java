@@ -29,6 +29,7 @@ import org.junit.rules.TemporaryFolder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -149,6 +150,32 @@ public final class FileOperatorTest {
         assertEquals(data, buffer.readByteString());
     }
 
+    @Test public void mappedRead() throws Exception {
+        ByteString data = randomByteString(1000000);
+        write(data);
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+
+        Buffer buffer = new Buffer();
+        operator.read(10, buffer, data.size() - 20, 1024);
+        assertEquals(data.substring(10, data.size() - 10), buffer.readByteString());
+
+        // below the threshold, copied
+        operator.read(4, buffer, 5, 1024);
+        assertEquals(data.substring(4, 9), buffer.readByteString());
+    }
+
+    @Test public void mappedReadPastEndOfFile() throws Exception {
+        write(ByteString.encodeUtf8("Hello, World"));
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        try {
+            operator.read(6, new Buffer(), 10, 1);
+            fail();
+        } catch (EOFException expected) {
+        }
+    }
+
     @Test public void largeWrite() throws Exception {
         ByteString data = randomByteString(1000000);
 
@@ -185,7 +212,77 @@ public final class FileOperatorTest {
         }
     }
 
-    @SuppressWarnings("SameParameterValue")
+    @Test public void transferTo() throws Exception {
+        ByteString data = randomByteString(1000000);
+        write(data);
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+
+        File targetFile = tempDir.newFile();
+        try (RandomAccessFile target = new RandomAccessFile(targetFile, "rw")) {
+            target.write(new byte[]{1, 2, 3});
+            operator.transferTo(10, 900000, target.getChannel(), 4096);
+            assertEquals(900003, target.getFilePointer());
+        }
+        assertEquals(0, randomAccessFile.getChannel().position());
+
+        BufferedSource source = Okio.buffer(Okio.source(targetFile));
+        assertEquals(ByteString.of((byte)1, (byte)2, (byte)3), source.readByteString(3));
+        assertEquals(data.substring(10, 900010), source.readByteString());
+        source.close();
+    }
+
+    @Test public void transferToPastEndOfFile() throws Exception {
+        write(ByteString.encodeUtf8("Hello, World"));
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        try (RandomAccessFile target = new RandomAccessFile(tempDir.newFile(), "rw")) {
+            operator.transferTo(5, 10, target.getChannel(), 4);
+            fail();
+        } catch (EOFException ignored) {
+        }
+    }
+
+    @Test public void moveTowardsEnd() throws Exception {
+        ByteString data = randomByteString(100000);
+        write(data);
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        operator.move(100, 1100, data.size() - 100, 4096);
+
+        ByteString moved = snapshot();
+        assertEquals(data.size() + 1000, moved.size());
+        assertEquals(data.substring(0, 1100), moved.substring(0, 1100));
+        assertEquals(data.substring(100), moved.substring(1100));
+    }
+
+    @Test public void moveTowardsStart() throws Exception {
+        ByteString data = randomByteString(100000);
+        write(data);
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        operator.move(1100, 100, data.size() - 1100, 4096);
+
+        ByteString moved = snapshot();
+        assertEquals(data.substring(0, 100), moved.substring(0, 100));
+        assertEquals(data.substring(1100), moved.substring(100, data.size() - 1000));
+    }
+
+    @Test public void moveLargerThanBufferReusingBuffer() throws Exception {
+        ByteString data = randomByteString(3 * 1024 * 1024);
+        write(data);
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        operator.move(100, 1100, data.size() - 100, 5000000);
+        operator.move(1100, 600, 5000, 5000000);
+
+        ByteString moved = snapshot();
+        assertEquals(data.size() + 1000, moved.size());
+        assertEquals(data.substring(0, 600), moved.substring(0, 600));
+        assertEquals(data.substring(100, 5100), moved.substring(600, 5600));
+        assertEquals(data.substring(5100), moved.substring(6100));
+    }
+
     private ByteString randomByteString(int byteCount) {
         byte[] bytes = new byte[byteCount];
         new Random(0).nextBytes(bytes);
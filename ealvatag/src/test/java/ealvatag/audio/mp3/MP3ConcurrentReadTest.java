@@ -0,0 +1,85 @@
+package ealvatag.audio.mp3;
+
+import ealvatag.audio.AudioFileIO;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads every test mp3 from many threads at once and checks each result matches a single threaded read
+ */
+public class MP3ConcurrentReadTest {
+  private static final int THREAD_COUNT = 8;
+  private static final int ROUNDS = 5;
+
+  private final Map<File, String> expected = new HashMap<>();
+
+  @Before public void setUp() throws Exception {
+    final File[] files = new File("testdata").listFiles(new FilenameFilter() {
+      @Override public boolean accept(final File dir, final String name) {
+        return name.endsWith(".mp3");
+      }
+    });
+    assertThat(files != null && files.length > 0, is(true));
+    for (File file : files) {
+      expected.put(file, describe(file));
+    }
+  }
+
+  @Test public void testConcurrentReadsMatchSerialReads() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      final List<Future<List<String>>> futures = new ArrayList<>();
+      for (int i = 0; i < THREAD_COUNT; i++) {
+        final long seed = i;
+        futures.add(executor.submit(new Callable<List<String>>() {
+          @Override public List<String> call() throws Exception {
+            final List<File> files = new ArrayList<>(expected.keySet());
+            final List<String> mismatches = new ArrayList<>();
+            final Random random = new Random(seed);
+            for (int round = 0; round < ROUNDS; round++) {
+              Collections.shuffle(files, random);
+              for (File file : files) {
+                final String actual = describe(file);
+                if (!actual.equals(expected.get(file))) {
+                  mismatches.add(file.getName() + " expected:" + expected.get(file) + " actual:" + actual);
+                }
+              }
+            }
+            return mismatches;
+          }
+        }));
+      }
+      final List<String> mismatches = new ArrayList<>();
+      for (Future<List<String>> future : futures) {
+        mismatches.addAll(future.get());
+      }
+      assertThat(mismatches.toString(), mismatches.isEmpty(), is(true));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static String describe(final File file) {
+    try {
+      return AudioFileIO.read(file).getAudioHeader().toString();
+    } catch (Exception e) {
+      return e.getClass().getName();
+    }
+  }
+}
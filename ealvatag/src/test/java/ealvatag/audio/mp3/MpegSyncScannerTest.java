@@ -0,0 +1,145 @@
+package ealvatag.audio.mp3;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Searching a file for MPEG frame sync with {@link MpegSyncScanner}
+ */
+public class MpegSyncScannerTest {
+    /** MPEG-1 Layer III, 128kbps, 44.1kHz */
+    private static final byte[] HEADER = {(byte)0xFF, (byte)0xFB, (byte)0x90, (byte)0x64};
+    private static final int HEADER_INT = 0xFFFB9064;
+
+    @Rule public final TemporaryFolder tempDir = new TemporaryFolder();
+
+    private RandomAccessFile randomAccessFile;
+
+    @After public void tearDown() throws Exception {
+        if (randomAccessFile != null) {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * @return bytes with no sync in them, but with 0xFF bytes which aren't followed by a sync pattern so the byte by byte check is used
+     */
+    private static byte[] junk(int length) {
+        byte[] junk = new byte[length];
+        for (int i = 0; i < length; i++) {
+            switch (i % 37) {
+                case 0:
+                case 1:
+                case 2:
+                case 3:
+                case 6:
+                    junk[i] = (byte)0xFF;
+                    break;
+                case 4:
+                case 5:
+                    //0xFF 0xFF 0xFC and 0xFF 0xFC 0xFC have the sync bits but a bad bit rate and reserved sampling rate
+                    junk[i] = (byte)0xFC;
+                    break;
+                case 7:
+                    junk[i] = 0x00;
+                    break;
+                default:
+                    junk[i] = (byte)(i % 251);
+            }
+        }
+        return junk;
+    }
+
+    private static byte[] withHeaderAt(byte[] bytes, int offset) {
+        System.arraycopy(HEADER, 0, bytes, offset, HEADER.length);
+        return bytes;
+    }
+
+    private MpegSyncScanner scanner(byte[] contents) throws IOException {
+        File file = tempDir.newFile();
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
+        }
+        if (randomAccessFile != null) {
+            randomAccessFile.close();
+        }
+        randomAccessFile = new RandomAccessFile(file, "r");
+        FileChannel channel = randomAccessFile.getChannel();
+        return new MpegSyncScanner(channel, channel.size());
+    }
+
+    @Test public void testSyncAfterJunk() throws Exception {
+        final int offset = 5000;
+        MpegSyncScanner scanner = scanner(withHeaderAt(junk(offset + 1000), offset));
+        Assert.assertEquals(offset, scanner.findSync(0, HEADER.length));
+        Assert.assertEquals(HEADER_INT, scanner.getInt(offset));
+        Assert.assertTrue(scanner.isSync(offset));
+    }
+
+    @Test public void testSyncAtStart() throws Exception {
+        MpegSyncScanner scanner = scanner(withHeaderAt(junk(1000), 0));
+        Assert.assertEquals(0, scanner.findSync(0, HEADER.length));
+    }
+
+    @Test public void testSyncStraddlesWindowBoundary() throws Exception {
+        final int boundary = MpegSyncScanner.INITIAL_WINDOW_SIZE;
+        for (int offset = boundary - HEADER.length; offset <= boundary; offset++) {
+            MpegSyncScanner scanner = scanner(withHeaderAt(junk(boundary * 3), offset));
+            Assert.assertEquals("Header at " + offset, offset, scanner.findSync(0, HEADER.length));
+            Assert.assertEquals("Header at " + offset, HEADER_INT, scanner.getInt(offset));
+        }
+    }
+
+    @Test public void testSyncBeyondGrownWindows() throws Exception {
+        //Several refills, each window larger than the last, before the sync is reached
+        final int offset = MpegSyncScanner.MAX_WINDOW_SIZE * 2 + 20;
+        MpegSyncScanner scanner = scanner(withHeaderAt(junk(offset + 1000), offset));
+        Assert.assertEquals(offset, scanner.findSync(0, HEADER.length));
+        Assert.assertArrayEquals(HEADER, scanner.copy(offset, HEADER.length).readByteArray());
+    }
+
+    @Test public void testFindNextSync() throws Exception {
+        byte[] contents = withHeaderAt(withHeaderAt(junk(20000), 100), 15000);
+        MpegSyncScanner scanner = scanner(contents);
+        Assert.assertEquals(100, scanner.findSync(0, HEADER.length));
+        Assert.assertEquals(15000, scanner.findSync(101, HEADER.length));
+        Assert.assertEquals(-1, scanner.findSync(15001, HEADER.length));
+    }
+
+    @Test public void testNoSync() throws Exception {
+        MpegSyncScanner scanner = scanner(junk(MpegSyncScanner.MAX_WINDOW_SIZE + 12345));
+        Assert.assertEquals(-1, scanner.findSync(0, HEADER.length));
+    }
+
+    @Test public void testNoSyncAllFF() throws Exception {
+        //0xFF 0xFF 0xFF has a bad bit rate and reserved sampling rate, so is never sync
+        byte[] contents = new byte[20000];
+        Arrays.fill(contents, (byte)0xFF);
+        Assert.assertEquals(-1, scanner(contents).findSync(0, HEADER.length));
+    }
+
+    @Test public void testSyncTooNearEnd() throws Exception {
+        //The sync is there but the required bytes after it are not
+        final int length = 1000;
+        MpegSyncScanner scanner = scanner(withHeaderAt(junk(length), length - HEADER.length));
+        Assert.assertEquals(length - HEADER.length, scanner.findSync(0, HEADER.length));
+        Assert.assertEquals(-1, scanner.findSync(0, HEADER.length + 1));
+    }
+
+    @Test public void testEmptyFile() throws Exception {
+        Assert.assertEquals(-1, scanner(new byte[0]).findSync(0, HEADER.length));
+    }
+}
@@ -19,6 +19,8 @@ package ealvatag.audio.mp4;
 
 import ealvatag.TestUtil;
 import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,7 +28,10 @@ import org.junit.Test;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.google.common.io.Files;
+
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -81,4 +86,53 @@ public class Mp4AudioFileReaderTest {
 
     }
 
+    @Test
+    public void testReadMoovAfterMdat() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test15.m4a", new File("testReadMoovAfterMdat.m4a"));
+
+        final AudioFile m4a = new Mp4AudioFileReader().read(testFile, "m4a", false);
+        assertThat(m4a.getTag().isPresent(), is(true));
+    }
+
+    /**
+     * test.m4a rearranged as ftyp, free, mdat with a 64 bit size, then moov
+     */
+    @Test
+    public void testReadLargeSizeMdatBeforeMoov() throws Exception {
+        File original = TestUtil.copyAudioToTmp("test.m4a", new File("testReadLargeSizeOriginal.m4a"));
+        ByteBuffer in = ByteBuffer.wrap(Files.toByteArray(original));
+        ByteBuffer ftyp = nextBox(in);
+        ByteBuffer moov = nextBox(in);
+        ByteBuffer free = nextBox(in);
+        ByteBuffer mdat = nextBox(in);
+        Assert.assertEquals("mdat", boxId(mdat));
+
+        ByteBuffer out = ByteBuffer.allocate(in.capacity() + 8);
+        out.put(ftyp).put(free);
+        byte[] id = new byte[4];
+        mdat.position(4);
+        mdat.get(id);
+        out.putInt(1).put(id).putLong(mdat.limit() + 8);
+        out.put(mdat).put(moov);
+        File testFile = TestUtil.getTestDataTmpFile("testReadLargeSize.m4a");
+        Files.write(out.array(), testFile);
+
+        final AudioFile expected = AudioFileIO.read(original);
+        final AudioFile m4a = AudioFileIO.read(testFile);
+        Assert.assertEquals(expected.getTag().get().getFirst(FieldKey.ARTIST), m4a.getTag().get().getFirst(FieldKey.ARTIST));
+        Assert.assertEquals(expected.getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false),
+                            m4a.getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false));
+        Assert.assertArrayEquals(expected.audioPayloadDigest("MD5"), m4a.audioPayloadDigest("MD5"));
+    }
+
+    private static ByteBuffer nextBox(ByteBuffer in) {
+        ByteBuffer box = in.slice();
+        box.limit(in.getInt(in.position()));
+        in.position(in.position() + box.limit());
+        return box;
+    }
+
+    private static String boxId(ByteBuffer box) {
+        return new String(box.array(), box.arrayOffset() + 4, 4);
+    }
 }
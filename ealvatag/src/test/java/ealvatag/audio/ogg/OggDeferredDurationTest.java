@@ -0,0 +1,72 @@
+package ealvatag.audio.ogg;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ogg.util.OggInfoReader;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The duration of an ogg is found from its last page, which is only read when first asked for
+ */
+public class OggDeferredDurationTest {
+    @After
+    public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test
+    public void testDeferredMatchesEager() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testDeferredDuration.ogg"));
+        GenericAudioHeader eager;
+        try (RandomAccessFile raf = new RandomAccessFile(testFile, "r")) {
+            eager = new OggInfoReader().read(raf);
+        }
+
+        AudioHeader deferred = AudioFileIO.read(testFile).getAudioHeader();
+        Assert.assertEquals(eager.getSampleRate(), deferred.getSampleRate());
+        Assert.assertEquals(eager.getChannelCount(), deferred.getChannelCount());
+        Assert.assertEquals(eager.getDuration(TimeUnit.MILLISECONDS, false), deferred.getDuration(TimeUnit.MILLISECONDS, false));
+        Assert.assertEquals(eager.getDurationAsDouble(), deferred.getDurationAsDouble(), 0.0);
+        Assert.assertEquals(eager.getBitRate(), deferred.getBitRate());
+        Assert.assertEquals(eager.isVariableBitRate(), deferred.isVariableBitRate());
+    }
+
+    @Test
+    public void testDurationAfterSave() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testDeferredDurationSave.ogg"));
+        long expected = AudioFileIO.read(testFile).getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false);
+
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        Tag tag = audioFile.getTagOrSetNewDefault();
+        StringBuilder comment = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            comment.append("comment ");
+        }
+        tag.setField(FieldKey.COMMENT, comment.toString());
+        audioFile.save();
+
+        Assert.assertEquals(expected, audioFile.getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false));
+        Assert.assertEquals(expected, AudioFileIO.read(testFile).getAudioHeader().getDuration(TimeUnit.MILLISECONDS, false));
+    }
+
+    @Test
+    public void testFileGoneBeforeDurationRead() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testDeferredDurationGone.ogg"));
+        AudioHeader header = AudioFileIO.read(testFile).getAudioHeader();
+        Assert.assertTrue(testFile.delete());
+
+        Assert.assertEquals(0, header.getDuration(TimeUnit.MILLISECONDS, false));
+        Assert.assertTrue(header.getSampleRate() > 0);
+    }
+}
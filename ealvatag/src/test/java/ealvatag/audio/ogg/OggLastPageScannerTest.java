@@ -0,0 +1,90 @@
+package ealvatag.audio.ogg;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.ogg.util.OggLastPageScanner;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * Find the last page of an ogg file by searching backwards from the end
+ */
+public class OggLastPageScannerTest {
+    private static final int JUNK_LENGTH = 200 * 1024;
+
+    private File testFile;
+    private double lastGranule;
+
+    @Before
+    public void setUp() throws Exception {
+        testFile = TestUtil.copyAudioToTmp("test.ogg", new File("testLastPageScanner.ogg"));
+        lastGranule = find(testFile, 0);
+        Assert.assertTrue(lastGranule > 0);
+    }
+
+    @After
+    public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test
+    public void testTrailingJunk() throws Exception {
+        appendJunk(testFile);
+        Assert.assertEquals(lastGranule, find(testFile, 0), 0.0);
+    }
+
+    @Test
+    public void testSearchLimit() throws Exception {
+        appendJunk(testFile);
+        Assert.assertEquals(lastGranule, find(testFile, JUNK_LENGTH + OggLastPageScanner.BLOCK_SIZE), 0.0);
+        try {
+            find(testFile, OggLastPageScanner.BLOCK_SIZE);
+            Assert.fail("Found a page in the junk");
+        } catch (CannotReadException expected) {
+            // no page within the limit
+        }
+    }
+
+    @Test
+    public void testTruncatedLastPage() throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(testFile, "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+        double granule = find(testFile, 0);
+        Assert.assertTrue(granule > 0);
+        Assert.assertTrue(granule < lastGranule);
+    }
+
+    @Test
+    public void testCorruptLastPage() throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(testFile, "rw")) {
+            raf.seek(raf.length() - 10);
+            int b = raf.read();
+            raf.seek(raf.length() - 10);
+            raf.write(b ^ 0xFF);
+        }
+        double granule = find(testFile, 0);
+        Assert.assertTrue(granule > 0);
+        Assert.assertTrue(granule < lastGranule);
+    }
+
+    private static double find(File file, long searchLimit) throws IOException, CannotReadException {
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            return new OggLastPageScanner(channel, searchLimit).findLastGranulePosition();
+        }
+    }
+
+    private static void appendJunk(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length());
+            raf.write(new byte[JUNK_LENGTH]);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ealvatag.audio.wav;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.GenericAudioHeader;
+import ealvatag.tag.wav.WavTag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reading the header and tag in one walk of the chunks gives the same result as reading them separately
+ */
+public class WavSinglePassReadTest {
+    @After public void tearDown() {
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testSinglePassMatchesTwoPasses() throws Exception {
+        String[] names = {"test.wav", "test123.wav", "test125.wav", "test126.wav", "test127.wav", "test128.wav", "test129.wav",
+                          "test130.wav", "test131.wav", "test153.wav"};
+        for (String name : names) {
+            File testFile = TestUtil.copyAudioToTmp(name);
+            String fileName = testFile.getAbsolutePath();
+            try (FileChannel fc = new RandomAccessFile(testFile, "r").getChannel()) {
+                GenericAudioHeader expectedInfo = new WavInfoReader(fileName).read(fc);
+                fc.position(0);
+                WavTag expectedTag = new WavTagReader(fileName).read(fc);
+                fc.position(0);
+
+                GenericAudioHeader info = new GenericAudioHeader();
+                WavTag tag = new WavTagReader(fileName).read(fc, new WavInfoReader(fileName), info);
+
+                Assert.assertEquals(name, expectedInfo.toString(), info.toString());
+                Assert.assertEquals(name, expectedTag.toString(), tag.toString());
+                Assert.assertEquals(name, expectedTag.getChunkSummaryList().size(), tag.getChunkSummaryList().size());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ealvatag.tag.flac;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Flac image data left in the file until needed, see {@link TagOptionSingleton#setLazyArtwork(boolean)}
+ */
+public class FlacLazyArtworkTest {
+    @Before public void setUp() {
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+    }
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testReadDeferred() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testLazyArtworkRead.flac"));
+        byte[] expected = readEagerly(testFile).get(0).getBinaryData();
+
+        FlacTag tag = (FlacTag)AudioFileIO.read(testFile).getTag().get();
+        MetadataBlockDataPicture picture = tag.getImages().get(0);
+        Assert.assertTrue(picture.isImageDataDeferred());
+
+        Artwork artwork = tag.getFirstArtwork().get();
+        Assert.assertEquals(expected.length, artwork.getBinaryDataLength());
+        try (InputStream in = artwork.openBinaryData()) {
+            Assert.assertArrayEquals(expected, ByteStreams.toByteArray(in));
+        }
+        Assert.assertTrue(picture.isImageDataDeferred());
+
+        Assert.assertArrayEquals(expected, artwork.getBinaryData());
+        Assert.assertFalse(picture.isImageDataDeferred());
+    }
+
+    @Test public void testSaveMovesDeferredImageData() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testLazyArtworkSave.flac"));
+        byte[] expected = readEagerly(testFile).get(0).getBinaryData();
+
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        FlacTag tag = (FlacTag)audioFile.getTag().get();
+        // larger than the padding, so the audio is shifted and the image data moves towards the end of the file
+        tag.setField(FieldKey.COMMENT, new String(new char[10000]).replace('\0', 'c'));
+        audioFile.save();
+
+        MetadataBlockDataPicture picture = tag.getImages().get(0);
+        Assert.assertTrue(picture.isImageDataDeferred());
+        Assert.assertArrayEquals(expected, readEagerly(testFile).get(0).getBinaryData());
+        Assert.assertArrayEquals(expected, picture.getImageData());
+
+        // and back towards the start, in place
+        audioFile = AudioFileIO.read(testFile);
+        audioFile.getTag().get().deleteField(FieldKey.COMMENT);
+        audioFile.save();
+        Assert.assertArrayEquals(expected, readEagerly(testFile).get(0).getBinaryData());
+        Assert.assertEquals("", AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.COMMENT));
+    }
+
+    @Test public void testSaveWithAddedArtwork() throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.flac", new File("testLazyArtworkAdd.flac"));
+        List<Artwork> original = readEagerly(testFile);
+        byte[] added = Files.toByteArray(new File("testdata", "coverart.png"));
+
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        audioFile.getTag().get().addArtwork(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        audioFile.getTag().get().setField(FieldKey.TITLE, "lazy artwork");
+        audioFile.save();
+
+        List<Artwork> artwork = readEagerly(testFile);
+        Assert.assertEquals(original.size() + 1, artwork.size());
+        for (int i = 0; i < original.size(); i++) {
+            Assert.assertArrayEquals(original.get(i).getBinaryData(), artwork.get(i).getBinaryData());
+        }
+        Assert.assertArrayEquals(added, artwork.get(original.size()).getBinaryData());
+        Assert.assertEquals("lazy artwork", AudioFileIO.read(testFile).getTag().get().getFirst(FieldKey.TITLE));
+    }
+
+    private static List<Artwork> readEagerly(File file) throws Exception {
+        TagOptionSingleton.getInstance().setLazyArtwork(false);
+        try {
+            return AudioFileIO.read(file).getTag().get().getArtworkList();
+        } finally {
+            TagOptionSingleton.getInstance().setLazyArtwork(true);
+        }
+    }
+}
@@ -2,18 +2,113 @@ package ealvatag.tag.id3;
 
 import ealvatag.TestUtil;
 import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.id3.framebody.FrameBodyAPIC;
 import ealvatag.tag.id3.framebody.FrameBodyCOMM;
 import ealvatag.tag.id3.framebody.FrameBodyTIT2;
+import okio.Buffer;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.util.Random;
 
 /**
- * Testing of reading compressed frames
+ * Testing of reading and writing compressed frames
  */
 public class CompressedTest {
+    private static final String[] WORDS = {"love", "night", "heart", "train", "crazy", "dancing", "forever", "alone", "fire", "rain",
+                                           "highway", "tonight", "baby", "dream", "road", "home"};
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    /**
+     * @return some kilobytes of lyrics which deflate well, but nowhere near 100 to 1
+     */
+    private static String lyrics() {
+        Random random = new Random(98);
+        StringBuilder lyrics = new StringBuilder();
+        while (lyrics.length() < 8000) {
+            lyrics.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+        return lyrics.toString();
+    }
+
+    private static byte[] write(AbstractID3v2Tag tag) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tag.write(out);
+        return out.toByteArray();
+    }
+
+    private static Buffer buffer(byte[] tagBytes) {
+        return new Buffer().write(tagBytes);
+    }
+
+    @Test public void testv23TagWriteCompressedLyricsFrame() throws Exception {
+        final String lyrics = lyrics();
+        ID3v23Tag tag = new ID3v23Tag();
+        tag.setField(FieldKey.LYRICS, lyrics);
+        tag.setField(FieldKey.TITLE, "Crazy Train");
+        final byte[] uncompressed = write(tag);
+
+        TagOptionSingleton.getInstance().setCompressFrameThreshold(1024);
+        final byte[] compressed = write(tag);
+        Assert.assertTrue(compressed.length < uncompressed.length / 2);
+
+        Buffer buffer = buffer(compressed);
+        ID3v23Tag v23tag = new ID3v23Tag(buffer, AbstractID3v2Tag.getHeader(buffer).get(), "testv23", false);
+        ID3v23Frame frame = (ID3v23Frame)v23tag.getFrame(ID3v23Frames.FRAME_ID_V3_UNSYNC_LYRICS);
+        Assert.assertTrue(((ID3v23Frame.EncodingFlags)frame.getEncodingFlags()).isCompression());
+        Assert.assertEquals(lyrics, v23tag.getFirst(FieldKey.LYRICS));
+
+        //Short text frames are left alone
+        frame = (ID3v23Frame)v23tag.getFrame(ID3v23Frames.FRAME_ID_V3_TITLE);
+        Assert.assertFalse(((ID3v23Frame.EncodingFlags)frame.getEncodingFlags()).isCompression());
+        Assert.assertEquals("Crazy Train", v23tag.getFirst(FieldKey.TITLE));
+
+        //Writing what was read keeps the frame compressed, and reading reuses this thread's inflater
+        final byte[] rewritten = write(v23tag);
+        Assert.assertArrayEquals(compressed, rewritten);
+        buffer = buffer(rewritten);
+        v23tag = new ID3v23Tag(buffer, AbstractID3v2Tag.getHeader(buffer).get(), "testv23", false);
+        Assert.assertEquals(lyrics, v23tag.getFirst(FieldKey.LYRICS));
+    }
+
+    @Test public void testv24TagWriteCompressedLyricsFrame() throws Exception {
+        final String lyrics = lyrics();
+        ID3v24Tag tag = new ID3v24Tag();
+        tag.setField(FieldKey.LYRICS, lyrics);
+        final byte[] uncompressed = write(tag);
+
+        //Compression comes before unsynchronisation
+        TagOptionSingleton.getInstance().setUnsyncTags(true);
+        TagOptionSingleton.getInstance().setCompressFrameThreshold(1024);
+        final byte[] compressed = write(tag);
+        Assert.assertTrue(compressed.length < uncompressed.length / 2);
+
+        Buffer buffer = buffer(compressed);
+        ID3v24Tag v24tag = new ID3v24Tag(buffer, AbstractID3v2Tag.getHeader(buffer).get(), "testv24", false);
+        ID3v24Frame frame = (ID3v24Frame)v24tag.getFrame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS);
+        ID3v24Frame.EncodingFlags flags = (ID3v24Frame.EncodingFlags)frame.getEncodingFlags();
+        Assert.assertTrue(flags.isCompression());
+        Assert.assertTrue(flags.isDataLengthIndicator());
+        Assert.assertEquals(lyrics, v24tag.getFirst(FieldKey.LYRICS));
+    }
+
+    @Test public void testWriteBelowCompressThreshold() throws Exception {
+        final String lyrics = lyrics();
+        ID3v24Tag tag = new ID3v24Tag();
+        tag.setField(FieldKey.LYRICS, lyrics);
+        final byte[] uncompressed = write(tag);
+
+        TagOptionSingleton.getInstance().setCompressFrameThreshold(lyrics.length() * 2);
+        Assert.assertArrayEquals(uncompressed, write(tag));
+    }
     /**
      * This tests reading a v23tag that contains a compressed COMM frame
      *
@@ -0,0 +1,111 @@
+package ealvatag.tag.id3;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.framebody.AbstractArtworkFrameBody;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InputStream;
+
+/**
+ * ID3 image data left in the file until needed, see {@link TagOptionSingleton#setLazyArtwork(boolean)}
+ */
+public class Id3LazyArtworkTest {
+    private byte[] expected;
+
+    @Before public void setUp() throws Exception {
+        expected = Files.toByteArray(new File("testdata", "coverart.png"));
+    }
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testReadDeferredV22() throws Exception {
+        assertReadDeferred(withArtwork(new ID3v22Tag(), "testLazyArtworkReadV22.mp3"));
+    }
+
+    @Test public void testReadDeferredV23() throws Exception {
+        assertReadDeferred(withArtwork(new ID3v23Tag(), "testLazyArtworkReadV23.mp3"));
+    }
+
+    @Test public void testReadDeferredV24() throws Exception {
+        assertReadDeferred(withArtwork(new ID3v24Tag(), "testLazyArtworkReadV24.mp3"));
+    }
+
+    @Test public void testReadDeferredWithLazyFrameBodies() throws Exception {
+        File testFile = withArtwork(new ID3v24Tag(), "testLazyArtworkReadLazyBodies.mp3");
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(true);
+        assertReadDeferred(testFile);
+    }
+
+    @Test public void testUnsynchronizedReadEagerly() throws Exception {
+        TagOptionSingleton.getInstance().setUnsyncTags(true);
+        File testFile = withArtwork(new ID3v23Tag(), "testLazyArtworkUnsynced.mp3");
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+
+        MP3File mp3File = new MP3File(testFile);
+        Assert.assertNull(getArtworkBody(mp3File).getDeferredImageData());
+        Assert.assertArrayEquals(expected, mp3File.getTag().get().getFirstArtwork().get().getBinaryData());
+    }
+
+    @Test public void testSaveWithDeferredArtwork() throws Exception {
+        File testFile = withArtwork(new ID3v23Tag(), "testLazyArtworkSave.mp3");
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+
+        MP3File mp3File = new MP3File(testFile);
+        Assert.assertTrue(getArtworkBody(mp3File).getDeferredImageData().isImageDataDeferred());
+        // larger than the padding, so the audio is shifted
+        mp3File.getTag().get().setField(FieldKey.COMMENT, new String(new char[10000]).replace('\0', 'c'));
+        mp3File.save();
+
+        Assert.assertArrayEquals(expected, getArtworkBody(mp3File).getImageData());
+        TagOptionSingleton.getInstance().setLazyArtwork(false);
+        Assert.assertArrayEquals(expected, new MP3File(testFile).getTag().get().getFirstArtwork().get().getBinaryData());
+    }
+
+    private void assertReadDeferred(File testFile) throws Exception {
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+        MP3File mp3File = new MP3File(testFile);
+        AbstractArtworkFrameBody body = getArtworkBody(mp3File);
+        Assert.assertTrue(body.getDeferredImageData().isImageDataDeferred());
+        Assert.assertEquals(expected.length, body.getImageDataLength());
+
+        Artwork artwork = mp3File.getTag().get().getFirstArtwork().get();
+        Assert.assertEquals(expected.length, artwork.getBinaryDataLength());
+        try (InputStream in = artwork.openBinaryData()) {
+            Assert.assertArrayEquals(expected, ByteStreams.toByteArray(in));
+        }
+        Assert.assertTrue(body.getDeferredImageData().isImageDataDeferred());
+
+        Assert.assertArrayEquals(expected, artwork.getBinaryData());
+        Assert.assertFalse(body.getDeferredImageData().isImageDataDeferred());
+        Assert.assertArrayEquals(expected, body.getImageData());
+    }
+
+    private static AbstractArtworkFrameBody getArtworkBody(MP3File mp3File) {
+        AbstractID3v2Tag tag = mp3File.getID3v2Tag();
+        return (AbstractArtworkFrameBody)((AbstractID3v2Frame)tag.getFields(FieldKey.COVER_ART).get(0)).getBody();
+    }
+
+    private static File withArtwork(AbstractID3v2Tag tag, String fileName) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File(fileName));
+        MP3File mp3File = new MP3File(testFile);
+        tag.setField(FieldKey.TITLE, "lazy artwork");
+        tag.setArtwork(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        mp3File.setID3v2Tag(tag);
+        mp3File.save();
+        return testFile;
+    }
+}
@@ -126,6 +126,19 @@ public class Id3SynchronizingSinkTest {
         testSynchronization(input, expected);
     }
 
+    @Test
+    public void transformInPieces() throws Exception {
+        // written a byte at a time, so every $FF $00 is split across writes
+        final byte[] input = {FF, ZERO, FF, FF, ZERO, BLAH, FF, ZERO, ZERO, FF};
+        final byte[] expected = {FF, FF, FF, BLAH, FF, ZERO, FF};
+        sourceBuffer.write(input);
+        while (sourceBuffer.size() > 0) {
+            syncSink.write(sourceBuffer, 1);
+        }
+        syncSink.close();
+        assertThat(destBuffer.readByteArray(), is(equalTo(expected)));
+    }
+
     private void testSynchronization(byte[] input, byte[] expectedOutput) throws IOException {
         sourceBuffer.write(input);
         sourceBuffer.readAll(syncSink);
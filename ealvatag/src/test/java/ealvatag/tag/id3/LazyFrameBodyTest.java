@@ -0,0 +1,144 @@
+package ealvatag.tag.id3;
+
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test reading ID3v2 tags with frame bodies decoded on first access
+ */
+public class LazyFrameBodyTest {
+    @Before
+    public void setup() {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    @After
+    public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    @Test public void testLazyV24ReadMatchesEagerRead() throws Exception {
+        File testFile = createTaggedFile(new ID3v24Tag(), "testLazyV24.mp3");
+        assertLazyReadMatchesEagerRead(testFile);
+    }
+
+    @Test public void testLazyV23ReadMatchesEagerRead() throws Exception {
+        File testFile = createTaggedFile(new ID3v23Tag(), "testLazyV23.mp3");
+        assertLazyReadMatchesEagerRead(testFile);
+    }
+
+    @Test public void testBodyDecodedOnFirstAccess() throws Exception {
+        File testFile = createTaggedFile(new ID3v24Tag(), "testLazyAccess.mp3");
+
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(true);
+        AbstractID3v2Tag tag = new MP3File(testFile).getID3v2Tag();
+        AbstractID3v2Frame frame = (AbstractID3v2Frame)tag.getFrame(ID3v24Frames.FRAME_ID_TITLE);
+        Assert.assertTrue(frame.isBodyDeferred());
+        Assert.assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        Assert.assertFalse(frame.isBodyDeferred());
+    }
+
+    @Test public void testConcurrentFirstAccessDecodesOnce() throws Exception {
+        File testFile = createTaggedFile(new ID3v24Tag(), "testLazyConcurrent.mp3");
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(true);
+
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 50; round++) {
+                final AbstractID3v2Frame frame =
+                        (AbstractID3v2Frame)new MP3File(testFile).getID3v2Tag().getFrame(ID3v24Frames.FRAME_ID_TITLE);
+                Assert.assertTrue(frame.isBodyDeferred());
+                final CountDownLatch start = new CountDownLatch(1);
+                List<Future<AbstractTagFrameBody>> bodies = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    bodies.add(executor.submit(new Callable<AbstractTagFrameBody>() {
+                        @Override public AbstractTagFrameBody call() throws Exception {
+                            start.await();
+                            return frame.getBody();
+                        }
+                    }));
+                }
+                start.countDown();
+                AbstractTagFrameBody first = bodies.get(0).get();
+                Assert.assertNotNull(first);
+                Assert.assertEquals("title", first.getUserFriendlyValue());
+                for (Future<AbstractTagFrameBody> body : bodies) {
+                    Assert.assertSame(first, body.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void testSaveUntouchedLazyTagRewritesFramesUnchanged() throws Exception {
+        File testFile = createTaggedFile(new ID3v23Tag(), "testLazySave.mp3");
+        byte[] original = Files.toByteArray(testFile);
+
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(true);
+        MP3File mp3File = new MP3File(testFile);
+        mp3File.saveMp3();
+        Assert.assertArrayEquals(original, Files.toByteArray(testFile));
+
+        mp3File = new MP3File(testFile);
+        mp3File.getID3v2Tag().setField(FieldKey.ARTIST, "changed");
+        mp3File.saveMp3();
+
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(false);
+        AbstractID3v2Tag tag = new MP3File(testFile).getID3v2Tag();
+        Assert.assertEquals("changed", tag.getFirst(FieldKey.ARTIST));
+        Assert.assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        Assert.assertEquals("comment", tag.getFirst(FieldKey.COMMENT));
+    }
+
+    private static File createTaggedFile(AbstractID3v2Tag tag, String fileName) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File(fileName));
+        MP3File mp3File = new MP3File(testFile);
+        tag.setField(FieldKey.TITLE, "title");
+        tag.setField(FieldKey.ARTIST, "artist");
+        tag.setField(FieldKey.ALBUM, "album");
+        tag.setField(FieldKey.GENRE, "Rock");
+        tag.setField(FieldKey.COMMENT, "comment");
+        tag.setField(FieldKey.TRACK, "3");
+        tag.setField(FieldKey.CUSTOM1, "custom");
+        mp3File.setID3v2Tag(tag);
+        mp3File.saveMp3();
+        return testFile;
+    }
+
+    private static void assertLazyReadMatchesEagerRead(File testFile) throws Exception {
+        AbstractID3v2Tag eager = new MP3File(testFile).getID3v2Tag();
+
+        TagOptionSingleton.getInstance().setLazyId3v2FrameBodies(true);
+        AbstractID3v2Tag lazy = new MP3File(testFile).getID3v2Tag();
+
+        Assert.assertEquals(eager.getSize(), lazy.getSize());
+        for (FieldKey key : new FieldKey[]{FieldKey.TITLE,
+                                           FieldKey.ARTIST,
+                                           FieldKey.ALBUM,
+                                           FieldKey.GENRE,
+                                           FieldKey.COMMENT,
+                                           FieldKey.TRACK,
+                                           FieldKey.CUSTOM1}) {
+            Assert.assertEquals(eager.getFirst(key), lazy.getFirst(key));
+        }
+        Assert.assertEquals(eager, lazy);
+    }
+}
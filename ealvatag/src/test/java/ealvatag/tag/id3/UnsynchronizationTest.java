@@ -12,6 +12,7 @@ import ealvatag.tag.id3.framebody.FrameBodyAPIC;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
 import ealvatag.tag.reference.ID3V2Version;
+import okio.Buffer;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -20,6 +21,8 @@ import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Random;
 
 /**
  * Test Itunes problems
@@ -246,5 +249,26 @@ public class UnsynchronizationTest {
         Assert.assertNull(exceptionCaught);
     }
 
+    @Test public void testUnsynchronizeRoundTrip() throws Exception {
+        // mostly $FF, $00 and $E0 so every case is hit many times, long enough to span several okio segments
+        final byte[] choices = {(byte)0xFF, (byte)0xFF, 0x00, (byte)0xE0, 0x05};
+        final Random random = new Random(2049);
+        for (int length = 1; length < 40000; length = length * 3 + 1) {
+            final byte[] source = new byte[length];
+            for (int i = 0; i < length; i++) {
+                source[i] = choices[random.nextInt(choices.length)];
+            }
+
+            final byte[] unsynchronized = ID3Unsynchronization.unsynchronize(source);
+            Assert.assertFalse(ID3Unsynchronization.requiresUnsynchronization(unsynchronized));
+
+            final ByteBuffer synced = ID3Unsynchronization.synchronize(ByteBuffer.wrap(unsynchronized));
+            final byte[] syncedBytes = new byte[synced.remaining()];
+            synced.get(syncedBytes);
+            Assert.assertArrayEquals(source, syncedBytes);
 
+            final Buffer syncedBuffer = Id3SynchronizingSink.synchronizeBuffer(new Buffer().write(unsynchronized));
+            Assert.assertArrayEquals(source, syncedBuffer.readByteArray());
+        }
+    }
 }
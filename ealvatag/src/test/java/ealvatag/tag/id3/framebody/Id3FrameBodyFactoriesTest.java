@@ -0,0 +1,102 @@
+package ealvatag.tag.id3.framebody;
+
+import ealvatag.tag.id3.ID3v22Frames;
+import ealvatag.tag.id3.ID3v23Frames;
+import ealvatag.tag.id3.ID3v24Frame;
+import ealvatag.tag.id3.ID3v24Frames;
+import ealvatag.tag.id3.ID3v2ChapterFrames;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Test the frame body factory table against the frame body classes
+ */
+public class Id3FrameBodyFactoriesTest {
+    private static Set<String> allFrameIds() {
+        Set<String> ids = new TreeSet<>();
+        ids.addAll(ID3v22Frames.getInstanceOf().getSupportedFrames());
+        ids.addAll(ID3v23Frames.getInstanceOf().getSupportedFrames());
+        ids.addAll(ID3v24Frames.getInstanceOf().getSupportedFrames());
+        ids.addAll(ID3v2ChapterFrames.getInstanceOf().getSupportedFrames());
+        return ids;
+    }
+
+    @Test public void testEveryFrameBodyClassIsInTable() throws Exception {
+        Id3FrameBodyFactory factories = Id3FrameBodyFactories.instance();
+        for (String id : allFrameIds()) {
+            Class<?> bodyClass;
+            try {
+                bodyClass = Class.forName("ealvatag.tag.id3.framebody.FrameBody" + id);
+            } catch (ClassNotFoundException e) {
+                try {
+                    factories.make(id);
+                    Assert.fail("No FrameBody class for " + id);
+                } catch (FrameIdentifierException expected) {
+                    // frame ids without a body of their own are not in the table
+                }
+                continue;
+            }
+            AbstractID3v2FrameBody body = factories.make(id);
+            Assert.assertEquals(id, bodyClass, body.getClass());
+            Assert.assertEquals(id, body.getIdentifier());
+        }
+    }
+
+    @Test public void testCopy() throws Exception {
+        Id3FrameBodyFactory factories = Id3FrameBodyFactories.instance();
+        AbstractID3v2FrameBody[] bodies = {new FrameBodyTIT2(TextEncoding.ISO_8859_1, "title"),
+                                           new FrameBodyCOMM(TextEncoding.ISO_8859_1, "eng", "", "comment"),
+                                           new FrameBodyTXXX(TextEncoding.ISO_8859_1, "description", "value"),
+                                           new FrameBodyUnsupported("ZZZZ")};
+        for (AbstractID3v2FrameBody body : bodies) {
+            AbstractID3v2FrameBody copy = factories.copy(body);
+            Assert.assertNotSame(body, copy);
+            Assert.assertEquals(body.getClass(), copy.getClass());
+            Assert.assertEquals(body, copy);
+        }
+    }
+
+    @Test public void testFrameCopyConstructorCopiesBody() throws Exception {
+        ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_TITLE);
+        frame.setBody(new FrameBodyTIT2(TextEncoding.ISO_8859_1, "title"));
+        ID3v24Frame copy = new ID3v24Frame(frame);
+        Assert.assertNotSame(frame.getBody(), copy.getBody());
+        Assert.assertEquals(frame.getBody(), copy.getBody());
+        Assert.assertSame(copy, copy.getBody().getHeader());
+    }
+
+    @Test public void testConvert() throws Exception {
+        Id3FrameBodyFactory factories = Id3FrameBodyFactories.instance();
+        FrameBodyTYER tyer = new FrameBodyTYER(TextEncoding.ISO_8859_1, "2017");
+        AbstractID3v2FrameBody tdrc = factories.convert(ID3v24Frames.FRAME_ID_YEAR, tyer);
+        Assert.assertTrue(tdrc instanceof FrameBodyTDRC);
+        Assert.assertEquals("2017", ((FrameBodyTDRC)tdrc).getText());
+
+        Assert.assertNull(factories.convert(ID3v24Frames.FRAME_ID_YEAR, new FrameBodyTALB()));
+    }
+
+    @Test public void testReadFromByteBufferWithBufferOnlyBody() throws Exception {
+        FrameBodySIGN sign = new FrameBodySIGN((byte)1, new byte[]{1, 2, 3, 4});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sign.write(out);
+        byte[] bytes = out.toByteArray();
+
+        AbstractID3v2FrameBody read = Id3FrameBodyFactories.instance()
+                                                           .make(ID3v24Frames.FRAME_ID_SIGNATURE,
+                                                                 ByteBuffer.wrap(bytes),
+                                                                 bytes.length);
+        Assert.assertTrue(read instanceof FrameBodySIGN);
+        Assert.assertEquals(bytes.length, read.getSize());
+    }
+
+    @Test(expected = FrameIdentifierException.class)
+    public void testUnknownIdentifier() throws Exception {
+        Id3FrameBodyFactories.instance().make("ZZZZ");
+    }
+}
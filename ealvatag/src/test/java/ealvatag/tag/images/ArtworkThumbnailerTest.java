@@ -0,0 +1,82 @@
+package ealvatag.tag.images;
+
+import com.google.common.collect.ImmutableSortedMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Test {@link ArtworkThumbnailer}
+ */
+public class ArtworkThumbnailerTest {
+
+    @Test public void testSizes() throws Exception {
+        Artwork artwork = ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart_large.jpg"));
+        BufferedImage original = Images.getImage(artwork);
+        ArtworkThumbnailer thumbnailer = new ArtworkThumbnailer(1024 * 1024);
+
+        ImmutableSortedMap<Integer, byte[]> thumbnails = thumbnailer.thumbnails(artwork, ArtworkThumbnailer.Format.JPEG, 128, 64);
+
+        Assert.assertEquals(2, thumbnails.size());
+        for (int size : new int[]{64, 128}) {
+            BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(thumbnails.get(size)));
+            Assert.assertEquals(size, Math.max(thumbnail.getWidth(), thumbnail.getHeight()));
+            Assert.assertEquals((double)original.getWidth() / original.getHeight(),
+                                (double)thumbnail.getWidth() / thumbnail.getHeight(),
+                                0.05);
+        }
+    }
+
+    @Test public void testNotEnlarged() throws Exception {
+        Artwork artwork = ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png"));
+        ArtworkThumbnailer thumbnailer = new ArtworkThumbnailer(1024 * 1024);
+
+        byte[] png = thumbnailer.thumbnails(artwork, ArtworkThumbnailer.Format.PNG, 1000).get(1000);
+
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(png));
+        Assert.assertEquals(200, thumbnail.getWidth());
+        Assert.assertEquals(200, thumbnail.getHeight());
+    }
+
+    @Test public void testSameCoverDecodedOnce() throws Exception {
+        File cover = new File("testdata", "coverart.jpg");
+        ArtworkThumbnailer thumbnailer = new ArtworkThumbnailer(1024 * 1024);
+
+        byte[] first = thumbnailer.thumbnails(ArtworkFactory.createArtworkFromFile(cover), ArtworkThumbnailer.Format.JPEG, 64).get(64);
+        byte[] second = thumbnailer.thumbnails(ArtworkFactory.createArtworkFromFile(cover), ArtworkThumbnailer.Format.JPEG, 64).get(64);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(2, thumbnailer.getRequestCount());
+        Assert.assertEquals(1, thumbnailer.getDecodeCount());
+    }
+
+    @Test public void testBatch() throws Exception {
+        List<Artwork> artwork = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            artwork.add(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.jpg")));
+        }
+        artwork.add(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        ArtworkThumbnailer thumbnailer = new ArtworkThumbnailer(1024 * 1024);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<ImmutableSortedMap<Integer, byte[]>> thumbnails =
+                    thumbnailer.thumbnails(artwork, ArtworkThumbnailer.Format.PNG, executor, 32, 96);
+
+            Assert.assertEquals(artwork.size(), thumbnails.size());
+            Assert.assertSame(thumbnails.get(0).get(96), thumbnails.get(14).get(96));
+            Assert.assertNotSame(thumbnails.get(0).get(96), thumbnails.get(15).get(96));
+            Assert.assertEquals(2, thumbnailer.getDecodeCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ealvatag.tag.mp4;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import ealvatag.tag.mp4.field.Mp4TagCoverField;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Mp4 image data left in the file until needed, see {@link TagOptionSingleton#setLazyArtwork(boolean)}
+ */
+public class Mp4LazyArtworkTest {
+    private byte[] png;
+    private byte[] jpg;
+
+    @Before public void setUp() throws Exception {
+        png = Files.toByteArray(new File("testdata", "coverart.png"));
+        jpg = Files.toByteArray(new File("testdata", "coverart.jpg"));
+    }
+
+    @After public void tearDown() {
+        TagOptionSingleton.getInstance().setToDefault();
+        TestUtil.deleteTestDataTemp();
+    }
+
+    @Test public void testReadDeferred() throws Exception {
+        File testFile = withArtwork("testLazyArtworkRead.m4a");
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+
+        Tag tag = AudioFileIO.read(testFile).getTag().get();
+        List<Artwork> artworkList = tag.getArtworkList();
+        Assert.assertEquals(2, artworkList.size());
+        Mp4TagCoverField field = (Mp4TagCoverField)tag.getFields(FieldKey.COVER_ART).get(1);
+        Assert.assertTrue(field.getDeferredImageData().isImageDataDeferred());
+
+        Artwork artwork = artworkList.get(1);
+        Assert.assertEquals(jpg.length, artwork.getBinaryDataLength());
+        Assert.assertEquals("image/jpeg", artwork.getMimeType());
+        try (InputStream in = artwork.openBinaryData()) {
+            Assert.assertArrayEquals(jpg, ByteStreams.toByteArray(in));
+        }
+        Assert.assertTrue(field.getDeferredImageData().isImageDataDeferred());
+
+        Assert.assertArrayEquals(jpg, artwork.getBinaryData());
+        Assert.assertFalse(field.getDeferredImageData().isImageDataDeferred());
+        Assert.assertArrayEquals(jpg, field.getData());
+        Assert.assertArrayEquals(png, artworkList.get(0).getBinaryData());
+    }
+
+    @Test public void testSaveWithDeferredArtwork() throws Exception {
+        File testFile = withArtwork("testLazyArtworkSave.m4a");
+        TagOptionSingleton.getInstance().setLazyArtwork(true);
+
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        audioFile.getTag().get().setField(FieldKey.COMMENT, new String(new char[10000]).replace('\0', 'c'));
+        audioFile.save();
+
+        TagOptionSingleton.getInstance().setLazyArtwork(false);
+        List<Artwork> artworkList = AudioFileIO.read(testFile).getTag().get().getArtworkList();
+        Assert.assertEquals(2, artworkList.size());
+        Assert.assertArrayEquals(png, artworkList.get(0).getBinaryData());
+        Assert.assertArrayEquals(jpg, artworkList.get(1).getBinaryData());
+    }
+
+    private static File withArtwork(String fileName) throws Exception {
+        File testFile = TestUtil.copyAudioToTmp("test.m4a", new File(fileName));
+        AudioFile audioFile = AudioFileIO.read(testFile);
+        Tag tag = audioFile.getTag().get();
+        tag.deleteArtwork();
+        tag.addArtwork(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        tag.addArtwork(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.jpg")));
+        audioFile.save();
+        return testFile;
+    }
+}
@@ -0,0 +1,39 @@
+package ealvatag.tag.options;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Padding given by each kind of {@link PaddingPolicy}
+ */
+public class PaddingPolicyTest {
+    @Test public void testFixed() {
+        Assert.assertEquals(0, PaddingPolicy.NONE.getPadding(5000));
+        Assert.assertEquals(4000, PaddingPolicy.fixed(4000).getPadding(10));
+        Assert.assertEquals(4000, PaddingPolicy.fixed(4000).getPadding(10000000));
+    }
+
+    @Test public void testProportional() {
+        PaddingPolicy policy = PaddingPolicy.proportional(10, 1024, 65536);
+        Assert.assertEquals(1024, policy.getPadding(100));
+        Assert.assertEquals(5000, policy.getPadding(50000));
+        Assert.assertEquals(65536, policy.getPadding(10000000));
+        //No overflow for the largest tags
+        Assert.assertEquals(65536, policy.getPadding(Integer.MAX_VALUE));
+    }
+
+    @Test public void testRoundUpTo() {
+        PaddingPolicy policy = PaddingPolicy.roundUpTo(4096);
+        Assert.assertEquals(4086, policy.getPadding(10));
+        Assert.assertEquals(0, policy.getPadding(8192));
+        Assert.assertEquals(4095, policy.getPadding(8193));
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void testMinGreaterThanMax() {
+        PaddingPolicy.proportional(10, 2048, 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void testNegativeFixed() {
+        PaddingPolicy.fixed(-1);
+    }
+}